@@ -28,6 +28,7 @@ import android.widget.TextView;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.tracing.Trace;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdListener;
 import com.google.android.gms.ads.AdLoader;
@@ -58,6 +59,9 @@ public class MainActivity extends AppCompatActivity {
 
   private final String LOG_TAG = "MediationExample";
 
+  // Prefix of the trace sections spanning each ad load, measured by the :benchmark module.
+  private static final String AD_LOAD_TRACE_PREFIX = "AdLoad:";
+
   // The banner ad view.
   private AdView adView;
   // A loaded app open ad.
@@ -117,19 +121,32 @@ public class MainActivity extends AppCompatActivity {
         adView.setAdSize(AdSize.BANNER);
         adView.setAdUnitId(getBannerAdUnitId());
         adView.setAdListener(new AdListener() {
+          // Refreshes report loads too, so only the first load ends the trace begun below.
+          private boolean isLoadTraced = true;
+
           @Override
           public void onAdLoaded() {
+            endBannerLoadTrace();
             Log.d(LOG_TAG, "Banner Ad loaded: " + adView.getResponseInfo());
           }
 
           @Override
           public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+            endBannerLoadTrace();
             Log.d(LOG_TAG, "Failed to load banner ad: " + loadAdError.getResponseInfo());
             Toast.makeText(MainActivity.this,
                 "Failed to load banner: " + loadAdError,
                 Toast.LENGTH_SHORT).show();
           }
+
+          private void endBannerLoadTrace() {
+            if (isLoadTraced) {
+              isLoadTraced = false;
+              endAdLoadTrace("Banner");
+            }
+          }
         });
+        beginAdLoadTrace("Banner");
         adView.loadAd(new AdRequest.Builder().build());
 
         // Add banner to view hierarchy.
@@ -146,12 +163,14 @@ public class MainActivity extends AppCompatActivity {
           @Override
           public void onClick(View view) {
             loadInterstitialButton.setEnabled(false);
+            beginAdLoadTrace("Interstitial");
             InterstitialAd.load(MainActivity.this,
                 getInterstitialAdUnitId(),
                 new AdRequest.Builder().build(),
                 new InterstitialAdLoadCallback() {
                   @Override
                   public void onAdLoaded(@NonNull InterstitialAd interstitialAd) {
+                    endAdLoadTrace("Interstitial");
                     Log.d(LOG_TAG, "Interstitial Ad loaded: " + interstitialAd.getResponseInfo());
 
                     interstitial = interstitialAd;
@@ -174,6 +193,7 @@ public class MainActivity extends AppCompatActivity {
 
                   @Override
                   public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+                    endAdLoadTrace("Interstitial");
                     Log.d(LOG_TAG,
                         "Failed to load interstitial ad: " + loadAdError.getResponseInfo());
                     Toast.makeText(MainActivity.this,
@@ -203,12 +223,14 @@ public class MainActivity extends AppCompatActivity {
       @Override
       public void onClick(View view) {
         loadRewardedButton.setEnabled(false);
+        beginAdLoadTrace("Rewarded");
         RewardedAd.load(MainActivity.this,
             getRewardedAdUnitId(),
             new AdRequest.Builder().build(),
             new RewardedAdLoadCallback() {
               @Override
               public void onAdLoaded(@NonNull RewardedAd ad) {
+                endAdLoadTrace("Rewarded");
                 Log.d(LOG_TAG, "Rewarded Ad loaded: " + ad.getResponseInfo());
 
                 rewardedAd = ad;
@@ -231,6 +253,7 @@ public class MainActivity extends AppCompatActivity {
 
               @Override
               public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+                endAdLoadTrace("Rewarded");
                 Log.d(LOG_TAG, "Failed to load rewarded ad: " + loadAdError.getResponseInfo());
                 Toast.makeText(MainActivity.this,
                     "Failed to load rewarded ad: " + loadAdError,
@@ -286,6 +309,7 @@ public class MainActivity extends AppCompatActivity {
             .forNativeAd(new NativeAd.OnNativeAdLoadedListener() {
               @Override
               public void onNativeAdLoaded(@NonNull NativeAd nativeAd) {
+                endAdLoadTrace("Native");
                 Log.d(LOG_TAG, "Native Ad loaded: " + nativeAd.getResponseInfo());
 
                 FrameLayout nativeContainer = findViewById(R.id.native_container);
@@ -299,17 +323,33 @@ public class MainActivity extends AppCompatActivity {
             .withAdListener(new AdListener() {
               @Override
               public void onAdFailedToLoad(@NonNull LoadAdError error) {
+                endAdLoadTrace("Native");
                 Log.d(LOG_TAG, "Failed to load native ad: " + error.getResponseInfo());
                 Toast.makeText(MainActivity.this,
                     "Failed to load native ad: " + error,
                     Toast.LENGTH_SHORT).show();
               }
             }).build();
+        beginAdLoadTrace("Native");
         adLoader.loadAd(new AdRequest.Builder().build());
       }
     });
   }
 
+  /**
+   * Starts the trace section spanning the load of an ad of the given format.
+   */
+  private void beginAdLoadTrace(String adFormat) {
+    Trace.beginAsyncSection(AD_LOAD_TRACE_PREFIX + adFormat, 0);
+  }
+
+  /**
+   * Ends the trace section started by {@link #beginAdLoadTrace}.
+   */
+  private void endAdLoadTrace(String adFormat) {
+    Trace.endAsyncSection(AD_LOAD_TRACE_PREFIX + adFormat, 0);
+  }
+
   /**
    * Gets the app open ad unit ID to test.
    */
@@ -357,6 +397,7 @@ public class MainActivity extends AppCompatActivity {
    */
   private void loadAppOpenAd() {
     loadAppOpenButton.setEnabled(false);
+    beginAdLoadTrace("AppOpen");
 
     AppOpenAd.load(MainActivity.this,
         getAppOpenAdUnitId(),
@@ -364,6 +405,7 @@ public class MainActivity extends AppCompatActivity {
         new AppOpenAdLoadCallback() {
           @Override
           public void onAdLoaded(@NonNull AppOpenAd ad) {
+            endAdLoadTrace("AppOpen");
             Log.d(LOG_TAG, "App Open Ad loaded: " + ad.getResponseInfo());
 
             appOpenAd = ad;
@@ -388,6 +430,7 @@ public class MainActivity extends AppCompatActivity {
 
           @Override
           public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+            endAdLoadTrace("AppOpen");
             Log.d(LOG_TAG, "Failed to load app open ad: " + loadAdError.getResponseInfo());
             Toast.makeText(MainActivity.this,
                 "Failed to load app open ad. See logcat for details.",
@@ -418,6 +461,7 @@ public class MainActivity extends AppCompatActivity {
    */
   private void loadRewardedInterstitial() {
     loadRewardedInterstitialButton.setEnabled(false);
+    beginAdLoadTrace("RewardedInterstitial");
 
     RewardedInterstitialAd.load(MainActivity.this,
         getRewardedInterstitialAdUnitId(),
@@ -425,6 +469,7 @@ public class MainActivity extends AppCompatActivity {
         new RewardedInterstitialAdLoadCallback() {
           @Override
           public void onAdLoaded(@NonNull RewardedInterstitialAd ad) {
+            endAdLoadTrace("RewardedInterstitial");
             Log.d(LOG_TAG, "Rewarded Interstitial Ad loaded: " + ad.getResponseInfo());
 
             rewardedInterstitialAd = ad;
@@ -449,6 +494,7 @@ public class MainActivity extends AppCompatActivity {
 
           @Override
           public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+            endAdLoadTrace("RewardedInterstitial");
             Log.d(LOG_TAG, "Failed to load rewarded interstitial ad: " + loadAdError.getResponseInfo());
             Toast.makeText(MainActivity.this,
                 "Failed to load rewarded interstitial ad. See logcat for details.",
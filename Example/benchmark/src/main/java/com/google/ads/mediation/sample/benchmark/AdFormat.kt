@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.benchmark
+
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.BySelector
+import androidx.test.uiautomator.UiScrollable
+import androidx.test.uiautomator.UiSelector
+import androidx.test.uiautomator.Until
+
+/** Package of the Example app measured by this module. */
+const val TARGET_PACKAGE = "com.google.ads.mediation.sample.mediationsample"
+
+private const val TIMEOUT_MILLIS = 10_000L
+
+/**
+ * The ad formats loaded by the Example app's `MainActivity` through the sample custom event and
+ * sample SDK.
+ */
+enum class AdFormat(
+  /** Name of the trace section `MainActivity` records around the ad load. */
+  val traceSectionName: String,
+  private val loadButtonId: String,
+  private val showButtonId: String?,
+  loadedSelector: BySelector? = null,
+) {
+  APP_OPEN("AdLoad:AppOpen", "app_open_load_button", "app_open_show_button"),
+  BANNER("AdLoad:Banner", "banner_load_ad", null, By.text("Sample Text Ad")),
+  INTERSTITIAL("AdLoad:Interstitial", "interstitial_load_button", "interstitial_show_button"),
+  REWARDED("AdLoad:Rewarded", "rewarded_load_button", "rewarded_show_button"),
+  REWARDED_INTERSTITIAL(
+    "AdLoad:RewardedInterstitial",
+    "rewarded_interstitial_load_button",
+    "rewarded_interstitial_show_button",
+  ),
+  NATIVE("AdLoad:Native", "native_load_ad", null, By.res(TARGET_PACKAGE, "ad_headline"));
+
+  /** Matches the view that shows the ad loaded: the ad itself, or the enabled show button. */
+  private val loadedSelector: BySelector =
+    loadedSelector ?: By.res(TARGET_PACKAGE, showButtonId!!).enabled(true)
+
+  /** Loads an ad of this format and waits until `MainActivity` displays it or can show it. */
+  fun load(scope: MacrobenchmarkScope) {
+    scope.clickOn(loadButtonId)
+    check(scope.device.wait(Until.hasObject(loadedSelector), TIMEOUT_MILLIS)) {
+      "The $name ad did not load within $TIMEOUT_MILLIS ms."
+    }
+  }
+
+  /** Shows the loaded full-screen ad and dismisses it. Does nothing for banner and native ads. */
+  fun showAndDismiss(scope: MacrobenchmarkScope) {
+    val showButtonId = showButtonId ?: return
+    scope.clickOn(showButtonId)
+    scope.device.waitForIdle()
+    scope.device.pressBack()
+    scope.device.wait(Until.hasObject(By.res(TARGET_PACKAGE, loadButtonId)), TIMEOUT_MILLIS)
+  }
+}
+
+/** Scrolls `MainActivity` to the view with the given ID and clicks it. */
+private fun MacrobenchmarkScope.clickOn(resourceId: String) {
+  UiScrollable(UiSelector().scrollable(true))
+    .scrollIntoView(UiSelector().resourceId("$TARGET_PACKAGE:id/$resourceId"))
+  device.findObject(By.res(TARGET_PACKAGE, resourceId)).click()
+}
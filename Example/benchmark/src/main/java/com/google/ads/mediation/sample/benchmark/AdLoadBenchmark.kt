@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.benchmark
+
+import androidx.benchmark.macro.BaselineProfileMode
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.ExperimentalMetricApi
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.TraceSectionMetric
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Measures the time from requesting an ad to it being loaded, and the frame timing while loading
+ * it, for each ad format of the Example app.
+ */
+@RunWith(Parameterized::class)
+class AdLoadBenchmark(private val adFormat: AdFormat) {
+
+  @get:Rule val benchmarkRule = MacrobenchmarkRule()
+
+  @OptIn(ExperimentalMetricApi::class)
+  @Test
+  fun loadAd() =
+    benchmarkRule.measureRepeated(
+      packageName = TARGET_PACKAGE,
+      metrics = listOf(TraceSectionMetric(adFormat.traceSectionName), FrameTimingMetric()),
+      compilationMode = CompilationMode.Partial(BaselineProfileMode.Require),
+      iterations = ITERATIONS,
+      setupBlock = {
+        pressHome()
+        startActivityAndWait()
+      },
+    ) {
+      adFormat.load(this)
+    }
+
+  companion object {
+    private const val ITERATIONS = 10
+
+    @JvmStatic
+    @Parameterized.Parameters(name = "{0}")
+    fun adFormats(): List<AdFormat> = AdFormat.entries
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.benchmark
+
+import androidx.benchmark.macro.junit4.BaselineProfileRule
+import org.junit.Rule
+import org.junit.Test
+
+/**
+ * Generates the Baseline Profile of the Example app, covering startup and the load and show of
+ * every ad format. The `androidx.baselineprofile` plugin splits the rules between the app and the
+ * sample `customevent` and `sdk` modules, which ship their share in their AARs.
+ *
+ * Run with `./gradlew :app:generateBaselineProfile`.
+ */
+class BaselineProfileGenerator {
+
+  @get:Rule val baselineProfileRule = BaselineProfileRule()
+
+  @Test
+  fun generate() =
+    baselineProfileRule.collect(packageName = TARGET_PACKAGE, includeInStartupProfile = true) {
+      pressHome()
+      startActivityAndWait()
+      for (adFormat in AdFormat.entries) {
+        adFormat.load(this)
+        adFormat.showAndDismiss(this)
+      }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.benchmark
+
+import androidx.benchmark.macro.BaselineProfileMode
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.StartupTimingMetric
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Measures cold and warm startup of the Example app, with and without the Baseline Profile, so
+ * that the profile's effect on the mediation stack's startup code can be compared.
+ */
+@RunWith(Parameterized::class)
+class StartupBenchmark(private val compilationMode: CompilationMode) {
+
+  @get:Rule val benchmarkRule = MacrobenchmarkRule()
+
+  @Test fun startupCold() = startup(StartupMode.COLD)
+
+  @Test fun startupWarm() = startup(StartupMode.WARM)
+
+  private fun startup(startupMode: StartupMode) =
+    benchmarkRule.measureRepeated(
+      packageName = TARGET_PACKAGE,
+      metrics = listOf(StartupTimingMetric()),
+      compilationMode = compilationMode,
+      startupMode = startupMode,
+      iterations = ITERATIONS,
+      setupBlock = { pressHome() },
+    ) {
+      startActivityAndWait()
+    }
+
+  companion object {
+    private const val ITERATIONS = 10
+
+    @JvmStatic
+    @Parameterized.Parameters(name = "{0}")
+    fun compilationModes(): List<CompilationMode> =
+      listOf(CompilationMode.None(), CompilationMode.Partial(BaselineProfileMode.Require))
+  }
+}
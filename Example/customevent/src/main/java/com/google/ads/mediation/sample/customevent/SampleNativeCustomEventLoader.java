@@ -16,6 +16,7 @@
 
 package com.google.ads.mediation.sample.customevent;
 
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -29,6 +30,10 @@ import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.NativeAdMapper;
 import com.google.android.gms.ads.nativead.NativeAdOptions;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /** Native custom event loader for the SampleSDK. */
 public class SampleNativeCustomEventLoader extends SampleNativeAdListener {
@@ -43,6 +48,47 @@ public class SampleNativeCustomEventLoader extends SampleNativeAdListener {
   /** Tag used for log statements */
   private static final String TAG = "NativeCustomEvent";
 
+  /** Number of ads requested per fetch. */
+  private static int batchSize = 1;
+
+  /** Most ads kept from earlier batches for one ad unit and image option. */
+  private static final int MAX_BATCHED_ADS_PER_KEY = 4;
+
+  /** How long an ad kept from a batch can still be served, in milliseconds. */
+  private static final long BATCHED_AD_MAX_AGE_MILLIS = 30 * 60 * 1000;
+
+  /**
+   * An ad kept from a batch. Its views hold the context of the load that fetched it, so they are
+   * dropped here and recreated for the load that serves the ad.
+   */
+  private static final class BatchedAd {
+    final SampleNativeAd ad;
+    final boolean hasMediaView;
+    final long batchedAtMillis;
+
+    BatchedAd(SampleNativeAd ad, long batchedAtMillis) {
+      this.hasMediaView = ad.getMediaView() != null;
+      ad.setMediaView(null);
+      ad.setInformationIcon(null);
+      this.ad = ad;
+      this.batchedAtMillis = batchedAtMillis;
+    }
+  }
+
+  /** Ads fetched by an earlier batch and not served yet, by ad unit and image option. */
+  private static final Map<String, ArrayDeque<BatchedAd>> batchedAds = new HashMap<>();
+
+  private static long batchFetchCount;
+  private static long batchFetchMillis;
+  private static long singleFetchCount;
+  private static long singleFetchMillis;
+
+  /** Key of this load's ad unit and image option in {@link #batchedAds}. */
+  private String batchKey;
+
+  /** When the pending fetch started, or 0 if this load did not fetch. */
+  private long fetchStartMillis;
+
   /**
    * Callback for native ad events. The usual link/click tracking handled through callback methods
    * are handled through the GMA SDK, described here:
@@ -59,6 +105,84 @@ public class SampleNativeCustomEventLoader extends SampleNativeAdListener {
     this.mediationAdLoadCallback = mediationAdLoadCallback;
   }
 
+  /**
+   * Sets how many ads each fetch requests from the Sample SDK. With a batch size above 1, the
+   * extra ads of a batch serve the ad unit's next loads without another network round trip.
+   */
+  public static synchronized void setBatchSize(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1.");
+    }
+    batchSize = size;
+    if (size == 1) {
+      batchedAds.clear();
+    }
+  }
+
+  /**
+   * Returns the average time a batch fetch took, in milliseconds, or 0 before the first one. A
+   * batch of K ads pays off when this is below K times {@link #getAverageSingleFetchMillis()}.
+   */
+  public static synchronized long getAverageBatchFetchMillis() {
+    return batchFetchCount == 0 ? 0 : batchFetchMillis / batchFetchCount;
+  }
+
+  /** Returns the average time a single-ad fetch took, in milliseconds, or 0 before the first. */
+  public static synchronized long getAverageSingleFetchMillis() {
+    return singleFetchCount == 0 ? 0 : singleFetchMillis / singleFetchCount;
+  }
+
+  private static synchronized int getBatchSize() {
+    return batchSize;
+  }
+
+  private static synchronized void recordFetch(int adCount, long millis) {
+    if (adCount > 1) {
+      batchFetchCount++;
+      batchFetchMillis += millis;
+    } else {
+      singleFetchCount++;
+      singleFetchMillis += millis;
+    }
+  }
+
+  /** Takes the oldest batched ad for the key that has not expired, dropping expired ones. */
+  private static synchronized BatchedAd pollBatchedAd(String key) {
+    ArrayDeque<BatchedAd> queue = batchedAds.get(key);
+    if (queue == null) {
+      return null;
+    }
+    long now = SystemClock.elapsedRealtime();
+    BatchedAd batchedAd;
+    while ((batchedAd = queue.poll()) != null
+        && now - batchedAd.batchedAtMillis >= BATCHED_AD_MAX_AGE_MILLIS) {
+      Log.d(TAG, "Dropping an expired native ad from an earlier batch.");
+    }
+    if (queue.isEmpty()) {
+      batchedAds.remove(key);
+    }
+    return batchedAd;
+  }
+
+  /** Keeps the ads for the key's next loads, dropping the oldest beyond the per-key cap. */
+  private static synchronized void addBatchedAds(String key, List<SampleNativeAd> ads) {
+    if (ads.isEmpty()) {
+      return;
+    }
+    ArrayDeque<BatchedAd> queue = batchedAds.get(key);
+    if (queue == null) {
+      queue = new ArrayDeque<>();
+      batchedAds.put(key, queue);
+    }
+    long now = SystemClock.elapsedRealtime();
+    for (SampleNativeAd ad : ads) {
+      queue.add(new BatchedAd(ad, now));
+    }
+    while (queue.size() > MAX_BATCHED_ADS_PER_KEY) {
+      queue.removeFirst();
+    }
+  }
+
   /** Loads the native ad from the third party ad network. */
   public void loadAd() {
     // Create one of the Sample SDK's ad loaders to request ads.
@@ -104,16 +228,46 @@ public class SampleNativeCustomEventLoader extends SampleNativeAdListener {
       }
     }
 
+    // Serve an ad left over from an earlier batch for the same ad unit and image option.
+    batchKey = serverParameter + "/" + request.getShouldDownloadImages();
+    BatchedAd batchedAd = pollBatchedAd(batchKey);
+    if (batchedAd != null) {
+      Log.d(TAG, "Serving a native ad from an earlier batch.");
+      loader.attachViews(batchedAd.ad, batchedAd.hasMediaView);
+      onNativeAdFetched(batchedAd.ad);
+      return;
+    }
+
     loader.setNativeAdListener(this);
 
     // Begin a request.
     Log.i(TAG, "Start fetching native ad.");
-    loader.fetchAd(request);
+    fetchStartMillis = SystemClock.elapsedRealtime();
+    int count = getBatchSize();
+    if (count > 1) {
+      loader.fetchAds(request, count);
+    } else {
+      loader.fetchAd(request);
+    }
+  }
+
+  /** Called when a batch of native ads is successfully fetched. */
+  @Override
+  public void onNativeAdsFetched(List<SampleNativeAd> ads) {
+    recordFetch(ads.size(), SystemClock.elapsedRealtime() - fetchStartMillis);
+    fetchStartMillis = 0;
+    Log.d(TAG, String.format("Received a batch of %d native ads.", ads.size()));
+    addBatchedAds(batchKey, ads.subList(1, ads.size()));
+    onNativeAdFetched(ads.get(0));
   }
 
   /** Called when a native ad is successfully fetched. */
   @Override
   public void onNativeAdFetched(SampleNativeAd ad) {
+    if (fetchStartMillis != 0) {
+      recordFetch(1, SystemClock.elapsedRealtime() - fetchStartMillis);
+      fetchStartMillis = 0;
+    }
     // If the mediated network only ever returns URLs for images, this is an appropriate place
     // to automatically download the image files if the publisher has indicated via the
     // NativeAdOptions object that the custom event should do so.
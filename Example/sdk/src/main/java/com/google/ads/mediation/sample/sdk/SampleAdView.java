@@ -20,7 +20,10 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
+import android.os.Looper;
 import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatTextView;
 import java.util.Random;
 
@@ -31,6 +34,15 @@ import java.util.Random;
 @SuppressLint("SetTextI18n")
 public class SampleAdView extends AppCompatTextView {
 
+  /** How this ad format answers requests when no {@link SampleNetworkProfile} is set. */
+  private static final SampleNetworkProfile DEFAULT_PROFILE =
+      new SampleNetworkProfile.Builder()
+          .setFillPercentage(85)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 1)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 1)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 1)
+          .build();
+
   private SampleAdSize adSize;
   private String adUnit;
   private SampleAdListener listener;
@@ -73,7 +85,8 @@ public class SampleAdView extends AppCompatTextView {
 
   /**
    * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * with different error codes, as described by the {@link SampleNetworkProfile} set with
+   * {@link SampleNetwork#setProfile(SampleNetworkProfile)}.
    *
    * @param request The ad request with targeting information.
    */
@@ -88,30 +101,53 @@ public class SampleAdView extends AppCompatTextView {
     }
 
     // Randomly decide whether to succeed or fail.
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 85) {
-        this.setText("Sample Text Ad");
-        this.setOnClickListener(new OnClickListener() {
-          @Override
-          public void onClick(View view) {
-            // Notify the developer that a full screen view will be presented.
-            listener.onAdFullScreen();
-            Intent intent =
-                new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
-            SampleAdView.this.getContext().startActivity(intent);
-          }
-        });
-        listener.onAdFetchSucceeded();
-      } else if (nextInt < 90) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 95) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else if (nextInt < 100) {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
+    SampleNetwork.fetch(DEFAULT_PROFILE, new SampleNetwork.FetchCallback() {
+      @Override
+      public void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random) {
+        if (listener == null) {
+          return;
+        }
+        if (errorCode != null) {
+          listener.onAdFetchFailed(errorCode);
+          return;
+        }
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+          renderAdAndNotify();
+        } else {
+          // The view can only be changed on the main thread, and the ad is only reported as
+          // fetched once it has been rendered.
+          post(new Runnable() {
+            @Override
+            public void run() {
+              renderAdAndNotify();
+            }
+          });
+        }
       }
+    });
+  }
+
+  private void renderAdAndNotify() {
+    // The banner may have been destroyed while the render was posted.
+    if (listener == null) {
+      return;
     }
+    renderAd();
+    listener.onAdFetchSucceeded();
+  }
+
+  private void renderAd() {
+    this.setText("Sample Text Ad");
+    this.setOnClickListener(new OnClickListener() {
+      @Override
+      public void onClick(View view) {
+        // Notify the developer that a full screen view will be presented.
+        listener.onAdFullScreen();
+        Intent intent =
+            new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
+        SampleAdView.this.getContext().startActivity(intent);
+      }
+    });
   }
 
   /**
@@ -28,6 +28,16 @@ import java.util.Random;
  */
 public class SampleAppOpen {
 
+  /** How this ad format answers requests when no {@link SampleNetworkProfile} is set. */
+  private static final SampleNetworkProfile DEFAULT_PROFILE =
+      new SampleNetworkProfile.Builder()
+          .setFillPercentage(80)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 1)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 1)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 1)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 1)
+          .build();
+
   private final Context context;
   private String adUnit;
   private SampleAdListener listener;
@@ -61,7 +71,8 @@ public class SampleAppOpen {
 
   /**
    * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * with different error codes, as described by the {@link SampleNetworkProfile} set with
+   * {@link SampleNetwork#setProfile(SampleNetworkProfile)}.
    *
    * @param request The ad request with targeting information.
    */
@@ -75,21 +86,19 @@ public class SampleAppOpen {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
     }
 
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 80) {
-        listener.onAdFetchSucceeded();
-      } else if (nextInt < 85) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 90) {
-        listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
-      } else if (nextInt < 95) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
+    SampleNetwork.fetch(DEFAULT_PROFILE, new SampleNetwork.FetchCallback() {
+      @Override
+      public void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random) {
+        if (listener == null) {
+          return;
+        }
+        if (errorCode == null) {
+          listener.onAdFetchSucceeded();
+        } else {
+          listener.onAdFetchFailed(errorCode);
+        }
       }
-    }
+    });
   }
 
   /**
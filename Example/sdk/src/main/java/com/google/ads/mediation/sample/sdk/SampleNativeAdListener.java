@@ -16,6 +16,8 @@
 
 package com.google.ads.mediation.sample.sdk;
 
+import java.util.List;
+
 /**
  * A sample ad listener to listen for native ad events. These ad events more or less represent the
  * events that a typical ad network would provide.
@@ -29,6 +31,19 @@ public abstract class SampleNativeAdListener {
     // Default is to do nothing.
   }
 
+  /**
+   * Called when a batch of native ads requested with
+   * {@link SampleNativeAdLoader#fetchAds(SampleNativeAdRequest, int)} is successfully fetched.
+   * Default is to pass each ad to {@link #onNativeAdFetched(SampleNativeAd)}.
+   *
+   * @param ads The fetched ads, at least one.
+   */
+  public void onNativeAdsFetched(List<SampleNativeAd> ads) {
+    for (SampleNativeAd ad : ads) {
+      onNativeAdFetched(ad);
+    }
+  }
+
   /**
    * Called when an ad fetch fails.
    *
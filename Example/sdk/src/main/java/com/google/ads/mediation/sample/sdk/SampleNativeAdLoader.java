@@ -23,7 +23,11 @@ import android.net.Uri;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.core.content.res.ResourcesCompat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -32,6 +36,16 @@ import java.util.Random;
  */
 public class SampleNativeAdLoader {
 
+  /** How this ad format answers requests when no {@link SampleNetworkProfile} is set. */
+  private static final SampleNetworkProfile DEFAULT_PROFILE =
+      new SampleNetworkProfile.Builder()
+          .setFillPercentage(92)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 1)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 1)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 1)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 1)
+          .build();
+
   private final Context context;
   private String adUnit;
   private SampleNativeAdListener listener;
@@ -65,41 +79,86 @@ public class SampleNativeAdLoader {
 
   /**
    * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * with different error codes, as described by the {@link SampleNetworkProfile} set with
+   * {@link SampleNetwork#setProfile(SampleNetworkProfile)}.
    *
    * @param request The ad request with targeting information.
    */
-  public void fetchAd(SampleNativeAdRequest request) {
+  public void fetchAd(final SampleNativeAdRequest request) {
     // Check for conditions that constitute a bad request.
     if ((listener == null) || (adUnit == null)) {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
       return;
     }
 
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 92) {
+    final SampleNativeAdListener fetchListener = listener;
+    SampleNetwork.fetch(DEFAULT_PROFILE, new SampleNetwork.FetchCallback() {
+      @Override
+      public void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random) {
+        if (errorCode != null) {
+          fetchListener.onAdFetchFailed(errorCode);
+          return;
+        }
         // Act as if the request was successful and create a sample native ad
         // of the request type filled with dummy data.
         if (random.nextBoolean()) {
-          listener.onNativeAdFetched(createSampleAppInstallAd(request));
+          fetchListener.onNativeAdFetched(createSampleAppInstallAd(request, random));
         } else {
-          listener.onNativeAdFetched(createSampleContentAd(request));
+          fetchListener.onNativeAdFetched(createSampleContentAd(request, random));
         }
-      } else if (nextInt < 94) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 96) {
-        listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
-      } else if (nextInt < 98) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
       }
+    });
+  }
+
+  /**
+   * Fetch several ads in one request. Like {@link #fetchAd(SampleNativeAdRequest)}, the request
+   * succeeds or fails as a whole, and takes a single network round trip however many ads it
+   * returns.
+   *
+   * @param request The ad request with targeting information.
+   * @param count The number of ads to fetch, at least 1.
+   */
+  public void fetchAds(final SampleNativeAdRequest request, final int count) {
+    // Check for conditions that constitute a bad request.
+    if ((listener == null) || (adUnit == null) || (count < 1)) {
+      listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
+      return;
     }
+
+    final SampleNativeAdListener fetchListener = listener;
+    SampleNetwork.fetch(DEFAULT_PROFILE, new SampleNetwork.FetchCallback() {
+      @Override
+      public void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random) {
+        if (errorCode != null) {
+          fetchListener.onAdFetchFailed(errorCode);
+          return;
+        }
+        List<SampleNativeAd> ads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          if (random.nextBoolean()) {
+            ads.add(createSampleAppInstallAd(request, random));
+          } else {
+            ads.add(createSampleContentAd(request, random));
+          }
+        }
+        fetchListener.onNativeAdsFetched(ads);
+      }
+    });
+  }
+
+  /**
+   * Recreates the views of an ad that was kept without them, such as an extra ad of a
+   * {@link #fetchAds(SampleNativeAdRequest, int)} batch, so that they use this loader's context.
+   *
+   * @param nativeAd The ad to attach the views to.
+   * @param hasMediaView Whether the ad has a video asset.
+   */
+  public void attachViews(@NonNull SampleNativeAd nativeAd, boolean hasMediaView) {
+    nativeAd.setMediaView(hasMediaView ? new SampleMediaView(context) : null);
+    nativeAd.setInformationIcon(createInformationIconImageView());
   }
 
-  private SampleNativeAd createSampleAppInstallAd(SampleNativeAdRequest request) {
+  private SampleNativeAd createSampleAppInstallAd(SampleNativeAdRequest request, Random random) {
     SampleNativeAd nativeAd = new SampleNativeAd();
 
     nativeAd.setHeadline("Sample App!");
@@ -113,7 +172,7 @@ public class SampleNativeAdLoader {
     nativeAd.setIconUri(Uri.parse("http://www.example.com/"));
 
     // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (random.nextInt(100) < 80) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
@@ -132,7 +191,7 @@ public class SampleNativeAdLoader {
     return nativeAd;
   }
 
-  private SampleNativeAd createSampleContentAd(SampleNativeAdRequest request) {
+  private SampleNativeAd createSampleContentAd(SampleNativeAdRequest request, Random random) {
     SampleNativeAd nativeAd = new SampleNativeAd();
 
     nativeAd.setHeadline("Sample Content!");
@@ -143,7 +202,7 @@ public class SampleNativeAdLoader {
     nativeAd.setDegreeOfAwesomeness("Fairly Awesome");
 
     // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (random.nextInt(100) < 80) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Random;
+
+/**
+ * The pretend network behind the sample SDK's ad requests.
+ *
+ * <p>By default every ad format answers synchronously with its own random fill rate. After a
+ * {@link SampleNetworkProfile} is set, requests of all formats follow that profile instead: they
+ * are answered after the profile's latency has passed on a background network thread, and a
+ * seeded profile produces the same sequence of outcomes on every run.
+ */
+public final class SampleNetwork {
+
+  private static final Object lock = new Object();
+
+  @Nullable private static SampleNetworkProfile profile;
+  @Nullable private static Random profileRandom;
+  @Nullable private static Handler networkHandler;
+  @Nullable private static Handler mainHandler;
+
+  /** Receives the outcome of a simulated ad request. */
+  interface FetchCallback {
+
+    /**
+     * Called once the request completed.
+     *
+     * @param errorCode the error of the request, or {@code null} if it filled.
+     * @param random the random number generator of this request, to use for any other choice
+     *     about the ad.
+     */
+    void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random);
+  }
+
+  private SampleNetwork() {}
+
+  /**
+   * Sets the profile that all following ad requests use, or restores the default behavior with
+   * {@code null}. Setting a seeded profile restarts its sequence of outcomes.
+   */
+  public static void setProfile(@Nullable SampleNetworkProfile networkProfile) {
+    synchronized (lock) {
+      profile = networkProfile;
+      if (networkProfile == null) {
+        profileRandom = null;
+        return;
+      }
+      Long seed = networkProfile.getSeed();
+      profileRandom = seed != null ? new Random(seed) : new Random();
+    }
+  }
+
+  /** Simulates an ad request, using {@code defaultProfile} if no profile was set. */
+  static void fetch(@NonNull SampleNetworkProfile defaultProfile,
+      @NonNull final FetchCallback callback) {
+    final SampleNetworkProfile networkProfile;
+    final Random random;
+    final SampleErrorCode errorCode;
+    final long latencyMillis;
+    synchronized (lock) {
+      networkProfile = profile != null ? profile : defaultProfile;
+      // Draw everything up front so that the outcomes only depend on the order of the requests,
+      // not on the order in which their callbacks run.
+      random = profileRandom != null ? new Random(profileRandom.nextLong()) : new Random();
+      errorCode = networkProfile.nextErrorCode(random);
+      latencyMillis = networkProfile.nextLatencyMillis(random);
+    }
+
+    if (latencyMillis == 0 && !networkProfile.getCallbacksOnNetworkThread()) {
+      callback.onFetchCompleted(errorCode, random);
+      return;
+    }
+
+    final Handler callbackHandler =
+        networkProfile.getCallbacksOnNetworkThread() ? getNetworkHandler() : getMainHandler();
+    getNetworkHandler().postDelayed(new Runnable() {
+      @Override
+      public void run() {
+        callbackHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onFetchCompleted(errorCode, random);
+          }
+        });
+      }
+    }, latencyMillis);
+  }
+
+  private static Handler getNetworkHandler() {
+    synchronized (lock) {
+      if (networkHandler == null) {
+        HandlerThread networkThread = new HandlerThread("SampleSDK-network");
+        networkThread.start();
+        networkHandler = new Handler(networkThread.getLooper());
+      }
+      return networkHandler;
+    }
+  }
+
+  private static Handler getMainHandler() {
+    synchronized (lock) {
+      if (mainHandler == null) {
+        mainHandler = new Handler(Looper.getMainLooper());
+      }
+      return mainHandler;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Random;
+
+/**
+ * Describes how the sample ad network answers ad requests: how long a request takes, how often it
+ * fills and which errors it returns otherwise. Set a profile with
+ * {@link SampleNetwork#setProfile(SampleNetworkProfile)}.
+ */
+public final class SampleNetworkProfile {
+
+  private final long minLatencyMillis;
+  private final long maxLatencyMillis;
+  private final int tailLatencyPercentage;
+  private final long tailLatencyMillis;
+  private final int fillPercentage;
+  private final int[] errorWeights;
+  private final int totalErrorWeight;
+  @Nullable private final Long seed;
+  private final boolean callbacksOnNetworkThread;
+
+  private SampleNetworkProfile(Builder builder) {
+    this.minLatencyMillis = builder.minLatencyMillis;
+    this.maxLatencyMillis = builder.maxLatencyMillis;
+    this.tailLatencyPercentage = builder.tailLatencyPercentage;
+    this.tailLatencyMillis = builder.tailLatencyMillis;
+    this.fillPercentage = builder.fillPercentage;
+    this.errorWeights = builder.errorWeights.clone();
+    int total = 0;
+    for (int weight : errorWeights) {
+      total += weight;
+    }
+    this.totalErrorWeight = total;
+    this.seed = builder.seed;
+    this.callbacksOnNetworkThread = builder.callbacksOnNetworkThread;
+  }
+
+  /**
+   * Returns the seed of the random number generator, or {@code null} if every run should produce
+   * different outcomes.
+   */
+  @Nullable
+  public Long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns whether ad events are delivered on the sample network's background thread instead of
+   * the main thread.
+   */
+  public boolean getCallbacksOnNetworkThread() {
+    return callbacksOnNetworkThread;
+  }
+
+  /** Returns how long the next request takes. */
+  long nextLatencyMillis(@NonNull Random random) {
+    if (tailLatencyPercentage > 0 && random.nextInt(100) < tailLatencyPercentage) {
+      return tailLatencyMillis;
+    }
+    if (maxLatencyMillis == minLatencyMillis) {
+      return minLatencyMillis;
+    }
+    return minLatencyMillis + (long) (random.nextDouble() * (maxLatencyMillis - minLatencyMillis));
+  }
+
+  /** Returns the error of the next request, or {@code null} if the request fills. */
+  @Nullable
+  SampleErrorCode nextErrorCode(@NonNull Random random) {
+    if (random.nextInt(100) < fillPercentage) {
+      return null;
+    }
+    if (totalErrorWeight == 0) {
+      return SampleErrorCode.NO_INVENTORY;
+    }
+    int pick = random.nextInt(totalErrorWeight);
+    SampleErrorCode[] errorCodes = SampleErrorCode.values();
+    for (int i = 0; i < errorCodes.length; i++) {
+      pick -= errorWeights[i];
+      if (pick < 0) {
+        return errorCodes[i];
+      }
+    }
+    return SampleErrorCode.UNKNOWN;
+  }
+
+  /** Builder for {@link SampleNetworkProfile}. */
+  public static final class Builder {
+
+    private long minLatencyMillis;
+    private long maxLatencyMillis;
+    private int tailLatencyPercentage;
+    private long tailLatencyMillis;
+    private int fillPercentage = 100;
+    private final int[] errorWeights = new int[SampleErrorCode.values().length];
+    @Nullable private Long seed;
+    private boolean callbacksOnNetworkThread;
+
+    /**
+     * Sets the latency of a request, picked uniformly between the two bounds. Defaults to no
+     * latency, in which case requests are answered synchronously.
+     */
+    @NonNull
+    public Builder setLatencyMillis(long minLatencyMillis, long maxLatencyMillis) {
+      if (minLatencyMillis < 0 || maxLatencyMillis < minLatencyMillis) {
+        throw new IllegalArgumentException("Invalid latency range.");
+      }
+      this.minLatencyMillis = minLatencyMillis;
+      this.maxLatencyMillis = maxLatencyMillis;
+      return this;
+    }
+
+    /** Makes the given percentage of requests take {@code tailLatencyMillis} instead. */
+    @NonNull
+    public Builder setTailLatency(int tailLatencyPercentage, long tailLatencyMillis) {
+      if (tailLatencyPercentage < 0 || tailLatencyPercentage > 100 || tailLatencyMillis < 0) {
+        throw new IllegalArgumentException("Invalid tail latency.");
+      }
+      this.tailLatencyPercentage = tailLatencyPercentage;
+      this.tailLatencyMillis = tailLatencyMillis;
+      return this;
+    }
+
+    /** Sets the percentage of requests that return an ad. Defaults to 100. */
+    @NonNull
+    public Builder setFillPercentage(int fillPercentage) {
+      if (fillPercentage < 0 || fillPercentage > 100) {
+        throw new IllegalArgumentException("fillPercentage must be between 0 and 100.");
+      }
+      this.fillPercentage = fillPercentage;
+      return this;
+    }
+
+    /**
+     * Sets how often the given error is returned relative to the other errors when a request does
+     * not fill. Without any weight, requests that do not fill fail with
+     * {@link SampleErrorCode#NO_INVENTORY}.
+     */
+    @NonNull
+    public Builder setErrorWeight(@NonNull SampleErrorCode errorCode, int weight) {
+      if (weight < 0) {
+        throw new IllegalArgumentException("weight must not be negative.");
+      }
+      errorWeights[errorCode.ordinal()] = weight;
+      return this;
+    }
+
+    /** Seeds the random number generator so that runs produce the same sequence of outcomes. */
+    @NonNull
+    public Builder setSeed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Delivers ad events on the sample network's background thread instead of the main thread.
+     */
+    @NonNull
+    public Builder setCallbacksOnNetworkThread(boolean callbacksOnNetworkThread) {
+      this.callbacksOnNetworkThread = callbacksOnNetworkThread;
+      return this;
+    }
+
+    @NonNull
+    public SampleNetworkProfile build() {
+      return new SampleNetworkProfile(this);
+    }
+  }
+}
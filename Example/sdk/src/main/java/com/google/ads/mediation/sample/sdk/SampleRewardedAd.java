@@ -31,6 +31,16 @@ import java.util.Random;
  */
 public class SampleRewardedAd implements Parcelable {
 
+  /** How this ad format answers requests when no {@link SampleNetworkProfile} is set. */
+  private static final SampleNetworkProfile DEFAULT_PROFILE =
+      new SampleNetworkProfile.Builder()
+          .setFillPercentage(80)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 1)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 1)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 1)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 1)
+          .build();
+
   /**
    * A {@link Creator}, needed for an object to be parcelable.
    */
@@ -114,30 +124,24 @@ public class SampleRewardedAd implements Parcelable {
   }
 
   /**
-   * Loads a rewarded ad.
+   * Loads a rewarded ad, as described by the {@link SampleNetworkProfile} set with
+   * {@link SampleNetwork#setProfile(SampleNetworkProfile)}.
    */
   public void loadAd(SampleAdRequest request) {
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    SampleErrorCode errorCode = null;
-    if (nextInt < 80) {
-      reward = 5;
-      isAdAvailable = true;
-      if (listener != null) {
-        listener.onRewardedAdLoaded();
+    SampleNetwork.fetch(DEFAULT_PROFILE, new SampleNetwork.FetchCallback() {
+      @Override
+      public void onFetchCompleted(@Nullable SampleErrorCode errorCode, @NonNull Random random) {
+        if (errorCode == null) {
+          reward = 5;
+          isAdAvailable = true;
+          if (listener != null) {
+            listener.onRewardedAdLoaded();
+          }
+        } else if (listener != null && !isAdAvailable) {
+          listener.onRewardedAdFailedToLoad(errorCode);
+        }
       }
-    } else if (nextInt < 85) {
-      errorCode = SampleErrorCode.UNKNOWN;
-    } else if (nextInt < 90) {
-      errorCode = SampleErrorCode.BAD_REQUEST;
-    } else if (nextInt < 95) {
-      errorCode = SampleErrorCode.NETWORK_ERROR;
-    } else {
-      errorCode = SampleErrorCode.NO_INVENTORY;
-    }
-    if (errorCode != null && listener != null && !isAdAvailable) {
-      listener.onRewardedAdFailedToLoad(errorCode);
-    }
+    });
   }
 
   /**
@@ -0,0 +1,142 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+
+/**
+ * A recorded sequence of network SDK calls and callbacks, with their timing.
+ *
+ * Traces are recorded with [CallbackTraceRecorder] and replayed with [CallbackTraceReplayer]. They
+ * are stored in a compact binary format: every string is written once to a string table, and each
+ * event is written as varints holding its time since the previous event, the indices of its
+ * strings and its number of arguments.
+ */
+class CallbackTrace(val events: List<Event>) {
+
+  /**
+   * A call seen through a wrapper seam.
+   *
+   * @property offsetMillis time of the call since the start of the recording.
+   * @property source simple name of the interface that was called, e.g. the SDK listener.
+   * @property method name of the method that was called.
+   * @property args arguments of the call, converted to strings.
+   * @property result value returned by the call, converted to a string, or `null` for none.
+   */
+  data class Event(
+    val offsetMillis: Long,
+    val source: String,
+    val method: String,
+    val args: List<String?>,
+    val result: String?,
+  )
+
+  /** Total time covered by the trace, in milliseconds. */
+  val durationMillis: Long
+    get() = events.lastOrNull()?.offsetMillis ?: 0L
+
+  /** Writes the trace to [outputStream]. The stream is not closed. */
+  @Throws(IOException::class)
+  fun writeTo(outputStream: OutputStream) {
+    val strings = LinkedHashMap<String, Int>()
+    fun indexOf(value: String?): Int =
+      if (value == null) 0 else strings.getOrPut(value) { strings.size } + 1
+    val encodedEvents =
+      events.map { event ->
+        intArrayOf(indexOf(event.source), indexOf(event.method), indexOf(event.result)) +
+          event.args.map { indexOf(it) }
+      }
+
+    val output = DataOutputStream(outputStream)
+    output.writeInt(MAGIC)
+    output.writeByte(VERSION)
+    output.writeVarint(strings.size.toLong())
+    strings.keys.forEach { output.writeUTF(it) }
+    output.writeVarint(events.size.toLong())
+    var previousOffsetMillis = 0L
+    events.forEachIndexed { i, event ->
+      output.writeVarint(event.offsetMillis - previousOffsetMillis)
+      previousOffsetMillis = event.offsetMillis
+      val indices = encodedEvents[i]
+      output.writeVarint(event.args.size.toLong())
+      indices.forEach { output.writeVarint(it.toLong()) }
+    }
+    output.flush()
+  }
+
+  companion object {
+    private const val MAGIC = 0x43425452 // "CBTR"
+    private const val VERSION = 1
+
+    /** Reads a trace written by [writeTo]. The stream is not closed. */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun readFrom(inputStream: InputStream): CallbackTrace {
+      val input = DataInputStream(inputStream)
+      if (input.readInt() != MAGIC) {
+        throw IOException("Not a callback trace.")
+      }
+      val version = input.readUnsignedByte()
+      if (version != VERSION) {
+        throw IOException("Unsupported callback trace version: $version.")
+      }
+      val strings = List(input.readVarint().toInt()) { input.readUTF() }
+      fun stringAt(index: Long): String? = if (index == 0L) null else strings[index.toInt() - 1]
+
+      var offsetMillis = 0L
+      val events =
+        List(input.readVarint().toInt()) {
+          offsetMillis += input.readVarint()
+          val argCount = input.readVarint().toInt()
+          val source = stringAt(input.readVarint())
+          val method = stringAt(input.readVarint())
+          val result = stringAt(input.readVarint())
+          val args = List(argCount) { stringAt(input.readVarint()) }
+          if (source == null || method == null) {
+            throw IOException("Malformed callback trace event.")
+          }
+          Event(offsetMillis, source, method, args, result)
+        }
+      return CallbackTrace(events)
+    }
+
+    private fun DataOutputStream.writeVarint(value: Long) {
+      var remaining = value
+      while (remaining and 0x7FL.inv() != 0L) {
+        writeByte(((remaining and 0x7F) or 0x80).toInt())
+        remaining = remaining ushr 7
+      }
+      writeByte(remaining.toInt())
+    }
+
+    private fun DataInputStream.readVarint(): Long {
+      var value = 0L
+      var shift = 0
+      while (shift < 64) {
+        val b = readUnsignedByte()
+        value = value or ((b and 0x7F).toLong() shl shift)
+        if (b and 0x80 == 0) {
+          return value
+        }
+        shift += 7
+      }
+      throw IOException("Malformed varint in callback trace.")
+    }
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.adaptertestkit
+
+import android.os.SystemClock
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+
+/**
+ * Records the network SDK calls and callbacks that pass through an adapter's wrapper seams (e.g.
+ * `VungleSdkWrapper`, `FyberSdkWrapper`, `LineSdkWrapper`) into a [CallbackTrace].
+ *
+ * Wrap an interface seam or an SDK listener with [wrap] before handing it on; every call through
+ * the returned proxy is forwarded to the delegate and recorded with its arguments, result and
+ * time. Arguments and results are recorded as strings, which is enough to replay the primitives
+ * and strings that wrapper seams return and to identify the SDK objects that callbacks carry.
+ */
+class CallbackTraceRecorder
+@JvmOverloads
+constructor(private val clock: () -> Long = { SystemClock.elapsedRealtime() }) {
+
+  private val lock = Any()
+  private val events = mutableListOf<CallbackTrace.Event>()
+  private var startMillis: Long? = null
+
+  /** Returns a proxy of [type] that records every call before forwarding it to [delegate]. */
+  fun <T : Any> wrap(type: Class<T>, delegate: T): T {
+    require(type.isInterface) { "Only interfaces can be recorded: ${type.name}." }
+    val handler = InvocationHandler { proxy, method, args ->
+      if (method.declaringClass == Any::class.java) {
+        return@InvocationHandler invokeObjectMethod(proxy, method, args, delegate)
+      }
+      val result =
+        try {
+          method.invoke(delegate, *(args ?: emptyArray()))
+        } catch (exception: InvocationTargetException) {
+          throw exception.targetException
+        }
+      record(type.simpleName, method.name, args?.toList() ?: emptyList(), result)
+      result
+    }
+    return type.cast(Proxy.newProxyInstance(type.classLoader, arrayOf(type), handler))!!
+  }
+
+  /** Records a call that was observed without a proxy, e.g. from a Mockito answer. */
+  fun record(source: String, method: String, args: List<Any?>, result: Any? = null) {
+    val now = clock()
+    synchronized(lock) {
+      val start = startMillis ?: now.also { startMillis = it }
+      events.add(
+        CallbackTrace.Event(
+          offsetMillis = now - start,
+          source = source,
+          method = method,
+          args = args.map { it?.toString() },
+          result = result?.takeUnless { it == Unit }?.toString(),
+        )
+      )
+    }
+  }
+
+  /** Returns the calls recorded so far. */
+  fun trace(): CallbackTrace = synchronized(lock) { CallbackTrace(events.toList()) }
+
+  private fun invokeObjectMethod(proxy: Any, method: Method, args: Array<Any?>?, delegate: Any) =
+    when (method.name) {
+      "equals" -> proxy === args?.get(0)
+      "hashCode" -> System.identityHashCode(proxy)
+      "toString" -> "Recording($delegate)"
+      else -> method.invoke(delegate, *(args ?: emptyArray()))
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.adaptertestkit
+
+import android.os.Handler
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.Proxy
+
+/**
+ * Replays a [CallbackTrace] against an adapter, without any network access.
+ *
+ * Callbacks are delivered to a [Dispatcher], which maps each recorded event onto the adapter's
+ * listener method, either immediately in recorded order with [replay], or with the recorded
+ * timing, optionally accelerated, with [replayTimed]. When [replayTimed] is given a handler on the
+ * main looper of a Robolectric test, the replay is deterministic: the test advances the looper
+ * clock to release the callbacks. Interface wrapper seams can be replaced with [stub], which
+ * answers each call with the result recorded for it.
+ */
+class CallbackTraceReplayer(private val trace: CallbackTrace) {
+
+  /** Delivers a recorded event to the adapter under test. */
+  fun interface Dispatcher {
+    fun dispatch(event: CallbackTrace.Event)
+  }
+
+  private val consumedEvents = mutableSetOf<Int>()
+
+  /** Delivers every event of the trace to [dispatcher] in recorded order, without delays. */
+  fun replay(dispatcher: Dispatcher) {
+    trace.events.forEach { dispatcher.dispatch(it) }
+  }
+
+  /**
+   * Posts every event of the trace to [handler] at its recorded offset divided by [speedFactor],
+   * and delivers it to [dispatcher] from there.
+   */
+  @JvmOverloads
+  fun replayTimed(handler: Handler, dispatcher: Dispatcher, speedFactor: Double = 1.0) {
+    require(speedFactor > 0) { "speedFactor must be positive." }
+    trace.events.forEach { event ->
+      handler.postDelayed(
+        { dispatcher.dispatch(event) },
+        (event.offsetMillis / speedFactor).toLong(),
+      )
+    }
+  }
+
+  /**
+   * Returns an implementation of the interface seam [type] that answers each call with the result
+   * recorded for the next unconsumed call of the same method. Primitive, string and `Unit`
+   * results can be replayed. A `null` result of a method with a primitive return type is replayed
+   * as that type's default value.
+   *
+   * @throws IllegalStateException from a call that has no recorded result left.
+   */
+  fun <T : Any> stub(type: Class<T>): T {
+    require(type.isInterface) { "Only interfaces can be stubbed: ${type.name}." }
+    val handler = InvocationHandler { proxy, method, args ->
+      when {
+        method.declaringClass == Any::class.java ->
+          when (method.name) {
+            "equals" -> proxy === args?.get(0)
+            "hashCode" -> System.identityHashCode(proxy)
+            else -> "Replay(${type.simpleName})"
+          }
+        else -> parseResult(nextResult(type.simpleName, method.name), method.returnType)
+      }
+    }
+    return type.cast(Proxy.newProxyInstance(type.classLoader, arrayOf(type), handler))!!
+  }
+
+  private fun nextResult(source: String, method: String): String? =
+    synchronized(consumedEvents) {
+      val index =
+        trace.events.indices.firstOrNull { i ->
+          i !in consumedEvents &&
+            trace.events[i].source == source &&
+            trace.events[i].method == method
+        } ?: throw IllegalStateException("No recorded result left for $source.$method.")
+      consumedEvents.add(index)
+      trace.events[index].result
+    }
+
+  private fun parseResult(result: String?, returnType: Class<*>): Any? {
+    if (result == null) {
+      // A proxy must not return null from a method with a primitive return type.
+      return PRIMITIVE_DEFAULTS[returnType]
+    }
+    return when (returnType) {
+      Void.TYPE -> null
+      Boolean::class.javaPrimitiveType,
+      Boolean::class.javaObjectType -> result == "true"
+      Int::class.javaPrimitiveType,
+      Int::class.javaObjectType -> result.toInt()
+      Long::class.javaPrimitiveType,
+      Long::class.javaObjectType -> result.toLong()
+      Float::class.javaPrimitiveType,
+      Float::class.javaObjectType -> result.toFloat()
+      Double::class.javaPrimitiveType,
+      Double::class.javaObjectType -> result.toDouble()
+      String::class.java -> result
+      else -> throw IllegalStateException("Cannot replay a result of type ${returnType.name}.")
+    }
+  }
+
+  private companion object {
+    val PRIMITIVE_DEFAULTS: Map<Class<*>, Any> =
+      mapOf(
+        java.lang.Boolean.TYPE to false,
+        java.lang.Byte.TYPE to 0.toByte(),
+        java.lang.Short.TYPE to 0.toShort(),
+        java.lang.Character.TYPE to 0.toChar(),
+        java.lang.Integer.TYPE to 0,
+        java.lang.Long.TYPE to 0L,
+        java.lang.Float.TYPE to 0f,
+        java.lang.Double.TYPE to 0.0,
+      )
+  }
+}
@@ -0,0 +1,203 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import android.content.Context
+import android.os.Build
+import android.os.StrictMode
+import android.os.strictmode.CustomViolation
+import android.os.strictmode.DiskReadViolation
+import android.os.strictmode.DiskWriteViolation
+import android.os.strictmode.NetworkViolation
+import android.os.strictmode.Violation
+import androidx.annotation.RequiresApi
+import com.google.android.gms.ads.mediation.Adapter
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationConfiguration
+import com.google.android.gms.ads.mediation.rtb.RtbAdapter
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertWithMessage
+import java.io.Closeable
+import java.util.Collections
+
+/**
+ * Reports disk reads and writes, network calls and slow calls that adapter code makes on the main
+ * thread.
+ *
+ * The checker is created on the thread it checks, which should be the main thread, and stays
+ * active until [close]. Tests run each adapter entry point they want to check, such as
+ * `initialize`, `collectSignals`, `load*Ad`, `showAd` or a native ad mapping, through [check],
+ * which attributes violations to the call. [assertNoViolations] fails with a per-call report.
+ *
+ * Violations come from two sources:
+ * - Test doubles report the I/O their real counterpart does through [noteDiskRead],
+ *   [noteDiskWrite] and [noteNetwork]. For example, a mocked SDK call that reads from disk in the
+ *   real SDK answers with `checker.noteDiskRead("Sdk.init")`. Only notes made on the checker's
+ *   thread are violations, so the result does not depend on timing and is the same under
+ *   Robolectric and on a device.
+ * - A StrictMode thread policy with a penalty listener, which reports the disk and network calls
+ *   of the platform's BlockGuard hooks and slow calls marked with [StrictMode.noteSlowCall]. It
+ *   needs API level 28 for the penalty listener. StrictMode batches the violations of a
+ *   main-thread message and reports them after the message is handled, so tests on a paused main
+ *   looper should idle it before [assertNoViolations]; such late violations are attributed to the
+ *   last checked call. Under Robolectric, file and socket I/O runs on the host JVM, which never
+ *   calls BlockGuard, so this source only reports on a device or emulator.
+ */
+class MainThreadPolicyChecker : Closeable {
+
+  /** Kinds of main-thread violations. */
+  enum class Kind {
+    DISK_READ,
+    DISK_WRITE,
+    NETWORK,
+    SLOW_CALL,
+    OTHER,
+  }
+
+  /** A violation made while running the call named [callName]. */
+  data class Report(val callName: String, val kind: Kind, val detail: String)
+
+  private val checkedThread = Thread.currentThread()
+  private val previousPolicy = StrictMode.getThreadPolicy()
+  private val reports = Collections.synchronizedList(mutableListOf<Report>())
+  @Volatile private var lastCallName = NO_CALL
+
+  init {
+    val builder =
+      StrictMode.ThreadPolicy.Builder()
+        .detectDiskReads()
+        .detectDiskWrites()
+        .detectNetwork()
+        .detectCustomSlowCalls()
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+      builder.penaltyListener({ it.run() }) { onViolation(it) }
+    } else {
+      builder.penaltyLog()
+    }
+    StrictMode.setThreadPolicy(builder.build())
+  }
+
+  /** Violations reported so far. */
+  val violations: List<Report>
+    get() = synchronized(reports) { reports.toList() }
+
+  /** Runs [block] as the call named [callName], attributing the violations it makes to it. */
+  fun <R> check(callName: String, block: () -> R): R {
+    lastCallName = callName
+    return block()
+  }
+
+  /** Reports a disk read described by [detail] if it is made on the checked thread. */
+  fun noteDiskRead(detail: String) = note(Kind.DISK_READ, detail)
+
+  /** Reports a disk write described by [detail] if it is made on the checked thread. */
+  fun noteDiskWrite(detail: String) = note(Kind.DISK_WRITE, detail)
+
+  /** Reports a network call described by [detail] if it is made on the checked thread. */
+  fun noteNetwork(detail: String) = note(Kind.NETWORK, detail)
+
+  private fun note(kind: Kind, detail: String) {
+    if (Thread.currentThread() === checkedThread) {
+      reports.add(Report(lastCallName, kind, detail))
+    }
+  }
+
+  /** Fails with a report of every violation, grouped by call, if there was any. */
+  fun assertNoViolations() {
+    val violations = violations
+    assertWithMessage(formatReport(violations)).that(violations).isEmpty()
+  }
+
+  /** Restores the thread policy that was in place before this checker was created. */
+  override fun close() {
+    StrictMode.setThreadPolicy(previousPolicy)
+  }
+
+  @RequiresApi(Build.VERSION_CODES.P)
+  private fun onViolation(violation: Violation) {
+    val kind =
+      when (violation) {
+        is DiskReadViolation -> Kind.DISK_READ
+        is DiskWriteViolation -> Kind.DISK_WRITE
+        is NetworkViolation -> Kind.NETWORK
+        is CustomViolation -> Kind.SLOW_CALL
+        else -> Kind.OTHER
+      }
+    reports.add(Report(lastCallName, kind, describe(violation)))
+  }
+
+  private companion object {
+    const val NO_CALL = "<outside of a checked call>"
+    val FRAMEWORK_PACKAGES =
+      listOf("android.", "androidx.", "java.", "javax.", "kotlin.", "dalvik.", "libcore.", "sun.")
+
+    /** Describes a violation by its type and the first stack frame outside the framework. */
+    fun describe(violation: Throwable): String {
+      val frame =
+        violation.stackTrace.firstOrNull { element ->
+          FRAMEWORK_PACKAGES.none { element.className.startsWith(it) } &&
+            !element.className.startsWith(MainThreadPolicyChecker::class.java.name)
+        }
+      val name = violation.javaClass.simpleName
+      return if (frame == null) name else "$name at $frame"
+    }
+
+    fun formatReport(violations: List<Report>): String =
+      buildString {
+        append("Main-thread policy violations:")
+        for ((callName, callViolations) in violations.groupBy { it.callName }) {
+          append("\n  ").append(callName).append(':')
+          for (violation in callViolations) {
+            append("\n    ").append(violation.kind).append(": ").append(violation.detail)
+          }
+        }
+      }
+  }
+}
+
+/**
+ * Runs [block] with a [MainThreadPolicyChecker] and fails with the checker's report if any checked
+ * call made disk or network calls on the main thread or was slow.
+ */
+fun checkMainThreadPolicy(block: MainThreadPolicyChecker.() -> Unit) {
+  MainThreadPolicyChecker().use {
+    it.block()
+    it.assertNoViolations()
+  }
+}
+
+/** Calls [Adapter.initialize] as a call checked by the given [MainThreadPolicyChecker]. */
+fun Adapter.initializeCheckingMainThreadPolicy(
+  checker: MainThreadPolicyChecker,
+  context: Context,
+  initializationCompleteCallback: InitializationCompleteCallback,
+  configurations: List<MediationConfiguration>,
+) {
+  checker.check("${javaClass.simpleName}.initialize") {
+    initialize(context, initializationCompleteCallback, configurations)
+  }
+}
+
+/** Calls [RtbAdapter.collectSignals] as a call checked by the given [MainThreadPolicyChecker]. */
+fun RtbAdapter.collectSignalsCheckingMainThreadPolicy(
+  checker: MainThreadPolicyChecker,
+  signalData: RtbSignalData,
+  signalCallbacks: SignalCallbacks,
+) {
+  checker.check("${javaClass.simpleName}.collectSignals") {
+    collectSignals(signalData, signalCallbacks)
+  }
+}
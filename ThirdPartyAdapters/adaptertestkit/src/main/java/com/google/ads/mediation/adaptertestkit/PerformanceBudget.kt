@@ -0,0 +1,375 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.common.truth.Truth.assertWithMessage
+import java.io.File
+import java.lang.management.ManagementFactory
+import java.util.Properties
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Measures adapter scenarios run against stubbed network SDKs and compares them with a checked-in
+ * budget file.
+ *
+ * A scenario runs a block a fixed number of times, either sequentially on the calling thread
+ * ([measure]) or split across worker threads ([measureConcurrently]), after a warmup that is not
+ * measured. The scenario is repeated for a number of runs, and each [Measurement] holds the median
+ * over those runs of:
+ * - the bytes allocated by the measuring threads, as reported by the JVM's per-thread allocation
+ *   counters, which only varies with the code the scenario runs;
+ * - the wall time of the scenario relative to a fixed calibration workload timed in the same JVM,
+ *   so that the budget does not depend on how fast or how loaded the machine is.
+ *
+ * [assertWithinBudget] fails when a measurement exceeds its budget by more than the allocation or
+ * time tolerance. The budget file is a Java properties file with a `<scenario>.allocatedBytes` and
+ * a `<scenario>.relativeTime` entry per scenario. In record mode, measurements are written to the
+ * file instead of being compared, which is how budgets are created and accepted after an intended
+ * change. Outside record mode, a scenario without a budget fails, so a new scenario lands together
+ * with its recorded budget.
+ *
+ * Adapter builds apply `performance-budget.gradle`, which runs the budget tests with the
+ * `performanceBudget` task and passes the file, tolerances and record mode as system properties
+ * (see [fromSystemProperties]).
+ */
+class PerformanceBudget
+@JvmOverloads
+constructor(
+  private val budgetFile: File,
+  private val allocationTolerance: Double = DEFAULT_ALLOCATION_TOLERANCE,
+  private val timeTolerance: Double = DEFAULT_TIME_TOLERANCE,
+  private val record: Boolean = false,
+  /** Returns the median duration of the calibration workload that times are relative to. */
+  private val calibrationNanos: () -> Long = { defaultCalibrationNanos },
+) {
+
+  /**
+   * The median cost of running a scenario [iterations] times. [allocatedBytes] is [UNMEASURED] on
+   * JVMs without per-thread allocation counters. [relativeTime] is the wall time of the scenario
+   * divided by the wall time of the calibration workload.
+   */
+  data class Measurement(
+    val scenario: String,
+    val iterations: Int,
+    val allocatedBytes: Long,
+    val relativeTime: Double,
+  )
+
+  /** The cost of a single run of a scenario. */
+  private class Run(val allocatedBytes: Long, val nanos: Long)
+
+  /** Runs [block] [iterations] times on the calling thread, [runs] times, and measures the runs. */
+  @JvmOverloads
+  fun measure(
+    scenario: String,
+    iterations: Int,
+    warmupIterations: Int = defaultWarmupIterations(iterations),
+    runs: Int = DEFAULT_RUNS,
+    block: (iteration: Int) -> Unit,
+  ): Measurement {
+    repeat(warmupIterations) { block(it) }
+    val measuredRuns =
+      List(runs) {
+        val startBytes = currentThreadAllocatedBytes()
+        val startNanos = System.nanoTime()
+        repeat(iterations) { block(it) }
+        val nanos = System.nanoTime() - startNanos
+        Run(allocatedSince(startBytes), nanos)
+      }
+    return toMeasurement(scenario, iterations, measuredRuns)
+  }
+
+  /**
+   * Runs [block] [iterations] times split across [threadCount] worker threads that start together,
+   * [runs] times, and measures the runs.
+   *
+   * Each worker runs its warmup and its share of the iterations inside [workerScope], which lets
+   * tests set up thread-confined stubs such as Mockito static mocks once per worker. Only the
+   * allocations made by the measured iterations are counted.
+   */
+  @JvmOverloads
+  fun measureConcurrently(
+    scenario: String,
+    iterations: Int,
+    threadCount: Int = DEFAULT_THREAD_COUNT,
+    warmupIterations: Int = defaultWarmupIterations(iterations),
+    runs: Int = DEFAULT_RUNS,
+    workerScope: (work: () -> Unit) -> Unit = { it() },
+    block: (iteration: Int) -> Unit,
+  ): Measurement {
+    val measuredRuns =
+      List(runs) {
+        runConcurrently(scenario, iterations, threadCount, warmupIterations, workerScope, block)
+      }
+    return toMeasurement(scenario, iterations, measuredRuns)
+  }
+
+  private fun runConcurrently(
+    scenario: String,
+    iterations: Int,
+    threadCount: Int,
+    warmupIterations: Int,
+    workerScope: (work: () -> Unit) -> Unit,
+    block: (iteration: Int) -> Unit,
+  ): Run {
+    val ready = CountDownLatch(threadCount)
+    val start = CountDownLatch(1)
+    val allocatedBytes = AtomicLong()
+    val errors = mutableListOf<Throwable>()
+    val workers =
+      List(threadCount) { worker ->
+        Thread(
+          {
+            try {
+              workerScope {
+                repeat(warmupIterations / threadCount) { block(it) }
+                ready.countDown()
+                start.await()
+                val startBytes = currentThreadAllocatedBytes()
+                for (iteration in worker until iterations step threadCount) {
+                  block(iteration)
+                }
+                val workerBytes = allocatedSince(startBytes)
+                if (workerBytes == UNMEASURED) {
+                  allocatedBytes.set(UNMEASURED)
+                } else {
+                  allocatedBytes.accumulateAndGet(workerBytes) { total, bytes ->
+                    if (total == UNMEASURED) UNMEASURED else total + bytes
+                  }
+                }
+              }
+            } catch (throwable: Throwable) {
+              synchronized(errors) { errors.add(throwable) }
+            } finally {
+              ready.countDown()
+            }
+          },
+          "$scenario-$worker",
+        )
+      }
+    workers.forEach { it.start() }
+    ready.await()
+    val startNanos = System.nanoTime()
+    start.countDown()
+    workers.forEach { it.join() }
+    val nanos = System.nanoTime() - startNanos
+    errors.firstOrNull()?.let { throw AssertionError("Scenario $scenario failed.", it) }
+    return Run(allocatedBytes.get(), nanos)
+  }
+
+  private fun toMeasurement(scenario: String, iterations: Int, runs: List<Run>): Measurement {
+    val allocatedBytes =
+      if (runs.any { it.allocatedBytes == UNMEASURED }) UNMEASURED
+      else median(runs.map { it.allocatedBytes })
+    val relativeTime = median(runs.map { it.nanos }).toDouble() / calibrationNanos()
+    return Measurement(scenario, iterations, allocatedBytes, roundRelativeTime(relativeTime))
+  }
+
+  /**
+   * Fails if [measurement] exceeds its budget by more than the tolerances, or records it as the
+   * new budget in record mode.
+   */
+  fun assertWithinBudget(measurement: Measurement) {
+    if (record) {
+      recordBudget(measurement)
+      return
+    }
+    val budget = readBudget()
+    val scenario = measurement.scenario
+    val allocatedBytesBudget = budget.getProperty(scenario + ALLOCATED_BYTES_SUFFIX)?.toLong()
+    val relativeTimeBudget = budget.getProperty(scenario + RELATIVE_TIME_SUFFIX)?.toDouble()
+    if (allocatedBytesBudget == null || relativeTimeBudget == null) {
+      throw AssertionError(
+        "No budget for $scenario in $budgetFile. Record it with -P$RECORD_GRADLE_PROPERTY."
+      )
+    }
+
+    val regressions = mutableListOf<String>()
+    if (
+      measurement.allocatedBytes != UNMEASURED &&
+        measurement.allocatedBytes > allocatedBytesBudget * (1 + allocationTolerance)
+    ) {
+      regressions.add(
+        "allocated ${measurement.allocatedBytes} bytes (budget: $allocatedBytesBudget bytes, " +
+          "tolerance: ${formatPercent(allocationTolerance)})"
+      )
+    }
+    if (measurement.relativeTime > relativeTimeBudget * (1 + timeTolerance) + MIN_TIME_SLACK) {
+      regressions.add(
+        "took ${measurement.relativeTime} times the calibration workload (budget: " +
+          "$relativeTimeBudget, tolerance: ${formatPercent(timeTolerance)})"
+      )
+    }
+    assertWithMessage(
+        "$scenario (${measurement.iterations} iterations) regressed beyond its budget in " +
+          "$budgetFile. If the regression is intended, record new budgets with " +
+          "-P$RECORD_GRADLE_PROPERTY."
+      )
+      .that(regressions)
+      .isEmpty()
+  }
+
+  private fun readBudget(): Properties =
+    Properties().apply {
+      if (budgetFile.exists()) {
+        budgetFile.reader().use { load(it) }
+      }
+    }
+
+  /**
+   * Writes [measurement] to the budget file, keeping its leading comment and the budgets of the
+   * other scenarios. Entries are sorted so that recording again only changes the lines that moved.
+   */
+  private fun recordBudget(measurement: Measurement) {
+    synchronized(FILE_LOCK) {
+      val lines = if (budgetFile.exists()) budgetFile.readLines() else emptyList()
+      val header = lines.takeWhile { it.isBlank() || it.startsWith("#") }
+      val budget = readBudget()
+      val entries =
+        budget.stringPropertyNames().associateWithTo(sortedMapOf<String, String>()) {
+          budget.getProperty(it)
+        }
+      val scenario = measurement.scenario
+      entries[scenario + ALLOCATED_BYTES_SUFFIX] = measurement.allocatedBytes.toString()
+      entries[scenario + RELATIVE_TIME_SUFFIX] = measurement.relativeTime.toString()
+      budgetFile.parentFile?.mkdirs()
+      budgetFile.writeText(
+        buildString {
+          header.forEach { append(it).append('\n') }
+          entries.forEach { (key, value) ->
+            append(key).append('=').append(value).append('\n')
+          }
+        }
+      )
+    }
+  }
+
+  companion object {
+    /** Value of [Measurement.allocatedBytes] when allocations cannot be measured. */
+    const val UNMEASURED = -1L
+
+    /** Default fraction by which allocations may exceed their budget. */
+    const val DEFAULT_ALLOCATION_TOLERANCE = 0.1
+
+    /**
+     * Default fraction by which the relative time may exceed its budget. Medians of calibrated
+     * times are much steadier than single wall times, but still noisier than allocations.
+     */
+    const val DEFAULT_TIME_TOLERANCE = 0.25
+
+    /** Default number of runs whose median is taken. */
+    const val DEFAULT_RUNS = 5
+
+    /** Default number of worker threads of [measureConcurrently]. */
+    const val DEFAULT_THREAD_COUNT = 4
+
+    /** System property holding the path of the budget file. */
+    const val BUDGET_FILE_PROPERTY = "performanceBudget.file"
+
+    /** System property holding the allocation tolerance. */
+    const val ALLOCATION_TOLERANCE_PROPERTY = "performanceBudget.allocationTolerance"
+
+    /** System property holding the relative time tolerance. */
+    const val TIME_TOLERANCE_PROPERTY = "performanceBudget.timeTolerance"
+
+    /** System property that turns on record mode. */
+    const val RECORD_PROPERTY = "performanceBudget.record"
+
+    /** Budget file used when [BUDGET_FILE_PROPERTY] is not set, relative to the adapter module. */
+    const val DEFAULT_BUDGET_FILE = "src/test/resources/performance-budget.properties"
+
+    private const val RECORD_GRADLE_PROPERTY = "recordPerformanceBudget"
+    private const val ALLOCATED_BYTES_SUFFIX = ".allocatedBytes"
+    private const val RELATIVE_TIME_SUFFIX = ".relativeTime"
+
+    /** Relative time slack that keeps scenarios with very small budgets from failing on noise. */
+    private const val MIN_TIME_SLACK = 0.05
+
+    private const val CALIBRATION_RUNS = 9
+    private const val CALIBRATION_ITERATIONS = 2_000_000
+
+    /** Keeps the calibration workload from being optimized away. */
+    @Volatile private var calibrationSink = 0L
+
+    /**
+     * Median duration of an allocation-free arithmetic workload, timed once per JVM after a
+     * warmup run.
+     */
+    private val defaultCalibrationNanos: Long by lazy {
+      runCalibrationWorkload()
+      median(
+        List(CALIBRATION_RUNS) {
+          val startNanos = System.nanoTime()
+          runCalibrationWorkload()
+          System.nanoTime() - startNanos
+        }
+      )
+    }
+
+    private val FILE_LOCK = Any()
+
+    /** Creates a budget configured by the system properties set by `performance-budget.gradle`. */
+    @JvmStatic
+    fun fromSystemProperties(): PerformanceBudget =
+      PerformanceBudget(
+        File(System.getProperty(BUDGET_FILE_PROPERTY, DEFAULT_BUDGET_FILE)),
+        System.getProperty(ALLOCATION_TOLERANCE_PROPERTY)?.toDouble()
+          ?: DEFAULT_ALLOCATION_TOLERANCE,
+        System.getProperty(TIME_TOLERANCE_PROPERTY)?.toDouble() ?: DEFAULT_TIME_TOLERANCE,
+        System.getProperty(RECORD_PROPERTY).toBoolean(),
+      )
+
+    private fun defaultWarmupIterations(iterations: Int) = maxOf(iterations / 10, 1)
+
+    private fun runCalibrationWorkload() {
+      var state = 0x2545F4914F6CDD1DL
+      repeat(CALIBRATION_ITERATIONS) {
+        state = state xor (state shl 13)
+        state = state xor (state ushr 7)
+        state = state xor (state shl 17)
+      }
+      calibrationSink = state
+    }
+
+    private fun median(values: List<Long>): Long = values.sorted()[values.size / 2]
+
+    /** Keeps two decimals, so that recorded budgets stay readable and stable. */
+    private fun roundRelativeTime(relativeTime: Double) = Math.round(relativeTime * 100) / 100.0
+
+    private fun currentThreadAllocatedBytes(): Long {
+      val threadMXBean =
+        ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+          ?: return UNMEASURED
+      if (!threadMXBean.isThreadAllocatedMemorySupported) {
+        return UNMEASURED
+      }
+      if (!threadMXBean.isThreadAllocatedMemoryEnabled) {
+        threadMXBean.isThreadAllocatedMemoryEnabled = true
+      }
+      return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id)
+    }
+
+    private fun allocatedSince(startBytes: Long): Long {
+      if (startBytes == UNMEASURED) {
+        return UNMEASURED
+      }
+      return currentThreadAllocatedBytes() - startBytes
+    }
+
+    private fun formatPercent(fraction: Double) = "${(fraction * 100).toInt()}%"
+  }
+}
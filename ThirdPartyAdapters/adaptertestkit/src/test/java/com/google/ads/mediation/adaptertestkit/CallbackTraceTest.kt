@@ -0,0 +1,149 @@
+package com.google.ads.mediation.adaptertestkit
+
+import android.os.Handler
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.util.concurrent.TimeUnit
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [CallbackTrace], [CallbackTraceRecorder] and [CallbackTraceReplayer]. */
+@RunWith(AndroidJUnit4::class)
+class CallbackTraceTest {
+
+  private var now = START_MILLIS
+  private val recorder = CallbackTraceRecorder { now }
+
+  @Test
+  fun readFrom_afterWriteTo_returnsSameEvents() {
+    val trace =
+      CallbackTrace(
+        listOf(
+          CallbackTrace.Event(0, SOURCE, "getSdkVersion", emptyList(), "7.6.3"),
+          CallbackTrace.Event(5, SOURCE, "init", listOf("appId", null), null),
+          // Offsets above 127 ms and repeated strings need multi-byte varints and table lookups.
+          CallbackTrace.Event(300_000, LISTENER, "onSuccess", listOf("appId"), null),
+        )
+      )
+
+    val readTrace = roundTrip(trace)
+
+    assertThat(readTrace.events).containsExactlyElementsIn(trace.events).inOrder()
+    assertThat(readTrace.durationMillis).isEqualTo(300_000)
+  }
+
+  @Test
+  fun readFrom_emptyTrace_returnsNoEvents() {
+    assertThat(roundTrip(CallbackTrace(emptyList())).events).isEmpty()
+  }
+
+  @Test
+  fun readFrom_notATrace_throwsIOException() {
+    assertThrows(IOException::class.java) {
+      CallbackTrace.readFrom(ByteArrayInputStream(byteArrayOf(1, 2, 3, 4, 5)))
+    }
+  }
+
+  @Test
+  fun wrap_recordsCallsWithResultsAndOffsets() {
+    val sdk = recorder.wrap(FakeSdk::class.java, RealSdk())
+
+    sdk.getVersion()
+    now += 40
+    sdk.load(PLACEMENT_ID)
+
+    assertThat(recorder.trace().events)
+      .containsExactly(
+        CallbackTrace.Event(0, "FakeSdk", "getVersion", emptyList(), VERSION),
+        CallbackTrace.Event(40, "FakeSdk", "load", listOf(PLACEMENT_ID), "true"),
+      )
+      .inOrder()
+  }
+
+  @Test
+  fun stub_answersCallsWithRecordedResultsInOrder() {
+    recorder.record("FakeSdk", "getVersion", emptyList(), VERSION)
+    recorder.record("FakeSdk", "load", listOf(PLACEMENT_ID), false)
+    recorder.record("FakeSdk", "load", listOf(PLACEMENT_ID), true)
+
+    val sdk = CallbackTraceReplayer(roundTrip(recorder.trace())).stub(FakeSdk::class.java)
+
+    assertThat(sdk.getVersion()).isEqualTo(VERSION)
+    assertThat(sdk.load(PLACEMENT_ID)).isFalse()
+    assertThat(sdk.load(PLACEMENT_ID)).isTrue()
+    assertThrows(IllegalStateException::class.java) { sdk.load(PLACEMENT_ID) }
+  }
+
+  @Test
+  fun stub_primitiveResultRecordedAsNull_returnsDefaultValue() {
+    recorder.record("FakeSdk", "getAdCount", emptyList(), null)
+
+    val sdk = CallbackTraceReplayer(roundTrip(recorder.trace())).stub(FakeSdk::class.java)
+
+    assertThat(sdk.getAdCount()).isEqualTo(0)
+  }
+
+  @Test
+  fun replay_deliversEventsInRecordedOrder() {
+    recorder.record(LISTENER, "onAdLoaded", listOf(PLACEMENT_ID))
+    recorder.record(LISTENER, "onAdImpression", listOf(PLACEMENT_ID))
+    val delivered = mutableListOf<String>()
+
+    CallbackTraceReplayer(roundTrip(recorder.trace())).replay { delivered.add(it.method) }
+
+    assertThat(delivered).containsExactly("onAdLoaded", "onAdImpression").inOrder()
+  }
+
+  @Test
+  fun replayTimed_deliversEventsAtScaledOffsets() {
+    recorder.record(LISTENER, "onAdLoaded", emptyList())
+    now += 1_000
+    recorder.record(LISTENER, "onAdImpression", emptyList())
+    val delivered = mutableListOf<String>()
+    val mainLooper = shadowOf(Looper.getMainLooper())
+
+    CallbackTraceReplayer(recorder.trace())
+      .replayTimed(Handler(Looper.getMainLooper()), { delivered.add(it.method) }, speedFactor = 2.0)
+    mainLooper.idle()
+    assertThat(delivered).containsExactly("onAdLoaded")
+    mainLooper.idleFor(500, TimeUnit.MILLISECONDS)
+
+    assertThat(delivered).containsExactly("onAdLoaded", "onAdImpression").inOrder()
+  }
+
+  private fun roundTrip(trace: CallbackTrace): CallbackTrace {
+    val output = ByteArrayOutputStream()
+    trace.writeTo(output)
+    return CallbackTrace.readFrom(ByteArrayInputStream(output.toByteArray()))
+  }
+
+  interface FakeSdk {
+    fun getVersion(): String
+
+    fun getAdCount(): Int
+
+    fun load(placementId: String): Boolean
+  }
+
+  private class RealSdk : FakeSdk {
+    override fun getVersion() = VERSION
+
+    override fun getAdCount() = 1
+
+    override fun load(placementId: String) = true
+  }
+
+  private companion object {
+    const val START_MILLIS = 10_000L
+    const val SOURCE = "SdkWrapper"
+    const val LISTENER = "AdListener"
+    const val PLACEMENT_ID = "placement"
+    const val VERSION = "1.2.3"
+  }
+}
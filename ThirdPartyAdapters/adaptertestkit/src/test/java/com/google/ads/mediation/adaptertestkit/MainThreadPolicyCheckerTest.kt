@@ -0,0 +1,86 @@
+package com.google.ads.mediation.adaptertestkit
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.MainThreadPolicyChecker.Kind
+import com.google.ads.mediation.adaptertestkit.MainThreadPolicyChecker.Report
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [MainThreadPolicyChecker]. */
+@RunWith(AndroidJUnit4::class)
+class MainThreadPolicyCheckerTest {
+
+  private val checker = MainThreadPolicyChecker()
+
+  // Stands in for a mocked SDK whose real counterpart reads from disk and calls its server.
+  private val sdk =
+    object {
+      fun init() {
+        checker.noteDiskRead(SDK_INIT)
+        checker.noteNetwork(SDK_INIT)
+      }
+    }
+
+  @After
+  fun tearDown() {
+    checker.close()
+  }
+
+  @Test
+  fun check_ioOnCheckedThread_reportsViolationsForCall() {
+    checker.check(CALL_NAME) { sdk.init() }
+
+    assertThat(checker.violations)
+      .containsExactly(
+        Report(CALL_NAME, Kind.DISK_READ, SDK_INIT),
+        Report(CALL_NAME, Kind.NETWORK, SDK_INIT),
+      )
+      .inOrder()
+  }
+
+  @Test
+  fun check_ioOnBackgroundThread_reportsNoViolation() {
+    checker.check(CALL_NAME) {
+      val thread = Thread { sdk.init() }
+      thread.start()
+      thread.join()
+    }
+
+    checker.assertNoViolations()
+  }
+
+  @Test
+  fun check_ioInLaterCall_attributesViolationToThatCall() {
+    checker.check(OTHER_CALL_NAME) {}
+    checker.check(CALL_NAME) { checker.noteDiskWrite(SDK_INIT) }
+
+    assertThat(checker.violations).containsExactly(Report(CALL_NAME, Kind.DISK_WRITE, SDK_INIT))
+  }
+
+  @Test
+  fun assertNoViolations_withViolation_failsWithReportPerCall() {
+    checker.check(CALL_NAME) { sdk.init() }
+
+    val error = assertThrows(AssertionError::class.java) { checker.assertNoViolations() }
+
+    assertThat(error)
+      .hasMessageThat()
+      .contains("$CALL_NAME:\n    DISK_READ: $SDK_INIT\n    NETWORK: $SDK_INIT")
+  }
+
+  @Test
+  fun checkMainThreadPolicy_ioOnMainThread_fails() {
+    assertThrows(AssertionError::class.java) {
+      checkMainThreadPolicy { check(CALL_NAME) { noteNetwork(SDK_INIT) } }
+    }
+  }
+
+  private companion object {
+    const val CALL_NAME = "Adapter.initialize"
+    const val OTHER_CALL_NAME = "Adapter.collectSignals"
+    const val SDK_INIT = "Sdk.init"
+  }
+}
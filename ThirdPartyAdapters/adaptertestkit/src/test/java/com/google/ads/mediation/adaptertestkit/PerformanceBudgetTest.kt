@@ -0,0 +1,186 @@
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.ads.mediation.adaptertestkit.PerformanceBudget.Measurement
+import com.google.common.truth.Truth.assertThat
+import java.io.File
+import org.junit.Assert.assertThrows
+import org.junit.Assume.assumeTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+/** Unit tests for [PerformanceBudget]. */
+@RunWith(JUnit4::class)
+class PerformanceBudgetTest {
+
+  @get:Rule val temporaryFolder = TemporaryFolder()
+
+  private val budgetFile: File by lazy { temporaryFolder.newFile("performance-budget.properties") }
+
+  @Test
+  fun assertWithinBudget_withinAllocationTolerance_passes() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_100, 1.0))
+  }
+
+  @Test
+  fun assertWithinBudget_beyondAllocationTolerance_fails() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    val error =
+      assertThrows(AssertionError::class.java) {
+        createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_101, 1.0))
+      }
+
+    assertThat(error).hasMessageThat().contains("allocated 1101 bytes")
+  }
+
+  @Test
+  fun assertWithinBudget_unmeasuredAllocations_ignoresAllocationBudget() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    createBudget()
+      .assertWithinBudget(Measurement(SCENARIO, ITERATIONS, PerformanceBudget.UNMEASURED, 1.0))
+  }
+
+  @Test
+  fun assertWithinBudget_withinTimeToleranceAndSlack_passes() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    // 1.0 * 1.5 + 0.05 of slack.
+    createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_000, 1.55))
+  }
+
+  @Test
+  fun assertWithinBudget_beyondTimeToleranceAndSlack_fails() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    val error =
+      assertThrows(AssertionError::class.java) {
+        createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_000, 1.56))
+      }
+
+    assertThat(error).hasMessageThat().contains("took 1.56 times the calibration workload")
+  }
+
+  @Test
+  fun assertWithinBudget_zeroTimeBudget_allowsSlack() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 0.0))
+    val budget = createBudget()
+
+    budget.assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_000, 0.05))
+    assertThrows(AssertionError::class.java) {
+      budget.assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_000, 0.06))
+    }
+  }
+
+  @Test
+  fun assertWithinBudget_noBudget_fails() {
+    budgetFile.writeText(budgetEntries(OTHER_SCENARIO, allocatedBytes = 1_000, relativeTime = 0.1))
+
+    val error =
+      assertThrows(AssertionError::class.java) {
+        createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1, 0.1))
+      }
+
+    assertThat(error).hasMessageThat().contains("No budget for $SCENARIO")
+  }
+
+  @Test
+  fun assertWithinBudget_recordMode_writesBudgetKeepingHeaderAndOtherScenarios() {
+    budgetFile.writeText(
+      HEADER + budgetEntries(OTHER_SCENARIO, allocatedBytes = 2_000, relativeTime = 0.2)
+    )
+
+    createBudget(record = true).assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 1_000, 1.0))
+
+    assertThat(budgetFile.readText())
+      .isEqualTo(
+        HEADER +
+          budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0) +
+          budgetEntries(OTHER_SCENARIO, allocatedBytes = 2_000, relativeTime = 0.2)
+      )
+  }
+
+  @Test
+  fun assertWithinBudget_recordMode_replacesExistingBudget() {
+    budgetFile.writeText(budgetEntries(SCENARIO, allocatedBytes = 1_000, relativeTime = 1.0))
+
+    createBudget(record = true).assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 5_000, 5.0))
+
+    assertThat(budgetFile.readText())
+      .isEqualTo(budgetEntries(SCENARIO, allocatedBytes = 5_000, relativeTime = 5.0))
+    createBudget().assertWithinBudget(Measurement(SCENARIO, ITERATIONS, 5_000, 5.0))
+  }
+
+  @Test
+  fun measure_runsWarmupAndEveryMeasuredRun() {
+    val iterationsRun = mutableListOf<Int>()
+
+    val measurement =
+      createBudget().measure(SCENARIO, ITERATIONS, warmupIterations = 2, runs = 2) {
+        iterationsRun.add(it)
+      }
+
+    assertThat(iterationsRun).containsExactly(0, 1, 0, 1, 2, 3, 0, 1, 2, 3).inOrder()
+    assertThat(measurement.scenario).isEqualTo(SCENARIO)
+    assertThat(measurement.iterations).isEqualTo(ITERATIONS)
+  }
+
+  @Test
+  fun measure_takesMedianAllocationOfRuns() {
+    val runSizes = listOf(1_000, 1_000_000, 100_000)
+    var run = 0
+
+    val measurement =
+      createBudget().measure(SCENARIO, iterations = 1, warmupIterations = 0, runs = 3) {
+        ByteArray(runSizes[run++])
+      }
+
+    assumeTrue(measurement.allocatedBytes != PerformanceBudget.UNMEASURED)
+    assertThat(measurement.allocatedBytes).isAtLeast(100_000L)
+    assertThat(measurement.allocatedBytes).isLessThan(1_000_000L)
+  }
+
+  @Test
+  fun measureConcurrently_runsEveryIterationOncePerRun() {
+    val iterationsRun = mutableListOf<Int>()
+
+    createBudget().measureConcurrently(
+      SCENARIO,
+      ITERATIONS,
+      threadCount = 2,
+      warmupIterations = 0,
+      runs = 2,
+    ) {
+      synchronized(iterationsRun) { iterationsRun.add(it) }
+    }
+
+    assertThat(iterationsRun).containsExactly(0, 0, 1, 1, 2, 2, 3, 3)
+  }
+
+  private fun createBudget(record: Boolean = false) =
+    PerformanceBudget(
+      budgetFile,
+      allocationTolerance = ALLOCATION_TOLERANCE,
+      timeTolerance = TIME_TOLERANCE,
+      record = record,
+      calibrationNanos = { CALIBRATION_NANOS },
+    )
+
+  private fun budgetEntries(scenario: String, allocatedBytes: Long, relativeTime: Double) =
+    "$scenario.allocatedBytes=$allocatedBytes\n$scenario.relativeTime=$relativeTime\n"
+
+  private companion object {
+    const val SCENARIO = "load"
+    const val OTHER_SCENARIO = "render"
+    const val ITERATIONS = 4
+    const val ALLOCATION_TOLERANCE = 0.1
+    const val TIME_TOLERANCE = 0.5
+    const val CALIBRATION_NANOS = 1_000_000L
+    const val HEADER = "# Budget.\n#\n"
+  }
+}
@@ -17,6 +17,9 @@ package com.google.ads.mediation.bidmachine
 import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.BannerViewPool
+import com.google.ads.mediation.common.IabPrivacyStrings
+import com.google.ads.mediation.common.WarmBidTokenCache
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.MobileAds.getRequestConfiguration
@@ -47,6 +50,7 @@ import io.bidmachine.banner.BannerView
 import io.bidmachine.interstitial.InterstitialAd
 import io.bidmachine.nativead.NativeAd
 import io.bidmachine.rewarded.RewardedAd
+import java.util.concurrent.TimeUnit
 
 /**
  * BidMachine Adapter for GMA SDK used to initialize and load ads from the BidMachine SDK. This
@@ -160,10 +164,19 @@ class BidMachineMediationAdapter : RtbAdapter() {
       return
     }
     val placementId = signalData.configurations[0].serverParameters.getString(PLACEMENT_ID_KEY)
-    val adPlacementConfig = AdPlacementConfig(adsFormat, placementId, customParams = null)
-    BidMachine.getBidToken(signalData.context, adPlacementConfig) { bidToken ->
-      callback.onSuccess(bidToken)
-    }
+    val context = signalData.context.applicationContext
+    bidTokenCache.collect(
+      signalData.configurations[0].format.name,
+      placementId,
+      IabPrivacyStrings.fingerprint(context),
+      { tokenCallback ->
+        val adPlacementConfig = AdPlacementConfig(adsFormat, placementId, customParams = null)
+        BidMachine.getBidToken(context, adPlacementConfig) { bidToken ->
+          tokenCallback.onTokenCollected(bidToken)
+        }
+      },
+      { bidToken -> callback.onSuccess(bidToken) },
+    )
   }
 
   override fun loadBannerAd(
@@ -173,11 +186,23 @@ class BidMachineMediationAdapter : RtbAdapter() {
     BidMachineBannerAd.newInstance(mediationBannerAdConfiguration, callback, isRtb = false)
       .onSuccess {
         bannerAd = it
-        val bannerView = BannerView(mediationBannerAdConfiguration.context)
+        val bannerView = acquireBannerView(mediationBannerAdConfiguration)
         bannerAd.loadWaterfallAd(bannerView, mediationBannerAdConfiguration.context)
       }
   }
 
+  private fun acquireBannerView(
+    mediationBannerAdConfiguration: MediationBannerAdConfiguration
+  ): BannerView {
+    val context = mediationBannerAdConfiguration.context
+    val adSize = mediationBannerAdConfiguration.adSize
+    return bannerViewPool.acquire(
+      context,
+      adSize.getWidthInPixels(context),
+      adSize.getHeightInPixels(context),
+    )
+  }
+
   override fun loadInterstitialAd(
     mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration,
     callback: MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>,
@@ -221,7 +246,7 @@ class BidMachineMediationAdapter : RtbAdapter() {
     BidMachineBannerAd.newInstance(mediationBannerAdConfiguration, callback, isRtb = true)
       .onSuccess {
         bannerAd = it
-        val bannerView = BannerView(mediationBannerAdConfiguration.context)
+        val bannerView = acquireBannerView(mediationBannerAdConfiguration)
         bannerAd.loadRtbAd(bannerView, mediationBannerAdConfiguration.context)
       }
   }
@@ -285,12 +310,43 @@ class BidMachineMediationAdapter : RtbAdapter() {
     ) {
       BidMachine.setCoppa(false)
     }
+    // Warm bid tokens carry the COPPA setting they were collected with.
+    bidTokenCache.invalidate()
   }
 
   internal companion object {
     private val TAG = BidMachineMediationAdapter::class.simpleName
     @VisibleForTesting var bidMachineSdkVersionDelegate: String? = null
     @VisibleForTesting var adapterVersionDelegate: String? = null
+
+    /**
+     * Bid tokens collected ahead of the next auction, by ad format and placement. BidMachine tokens
+     * are served for up to 5 minutes after they were collected. Off until the adapter has a
+     * publisher setting to turn them on.
+     */
+    @VisibleForTesting
+    val bidTokenCache = WarmBidTokenCache("BidMachine", TimeUnit.MINUTES.toMillis(5))
+
+    /**
+     * BidMachine banner views reused across refreshes when banner view recycling is enabled. A
+     * BidMachine [BannerView] can load a new [io.bidmachine.banner.BannerRequest] in place.
+     */
+    private val bannerViewPool =
+      BannerViewPool(
+        "BidMachine",
+        object : BannerViewPool.Recycler<BannerView> {
+          override fun create(context: Context) = BannerView(context)
+
+          override fun reset(view: BannerView): Boolean {
+            view.setListener(null)
+            return true
+          }
+
+          override fun discard(view: BannerView) {
+            view.destroy()
+          }
+        },
+      )
     @VisibleForTesting const val SOURCE_ID_KEY = "source_id"
     const val PLACEMENT_ID_KEY = "placement_id"
     const val ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.bidmachine"
@@ -97,6 +97,7 @@ class BidMachineMediationAdapterTest {
   @After
   fun tearDown() {
     mockBidMachine.close()
+    BidMachineMediationAdapter.bidTokenCache.invalidate()
   }
 
   // region Version tests
@@ -340,6 +341,38 @@ class BidMachineMediationAdapterTest {
     mockSignalCallbacks.onSuccess(TEST_BID_RESPONSE)
   }
 
+  @Test
+  fun collectSignals_afterBackgroundRefresh_servesWarmBidToken() {
+    val configuration =
+      createMediationConfiguration(AdFormat.BANNER, /* serverParameters= */ bundleOf())
+    val signalData =
+      RtbSignalData(
+        context,
+        /* configurations = */ listOf<MediationConfiguration>(configuration),
+        /* networkExtras = */ bundleOf(),
+        /* adSize = */ null,
+      )
+    val mockSignalCallbacks: SignalCallbacks = mock()
+    val tokenCallbackCaptor = argumentCaptor<BidTokenCallback>()
+    adapter.collectSignals(signalData, mockSignalCallbacks)
+    mockBidMachine.verify {
+      BidMachine.getBidToken(eq(context), any<AdPlacementConfig>(), tokenCallbackCaptor.capture())
+    }
+    tokenCallbackCaptor.firstValue.onCollected(TEST_BID_RESPONSE)
+    // The slot is refilled in the background right after the live token was served.
+    mockBidMachine.verify(
+      {
+        BidMachine.getBidToken(eq(context), any<AdPlacementConfig>(), tokenCallbackCaptor.capture())
+      },
+      times(2),
+    )
+    tokenCallbackCaptor.lastValue.onCollected(TEST_WARM_BID_TOKEN)
+
+    adapter.collectSignals(signalData, mockSignalCallbacks)
+
+    verify(mockSignalCallbacks).onSuccess(TEST_WARM_BID_TOKEN)
+  }
+
   // endregion
 
   // region banner tests
@@ -447,5 +480,6 @@ class BidMachineMediationAdapterTest {
 
   private companion object {
     const val TEST_SOURCE_ID = "testSourceId"
+    const val TEST_WARM_BID_TOKEN = "testWarmBidToken"
   }
 }
@@ -18,8 +18,11 @@ import android.content.Context
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_MSG_MISSING_SLOT_ID
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.MainThreadDispatcher
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback
@@ -43,11 +46,13 @@ private constructor(
 ) : MediationAppOpenAd, AdLoadListener<SplashAd>, SplashAdInteractionListener {
   private var appOpenAdCallback: MediationAppOpenAdCallback? = null
   private var splashAd: SplashAd? = null
+  private val loadWatcher = BigoLoadWatcher(AD_FORMAT, bidResponse)
 
   fun loadAd(versionString: String) {
     val adRequest = BigoFactory.delegate.createSplashAdRequest(bidResponse, slotId, watermark)
     val splashAdLoader = BigoFactory.delegate.createSplashAdLoader()
     splashAdLoader.initializeAdLoader(loadListener = this, versionString)
+    loadWatcher.start { error -> mediationAdLoadCallback.onFailure(error) }
     splashAdLoader.loadAd(adRequest)
   }
 
@@ -56,35 +61,47 @@ private constructor(
   }
 
   override fun onError(adError: AdError) {
+    if (!loadWatcher.complete()) {
+      return
+    }
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    mediationAdLoadCallback.onFailure(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      mediationAdLoadCallback.onFailure(gmaAdError)
+    }
   }
 
   override fun onAdLoaded(splashAd: SplashAd) {
-    splashAd.setAdInteractionListener(this)
-    this.splashAd = splashAd
-    appOpenAdCallback = mediationAdLoadCallback.onSuccess(this)
+    if (!loadWatcher.complete()) {
+      return
+    }
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      splashAd.setAdInteractionListener(this)
+      this.splashAd = splashAd
+      appOpenAdCallback = mediationAdLoadCallback.onSuccess(this)
+    }
   }
 
   override fun onAdError(adError: AdError) {
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    appOpenAdCallback?.onAdFailedToShow(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      appOpenAdCallback?.onAdFailedToShow(gmaAdError)
+    }
   }
 
   override fun onAdImpression() {
-    appOpenAdCallback?.reportAdImpression()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { appOpenAdCallback?.reportAdImpression() }
   }
 
   override fun onAdClicked() {
-    appOpenAdCallback?.reportAdClicked()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { appOpenAdCallback?.reportAdClicked() }
   }
 
   override fun onAdOpened() {
-    appOpenAdCallback?.onAdOpened()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { appOpenAdCallback?.onAdOpened() }
   }
 
   override fun onAdClosed() {
-    appOpenAdCallback?.onAdClosed()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { appOpenAdCallback?.onAdClosed() }
   }
 
   override fun onAdSkipped() {
@@ -96,6 +113,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "app_open"
+
     fun newInstance(
       mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration,
       mediationAdLoadCallback:
@@ -117,6 +136,12 @@ private constructor(
         return Result.failure(IllegalArgumentException(gmaAdError.toString()))
       }
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.toString()))
+      }
+
       return Result.success(BigoAppOpenAd(mediationAdLoadCallback, bidResponse, slotId, watermark))
     }
   }
@@ -21,8 +21,11 @@ import android.widget.FrameLayout
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_MSG_MISSING_SLOT_ID
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.MainThreadDispatcher
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback
@@ -48,12 +51,14 @@ private constructor(
 ) : MediationBannerAd, AdLoadListener<BigoAdView>, AdInteractionListener {
 
   private var bannerAdCallback: MediationBannerAdCallback? = null
+  private val loadWatcher = BigoLoadWatcher(AD_FORMAT, bidResponse)
 
   fun loadAd(versionString: String) {
     val adRequest =
       BigoFactory.delegate.createBannerAdRequest(bidResponse, slotId, adSize, watermark)
     adView.setAdLoadListener(this)
     adView.setAdInteractionListener(this)
+    loadWatcher.start { error -> mediationAdLoadCallback.onFailure(error) }
     adView.loadAd(adRequest, versionString)
   }
 
@@ -62,12 +67,22 @@ private constructor(
   }
 
   override fun onError(adError: AdError) {
+    if (!loadWatcher.complete()) {
+      return
+    }
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    mediationAdLoadCallback.onFailure(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      mediationAdLoadCallback.onFailure(gmaAdError)
+    }
   }
 
   override fun onAdLoaded(bigoAdView: BigoAdView) {
-    bannerAdCallback = mediationAdLoadCallback.onSuccess(this)
+    if (!loadWatcher.complete()) {
+      return
+    }
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      bannerAdCallback = mediationAdLoadCallback.onSuccess(this)
+    }
   }
 
   override fun onAdError(adError: AdError) {
@@ -75,22 +90,24 @@ private constructor(
   }
 
   override fun onAdImpression() {
-    bannerAdCallback?.reportAdImpression()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { bannerAdCallback?.reportAdImpression() }
   }
 
   override fun onAdClicked() {
-    bannerAdCallback?.reportAdClicked()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { bannerAdCallback?.reportAdClicked() }
   }
 
   override fun onAdOpened() {
-    bannerAdCallback?.onAdOpened()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { bannerAdCallback?.onAdOpened() }
   }
 
   override fun onAdClosed() {
-    bannerAdCallback?.onAdClosed()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { bannerAdCallback?.onAdClosed() }
   }
 
   companion object {
+    private const val AD_FORMAT = "banner"
+
     fun newInstance(
       mediationBannerAdConfiguration: MediationBannerAdConfiguration,
       mediationAdLoadCallback: MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>,
@@ -121,6 +138,12 @@ private constructor(
       layoutParams.gravity = Gravity.CENTER
       bigoAdView.layoutParams = layoutParams
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.toString()))
+      }
+
       return Result.success(
         BigoBannerAd(mediationAdLoadCallback, adSize, bidResponse, slotId, bigoAdView, watermark)
       )
@@ -18,8 +18,11 @@ import android.content.Context
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_MSG_MISSING_SLOT_ID
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.MainThreadDispatcher
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -45,11 +48,13 @@ private constructor(
 
   private var interstitialAdCallback: MediationInterstitialAdCallback? = null
   private var interstitialAd: InterstitialAd? = null
+  private val loadWatcher = BigoLoadWatcher(AD_FORMAT, bidResponse)
 
   fun loadAd(versionString: String) {
     val adRequest = BigoFactory.delegate.createInterstitialAdRequest(bidResponse, slotId, watermark)
     val interstitialAdLoader = BigoFactory.delegate.createInterstitialAdLoader()
     interstitialAdLoader.initializeAdLoader(loadListener = this, versionString)
+    loadWatcher.start { error -> mediationAdLoadCallback.onFailure(error) }
     interstitialAdLoader.loadAd(adRequest)
   }
 
@@ -58,38 +63,54 @@ private constructor(
   }
 
   override fun onError(adError: AdError) {
+    if (!loadWatcher.complete()) {
+      return
+    }
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    mediationAdLoadCallback.onFailure(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      mediationAdLoadCallback.onFailure(gmaAdError)
+    }
   }
 
   override fun onAdLoaded(interstitialAd: InterstitialAd) {
-    interstitialAd.setAdInteractionListener(this)
-    this.interstitialAd = interstitialAd
-    interstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
+    if (!loadWatcher.complete()) {
+      return
+    }
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      interstitialAd.setAdInteractionListener(this)
+      this.interstitialAd = interstitialAd
+      interstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
+    }
   }
 
   override fun onAdError(adError: AdError) {
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    interstitialAdCallback?.onAdFailedToShow(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      interstitialAdCallback?.onAdFailedToShow(gmaAdError)
+    }
   }
 
   override fun onAdImpression() {
-    interstitialAdCallback?.reportAdImpression()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      interstitialAdCallback?.reportAdImpression()
+    }
   }
 
   override fun onAdClicked() {
-    interstitialAdCallback?.reportAdClicked()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { interstitialAdCallback?.reportAdClicked() }
   }
 
   override fun onAdOpened() {
-    interstitialAdCallback?.onAdOpened()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { interstitialAdCallback?.onAdOpened() }
   }
 
   override fun onAdClosed() {
-    interstitialAdCallback?.onAdClosed()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { interstitialAdCallback?.onAdClosed() }
   }
 
   companion object {
+    private const val AD_FORMAT = "interstitial"
+
     fun newInstance(
       mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration,
       mediationAdLoadCallback:
@@ -111,6 +132,12 @@ private constructor(
         return Result.failure(IllegalArgumentException(gmaAdError.toString()))
       }
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.toString()))
+      }
+
       return Result.success(
         BigoInterstitialAd(mediationAdLoadCallback, bidResponse, slotId, watermark)
       )
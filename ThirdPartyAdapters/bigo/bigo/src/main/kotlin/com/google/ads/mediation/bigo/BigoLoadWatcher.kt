@@ -0,0 +1,50 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.bigo
+
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.LoadWatchdog
+
+/**
+ * Watches a Bigo ad load with the [LoadWatchdog], so that a load Bigo never answers fails, and
+ * reports its latency to the [BidPayloadStage].
+ */
+internal class BigoLoadWatcher(private val adFormat: String, private val bidResponse: String) {
+
+  private var loadWatch: LoadWatchdog.WatchedLoad? = null
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
+
+  /** Starts watching the load right before it is handed to Bigo. */
+  fun start(timeoutListener: LoadWatchdog.TimeoutListener) {
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, adFormat, bidResponse)
+    loadWatch = LoadWatchdog.watch(NETWORK_NAME, timeoutListener)
+  }
+
+  /**
+   * Stops watching the load once Bigo answered it and releases the watch.
+   *
+   * @return `false` if the load already timed out and the Bigo callback must be dropped.
+   */
+  fun complete(): Boolean {
+    val watch = loadWatch ?: return true
+    loadWatch = null
+    if (!watch.complete()) {
+      return false
+    }
+    measuredLoad?.finish()
+    return true
+  }
+}
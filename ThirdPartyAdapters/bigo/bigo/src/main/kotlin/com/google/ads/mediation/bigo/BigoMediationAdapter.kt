@@ -232,6 +232,7 @@ class BigoMediationAdapter : RtbAdapter() {
     private val TAG = BigoMediationAdapter::class.simpleName
     @VisibleForTesting var bigoSdkVersionDelegate: String? = null
     @VisibleForTesting var adapterVersionDelegate: String? = null
+    const val NETWORK_NAME = "Bigo"
     const val ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.bigo"
     const val SDK_ERROR_DOMAIN = "sg.bigo.ads"
     const val APP_ID_KEY = "application_id"
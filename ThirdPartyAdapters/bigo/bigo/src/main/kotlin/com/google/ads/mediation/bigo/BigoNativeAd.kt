@@ -22,8 +22,11 @@ import android.widget.ImageView
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_MSG_MISSING_SLOT_ID
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.MainThreadDispatcher
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
@@ -62,24 +65,36 @@ private constructor(
   private var nativeAdCallback: MediationNativeAdCallback? = null
   private var nativeAd: NativeAd? = null
   private var videoController: VideoController? = null
+  private val loadWatcher = BigoLoadWatcher(AD_FORMAT, bidResponse)
 
   fun loadAd(versionString: String) {
     val adRequest = BigoFactory.delegate.createNativeAdRequest(bidResponse, slotId, watermark)
     val nativeAdLoader = BigoFactory.delegate.createNativeAdLoader()
     nativeAdLoader.initializeAdLoader(loadListener = this, versionString)
+    loadWatcher.start { error -> mediationNativeAdLoadCallback.onFailure(error) }
     nativeAdLoader.loadAd(adRequest)
   }
 
   override fun onError(adError: AdError) {
+    if (!loadWatcher.complete()) {
+      return
+    }
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    mediationNativeAdLoadCallback.onFailure(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      mediationNativeAdLoadCallback.onFailure(gmaAdError)
+    }
   }
 
   override fun onAdLoaded(nativeAd: NativeAd) {
-    nativeAd.setAdInteractionListener(this)
-    mapNativeAd(nativeAd)
-    this.nativeAd = nativeAd
-    nativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this)
+    if (!loadWatcher.complete()) {
+      return
+    }
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      nativeAd.setAdInteractionListener(this)
+      mapNativeAd(nativeAd)
+      this.nativeAd = nativeAd
+      nativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this)
+    }
   }
 
   override fun onAdError(adError: AdError) {
@@ -87,19 +102,19 @@ private constructor(
   }
 
   override fun onAdImpression() {
-    nativeAdCallback?.reportAdImpression()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.reportAdImpression() }
   }
 
   override fun onAdClicked() {
-    nativeAdCallback?.reportAdClicked()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.reportAdClicked() }
   }
 
   override fun onAdOpened() {
-    nativeAdCallback?.onAdOpened()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.onAdOpened() }
   }
 
   override fun onAdClosed() {
-    nativeAdCallback?.onAdClosed()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.onAdClosed() }
   }
 
   override fun onVideoStart() {
@@ -107,22 +122,24 @@ private constructor(
   }
 
   override fun onVideoPlay() {
-    nativeAdCallback?.onVideoPlay()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.onVideoPlay() }
   }
 
   override fun onVideoPause() {
-    nativeAdCallback?.onVideoPause()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.onVideoPause() }
   }
 
   override fun onVideoEnd() {
-    nativeAdCallback?.onVideoComplete()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { nativeAdCallback?.onVideoComplete() }
   }
 
   override fun onMuteChange(mute: Boolean) {
-    if (mute) {
-      nativeAdCallback?.onVideoMute()
-    } else {
-      nativeAdCallback?.onVideoUnmute()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      if (mute) {
+        nativeAdCallback?.onVideoMute()
+      } else {
+        nativeAdCallback?.onVideoUnmute()
+      }
     }
   }
 
@@ -185,6 +202,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "native"
+
     fun newInstance(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
       mediationNativeAdLoadCallback:
@@ -207,6 +226,12 @@ private constructor(
         return Result.failure(IllegalArgumentException(gmaAdError.toString()))
       }
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationNativeAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.toString()))
+      }
+
       return Result.success(
         BigoNativeAd(
           mediationNativeAdLoadCallback,
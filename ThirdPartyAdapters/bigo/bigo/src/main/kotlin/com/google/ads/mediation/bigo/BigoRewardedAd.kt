@@ -18,8 +18,11 @@ import android.content.Context
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.ERROR_MSG_MISSING_SLOT_ID
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.common.MainThreadDispatcher
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
@@ -43,11 +46,13 @@ private constructor(
 ) : MediationRewardedAd, AdLoadListener<RewardVideoAd>, RewardAdInteractionListener {
   private var rewardedAdCallback: MediationRewardedAdCallback? = null
   private var rewardVideoAd: RewardVideoAd? = null
+  private val loadWatcher = BigoLoadWatcher(AD_FORMAT, bidResponse)
 
   fun loadAd(versionString: String) {
     val adRequest = BigoFactory.delegate.createRewardVideoAdRequest(bidResponse, slotId, watermark)
     val rewardVideoAdLoader = BigoFactory.delegate.createRewardVideoAdLoader()
     rewardVideoAdLoader.initializeAdLoader(loadListener = this, versionString)
+    loadWatcher.start { error -> mediationAdLoadCallback.onFailure(error) }
     rewardVideoAdLoader.loadAd(adRequest)
   }
 
@@ -56,42 +61,56 @@ private constructor(
   }
 
   override fun onError(adError: AdError) {
+    if (!loadWatcher.complete()) {
+      return
+    }
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    mediationAdLoadCallback.onFailure(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      mediationAdLoadCallback.onFailure(gmaAdError)
+    }
   }
 
   override fun onAdLoaded(rewardVideoAd: RewardVideoAd) {
-    rewardVideoAd.setAdInteractionListener(this)
-    this.rewardVideoAd = rewardVideoAd
-    rewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
+    if (!loadWatcher.complete()) {
+      return
+    }
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      rewardVideoAd.setAdInteractionListener(this)
+      this.rewardVideoAd = rewardVideoAd
+      rewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
+    }
   }
 
   override fun onAdRewarded() {
-    rewardedAdCallback?.onUserEarnedReward()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { rewardedAdCallback?.onUserEarnedReward() }
   }
 
   override fun onAdError(adError: AdError) {
     val gmaAdError = BigoUtils.getGmaAdError(adError.code, adError.message, SDK_ERROR_DOMAIN)
-    rewardedAdCallback?.onAdFailedToShow(gmaAdError)
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) {
+      rewardedAdCallback?.onAdFailedToShow(gmaAdError)
+    }
   }
 
   override fun onAdImpression() {
-    rewardedAdCallback?.reportAdImpression()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { rewardedAdCallback?.reportAdImpression() }
   }
 
   override fun onAdClicked() {
-    rewardedAdCallback?.reportAdClicked()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { rewardedAdCallback?.reportAdClicked() }
   }
 
   override fun onAdOpened() {
-    rewardedAdCallback?.onAdOpened()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { rewardedAdCallback?.onAdOpened() }
   }
 
   override fun onAdClosed() {
-    rewardedAdCallback?.onAdClosed()
+    MainThreadDispatcher.dispatch(NETWORK_NAME, this) { rewardedAdCallback?.onAdClosed() }
   }
 
   companion object {
+    private const val AD_FORMAT = "rewarded"
+
     fun newInstance(
       mediationRewardedAdConfiguration: MediationRewardedAdConfiguration,
       mediationAdLoadCallback:
@@ -113,6 +132,12 @@ private constructor(
         return Result.failure(IllegalArgumentException(gmaAdError.toString()))
       }
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.toString()))
+      }
+
       return Result.success(BigoRewardedAd(mediationAdLoadCallback, bidResponse, slotId, watermark))
     }
   }
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.bigo
 
 import android.content.Context
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
@@ -22,11 +23,17 @@ import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATERMARK
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
+import com.google.ads.mediation.common.CommonAdErrors
+import com.google.ads.mediation.common.LoadWatchdog
+import com.google.android.gms.ads.AdError as GmaAdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -36,7 +43,10 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.inOrder
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
+import org.mockito.kotlin.verifyNoInteractions
+import org.robolectric.Shadows.shadowOf
 import sg.bigo.ads.api.AdError
 import sg.bigo.ads.api.InterstitialAd
 import sg.bigo.ads.api.InterstitialAdRequest
@@ -79,6 +89,29 @@ class BigoInterstitialAdTest {
     }
   }
 
+  @Test
+  fun newInstance_emptyBidResponse_invokesOnFailure() {
+    val adLoadCallback =
+      mock<MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>>()
+    val adConfiguration =
+      createMediationInterstitialAdConfiguration(
+        context = context,
+        serverParameters = bundleOf(SLOT_ID_KEY to TEST_SLOT_ID),
+      )
+    val expectedAdError =
+      GmaAdError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The $NETWORK_NAME interstitial bid response is empty.",
+        CommonAdErrors.ERROR_DOMAIN,
+      )
+
+    val result = BigoInterstitialAd.newInstance(adConfiguration, adLoadCallback)
+
+    assertThat(result.isFailure).isTrue()
+    verify(adLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    verifyNoInteractions(mockBigoFactory)
+  }
+
   @Test
   fun loadAd_invokesWrapperInitializeAdLoaderAndLoadAd() {
     bigoInterstitialAd.loadAd(TEST_VERSION_STRING)
@@ -99,6 +132,18 @@ class BigoInterstitialAdTest {
     verify(mockAdLoadCallback).onSuccess(bigoInterstitialAd)
   }
 
+  @Test
+  fun onAdLoaded_afterLoadAd_cancelsLoadTimeout() {
+    bigoInterstitialAd.loadAd(TEST_VERSION_STRING)
+
+    bigoInterstitialAd.onAdLoaded(mock())
+    shadowOf(Looper.getMainLooper())
+      .idleFor(LoadWatchdog.getTimeoutMillis(NETWORK_NAME), TimeUnit.MILLISECONDS)
+
+    verify(mockAdLoadCallback).onSuccess(bigoInterstitialAd)
+    verify(mockAdLoadCallback, never()).onFailure(any<GmaAdError>())
+  }
+
   @Test
   fun onError_invokesOnFailure() {
     val expectedAdError = BigoUtils.getGmaAdError(TEST_ERROR_CODE, TEST_ERROR_MSG, SDK_ERROR_DOMAIN)
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.bigo
 
 import android.content.Context
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
@@ -27,6 +28,7 @@ import com.google.ads.mediation.bigo.BigoMediationAdapter.Companion.SLOT_ID_KEY
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
+import kotlin.concurrent.thread
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -36,7 +38,9 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.inOrder
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
 import sg.bigo.ads.api.AdError
 import sg.bigo.ads.api.RewardVideoAd
 import sg.bigo.ads.api.RewardVideoAdRequest
@@ -99,6 +103,24 @@ class BigoRewardedAdTest {
     verify(mockAdLoadCallback).onSuccess(bigoRewardedAd)
   }
 
+  @Test
+  fun onAdRewarded_offMainThread_isDeliveredOnMainThreadAfterLoad() {
+    val mockRewardVideoAd = mock<RewardVideoAd>()
+
+    thread {
+        bigoRewardedAd.onAdLoaded(mockRewardVideoAd)
+        bigoRewardedAd.onAdRewarded()
+      }
+      .join()
+
+    verify(mockAdLoadCallback, never()).onSuccess(any())
+    shadowOf(Looper.getMainLooper()).idle()
+    inOrder(mockAdLoadCallback, mockRewardedAdCallback) {
+      verify(mockAdLoadCallback).onSuccess(bigoRewardedAd)
+      verify(mockRewardedAdCallback).onUserEarnedReward()
+    }
+  }
+
   @Test
   fun onError_invokesOnFailure() {
     val expectedAdError = BigoUtils.getGmaAdError(TEST_ERROR_CODE, TEST_ERROR_MSG, SDK_ERROR_DOMAIN)
@@ -23,7 +23,6 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
-import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.chartboost.sdk.ads.Banner;
@@ -36,6 +35,8 @@ import com.chartboost.sdk.events.ExpirationEvent;
 import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.BannerViewPool;
+import com.google.ads.mediation.common.SingleChildAdContainer;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -45,8 +46,12 @@ import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 
 public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
 
+  /** Banner hosts reused across refreshes when banner view recycling is enabled. */
+  private static final BannerViewPool<SingleChildAdContainer> bannerHostPool =
+      BannerViewPool.forHosts("Chartboost");
+
   /** A container view that holds Chartboost's {@link Banner} view. */
-  private FrameLayout bannerContainer;
+  private SingleChildAdContainer bannerContainer;
 
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       mediationAdLoadCallback;
@@ -123,11 +128,11 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
       return;
     }
 
-    bannerContainer = new FrameLayout(context);
     AdSize closestSize = new AdSize(supportedAdSize.getWidth(), supportedAdSize.getHeight());
-    FrameLayout.LayoutParams paramsLayout =
-        new FrameLayout.LayoutParams(
-            closestSize.getWidthInPixels(context), closestSize.getHeightInPixels(context));
+    int widthInPixels = closestSize.getWidthInPixels(context);
+    int heightInPixels = closestSize.getHeightInPixels(context);
+    bannerContainer = bannerHostPool.acquire(context, widthInPixels, heightInPixels);
+    bannerContainer.setAdSize(widthInPixels, heightInPixels);
     Banner chartboostBannerAd =
         new Banner(
             context,
@@ -135,7 +140,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
             supportedAdSize,
             ChartboostBannerAd.this,
             ChartboostAdapterUtils.getChartboostMediation());
-    bannerContainer.addView(chartboostBannerAd, paramsLayout);
+    bannerContainer.setAdView(chartboostBannerAd);
     // Chartboost banner requires cache call to be loaded. It has to be done before show call.
     chartboostBannerAd.cache();
   }
@@ -18,12 +18,14 @@ import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVA
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.chartboost.sdk.Chartboost;
+import com.google.ads.mediation.common.InitSnapshotStore;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.Adapter;
@@ -39,6 +41,7 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
@@ -60,6 +63,9 @@ public class ChartboostMediationAdapter extends Adapter {
   private ChartboostInterstitialAd interstitialAd;
   private ChartboostRewardedAd rewardedAd;
 
+  /** The configuration of the last successful initialization, persisted across launches. */
+  private static InitSnapshotStore initSnapshotStore;
+
   /**
    * Preferred Chartboost App ID.
    */
@@ -117,11 +123,11 @@ public class ChartboostMediationAdapter extends Adapter {
   }
 
   @Override
-  public void initialize(@NonNull Context context,
+  public void initialize(@NonNull final Context context,
       @NonNull final InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
 
-    ChartboostParams chartboostParams = null;
+    final InitSnapshotStore snapshotStore = getInitSnapshotStore(context);
 
     // Initialize with the preferred parameters if set.
     if (!TextUtils.isEmpty(preferredAppID) && !TextUtils.isEmpty(preferredAppSignature)) {
@@ -130,11 +136,13 @@ public class ChartboostMediationAdapter extends Adapter {
           preferredAppID, preferredAppSignature);
       Log.d(TAG, logMessage);
 
-      chartboostParams = new ChartboostParams();
+      ChartboostParams chartboostParams = new ChartboostParams();
       chartboostParams.setAppId(preferredAppID);
       chartboostParams.setAppSignature(preferredAppSignature);
+      initializeChartboost(
+          context, chartboostParams, snapshotStore, initializationCompleteCallback);
     } else {
-      HashMap<String, Bundle> chartboostConfigs = new HashMap<>();
+      final HashMap<String, Bundle> chartboostConfigs = new HashMap<>();
       for (MediationConfiguration configuration : mediationConfigurations) {
         Bundle serverParameters = configuration.getServerParameters();
         String appId = serverParameters.getString(ChartboostAdapterUtils.KEY_APP_ID);
@@ -144,7 +152,7 @@ public class ChartboostMediationAdapter extends Adapter {
         }
       }
 
-      int count = chartboostConfigs.size();
+      final int count = chartboostConfigs.size();
       if (count <= 0) {
         AdError error =
             ChartboostConstants.createAdapterError(
@@ -154,35 +162,52 @@ public class ChartboostMediationAdapter extends Adapter {
         return;
       }
 
-      String appId = chartboostConfigs.keySet().iterator().next();
-      Bundle chartboostConfig = chartboostConfigs.get(appId);
-
-      // Multiple app IDs are not considered an error.
-      if (count > 1) {
-        String logMessage =
-            String.format(
-                "Multiple '%s' entries found: %s. Using '%s' to initialize the Chartboost SDK.",
-                ChartboostAdapterUtils.KEY_APP_ID, chartboostConfigs.keySet(), appId);
-        Log.w(TAG, logMessage);
-      }
-
-      if (chartboostConfig == null) {
-        // Invalid server parameters, send initialization failed event.
-        AdError error =
-            ChartboostConstants.createAdapterError(
-                ERROR_INVALID_SERVER_PARAMETERS, ERROR_MESSAGE_INVALID_SERVER_PARAMETERS);
-        initializationCompleteCallback.onInitializationFailed(error.toString());
-        Log.e(TAG, error.toString());
-        return;
-      }
-
-    /*
-      A Chartboost extras object used to store optional information used when loading ads.
-     */
-      chartboostParams = ChartboostAdapterUtils.createChartboostParams(
-          chartboostConfig);
+      // Prefer the app ID that the SDK was last initialized with, so that the choice does not
+      // depend on the iteration order. The snapshot is read off the main thread before picking.
+      snapshotStore.pick(ChartboostAdapterUtils.KEY_APP_ID, chartboostConfigs.keySet(),
+          new InitSnapshotStore.PickCallback() {
+            @Override
+            public void onPicked(@NonNull String appId) {
+              Bundle chartboostConfig = chartboostConfigs.get(appId);
+
+              // Multiple app IDs are not considered an error.
+              if (count > 1) {
+                String logMessage =
+                    String.format(
+                        "Multiple '%s' entries found: %s. Using '%s' to initialize the "
+                            + "Chartboost SDK.",
+                        ChartboostAdapterUtils.KEY_APP_ID, chartboostConfigs.keySet(), appId);
+                Log.w(TAG, logMessage);
+              }
+
+              if (chartboostConfig == null) {
+                // Invalid server parameters, send initialization failed event.
+                AdError error =
+                    ChartboostConstants.createAdapterError(
+                        ERROR_INVALID_SERVER_PARAMETERS, ERROR_MESSAGE_INVALID_SERVER_PARAMETERS);
+                initializationCompleteCallback.onInitializationFailed(error.toString());
+                Log.e(TAG, error.toString());
+                return;
+              }
+
+              /*
+                A Chartboost extras object used to store optional information used when loading
+                ads.
+               */
+              ChartboostParams chartboostParams =
+                  ChartboostAdapterUtils.createChartboostParams(chartboostConfig);
+              initializeChartboost(
+                  context, chartboostParams, snapshotStore, initializationCompleteCallback);
+            }
+          });
     }
+  }
 
+  private static void initializeChartboost(
+      @NonNull Context context,
+      @Nullable ChartboostParams chartboostParams,
+      @NonNull final InitSnapshotStore snapshotStore,
+      @NonNull final InitializationCompleteCallback initializationCompleteCallback) {
     if (!ChartboostAdapterUtils.isValidChartboostParams(chartboostParams)) {
       // Invalid server parameters, send initialization failed event.
       AdError error =
@@ -193,21 +218,42 @@ public class ChartboostMediationAdapter extends Adapter {
       return;
     }
 
+    final String initializedAppId = chartboostParams.getAppId();
+    final long initStartMillis = SystemClock.elapsedRealtime();
     ChartboostInitializer.getInstance()
         .initialize(context, chartboostParams, new ChartboostInitializer.Listener() {
           @Override
           public void onInitializationSucceeded() {
             initializationCompleteCallback.onInitializationSucceeded();
-
+            snapshotStore.write(
+                Collections.singletonMap(ChartboostAdapterUtils.KEY_APP_ID, initializedAppId),
+                SystemClock.elapsedRealtime() - initStartMillis);
           }
 
           @Override
           public void onInitializationFailed(@NonNull AdError error) {
+            snapshotStore.clear();
             initializationCompleteCallback.onInitializationFailed(error.toString());
           }
         });
   }
 
+  @VisibleForTesting
+  static synchronized void setInitSnapshotStore(@Nullable InitSnapshotStore store) {
+    initSnapshotStore = store;
+  }
+
+  private static synchronized InitSnapshotStore getInitSnapshotStore(@NonNull Context context) {
+    if (initSnapshotStore == null) {
+      initSnapshotStore =
+          new InitSnapshotStore(
+              context.getApplicationContext(),
+              "Chartboost",
+              ChartboostAdapterUtils.getAdapterVersion());
+    }
+    return initSnapshotStore;
+  }
+
   @Override
   public void loadRewardedAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
@@ -15,9 +15,11 @@ import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SER
 import com.google.ads.mediation.chartboost.ChartboostInitializer.getInstance
 import com.google.ads.mediation.chartboost.ChartboostMediationAdapter.ERROR_MESSAGE_INVALID_SERVER_PARAMETERS
 import com.google.ads.mediation.chartboost.ChartboostMediationAdapter.ERROR_MESSAGE_MISSING_OR_INVALID_APP_ID
+import com.google.ads.mediation.common.InitSnapshotStore
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback
 import com.google.android.gms.ads.mediation.MediationConfiguration
 import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -40,10 +42,15 @@ class ChartboostMediationAdapterTest {
   private val chartboostInitializer: ChartboostInitializer = mock()
   private val context = ApplicationProvider.getApplicationContext<Context>()
 
+  // Reads and writes the snapshot right away, so that initialize() picks the app ID synchronously.
+  private val initSnapshotStore =
+    InitSnapshotStore(context, "Chartboost", TEST_ADAPTER_VERSION, executor = Executor { it.run() })
+
   private lateinit var adapter: ChartboostMediationAdapter
 
   @Before
   fun setUp() {
+    ChartboostMediationAdapter.setInitSnapshotStore(initSnapshotStore)
     adapter = ChartboostMediationAdapter()
   }
 
@@ -218,6 +225,38 @@ class ChartboostMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_2AppIdsWithStoredAppId_initializesWithStoredAppId() {
+    // Store the app ID that the adapter would not pick without a snapshot.
+    val firstAppId = hashSetOf(TEST_APP_ID_FOO, TEST_APP_ID_BAR).first()
+    val storedAppId = if (firstAppId == TEST_APP_ID_FOO) TEST_APP_ID_BAR else TEST_APP_ID_FOO
+    initSnapshotStore.write(mapOf(ChartboostAdapterUtils.KEY_APP_ID to storedAppId), 0)
+    whenever(mediationConfiguration1.serverParameters) doReturn
+      bundleOf(
+        ChartboostAdapterUtils.KEY_APP_ID to TEST_APP_ID_FOO,
+        ChartboostAdapterUtils.KEY_APP_SIGNATURE to "app_signature_foo"
+      )
+    whenever(mediationConfiguration.serverParameters) doReturn
+      bundleOf(
+        ChartboostAdapterUtils.KEY_APP_ID to TEST_APP_ID_BAR,
+        ChartboostAdapterUtils.KEY_APP_SIGNATURE to "app_signature_bar"
+      )
+
+    mockStatic(ChartboostInitializer::class.java).use {
+      whenever(getInstance()) doReturn chartboostInitializer
+
+      adapter.initialize(
+        context,
+        initializationCompleteCallback,
+        listOf(mediationConfiguration1, mediationConfiguration)
+      )
+
+      val paramsCaptor = argumentCaptor<ChartboostParams>()
+      verify(chartboostInitializer).initialize(any(), paramsCaptor.capture(), any())
+      assertThat(paramsCaptor.firstValue.appId).isEqualTo(storedAppId)
+    }
+  }
+
   @Test
   fun initialize_chartboostInitializerFailed_invokesOnInitializationFailedCallback() {
     val serverParameters =
@@ -260,4 +299,10 @@ class ChartboostMediationAdapterTest {
       verify(initializationCompleteCallback).onInitializationSucceeded()
     }
   }
+
+  private companion object {
+    const val TEST_ADAPTER_VERSION = "1.2.3.4"
+    const val TEST_APP_ID_FOO = "app_id_foo"
+    const val TEST_APP_ID_BAR = "app_id_bar"
+  }
 }
@@ -0,0 +1,106 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Routes a network SDK's ad events, keyed by instance, to the ad objects registered for them.
+ *
+ * Some network SDKs report the events of every ad through a single global listener that only
+ * passes an instance key (e.g. the placement or instance ID). Adapters register each ad object
+ * under its key when it starts loading, and the global listener looks the ad up with [route] for
+ * every event and calls it directly, so that routing an event allocates nothing. Ad objects are
+ * held weakly, and the routing table is sized for [expectedInstances] ads up front.
+ *
+ * An event whose key has no live ad, because it was never registered, was unregistered, or was
+ * garbage collected, is dropped and counted per event name (see [getDroppedCount]).
+ */
+class AdEventBus<H : Any>
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  expectedInstances: Int = DEFAULT_EXPECTED_INSTANCES,
+) {
+
+  private val handlers = ConcurrentHashMap<String, WeakReference<H>>(expectedInstances)
+  private val droppedByEvent = ConcurrentHashMap<String, AtomicLong>()
+  private val routed = AtomicLong()
+  private val dropped = AtomicLong()
+
+  /** Number of events routed to a live ad. */
+  val routedCount: Long
+    get() = routed.get()
+
+  /** Number of events dropped because their key had no live ad. */
+  val droppedCount: Long
+    get() = dropped.get()
+
+  /** Number of registered keys, including ones whose ad was garbage collected. */
+  val size: Int
+    get() = handlers.size
+
+  /** Registered keys, including ones whose ad was garbage collected. */
+  val keys: Set<String>
+    get() = handlers.keys.toSet()
+
+  /** Registers the ad object that receives the events of the given key, replacing any other. */
+  fun register(key: String, handler: H) {
+    handlers[key] = WeakReference(handler)
+  }
+
+  /** Unregisters the given key, and returns its ad object if it is still alive. */
+  fun unregister(key: String): H? = handlers.remove(key)?.get()
+
+  /** Returns whether a live ad object is registered for the given key. */
+  fun isRegistered(key: String): Boolean = handlers[key]?.get() != null
+
+  /** Returns the ad object registered for the given key, without counting an event. */
+  operator fun get(key: String): H? = handlers[key]?.get()
+
+  /**
+   * Returns the ad object that should receive the given event of the given key, or `null` if the
+   * key has no live ad, in which case the event is counted as dropped.
+   */
+  fun route(key: String, eventName: String): H? {
+    val handler = handlers[key]?.get()
+    if (handler != null) {
+      routed.incrementAndGet()
+      return handler
+    }
+    dropped.incrementAndGet()
+    droppedByEvent.getOrPut(eventName) { AtomicLong() }.incrementAndGet()
+    Log.d(TAG, "Dropped the $networkName $eventName event of $key, which has no live ad.")
+    return null
+  }
+
+  /** Returns the number of the given events dropped because their key had no live ad. */
+  fun getDroppedCount(eventName: String): Long = droppedByEvent[eventName]?.get() ?: 0L
+
+  /** Returns the weak reference held for the given key. */
+  @VisibleForTesting fun getReference(key: String): WeakReference<H>? = handlers[key]
+
+  companion object {
+    private const val TAG = "AdEventBus"
+
+    /** Default number of ad objects the routing table is sized for. */
+    const val DEFAULT_EXPECTED_INSTANCES = 16
+  }
+}
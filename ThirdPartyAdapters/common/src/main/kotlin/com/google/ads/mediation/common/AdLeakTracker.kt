@@ -0,0 +1,185 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Debug-mode tracker of ad objects that are kept alive after they should have been released.
+ *
+ * Adapters register an ad object when it is loaded and release it when it is destroyed (e.g. in
+ * `onDestroy`, or when it is removed from a static instance map). The tracker only holds weak
+ * references, enqueued on a [ReferenceQueue] so that collected ad objects are forgotten. An ad
+ * object that is neither released nor collected after [maxAgeMillis] is reported once, with its
+ * network, format and the stack that registered it, to the [LeakListener] and to logcat.
+ *
+ * Tracking is disabled by default since capturing creation stacks is not free; enable it in debug
+ * builds with [setEnabled].
+ */
+object AdLeakTracker {
+
+  private const val TAG = "AdLeakTracker"
+
+  /** Default age after which an unreleased ad object is reported. */
+  const val DEFAULT_MAX_AGE_MILLIS = 10 * 60 * 1000L
+
+  /** An ad object that is still alive past the maximum age. */
+  class Leak
+  internal constructor(
+    val networkName: String,
+    val adFormat: String,
+    val ageMillis: Long,
+    val creationStack: Throwable,
+  )
+
+  /** Receives the ad objects found to be leaking. */
+  fun interface LeakListener {
+    fun onLeakDetected(leak: Leak)
+  }
+
+  private class TrackedAd(
+    ad: Any,
+    queue: ReferenceQueue<Any>,
+    val networkName: String,
+    val adFormat: String,
+    val registeredAtMillis: Long,
+    val creationStack: Throwable,
+  ) : WeakReference<Any>(ad, queue) {
+    var reported = false
+  }
+
+  private val lock = Any()
+  private val referenceQueue = ReferenceQueue<Any>()
+  private val trackedAds = mutableListOf<TrackedAd>()
+  private val mainHandler by lazy { Handler(Looper.getMainLooper()) }
+  private val checkRunnable = Runnable { checkForLeaks() }
+
+  @Volatile private var enabled = false
+  @Volatile private var maxAgeMillis = DEFAULT_MAX_AGE_MILLIS
+  @Volatile private var leakListener: LeakListener? = null
+  @VisibleForTesting internal var clock = ElapsedRealtimeClock.SYSTEM
+  private val reportedLeaks = AtomicLong()
+
+  /** Number of ad objects reported as leaking. */
+  val leakCount: Long
+    get() = reportedLeaks.get()
+
+  /** Number of registered ad objects that are neither released nor collected yet. */
+  val trackedCount: Int
+    get() =
+      synchronized(lock) {
+        purgeCollected()
+        trackedAds.size
+      }
+
+  /** Enables or disables tracking. Disabling it forgets all registered ad objects. */
+  @JvmStatic
+  fun setEnabled(enabled: Boolean) {
+    this.enabled = enabled
+    if (!enabled) {
+      synchronized(lock) { trackedAds.clear() }
+    }
+  }
+
+  /** Sets the age after which an unreleased ad object is reported. */
+  @JvmStatic
+  fun setMaxAgeMillis(maxAgeMillis: Long) {
+    require(maxAgeMillis > 0) { "maxAgeMillis must be positive." }
+    this.maxAgeMillis = maxAgeMillis
+  }
+
+  /** Sets the listener that receives leak reports, in addition to logcat. */
+  @JvmStatic
+  fun setLeakListener(listener: LeakListener?) {
+    leakListener = listener
+  }
+
+  /** Registers an ad object when it is loaded. Does nothing while tracking is disabled. */
+  @JvmStatic
+  fun register(ad: Any, networkName: String, adFormat: String) {
+    if (!enabled) {
+      return
+    }
+    val trackedAd =
+      TrackedAd(
+        ad,
+        referenceQueue,
+        networkName,
+        adFormat,
+        clock.elapsedRealtime(),
+        Throwable("$networkName $adFormat ad registered here"),
+      )
+    synchronized(lock) {
+      purgeCollected()
+      trackedAds.add(trackedAd)
+    }
+    mainHandler.postDelayed(checkRunnable, maxAgeMillis)
+  }
+
+  /** Releases an ad object when it is destroyed. Does nothing if it was not registered. */
+  @JvmStatic
+  fun release(ad: Any?) {
+    if (ad == null || !enabled) {
+      return
+    }
+    synchronized(lock) { trackedAds.removeAll { it.get() === ad } }
+  }
+
+  /** Reports the registered ad objects that are still alive past the maximum age. */
+  @JvmStatic
+  fun checkForLeaks() {
+    val now = clock.elapsedRealtime()
+    val leaks = mutableListOf<Leak>()
+    synchronized(lock) {
+      purgeCollected()
+      for (trackedAd in trackedAds) {
+        val ageMillis = now - trackedAd.registeredAtMillis
+        if (trackedAd.reported || ageMillis < maxAgeMillis || trackedAd.get() == null) {
+          continue
+        }
+        trackedAd.reported = true
+        leaks.add(
+          Leak(trackedAd.networkName, trackedAd.adFormat, ageMillis, trackedAd.creationStack)
+        )
+      }
+    }
+    for (leak in leaks) {
+      reportedLeaks.incrementAndGet()
+      Log.w(
+        TAG,
+        "${leak.networkName} ${leak.adFormat} ad is still alive ${leak.ageMillis} ms after " +
+          "it was loaded without being released.",
+        leak.creationStack,
+      )
+      leakListener?.onLeakDetected(leak)
+    }
+  }
+
+  /** Forgets the ad objects that were garbage collected. Must hold [lock]. */
+  private fun purgeCollected() {
+    var collected = referenceQueue.poll()
+    while (collected != null) {
+      trackedAds.remove(collected as TrackedAd)
+      collected = referenceQueue.poll()
+    }
+  }
+}
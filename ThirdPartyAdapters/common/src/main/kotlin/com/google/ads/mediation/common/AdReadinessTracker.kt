@@ -0,0 +1,168 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Tracks how long loaded full-screen ads stay valid.
+ *
+ * Adapters call [onAdLoaded] when the network SDK reports a loaded ad and keep the returned
+ * [TrackedAd]. Shortly before the ad's time-to-live runs out, the host-registered
+ * [ExpirationListener] is told on the main thread so it can load a replacement before the next
+ * show opportunity. In `showAd`, [TrackedAd.checkShow] fails fast with an [AdError] with code
+ * [CommonAdErrors.ERROR_AD_EXPIRED] instead of handing a stale ad to the network SDK.
+ */
+class AdReadinessTracker
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  /** How long a loaded ad stays valid, in milliseconds. */
+  val ttlMillis: Long,
+  private val expiringSoonMarginMillis: Long = DEFAULT_EXPIRING_SOON_MARGIN_MILLIS,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) {
+
+  init {
+    require(ttlMillis > 0) { "ttlMillis must be positive." }
+    require(expiringSoonMarginMillis >= 0) { "expiringSoonMarginMillis must not be negative." }
+  }
+
+  private val expiringSoonSignals = AtomicLong()
+  private val expiredShows = AtomicLong()
+
+  /** Number of early expiration signals sent to the [ExpirationListener]. */
+  val expiringSoonSignalCount: Long
+    get() = expiringSoonSignals.get()
+
+  /** Number of show attempts that failed because the ad had expired. */
+  val expiredShowCount: Long
+    get() = expiredShows.get()
+
+  /** Receives early expiration signals for loaded ads of every network. */
+  fun interface ExpirationListener {
+    /**
+     * Called on the main thread when a loaded ad is about to expire.
+     *
+     * @param remainingValidityMillis how long the ad stays valid, which may be 0.
+     */
+    fun onAdExpiringSoon(networkName: String, adKey: String, remainingValidityMillis: Long)
+  }
+
+  /** A loaded ad registered with [onAdLoaded]. */
+  inner class TrackedAd
+  internal constructor(val adKey: String, private val loadedAtMillis: Long) : Runnable {
+
+    private val released = AtomicBoolean()
+
+    /** How long the ad stays valid, or 0 once it expired. */
+    val remainingValidityMillis: Long
+      get() = maxOf(0L, ttlMillis - (clock.elapsedRealtime() - loadedAtMillis))
+
+    /** Whether the ad outlived its time-to-live. */
+    val isExpired: Boolean
+      get() = remainingValidityMillis == 0L
+
+    /**
+     * Checks the ad right before it is shown.
+     *
+     * @return an [AdError] to report through `onAdFailedToShow` if the ad expired, or `null` if
+     *   the ad can be shown.
+     */
+    fun checkShow(): AdError? {
+      if (!isExpired) {
+        return null
+      }
+      expiredShows.incrementAndGet()
+      release()
+      val error =
+        AdError(
+          CommonAdErrors.ERROR_AD_EXPIRED,
+          "The $networkName ad for $adKey expired $ttlMillis ms after it was loaded.",
+          CommonAdErrors.ERROR_DOMAIN,
+        )
+      Log.w(TAG, error.message)
+      return error
+    }
+
+    /**
+     * Records a show failure reported by the network SDK, counting it as caused by expiry if the
+     * ad had expired.
+     */
+    fun onShowFailed() {
+      if (isExpired && !released.get()) {
+        expiredShows.incrementAndGet()
+      }
+      release()
+    }
+
+    /** Stops tracking the ad, e.g. once it was shown or destroyed. */
+    fun release() {
+      if (released.compareAndSet(false, true)) {
+        handler.removeCallbacks(this)
+      }
+    }
+
+    override fun run() {
+      if (released.get()) {
+        return
+      }
+      expiringSoonSignals.incrementAndGet()
+      expirationListener?.onAdExpiringSoon(networkName, adKey, remainingValidityMillis)
+    }
+
+    internal fun schedule() {
+      handler.postDelayed(this, maxOf(0L, remainingValidityMillis - expiringSoonMarginMillis))
+    }
+  }
+
+  /**
+   * Starts tracking an ad the network SDK just loaded.
+   *
+   * @param adKey identifies the ad in the early expiration signal, e.g. its placement ID.
+   * @param loadedAtMillis when the network SDK loaded the ad, on the [ElapsedRealtimeClock]. Ads
+   *   that were loaded ahead of the request, e.g. by a preloader, pass their original load time so
+   *   that their validity is not extended.
+   */
+  @JvmOverloads
+  fun onAdLoaded(adKey: String, loadedAtMillis: Long = clock.elapsedRealtime()): TrackedAd {
+    val trackedAd = TrackedAd(adKey, loadedAtMillis)
+    trackedAd.schedule()
+    return trackedAd
+  }
+
+  companion object {
+    private const val TAG = "AdReadinessTracker"
+
+    /** How long before expiry the [ExpirationListener] is told by default. */
+    @JvmField val DEFAULT_EXPIRING_SOON_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5)
+
+    private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+    @Volatile private var expirationListener: ExpirationListener? = null
+
+    /** Registers the listener told about ads that are about to expire, or clears it with `null`. */
+    @JvmStatic
+    fun setExpirationListener(listener: ExpirationListener?) {
+      expirationListener = listener
+    }
+  }
+}
@@ -0,0 +1,166 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Reads the adapter settings flags that the Google Mobile Ads SDK serves to adapters.
+ *
+ * The SDK does not expose these settings publicly, so they are read through reflection. The
+ * reflective handles are resolved once per process, and if the settings class or its methods are
+ * missing, that outcome is remembered instead of being looked up again. Flag values are snapshotted
+ * and only read again from the SDK once they are older than the refresh interval, so that a flag
+ * checked on every ad request costs a map lookup in the common case.
+ */
+object AdapterSettingsFlags {
+
+  private const val TAG = "AdapterSettingsFlags"
+
+  private const val ADAPTER_SETTINGS_CLASS_NAME =
+    "com.google.android.gms.ads.internal.adaptersettings.AdapterSettings"
+
+  /** Default time after which a flag value is read again from the SDK. */
+  const val DEFAULT_REFRESH_INTERVAL_MILLIS = 60_000L
+
+  /** Reads a flag value from the SDK, or returns `null` if the settings cannot be read. */
+  internal fun interface Source {
+    fun readBoolean(key: String, defaultValue: Boolean): Boolean?
+  }
+
+  private class Snapshot(val value: Boolean, val readAtMillis: Long)
+
+  private val snapshots = ConcurrentHashMap<String, Snapshot>()
+  private val sourceReads = AtomicLong()
+
+  @Volatile private var refreshIntervalMillis = DEFAULT_REFRESH_INTERVAL_MILLIS
+  @VisibleForTesting @Volatile internal var clock = ElapsedRealtimeClock.SYSTEM
+  @VisibleForTesting
+  @Volatile
+  internal var source: Source = ReflectiveSource(ADAPTER_SETTINGS_CLASS_NAME)
+
+  /** Number of flag reads that went to the SDK instead of a snapshot. */
+  val sourceReadCount: Long
+    get() = sourceReads.get()
+
+  /**
+   * Returns the value of a boolean flag, or [defaultValue] if the SDK does not serve adapter
+   * settings. The default value is not snapshotted, so the flag is read as soon as the SDK creates
+   * its settings.
+   */
+  @JvmStatic
+  fun getBoolean(key: String, defaultValue: Boolean): Boolean {
+    val now = clock.elapsedRealtime()
+    val snapshot = snapshots[key]
+    if (snapshot != null && now - snapshot.readAtMillis < refreshIntervalMillis) {
+      return snapshot.value
+    }
+    sourceReads.incrementAndGet()
+    val value = source.readBoolean(key, defaultValue) ?: return defaultValue
+    snapshots[key] = Snapshot(value, now)
+    return value
+  }
+
+  /** Sets the time after which a flag value is read again from the SDK. */
+  @JvmStatic
+  fun setRefreshIntervalMillis(refreshIntervalMillis: Long) {
+    require(refreshIntervalMillis >= 0) { "refreshIntervalMillis must not be negative." }
+    this.refreshIntervalMillis = refreshIntervalMillis
+  }
+
+  @VisibleForTesting
+  internal fun reset() {
+    snapshots.clear()
+    sourceReads.set(0)
+    refreshIntervalMillis = DEFAULT_REFRESH_INTERVAL_MILLIS
+    clock = ElapsedRealtimeClock.SYSTEM
+    source = ReflectiveSource(ADAPTER_SETTINGS_CLASS_NAME)
+  }
+
+  /** Reads flags through reflective handles to the SDK's adapter settings, resolved once. */
+  internal class ReflectiveSource(private val className: String) : Source {
+
+    private class Handles(val getInstance: Method, val getBoolean: Method)
+
+    /** Number of times the reflective handles were looked up. */
+    @Volatile
+    var resolveCount = 0
+      private set
+
+    @Volatile private var resolved = false
+    @Volatile private var handles: Handles? = null
+
+    override fun readBoolean(key: String, defaultValue: Boolean): Boolean? {
+      val handles = resolveHandles() ?: return null
+      return try {
+        val settings = handles.getInstance.invoke(null) ?: return null
+        handles.getBoolean.invoke(settings, key, defaultValue) as? Boolean
+      } catch (e: IllegalAccessException) {
+        null
+      } catch (e: InvocationTargetException) {
+        null
+      } catch (e: IllegalArgumentException) {
+        null
+      }
+    }
+
+    private fun resolveHandles(): Handles? {
+      if (resolved) {
+        return handles
+      }
+      synchronized(this) {
+        if (!resolved) {
+          handles = lookUpHandles()
+        }
+        return handles
+      }
+    }
+
+    /**
+     * Looks up the reflective handles, marking them as resolved unless the SDK has not created its
+     * settings yet.
+     */
+    private fun lookUpHandles(): Handles? {
+      resolveCount++
+      return try {
+        val getInstance = Class.forName(className).getDeclaredMethod("getInstance")
+        getInstance.isAccessible = true
+        // Resolve getBoolean on the class of the actual settings instance, which may be a subclass.
+        val settings = getInstance.invoke(null) ?: return null
+        val getBoolean =
+          settings.javaClass.getDeclaredMethod(
+            "getBoolean",
+            String::class.java,
+            Boolean::class.javaPrimitiveType,
+          )
+        getBoolean.isAccessible = true
+        resolved = true
+        Handles(getInstance, getBoolean)
+      } catch (e: ReflectiveOperationException) {
+        Log.d(TAG, "Adapter settings are not available in this version of the SDK.")
+        resolved = true
+        null
+      } catch (e: SecurityException) {
+        resolved = true
+        null
+      }
+    }
+  }
+}
@@ -0,0 +1,245 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+
+/**
+ * Keeps one app-open ad per placement loaded ahead of the Google Mobile Ads SDK's load request.
+ *
+ * App-open ads are requested while the app's splash screen is up, and a network SDK that only
+ * starts loading then is often too late. Once enabled with [setEnabled], adapters call [preload]
+ * for their app-open placements as soon as the network SDK reports it is initialized, and serve
+ * the placement's next load from [take]. The preloader holds at most one ad per placement, and
+ * drops an ad that was loaded more than `maxAgeMillis` ago instead of serving it.
+ *
+ * The first [take] of each placement in the process counts as a cold-start show opportunity, so
+ * that [coldStartShowRate] tells how often the network had an ad ready when the app started.
+ */
+class AppOpenAdPreloader<T : Any>
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  /** How long a preloaded ad may be served after it loaded, in milliseconds. */
+  val maxAgeMillis: Long,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) {
+
+  init {
+    require(maxAgeMillis > 0) { "maxAgeMillis must be positive." }
+  }
+
+  /** Loads and disposes of the network's app-open ads. */
+  interface Loader<T> {
+    /** Starts loading an app-open ad for the given placement and reports it to [callback]. */
+    fun load(placementId: String, callback: LoadCallback<T>)
+
+    /** Releases a preloaded ad that will not be served. */
+    fun discard(ad: T)
+  }
+
+  /** Receives the outcome of a [Loader.load] call. */
+  interface LoadCallback<T> {
+    fun onAdLoaded(ad: T)
+
+    fun onAdFailedToLoad(message: String)
+  }
+
+  private inner class Slot(val startedAtMillis: Long, val loader: Loader<T>) : LoadCallback<T> {
+    var ad: T? = null
+    var loadedAtMillis = 0L
+
+    override fun onAdLoaded(ad: T) {
+      val discarded =
+        synchronized(this@AppOpenAdPreloader) {
+          if (slots.containsValue(this) && enabled) {
+            this.ad = ad
+            loadedAtMillis = clock.elapsedRealtime()
+            readyCount++
+            totalTimeToReadyMillis += loadedAtMillis - startedAtMillis
+            false
+          } else {
+            true
+          }
+        }
+      if (discarded) {
+        loader.discard(ad)
+      }
+    }
+
+    override fun onAdFailedToLoad(message: String) {
+      Log.d(TAG, "$networkName failed to preload an app-open ad: $message")
+      synchronized(this@AppOpenAdPreloader) {
+        slots.entries.removeAll { it.value === this }
+        failedCount++
+      }
+    }
+  }
+
+  /** Preloaded or preloading ads by placement ID. */
+  private val slots = HashMap<String, Slot>()
+
+  /** Placements that were already asked for an ad in this process. */
+  private val requestedPlacements = HashSet<String>()
+
+  private var enabled = false
+
+  /** Number of preloads that finished loading an ad. */
+  @get:Synchronized
+  var readyCount = 0L
+    private set
+
+  /** Number of preloads that failed to load an ad. */
+  @get:Synchronized
+  var failedCount = 0L
+    private set
+
+  /** Number of loads served from a preloaded ad. */
+  @get:Synchronized
+  var hitCount = 0L
+    private set
+
+  /** Number of loads that found no ready preloaded ad while preloading was enabled. */
+  @get:Synchronized
+  var missCount = 0L
+    private set
+
+  /** Number of preloaded ads dropped because they were loaded more than `maxAgeMillis` ago. */
+  @get:Synchronized
+  var staleCount = 0L
+    private set
+
+  /** Number of placements asked for an ad for the first time in this process. */
+  @get:Synchronized
+  var coldStartRequestCount = 0L
+    private set
+
+  /** Number of first-time requests that were served from a preloaded ad. */
+  @get:Synchronized
+  var coldStartServedCount = 0L
+    private set
+
+  private var totalTimeToReadyMillis = 0L
+
+  /** Share of cold-start requests served from a preloaded ad, or 0 before the first one. */
+  val coldStartShowRate: Double
+    @Synchronized
+    get() =
+      if (coldStartRequestCount == 0L) 0.0
+      else coldStartServedCount.toDouble() / coldStartRequestCount
+
+  /** Average time from [preload] to a loaded ad, in milliseconds, or 0 before the first one. */
+  val averageTimeToReadyMillis: Long
+    @Synchronized get() = if (readyCount == 0L) 0L else totalTimeToReadyMillis / readyCount
+
+  /** Turns preloading on or off. Turning it off discards the ads preloaded so far. */
+  fun setEnabled(enabled: Boolean) {
+    val discarded =
+      synchronized(this) {
+        this.enabled = enabled
+        if (enabled) emptyList() else removeAllSlots()
+      }
+    discarded.forEach { (slot, ad) -> slot.loader.discard(ad) }
+  }
+
+  @Synchronized fun isEnabled() = enabled
+
+  /**
+   * Starts loading an ad for the given placement, unless preloading is off or the placement already
+   * holds or is loading one.
+   */
+  fun preload(placementId: String, loader: Loader<T>) {
+    val slot =
+      synchronized(this) {
+        if (!enabled || slots.containsKey(placementId)) {
+          return
+        }
+        Slot(clock.elapsedRealtime(), loader).also { slots[placementId] = it }
+      }
+    loader.load(placementId, slot)
+  }
+
+  /**
+   * Takes the placement's preloaded ad.
+   *
+   * @return a loaded ad to serve, or `null` if preloading is off or the placement has no ad ready.
+   */
+  fun take(placementId: String): T? {
+    var staleSlot: Slot? = null
+    var staleAd: T? = null
+    val ad =
+      synchronized(this) {
+        if (!enabled) {
+          return null
+        }
+        val coldStart = requestedPlacements.add(placementId)
+        if (coldStart) {
+          coldStartRequestCount++
+        }
+        val slot = slots[placementId]
+        val readyAd = slot?.ad
+        if (slot == null || readyAd == null) {
+          missCount++
+          return@synchronized null
+        }
+        slots.remove(placementId)
+        if (clock.elapsedRealtime() - slot.loadedAtMillis >= maxAgeMillis) {
+          staleCount++
+          missCount++
+          staleSlot = slot
+          staleAd = readyAd
+          return@synchronized null
+        }
+        hitCount++
+        if (coldStart) {
+          coldStartServedCount++
+        }
+        readyAd
+      }
+    staleAd?.let {
+      Log.d(TAG, "Dropped a stale $networkName app-open ad for placement $placementId.")
+      staleSlot?.loader?.discard(it)
+    }
+    return ad
+  }
+
+  private fun removeAllSlots(): List<Pair<Slot, T>> {
+    val loadedAds = slots.values.mapNotNull { slot -> slot.ad?.let { slot to it } }
+    slots.clear()
+    return loadedAds
+  }
+
+  @VisibleForTesting
+  internal fun reset() {
+    synchronized(this) {
+      enabled = false
+      slots.clear()
+      requestedPlacements.clear()
+      readyCount = 0
+      failedCount = 0
+      hitCount = 0
+      missCount = 0
+      staleCount = 0
+      coldStartRequestCount = 0
+      coldStartServedCount = 0
+      totalTimeToReadyMillis = 0
+    }
+  }
+
+  private companion object {
+    const val TAG = "AppOpenAdPreloader"
+  }
+}
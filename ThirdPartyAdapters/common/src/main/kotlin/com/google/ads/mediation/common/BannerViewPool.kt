@@ -0,0 +1,271 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.common
+
+import android.app.Activity
+import android.app.Application
+import android.content.Context
+import android.content.ContextWrapper
+import android.os.Bundle
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import android.view.View
+
+/**
+ * Recycles banner views across refresh cycles instead of constructing a new one for every load.
+ *
+ * Recycling is opt-in (see [setRecyclingEnabled]). When it is enabled, views are pooled per
+ * Activity and per ad size. A view handed out by [acquire] goes back to its pool once the Google
+ * Mobile Ads SDK has removed it from the banner, e.g. when the banner refreshes or is destroyed.
+ * It is reset by the [Recycler] before being pooled, and the pool of an Activity is discarded when
+ * the Activity is destroyed, so that no pooled view outlives its Activity.
+ *
+ * Only views that the network SDK allows to be reused across loads should be pooled: either the
+ * network's own banner view, when it can load a new ad in place, or the adapter's host container.
+ * All methods must be called on the main thread.
+ *
+ * The pool registers with the [MemoryBudget], counting each pooled view as a full-size ARGB
+ * drawing buffer, and discards pooled views when the budget or memory pressure calls for it.
+ */
+class BannerViewPool<V : View>
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  private val recycler: Recycler<V>,
+  private val capacityPerSize: Int = DEFAULT_CAPACITY_PER_SIZE,
+) : MemoryBudget.Consumer {
+
+  /** Creates, resets and discards the pooled views. */
+  interface Recycler<V : View> {
+
+    /** Creates a new view. */
+    fun create(context: Context): V
+
+    /**
+     * Resets a view that is no longer shown so that it can host another ad.
+     *
+     * @return `false` if the view cannot be reused, in which case it is discarded.
+     */
+    fun reset(view: V): Boolean
+
+    /** Releases a view that will not be reused. */
+    fun discard(view: V)
+  }
+
+  private val pools = HashMap<Activity, HashMap<Long, ArrayDeque<V>>>()
+  private val mainHandler = Handler(Looper.getMainLooper())
+  private var lifecycleCallbacksRegistered = false
+
+  /** Estimated bytes held by the pooled views. Written on the main thread only. */
+  @Volatile private var pooledBytes = 0L
+
+  init {
+    MemoryBudget.register(networkName, MEMORY_BUDGET_WEIGHT, this)
+  }
+
+  /** Number of views created by [acquire]. */
+  var createdCount = 0L
+    private set
+
+  /** Number of view allocations avoided by handing out a pooled view. */
+  var allocationsAvoidedCount = 0L
+    private set
+
+  /** Number of views that could not be reset for reuse and were discarded. */
+  var reuseFailureCount = 0L
+    private set
+
+  /** Number of views currently pooled. */
+  val pooledCount: Int
+    get() = pools.values.sumOf { sizes -> sizes.values.sumOf { it.size } }
+
+  /**
+   * Returns a view for a banner of the given size, reusing a pooled one if recycling is enabled
+   * and one is available for the Activity of [context].
+   */
+  fun acquire(context: Context, widthPixels: Int, heightPixels: Int): V {
+    MemoryBudget.install(context)
+    val activity = if (recyclingEnabled) findActivity(context) else null
+    val sizeKey = sizeKey(widthPixels, heightPixels)
+    if (activity == null) {
+      createdCount++
+      return recycler.create(context)
+    }
+
+    val view = pools[activity]?.get(sizeKey)?.removeFirstOrNull()
+    if (view != null) {
+      pooledBytes -= estimatedBytes(sizeKey)
+      allocationsAvoidedCount++
+      watchForRemoval(view, activity, sizeKey)
+      return view
+    }
+    createdCount++
+    return recycler.create(context).also { watchForRemoval(it, activity, sizeKey) }
+  }
+
+  /** Returns a view to its pool once it has been removed from the banner for good. */
+  private fun watchForRemoval(view: V, activity: Activity, sizeKey: Long) {
+    view.addOnAttachStateChangeListener(
+      object : View.OnAttachStateChangeListener {
+        override fun onViewAttachedToWindow(attachedView: View) {}
+
+        override fun onViewDetachedFromWindow(detachedView: View) {
+          // The view is detached before it is removed from its parent, and a view that is merely
+          // detached along with its parent (e.g. when scrolled out of a list) may be re-attached.
+          mainHandler.post {
+            if (view.parent == null && !view.isAttachedToWindow) {
+              view.removeOnAttachStateChangeListener(this)
+              recycle(view, activity, sizeKey)
+            }
+          }
+        }
+      }
+    )
+  }
+
+  private fun recycle(view: V, activity: Activity, sizeKey: Long) {
+    if (activity.isFinishing || activity.isDestroyed) {
+      recycler.discard(view)
+      return
+    }
+    if (!recycler.reset(view)) {
+      reuseFailureCount++
+      Log.d(TAG, "Could not reset a $networkName banner view for reuse.")
+      recycler.discard(view)
+      return
+    }
+    registerLifecycleCallbacks(activity)
+    val pool = pools.getOrPut(activity) { HashMap() }.getOrPut(sizeKey) { ArrayDeque() }
+    if (pool.size >= capacityPerSize) {
+      recycler.discard(view)
+      return
+    }
+    pool.addLast(view)
+    pooledBytes += estimatedBytes(sizeKey)
+    MemoryBudget.enforce()
+  }
+
+  override val sizeInBytes: Long
+    get() = pooledBytes
+
+  override fun trimToSize(maxBytes: Long) {
+    if (Looper.myLooper() != Looper.getMainLooper()) {
+      mainHandler.post { trimToSize(maxBytes) }
+      return
+    }
+    for (sizes in pools.values) {
+      for ((sizeKey, pool) in sizes) {
+        while (pooledBytes > maxBytes && pool.isNotEmpty()) {
+          recycler.discard(pool.removeFirst())
+          pooledBytes -= estimatedBytes(sizeKey)
+        }
+      }
+    }
+  }
+
+  private fun registerLifecycleCallbacks(activity: Activity) {
+    if (lifecycleCallbacksRegistered) {
+      return
+    }
+    lifecycleCallbacksRegistered = true
+    activity.application.registerActivityLifecycleCallbacks(
+      object : Application.ActivityLifecycleCallbacks {
+        override fun onActivityDestroyed(destroyedActivity: Activity) {
+          pools.remove(destroyedActivity)?.forEach { (sizeKey, pool) ->
+            pool.forEach { recycler.discard(it) }
+            pooledBytes -= pool.size * estimatedBytes(sizeKey)
+          }
+        }
+
+        override fun onActivityCreated(createdActivity: Activity, savedInstanceState: Bundle?) {}
+
+        override fun onActivityStarted(startedActivity: Activity) {}
+
+        override fun onActivityResumed(resumedActivity: Activity) {}
+
+        override fun onActivityPaused(pausedActivity: Activity) {}
+
+        override fun onActivityStopped(stoppedActivity: Activity) {}
+
+        override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {}
+      }
+    )
+  }
+
+  companion object {
+    private const val TAG = "BannerViewPool"
+
+    /** Default number of views pooled per Activity and ad size. */
+    const val DEFAULT_CAPACITY_PER_SIZE = 2
+
+    /** Share of the [MemoryBudget] of each pool, relative to the other adapter caches. */
+    private const val MEMORY_BUDGET_WEIGHT = 1
+
+    /** Bytes per pixel of an ARGB_8888 drawing buffer. */
+    private const val BYTES_PER_PIXEL = 4L
+
+    @Volatile private var recyclingEnabled = false
+
+    /**
+     * Enables or disables banner view recycling for all adapters. Recycling is disabled by
+     * default.
+     */
+    @JvmStatic
+    fun setRecyclingEnabled(enabled: Boolean) {
+      recyclingEnabled = enabled
+    }
+
+    /** Creates a pool of [SingleChildAdContainer] hosts, which can be reused by any adapter. */
+    @JvmStatic
+    fun forHosts(networkName: String): BannerViewPool<SingleChildAdContainer> =
+      BannerViewPool(
+        networkName,
+        object : Recycler<SingleChildAdContainer> {
+          override fun create(context: Context) = SingleChildAdContainer(context)
+
+          override fun reset(view: SingleChildAdContainer): Boolean {
+            view.removeAllViews()
+            return true
+          }
+
+          override fun discard(view: SingleChildAdContainer) {
+            view.removeAllViews()
+          }
+        },
+      )
+
+    private fun sizeKey(widthPixels: Int, heightPixels: Int): Long =
+      (widthPixels.toLong() shl 32) or (heightPixels.toLong() and 0xFFFFFFFFL)
+
+    private fun estimatedBytes(sizeKey: Long): Long {
+      val widthPixels = (sizeKey shr 32).coerceAtLeast(0)
+      val heightPixels = sizeKey.toInt().toLong().coerceAtLeast(0)
+      return widthPixels * heightPixels * BYTES_PER_PIXEL
+    }
+
+    private fun findActivity(context: Context): Activity? {
+      var current: Context? = context
+      while (current is ContextWrapper) {
+        if (current is Activity) {
+          return current
+        }
+        current = current.baseContext
+      }
+      return null
+    }
+  }
+}
@@ -0,0 +1,222 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.SystemClock
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Checks and measures the bid response of an RTB ad load before it is handed to the network SDK.
+ *
+ * Adapters call [validate] with the bid response before allocating any network SDK object. Empty
+ * bid responses are rejected, and so are JSON bid responses whose closing bracket is missing, which
+ * is how a response cut off in transit shows up. The check reads the string in place; the bid
+ * response is never copied, and adapters pass the same string on to the network SDK.
+ *
+ * The size of each checked bid response, in characters, is counted in a histogram per network and
+ * ad format. Adapters that report the load latency, with [startLoad] or [recordLoadLatency], also
+ * get the average latency per size bucket, so that payload size can be correlated with load latency. The bucket
+ * bounds can be changed with [setSizeBucketUpperBounds].
+ */
+object BidPayloadStage {
+
+  private const val TAG = "BidPayloadStage"
+
+  /** Default upper bounds, in characters, of the bid response size buckets. */
+  @JvmField val DEFAULT_SIZE_BUCKET_UPPER_BOUNDS = intArrayOf(1_024, 4_096, 16_384, 65_536, 262_144)
+
+  /** Bid response statistics of one network and ad format. */
+  class Stats internal constructor(upperBounds: IntArray) {
+    /**
+     * Upper bounds, in characters, of the size buckets. The last bucket, at index
+     * `sizeBucketUpperBounds.size`, counts the bid responses larger than every bound.
+     */
+    val sizeBucketUpperBounds: IntArray = upperBounds.copyOf()
+
+    private val bucketCounts = LongArray(upperBounds.size + 1)
+    private val bucketLatencyCounts = LongArray(upperBounds.size + 1)
+    private val bucketTotalLatencyMillis = LongArray(upperBounds.size + 1)
+
+    /** Number of bid responses rejected because they were empty. */
+    @get:Synchronized
+    var emptyCount = 0L
+      private set
+
+    /** Number of bid responses rejected because they were cut off. */
+    @get:Synchronized
+    var truncatedCount = 0L
+      private set
+
+    /** Size of the largest bid response checked, in characters. */
+    @get:Synchronized
+    var maxSize = 0
+      private set
+
+    /** Returns the number of checked bid responses that fell in the given size bucket. */
+    @Synchronized fun getCount(bucket: Int): Long = bucketCounts[bucket]
+
+    /** Returns the average load latency of the given size bucket, in milliseconds. */
+    @Synchronized
+    fun getAverageLoadLatencyMillis(bucket: Int): Long {
+      val count = bucketLatencyCounts[bucket]
+      return if (count == 0L) 0L else bucketTotalLatencyMillis[bucket] / count
+    }
+
+    /** Returns the size bucket a bid response of the given size falls in. */
+    fun bucketOf(size: Int): Int {
+      val index = sizeBucketUpperBounds.indexOfFirst { size <= it }
+      return if (index == -1) sizeBucketUpperBounds.size else index
+    }
+
+    @Synchronized
+    internal fun recordSize(size: Int) {
+      bucketCounts[bucketOf(size)]++
+      maxSize = maxOf(maxSize, size)
+    }
+
+    @Synchronized
+    internal fun recordEmpty() {
+      emptyCount++
+    }
+
+    @Synchronized
+    internal fun recordTruncated() {
+      truncatedCount++
+    }
+
+    @Synchronized
+    internal fun recordLatency(size: Int, latencyMillis: Long) {
+      val bucket = bucketOf(size)
+      bucketLatencyCounts[bucket]++
+      bucketTotalLatencyMillis[bucket] += latencyMillis
+    }
+  }
+
+  /** An RTB ad load whose latency is being measured. Started with [startLoad]. */
+  class MeasuredLoad internal constructor(private val stats: Stats, private val size: Int) {
+
+    private val startMillis = SystemClock.elapsedRealtime()
+    private val finished = AtomicBoolean()
+
+    /**
+     * Records the load latency. Called from every SDK load callback; calls after the first are
+     * ignored.
+     */
+    fun finish() {
+      if (finished.compareAndSet(false, true)) {
+        stats.recordLatency(size, SystemClock.elapsedRealtime() - startMillis)
+      }
+    }
+  }
+
+  private val statsByKey = ConcurrentHashMap<String, Stats>()
+
+  @Volatile private var sizeBucketUpperBounds = DEFAULT_SIZE_BUCKET_UPPER_BOUNDS
+
+  /**
+   * Sets the upper bounds, in characters, of the size buckets. The bounds must be positive and in
+   * increasing order. Statistics collected with the previous bounds are dropped.
+   */
+  @JvmStatic
+  fun setSizeBucketUpperBounds(vararg upperBounds: Int) {
+    require(upperBounds.isNotEmpty() && upperBounds[0] > 0) {
+      "Size bucket bounds must be positive."
+    }
+    require((1 until upperBounds.size).all { upperBounds[it] > upperBounds[it - 1] }) {
+      "Size bucket bounds must be in increasing order."
+    }
+    sizeBucketUpperBounds = upperBounds.copyOf()
+    statsByKey.clear()
+  }
+
+  /**
+   * Checks the bid response of an RTB ad load and records its size.
+   *
+   * @return `null` if the bid response can be handed to the network SDK, or the error to fail the
+   *   ad load with otherwise.
+   */
+  @JvmStatic
+  fun validate(networkName: String, adFormat: String, bidResponse: String?): AdError? {
+    val stats = getStats(networkName, adFormat)
+    val first = bidResponse?.indexOfFirst { !it.isWhitespace() } ?: -1
+    if (bidResponse == null || first == -1) {
+      stats.recordEmpty()
+      return createError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The $networkName $adFormat bid response is empty.",
+      )
+    }
+    stats.recordSize(bidResponse.length)
+    val expectedLast =
+      when (bidResponse[first]) {
+        '{' -> '}'
+        '[' -> ']'
+        else -> return null
+      }
+    val last = bidResponse[bidResponse.indexOfLast { !it.isWhitespace() }]
+    if (last != expectedLast) {
+      stats.recordTruncated()
+      return createError(
+        CommonAdErrors.ERROR_TRUNCATED_BID_RESPONSE,
+        "The $networkName $adFormat bid response of ${bidResponse.length} characters is cut " +
+          "off: it ends with '$last' instead of '$expectedLast'.",
+      )
+    }
+    return null
+  }
+
+  /**
+   * Records the time from handing the given bid response to the network SDK until the ad load
+   * finished, successfully or not.
+   */
+  @JvmStatic
+  fun recordLoadLatency(
+    networkName: String,
+    adFormat: String,
+    bidResponse: String,
+    latencyMillis: Long,
+  ) {
+    getStats(networkName, adFormat).recordLatency(bidResponse.length, latencyMillis)
+  }
+
+  /**
+   * Starts measuring the load latency of the given bid response. Called right before the bid
+   * response is handed to the network SDK.
+   */
+  @JvmStatic
+  fun startLoad(networkName: String, adFormat: String, bidResponse: String): MeasuredLoad =
+    MeasuredLoad(getStats(networkName, adFormat), bidResponse.length)
+
+  /** Returns the bid response statistics of the given network and ad format. */
+  @JvmStatic
+  fun getStats(networkName: String, adFormat: String): Stats =
+    statsByKey.getOrPut("$networkName/$adFormat") { Stats(sizeBucketUpperBounds) }
+
+  private fun createError(code: Int, message: String): AdError {
+    val error = AdError(code, message, CommonAdErrors.ERROR_DOMAIN)
+    Log.w(TAG, message)
+    return error
+  }
+
+  @VisibleForTesting
+  internal fun reset() {
+    sizeBucketUpperBounds = DEFAULT_SIZE_BUCKET_UPPER_BOUNDS
+    statsByKey.clear()
+  }
+}
@@ -0,0 +1,142 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.view.View
+
+/**
+ * Caches the clickable asset views that a native ad mapper registers with its network SDK in
+ * `trackViews()`.
+ *
+ * Native ads shown in a `RecyclerView` are re-bound every time their item is recycled, usually
+ * with the exact same asset views. [update] compares the incoming asset views against the last
+ * bound set by identity and only rebuilds [assetViews] when something changed, so the common
+ * re-bind path does not copy the asset map or allocate new lists.
+ *
+ * This class is not thread-safe. It is meant to be used from `trackViews()`, which the Google
+ * Mobile Ads SDK calls on the main thread.
+ */
+class ClickableAssetViewsCache(private vararg val excludedAssetNames: String) {
+
+  private var lastAssetNames = arrayOfNulls<String>(INITIAL_CAPACITY)
+  private var lastAssetViews = arrayOfNulls<View>(INITIAL_CAPACITY)
+  private var lastSize = NOT_BOUND
+
+  /**
+   * The clickable asset views from the last [update], minus the excluded asset names. The same
+   * list instance is returned for as long as the bound asset views don't change.
+   */
+  var assetViews: ArrayList<View> = ArrayList()
+    private set
+
+  /** Number of [update] calls that reused the previously computed [assetViews]. */
+  var reuseCount: Long = 0
+    private set
+
+  /** Number of [update] calls that had to recompute [assetViews]. */
+  var recomputeCount: Long = 0
+    private set
+
+  /**
+   * Binds the given clickable asset views.
+   *
+   * @return `true` if [assetViews] was recomputed, or `false` if the asset views are identical to
+   *   the ones from the previous call and the cached [assetViews] were reused.
+   */
+  fun update(clickableAssetViews: Map<String, View>): Boolean {
+    if (isUnchanged(clickableAssetViews)) {
+      reuseCount++
+      return false
+    }
+
+    recomputeCount++
+    val size = clickableAssetViews.size
+    if (size > lastAssetNames.size) {
+      lastAssetNames = arrayOfNulls(size)
+      lastAssetViews = arrayOfNulls(size)
+    }
+    val views = ArrayList<View>(size)
+    var index = 0
+    for ((assetName, view) in clickableAssetViews) {
+      lastAssetNames[index] = assetName
+      lastAssetViews[index] = view
+      index++
+      if (!isExcluded(assetName)) {
+        views.add(view)
+      }
+    }
+    for (i in size until lastSize) {
+      lastAssetNames[i] = null
+      lastAssetViews[i] = null
+    }
+    lastSize = size
+    assetViews = views
+    return true
+  }
+
+  /**
+   * Returns the view bound to the given asset name in the last [update], or `null` if there is
+   * none or the asset name is excluded.
+   */
+  fun getAssetView(assetName: String): View? {
+    if (isExcluded(assetName)) {
+      return null
+    }
+    for (i in 0 until lastSize) {
+      if (lastAssetNames[i] == assetName) {
+        return lastAssetViews[i]
+      }
+    }
+    return null
+  }
+
+  /** Drops all references to the bound views. The next [update] recomputes [assetViews]. */
+  fun clear() {
+    lastAssetNames.fill(null)
+    lastAssetViews.fill(null)
+    lastSize = NOT_BOUND
+    assetViews = ArrayList()
+  }
+
+  private fun isUnchanged(clickableAssetViews: Map<String, View>): Boolean {
+    if (clickableAssetViews.size != lastSize) {
+      return false
+    }
+    // Maps with the same keys iterate in the same order in practice, so a positional comparison
+    // is enough to detect the common re-bind case. A reordering is treated as a change.
+    var index = 0
+    for ((assetName, view) in clickableAssetViews) {
+      if (lastAssetViews[index] !== view || lastAssetNames[index] != assetName) {
+        return false
+      }
+      index++
+    }
+    return true
+  }
+
+  private fun isExcluded(assetName: String): Boolean {
+    for (excludedAssetName in excludedAssetNames) {
+      if (excludedAssetName == assetName) {
+        return true
+      }
+    }
+    return false
+  }
+
+  private companion object {
+    const val INITIAL_CAPACITY = 8
+    const val NOT_BOUND = -1
+  }
+}
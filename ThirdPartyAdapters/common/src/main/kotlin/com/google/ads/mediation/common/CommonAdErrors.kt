@@ -0,0 +1,51 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.google.ads.mediation.common
+
+/** Error codes for errors raised by the common adapter components rather than a network SDK. */
+object CommonAdErrors {
+
+  /** Error domain for errors raised by the common adapter components. */
+  const val ERROR_DOMAIN = "com.google.ads.mediation.common"
+
+  /**
+   * The ad load was not sent to the network SDK because the placement returned too many
+   * consecutive no-fills. See [LoadCircuitBreaker].
+   */
+  const val ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS = 901
+
+  /** The network SDK did not answer an ad load before its deadline. See [LoadWatchdog]. */
+  const val ERROR_LOAD_TIMED_OUT = 902
+
+  /** The loaded ad outlived its validity window and was not shown. See [AdReadinessTracker]. */
+  const val ERROR_AD_EXPIRED = 903
+
+  /**
+   * The ad load waited too long for the network SDK to finish initializing. See
+   * [PendingLoadQueue].
+   */
+  const val ERROR_PENDING_LOAD_TIMED_OUT = 904
+
+  /**
+   * The RTB ad load was not sent to the network SDK because the bid response is empty. See
+   * [BidPayloadStage].
+   */
+  const val ERROR_EMPTY_BID_RESPONSE = 905
+
+  /**
+   * The RTB ad load was not sent to the network SDK because the bid response is cut off. See
+   * [BidPayloadStage].
+   */
+  const val ERROR_TRUNCATED_BID_RESPONSE = 906
+}
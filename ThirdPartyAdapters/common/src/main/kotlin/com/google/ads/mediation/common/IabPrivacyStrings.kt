@@ -0,0 +1,47 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+
+/** Reads the IAB privacy strings that consent management platforms store for the app. */
+object IabPrivacyStrings {
+
+  /** The IAB TCF v2 consent string. */
+  const val KEY_TCF_TC_STRING = "IABTCF_TCString"
+
+  /** The IAB US privacy (CCPA) string. */
+  const val KEY_US_PRIVACY_STRING = "IABUSPrivacy_String"
+
+  /** The IAB Global Privacy Platform string. */
+  const val KEY_GPP_STRING = "IABGPP_HDR_GppString"
+
+  private val KEYS = listOf(KEY_TCF_TC_STRING, KEY_US_PRIVACY_STRING, KEY_GPP_STRING)
+
+  /**
+   * Returns the current privacy strings as one value, which changes whenever any of them does.
+   * The strings are read from the app's default shared preferences, where the IAB specifications
+   * have consent management platforms store them.
+   */
+  @JvmStatic
+  fun fingerprint(context: Context): String {
+    // Values are read untyped, so that one stored with an unexpected type does not throw.
+    val values =
+      context.getSharedPreferences("${context.packageName}_preferences", Context.MODE_PRIVATE).all
+    return KEYS.joinToString(SEPARATOR) { key -> values[key]?.toString().orEmpty() }
+  }
+
+  private const val SEPARATOR = "\u0000"
+}
@@ -0,0 +1,230 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.Handler
+import android.os.Looper
+import android.util.AtomicFile
+import android.util.Log
+import androidx.annotation.MainThread
+import androidx.annotation.WorkerThread
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+
+/**
+ * Persists the configuration of the last successful network SDK initialization, so that the next
+ * launch can reuse it instead of re-deriving it from the `MediationConfiguration`s.
+ *
+ * Adapters typically pick one app ID among several in an unspecified order on every launch. With a
+ * snapshot they keep initializing with the ID that last succeeded, as long as it is still
+ * configured (see [pick]). The snapshot is a small versioned file in the app's no-backup
+ * directory. It is ignored once it is older than [maxAgeMillis] or was written by another adapter
+ * version, and it records how long initialization took so that cold and warm starts can be
+ * compared.
+ *
+ * The file is only touched on [executor]: it is read as soon as the store is created, and writes
+ * and deletions are queued after that read. Adapters that initialize on the main thread pick their
+ * configuration with the [PickCallback] overload of [pick], which waits for that read without
+ * blocking, and call [write] without waiting for the disk.
+ */
+class InitSnapshotStore
+@JvmOverloads
+constructor(
+  context: Context,
+  private val networkName: String,
+  private val adapterVersion: String,
+  private val maxAgeMillis: Long = DEFAULT_MAX_AGE_MILLIS,
+  private val executor: Executor = ioExecutor,
+  private val wallClock: () -> Long = { System.currentTimeMillis() },
+) {
+
+  /**
+   * The configuration of a successful initialization.
+   *
+   * @property parameters initialization parameters, e.g. the app ID the SDK was initialized with.
+   * @property savedAtMillis wall-clock time at which the snapshot was saved.
+   * @property initDurationMillis time the initialization took, in milliseconds.
+   */
+  class Snapshot
+  internal constructor(
+    val parameters: Map<String, String>,
+    val savedAtMillis: Long,
+    val initDurationMillis: Long,
+  )
+
+  private val file =
+    AtomicFile(File(context.noBackupFilesDir, "$FILE_PREFIX${networkName.lowercase()}"))
+
+  private val lock = Any()
+  private val mainHandler by lazy { Handler(Looper.getMainLooper()) }
+  @Volatile private var cachedSnapshot: Snapshot? = null
+  @Volatile private var snapshotRead = false
+
+  init {
+    executor.execute { read() }
+  }
+
+  /**
+   * Returns the last saved snapshot, or `null` if there is none that is still valid. Reads the file
+   * if it has not been read yet, so it must not be called on the main thread.
+   */
+  @WorkerThread
+  fun read(): Snapshot? {
+    if (snapshotRead) {
+      return cachedSnapshot
+    }
+    synchronized(lock) {
+      if (!snapshotRead) {
+        cachedSnapshot =
+          try {
+            readFile()
+          } catch (exception: IOException) {
+            Log.d(TAG, "Could not read the $networkName initialization snapshot.", exception)
+            null
+          }
+        snapshotRead = true
+      }
+      return cachedSnapshot
+    }
+  }
+
+  /**
+   * Returns the value of [key] from the snapshot if it is one of [candidates], and the first of
+   * [candidates] otherwise. Never reads the file: until the background read has finished, this
+   * returns the first of [candidates].
+   */
+  fun pick(key: String, candidates: Collection<String>): String {
+    val snapshotValue = if (snapshotRead) cachedSnapshot?.parameters?.get(key) else null
+    if (snapshotValue != null && snapshotValue in candidates) {
+      return snapshotValue
+    }
+    return candidates.first()
+  }
+
+  /** Receives the value chosen by [pick] once the snapshot was read. */
+  fun interface PickCallback {
+    fun onPicked(value: String)
+  }
+
+  /**
+   * Calls [callback] with the value [pick] returns once the snapshot was read. If it was already
+   * read, [callback] runs right away; otherwise the file is read on [executor] and [callback] is
+   * posted to the main thread.
+   */
+  @MainThread
+  fun pick(key: String, candidates: Collection<String>, callback: PickCallback) {
+    if (snapshotRead) {
+      callback.onPicked(pick(key, candidates))
+      return
+    }
+    val candidatesCopy = candidates.toList()
+    executor.execute {
+      read()
+      val value = pick(key, candidatesCopy)
+      mainHandler.post { callback.onPicked(value) }
+    }
+  }
+
+  /** Saves the configuration of a successful initialization. The file is written on [executor]. */
+  fun write(parameters: Map<String, String>, initDurationMillis: Long) {
+    val snapshot = Snapshot(parameters.toMap(), wallClock(), initDurationMillis)
+    val previousDurationMillis =
+      synchronized(lock) {
+        val previousSnapshot = if (snapshotRead) cachedSnapshot else null
+        cachedSnapshot = snapshot
+        snapshotRead = true
+        previousSnapshot?.initDurationMillis
+      }
+    Log.d(
+      TAG,
+      "$networkName SDK initialized in $initDurationMillis ms " +
+        "(previous launch: ${previousDurationMillis ?: "none"} ms).",
+    )
+    executor.execute { writeFile(snapshot) }
+  }
+
+  /** Deletes the snapshot, e.g. after an initialization with it failed. */
+  fun clear() {
+    synchronized(lock) {
+      cachedSnapshot = null
+      snapshotRead = true
+    }
+    executor.execute { file.delete() }
+  }
+
+  private fun writeFile(snapshot: Snapshot) {
+    var outputStream: FileOutputStream? = null
+    try {
+      outputStream = file.startWrite()
+      val output = DataOutputStream(outputStream)
+      output.writeInt(FORMAT_VERSION)
+      output.writeUTF(adapterVersion)
+      output.writeLong(snapshot.savedAtMillis)
+      output.writeLong(snapshot.initDurationMillis)
+      output.writeInt(snapshot.parameters.size)
+      for ((key, value) in snapshot.parameters) {
+        output.writeUTF(key)
+        output.writeUTF(value)
+      }
+      output.flush()
+      file.finishWrite(outputStream)
+    } catch (exception: IOException) {
+      outputStream?.let { file.failWrite(it) }
+      Log.d(TAG, "Could not save the $networkName initialization snapshot.", exception)
+    }
+  }
+
+  private fun readFile(): Snapshot? {
+    if (!file.baseFile.exists()) {
+      return null
+    }
+    DataInputStream(file.openRead()).use { input ->
+      if (input.readInt() != FORMAT_VERSION || input.readUTF() != adapterVersion) {
+        return null
+      }
+      val savedAtMillis = input.readLong()
+      val initDurationMillis = input.readLong()
+      val ageMillis = wallClock() - savedAtMillis
+      if (ageMillis < 0 || ageMillis > maxAgeMillis) {
+        return null
+      }
+      val parameters = HashMap<String, String>()
+      repeat(input.readInt()) {
+        val key = input.readUTF()
+        parameters[key] = input.readUTF()
+      }
+      return Snapshot(parameters, savedAtMillis, initDurationMillis)
+    }
+  }
+
+  companion object {
+    private const val TAG = "InitSnapshotStore"
+    private const val FILE_PREFIX = "gma_mediation_init_snapshot_"
+    private const val FORMAT_VERSION = 1
+
+    /** Single thread, so that the reads, writes and deletions of a store happen in order. */
+    private val ioExecutor by lazy { Executors.newSingleThreadExecutor() }
+
+    /** Default age after which a snapshot is no longer used. */
+    const val DEFAULT_MAX_AGE_MILLIS = 7 * 24 * 60 * 60 * 1000L
+  }
+}
@@ -0,0 +1,216 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Fails waterfall ad loads locally for placements that keep returning no-fill.
+ *
+ * Each adapter keeps one instance for its network. Outcomes are tracked per placement in a 64-bit
+ * sliding window that is updated with compare-and-set, so recording an outcome never blocks. Once
+ * a placement has returned [noFillThreshold] consecutive no-fills, [checkLoad] returns an
+ * [AdError] with code [CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS] instead of letting
+ * the request reach the network SDK. After the backoff elapses a single probe load is let
+ * through; if it fills the placement is closed again, otherwise the backoff doubles up to
+ * [maxBackoffMillis]. A probe that gets no answer within [probeTimeoutMillis] is considered
+ * released, so that a network that never calls back cannot suppress a placement forever.
+ *
+ * Only no-fills trip the breaker. Other SDK errors (e.g. connection errors) say nothing about
+ * demand and should be reported through [onLoadFailed], as should loads that [LoadWatchdog]
+ * timed out.
+ */
+class LoadCircuitBreaker
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  private val noFillThreshold: Int = DEFAULT_NO_FILL_THRESHOLD,
+  private val initialBackoffMillis: Long = DEFAULT_INITIAL_BACKOFF_MILLIS,
+  private val maxBackoffMillis: Long = DEFAULT_MAX_BACKOFF_MILLIS,
+  private val probeTimeoutMillis: Long = DEFAULT_PROBE_TIMEOUT_MILLIS,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) {
+
+  init {
+    require(noFillThreshold in 1..WINDOW_SIZE) {
+      "noFillThreshold must be between 1 and $WINDOW_SIZE."
+    }
+  }
+
+  private val placements = ConcurrentHashMap<String, PlacementState>()
+  private val suppressedLoads = AtomicLong()
+
+  /** Total number of loads that were failed locally instead of reaching the network SDK. */
+  val suppressedLoadCount: Long
+    get() = suppressedLoads.get()
+
+  /**
+   * Checks whether a load for the given placement should be sent to the network SDK.
+   *
+   * @return `null` if the load may proceed, or the [AdError] to fail the load with.
+   */
+  fun checkLoad(placementId: String): AdError? {
+    val state = placements[placementId] ?: return null
+    val openUntil = state.openUntil.get()
+    if (openUntil == CLOSED) {
+      return null
+    }
+    val now = clock.elapsedRealtime()
+    if (now >= openUntil && state.claimProbe(now, probeTimeoutMillis)) {
+      Log.d(TAG, "Probing $networkName placement $placementId after no-fill backoff.")
+      return null
+    }
+    suppressedLoads.incrementAndGet()
+    val retryInMillis = maxOf(openUntil - now, 0L)
+    return AdError(
+      CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS,
+      "Skipped loading an ad from $networkName for placement $placementId after " +
+        "${state.consecutiveNoFills()} consecutive no-fills. Retrying in $retryInMillis ms.",
+      CommonAdErrors.ERROR_DOMAIN,
+    )
+  }
+
+  /** Records that the network SDK filled a load for the given placement. */
+  fun onLoadSucceeded(placementId: String) {
+    val state = placements[placementId] ?: return
+    state.record(noFill = false)
+    state.trips.set(0)
+    state.openUntil.set(CLOSED)
+    state.probeStartedAt.set(NO_PROBE)
+  }
+
+  /** Records that the network SDK returned no-fill for the given placement. */
+  fun onNoFill(placementId: String) {
+    val state = placements.getOrPut(placementId) { PlacementState() }
+    state.record(noFill = true)
+    val wasProbe = state.probeStartedAt.getAndSet(NO_PROBE) != NO_PROBE
+    val reachedThreshold =
+      state.openUntil.get() == CLOSED && state.consecutiveNoFills() >= noFillThreshold
+    if (wasProbe || reachedThreshold) {
+      val trips = state.trips.incrementAndGet()
+      val backoffMillis = backoffMillis(trips)
+      state.openUntil.set(clock.elapsedRealtime() + backoffMillis)
+      Log.d(
+        TAG,
+        "Suppressing loads for $networkName placement $placementId for $backoffMillis ms " +
+          "after ${state.consecutiveNoFills()} consecutive no-fills.",
+      )
+    }
+  }
+
+  /**
+   * Records that a load for the given placement failed for a reason other than no-fill, or timed
+   * out. The outcome is not counted, but a pending probe is released so that the next load can
+   * probe again.
+   */
+  fun onLoadFailed(placementId: String) {
+    placements[placementId]?.probeStartedAt?.set(NO_PROBE)
+  }
+
+  /**
+   * Returns the fraction of no-fills among the most recent (up to 64) recorded outcomes for the
+   * given placement, or 0 if no outcome was recorded.
+   */
+  fun getNoFillRate(placementId: String): Double {
+    val state = placements[placementId] ?: return 0.0
+    val samples = minOf(state.samples.get(), WINDOW_SIZE)
+    if (samples == 0) {
+      return 0.0
+    }
+    return java.lang.Long.bitCount(state.outcomes.get()).toDouble() / samples
+  }
+
+  /** Returns whether loads for the given placement are currently being suppressed. */
+  fun isOpen(placementId: String): Boolean =
+    placements[placementId]?.openUntil?.get()?.let { it != CLOSED } ?: false
+
+  /** Forgets all recorded outcomes. */
+  @VisibleForTesting
+  fun reset() {
+    placements.clear()
+    suppressedLoads.set(0)
+  }
+
+  @VisibleForTesting
+  internal fun backoffMillis(trips: Int): Long {
+    val shift = minOf(trips - 1, MAX_BACKOFF_SHIFT)
+    return minOf(initialBackoffMillis shl shift, maxBackoffMillis)
+  }
+
+  private class PlacementState {
+    /** Bit i is set if the i-th most recent outcome was a no-fill. */
+    val outcomes = AtomicLong()
+    val samples = AtomicInteger()
+    val openUntil = AtomicLong(CLOSED)
+    val trips = AtomicInteger()
+    /** Time the pending probe was let through, or [NO_PROBE]. */
+    val probeStartedAt = AtomicLong(NO_PROBE)
+
+    fun record(noFill: Boolean) {
+      val bit = if (noFill) 1L else 0L
+      while (true) {
+        val current = outcomes.get()
+        if (outcomes.compareAndSet(current, (current shl 1) or bit)) {
+          break
+        }
+      }
+      if (samples.get() < WINDOW_SIZE) {
+        samples.incrementAndGet()
+      }
+    }
+
+    /**
+     * Claims the probe if no probe is pending, or if the pending one started at least
+     * [probeTimeoutMillis] ago and is treated as lost.
+     */
+    fun claimProbe(now: Long, probeTimeoutMillis: Long): Boolean {
+      val startedAt = probeStartedAt.get()
+      if (startedAt != NO_PROBE && now - startedAt < probeTimeoutMillis) {
+        return false
+      }
+      return probeStartedAt.compareAndSet(startedAt, now)
+    }
+
+    /** Number of trailing no-fills in the window. */
+    fun consecutiveNoFills(): Int = java.lang.Long.numberOfTrailingZeros(outcomes.get().inv())
+  }
+
+  companion object {
+    private const val TAG = "LoadCircuitBreaker"
+    private const val WINDOW_SIZE = 64
+    private const val CLOSED = Long.MIN_VALUE
+    private const val NO_PROBE = Long.MIN_VALUE
+    private const val MAX_BACKOFF_SHIFT = 20
+
+    /** Default number of consecutive no-fills after which loads are suppressed. */
+    const val DEFAULT_NO_FILL_THRESHOLD = 5
+
+    /** Default backoff after the breaker first opens. */
+    const val DEFAULT_INITIAL_BACKOFF_MILLIS = 30_000L
+
+    /** Default upper bound for the exponential backoff. */
+    const val DEFAULT_MAX_BACKOFF_MILLIS = 10 * 60_000L
+
+    /**
+     * Default time after which an unanswered probe is released: twice the default
+     * [LoadWatchdog] deadline.
+     */
+    const val DEFAULT_PROBE_TIMEOUT_MILLIS = 2 * LoadWatchdog.DEFAULT_TIMEOUT_MILLIS
+  }
+}
@@ -0,0 +1,191 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Fails ad loads that the network SDK never answers.
+ *
+ * Adapters call [watch] right before handing a load to the network SDK and [WatchedLoad.complete]
+ * from every SDK load callback. If no callback arrives before the network's deadline, the
+ * [TimeoutListener] is called on the main thread with an [AdError] with code
+ * [CommonAdErrors.ERROR_LOAD_TIMED_OUT]. Exactly one of the two outcomes wins: once the load timed
+ * out, [WatchedLoad.complete] returns `false` and the adapter must drop the late SDK callback.
+ */
+object LoadWatchdog {
+
+  private const val TAG = "LoadWatchdog"
+
+  /** Deadline used for networks without a configured timeout. */
+  const val DEFAULT_TIMEOUT_MILLIS = 15_000L
+
+  private val timeouts = ConcurrentHashMap<String, Long>()
+  private val networkStats = ConcurrentHashMap<String, NetworkStats>()
+  private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+  /** Called when a watched load did not complete before its deadline. */
+  fun interface TimeoutListener {
+    fun onLoadTimedOut(error: AdError)
+  }
+
+  /** Per-network counters. */
+  class NetworkStats internal constructor() {
+    private val started = AtomicLong()
+    private val completed = AtomicLong()
+    private val timedOut = AtomicLong()
+    private val lateCallbacks = AtomicLong()
+
+    /** Number of loads registered with [watch]. */
+    val startedCount: Long
+      get() = started.get()
+
+    /** Number of loads the network SDK answered before the deadline. */
+    val completedCount: Long
+      get() = completed.get()
+
+    /** Number of loads that timed out. */
+    val timedOutCount: Long
+      get() = timedOut.get()
+
+    /** Number of SDK callbacks that arrived after their load had already timed out. */
+    val lateCallbackCount: Long
+      get() = lateCallbacks.get()
+
+    /** Fraction of finished loads that timed out, or 0 if no load finished yet. */
+    val timeoutRate: Double
+      get() {
+        val timedOutCount = timedOut.get()
+        val finished = completed.get() + timedOutCount
+        return if (finished == 0L) 0.0 else timedOutCount.toDouble() / finished
+      }
+
+    internal fun onStarted() = started.incrementAndGet()
+
+    internal fun onCompleted() = completed.incrementAndGet()
+
+    internal fun onTimedOut() = timedOut.incrementAndGet()
+
+    internal fun onLateCallback() = lateCallbacks.incrementAndGet()
+  }
+
+  /** A load registered with [watch]. */
+  class WatchedLoad
+  internal constructor(
+    private val networkName: String,
+    private val timeoutMillis: Long,
+    private val stats: NetworkStats,
+    private val listener: TimeoutListener,
+  ) : Runnable {
+
+    private val state = AtomicInteger(PENDING)
+
+    /**
+     * Marks the load as answered by the network SDK.
+     *
+     * @return `true` if the caller should forward the SDK callback to the Google Mobile Ads SDK, or
+     *   `false` if the load already timed out or was completed before.
+     */
+    fun complete(): Boolean {
+      if (state.compareAndSet(PENDING, COMPLETED)) {
+        handler.removeCallbacks(this)
+        stats.onCompleted()
+        return true
+      }
+      if (state.get() == TIMED_OUT) {
+        stats.onLateCallback()
+        Log.d(TAG, "Dropped a late $networkName load callback.")
+      }
+      return false
+    }
+
+    /** Stops watching the load without counting it, e.g. when the ad is destroyed mid-load. */
+    fun cancel() {
+      if (state.compareAndSet(PENDING, CANCELLED)) {
+        handler.removeCallbacks(this)
+      }
+    }
+
+    override fun run() {
+      if (!state.compareAndSet(PENDING, TIMED_OUT)) {
+        return
+      }
+      stats.onTimedOut()
+      val error =
+        AdError(
+          CommonAdErrors.ERROR_LOAD_TIMED_OUT,
+          "$networkName did not respond to the ad request within $timeoutMillis ms.",
+          CommonAdErrors.ERROR_DOMAIN,
+        )
+      Log.w(TAG, error.message)
+      listener.onLoadTimedOut(error)
+    }
+
+    internal fun schedule() {
+      handler.postDelayed(this, timeoutMillis)
+    }
+
+    private companion object {
+      const val PENDING = 0
+      const val COMPLETED = 1
+      const val TIMED_OUT = 2
+      const val CANCELLED = 3
+    }
+  }
+
+  /** Sets the load deadline for the given network. */
+  @JvmStatic
+  fun setTimeoutMillis(networkName: String, timeoutMillis: Long) {
+    require(timeoutMillis > 0) { "timeoutMillis must be positive." }
+    timeouts[networkName] = timeoutMillis
+  }
+
+  /** Returns the load deadline for the given network. */
+  @JvmStatic
+  fun getTimeoutMillis(networkName: String): Long =
+    timeouts[networkName] ?: DEFAULT_TIMEOUT_MILLIS
+
+  /**
+   * Starts watching a load for the given network.
+   *
+   * @param listener called on the main thread if the load does not complete in time.
+   */
+  @JvmStatic
+  fun watch(networkName: String, listener: TimeoutListener): WatchedLoad {
+    val stats = getStats(networkName)
+    stats.onStarted()
+    val load = WatchedLoad(networkName, getTimeoutMillis(networkName), stats, listener)
+    load.schedule()
+    return load
+  }
+
+  /** Returns the counters for the given network. */
+  @JvmStatic
+  fun getStats(networkName: String): NetworkStats =
+    networkStats.getOrPut(networkName) { NetworkStats() }
+
+  @VisibleForTesting
+  internal fun reset() {
+    timeouts.clear()
+    networkStats.clear()
+  }
+}
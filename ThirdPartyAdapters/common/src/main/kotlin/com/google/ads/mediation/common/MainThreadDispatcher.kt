@@ -0,0 +1,174 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import androidx.annotation.VisibleForTesting
+import java.util.ArrayDeque
+import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Routes network SDK callbacks to the Google Mobile Ads SDK on the main thread.
+ *
+ * A callback dispatched on the main thread runs right away, without a handler hop, unless earlier
+ * callbacks of the same ad are still waiting to run. Otherwise it is queued per ad and the queue is
+ * drained by a single message on one shared main-thread [Handler], so a burst of callbacks (e.g.
+ * opened, video start and impression) costs one hop and callbacks of an ad are always delivered in
+ * the order the SDK sent them.
+ *
+ * For each network, the dispatcher records how long it took from the SDK callback to the delivery
+ * to the Google Mobile Ads SDK, and how long posted callbacks waited in the main thread queue; see
+ * [getStats].
+ */
+object MainThreadDispatcher {
+
+  /** Delivery statistics of one network's callbacks. */
+  class Stats internal constructor() {
+    /** Number of callbacks dispatched. */
+    @get:Synchronized
+    var dispatchedCount = 0L
+      private set
+
+    /** Number of callbacks delivered inline since they were dispatched on the main thread. */
+    @get:Synchronized
+    var inlineCount = 0L
+      private set
+
+    /** Number of callbacks delivered through the main thread handler. */
+    @get:Synchronized
+    var postedCount = 0L
+      private set
+
+    /** Number of main thread handler messages posted, i.e. posted callbacks after coalescing. */
+    @get:Synchronized
+    var messageCount = 0L
+      private set
+
+    /** Longest time a posted callback waited in the main thread queue, in milliseconds. */
+    @get:Synchronized
+    var maxQueueDelayMillis = 0L
+      private set
+
+    private var totalLatencyMillis = 0L
+    private var totalQueueDelayMillis = 0L
+
+    /** Average time from the SDK callback to its delivery, in milliseconds. */
+    val averageDeliveryLatencyMillis: Long
+      @Synchronized get() = if (dispatchedCount == 0L) 0L else totalLatencyMillis / dispatchedCount
+
+    /** Average time a posted callback waited in the main thread queue, in milliseconds. */
+    val averageQueueDelayMillis: Long
+      @Synchronized get() = if (postedCount == 0L) 0L else totalQueueDelayMillis / postedCount
+
+    @Synchronized
+    internal fun recordInline() {
+      dispatchedCount++
+      inlineCount++
+    }
+
+    @Synchronized
+    internal fun recordMessage() {
+      messageCount++
+    }
+
+    @Synchronized
+    internal fun recordPosted(latencyMillis: Long, queueDelayMillis: Long) {
+      dispatchedCount++
+      postedCount++
+      totalLatencyMillis += latencyMillis
+      totalQueueDelayMillis += queueDelayMillis
+      maxQueueDelayMillis = maxOf(maxQueueDelayMillis, queueDelayMillis)
+    }
+  }
+
+  private class PendingCallback(
+    val stats: Stats,
+    val callback: Runnable,
+    val dispatchedAtMillis: Long,
+  )
+
+  private val lock = Any()
+  private val handler by lazy { Handler(Looper.getMainLooper()) }
+  private val pendingCallbacks = IdentityHashMap<Any, ArrayDeque<PendingCallback>>()
+  private val statsByNetwork = ConcurrentHashMap<String, Stats>()
+  @VisibleForTesting internal var clock = ElapsedRealtimeClock.SYSTEM
+
+  /**
+   * Delivers the given callback of the given ad on the main thread: right away if called on it with
+   * no earlier callback of the ad pending, and after the pending callbacks otherwise.
+   *
+   * @param networkName the network whose statistics the callback is recorded under.
+   * @param ad the ad object the callback belongs to; callbacks of the same ad keep their order.
+   * @param callback the call into the Google Mobile Ads SDK.
+   */
+  @JvmStatic
+  fun dispatch(networkName: String, ad: Any, callback: Runnable) {
+    val stats = getStats(networkName)
+    val mainThread = isMainThread()
+    synchronized(lock) {
+      val queue = pendingCallbacks[ad]
+      if (queue != null || !mainThread) {
+        val pendingCallback = PendingCallback(stats, callback, clock.elapsedRealtime())
+        if (queue != null) {
+          queue.add(pendingCallback)
+        } else {
+          pendingCallbacks[ad] = ArrayDeque<PendingCallback>().apply { add(pendingCallback) }
+          stats.recordMessage()
+          handler.post { drain(ad) }
+        }
+        return
+      }
+    }
+    stats.recordInline()
+    callback.run()
+  }
+
+  /** Returns the delivery statistics of the given network's callbacks. */
+  @JvmStatic
+  fun getStats(networkName: String): Stats = statsByNetwork.getOrPut(networkName) { Stats() }
+
+  /** Returns the delivery statistics of every network that dispatched callbacks, by network. */
+  @JvmStatic fun getStats(): Map<String, Stats> = statsByNetwork.toMap()
+
+  /** Runs the pending callbacks of the given ad in order, including ones queued while running. */
+  private fun drain(ad: Any) {
+    val drainStartMillis = clock.elapsedRealtime()
+    while (true) {
+      val pendingCallback =
+        synchronized(lock) {
+          val queue = pendingCallbacks[ad] ?: return
+          queue.poll()
+            ?: run {
+              pendingCallbacks.remove(ad)
+              return
+            }
+        }
+      val queueDelayMillis = maxOf(0L, drainStartMillis - pendingCallback.dispatchedAtMillis)
+      val latencyMillis = clock.elapsedRealtime() - pendingCallback.dispatchedAtMillis
+      pendingCallback.stats.recordPosted(latencyMillis, queueDelayMillis)
+      pendingCallback.callback.run()
+    }
+  }
+
+  private fun isMainThread() = Looper.myLooper() == Looper.getMainLooper()
+
+  @VisibleForTesting
+  internal fun reset() {
+    synchronized(lock) { pendingCallbacks.clear() }
+    statsByNetwork.clear()
+  }
+}
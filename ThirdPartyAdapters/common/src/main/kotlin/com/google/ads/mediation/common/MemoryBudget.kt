@@ -0,0 +1,256 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.app.ActivityManager
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.lang.ref.WeakReference
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Process-wide memory budget shared by the caches and pools of every adapter.
+ *
+ * Adapter caches register a [Consumer] with a weight. Whenever a consumer grows, it calls
+ * [enforce]; if the registered consumers together hold more than [budgetBytes], each of them is
+ * trimmed to its allowance, which is its weighted share of the budget. Consumers using less than
+ * their share leave the rest to the others. When Android signals memory pressure through
+ * [ComponentCallbacks2.onTrimMemory], every consumer keeps the same fraction of its allowance, down
+ * to nothing for the most severe levels.
+ *
+ * Call [install] once with any context so that the budget follows memory pressure and is sized for
+ * low-RAM (Android Go) devices. Consumers are only weakly referenced.
+ */
+object MemoryBudget {
+
+  private const val TAG = "MemoryBudget"
+
+  /** By default, adapter caches may use an eighth of the heap. */
+  private const val DEFAULT_BUDGET_HEAP_DIVISOR = 8L
+
+  /** On low-RAM devices, adapter caches may use a sixteenth of the heap. */
+  private const val LOW_RAM_BUDGET_HEAP_DIVISOR = 16L
+
+  /** A cache or pool whose memory is governed by the budget. */
+  interface Consumer {
+
+    /** Number of bytes currently held. */
+    val sizeInBytes: Long
+
+    /** Evicts entries until at most [maxBytes] are held. May be called on any thread. */
+    fun trimToSize(maxBytes: Long)
+  }
+
+  /** The memory use of one registered consumer. */
+  class Usage
+  internal constructor(
+    val networkName: String,
+    val weight: Int,
+    val sizeInBytes: Long,
+    /** Share of the budget the consumer may hold. */
+    val allowanceBytes: Long,
+  )
+
+  private class Registration(consumer: Consumer, val networkName: String, val weight: Int) :
+    WeakReference<Consumer>(consumer)
+
+  private val lock = Any()
+  private val registrations = mutableListOf<Registration>()
+  private var componentCallbacksRegistered = false
+
+  /** Total number of bytes the registered consumers may hold. */
+  @Volatile
+  var budgetBytes: Long = Runtime.getRuntime().maxMemory() / DEFAULT_BUDGET_HEAP_DIVISOR
+    private set
+
+  private val overBudgetTrims = AtomicLong()
+  private val memoryPressureTrims = AtomicLong()
+
+  /** Number of times consumers were trimmed because the budget was exceeded. */
+  val overBudgetTrimCount: Long
+    get() = overBudgetTrims.get()
+
+  /** Number of times consumers were trimmed because of memory pressure. */
+  val memoryPressureTrimCount: Long
+    get() = memoryPressureTrims.get()
+
+  /**
+   * Registers a consumer.
+   *
+   * @param networkName the network of the adapter owning the consumer, reported in [usage].
+   * @param weight the consumer's share of the budget relative to the other consumers.
+   */
+  @JvmStatic
+  fun register(networkName: String, weight: Int, consumer: Consumer) {
+    require(weight > 0) { "weight must be positive." }
+    synchronized(lock) {
+      registrations.removeAll { it.get() == null || it.get() === consumer }
+      registrations.add(Registration(consumer, networkName, weight))
+    }
+  }
+
+  /** Unregisters a consumer, e.g. when its cache is discarded. */
+  @JvmStatic
+  fun unregister(consumer: Consumer) {
+    synchronized(lock) { registrations.removeAll { it.get() == null || it.get() === consumer } }
+  }
+
+  /**
+   * Sizes the budget for the device and trims the consumers on memory pressure. Only the first
+   * call has an effect.
+   */
+  @JvmStatic
+  fun install(context: Context) {
+    val applicationContext = context.applicationContext
+    synchronized(lock) {
+      if (componentCallbacksRegistered) {
+        return
+      }
+      componentCallbacksRegistered = true
+    }
+    val activityManager =
+      applicationContext.getSystemService(Context.ACTIVITY_SERVICE) as? ActivityManager
+    if (activityManager?.isLowRamDevice == true) {
+      budgetBytes = Runtime.getRuntime().maxMemory() / LOW_RAM_BUDGET_HEAP_DIVISOR
+    }
+    applicationContext.registerComponentCallbacks(
+      object : ComponentCallbacks2 {
+        override fun onTrimMemory(level: Int) {
+          this@MemoryBudget.onTrimMemory(level)
+        }
+
+        override fun onConfigurationChanged(newConfig: Configuration) {}
+
+        @Deprecated("Deprecated in Java")
+        override fun onLowMemory() {
+          trimAll(0.0)
+        }
+      }
+    )
+  }
+
+  /** Sets the total number of bytes the consumers may hold, and enforces it. */
+  @JvmStatic
+  fun setBudgetBytes(bytes: Long) {
+    require(bytes >= 0) { "bytes must not be negative." }
+    budgetBytes = bytes
+    enforce()
+  }
+
+  /**
+   * Trims the consumers to their allowances if together they exceed the budget. Consumers call
+   * this after they grew. Must not be called while holding a lock that [Consumer.trimToSize]
+   * takes on another thread.
+   */
+  @JvmStatic
+  fun enforce() {
+    val consumers = liveConsumers()
+    if (consumers.sumOf { it.second.sizeInBytes } <= budgetBytes) {
+      return
+    }
+    overBudgetTrims.incrementAndGet()
+    val allowances = allowances(consumers)
+    consumers.forEachIndexed { i, (_, consumer) ->
+      if (consumer.sizeInBytes > allowances[i]) {
+        consumer.trimToSize(allowances[i])
+      }
+    }
+  }
+
+  /** Returns the memory use of every registered consumer. */
+  @JvmStatic
+  fun usage(): List<Usage> {
+    val consumers = liveConsumers()
+    val allowances = allowances(consumers)
+    return consumers.mapIndexed { i, (registration, consumer) ->
+      Usage(registration.networkName, registration.weight, consumer.sizeInBytes, allowances[i])
+    }
+  }
+
+  @VisibleForTesting
+  internal fun onTrimMemory(level: Int) {
+    val fraction =
+      when {
+        level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE -> 0.0
+        level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND -> 0.25
+        level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN -> 0.5
+        level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> 0.0
+        level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW -> 0.25
+        else -> 0.5
+      }
+    Log.d(TAG, "Trimming adapter caches to ${fraction * 100}% for memory trim level $level.")
+    trimAll(fraction)
+  }
+
+  @VisibleForTesting
+  internal fun reset() {
+    synchronized(lock) { registrations.clear() }
+    budgetBytes = Runtime.getRuntime().maxMemory() / DEFAULT_BUDGET_HEAP_DIVISOR
+    overBudgetTrims.set(0)
+    memoryPressureTrims.set(0)
+  }
+
+  /** Trims every consumer to the given fraction of what it may hold. */
+  private fun trimAll(fraction: Double) {
+    val consumers = liveConsumers()
+    val allowances = allowances(consumers)
+    memoryPressureTrims.incrementAndGet()
+    consumers.forEachIndexed { i, (_, consumer) ->
+      val maxBytes = (minOf(consumer.sizeInBytes, allowances[i]) * fraction).toLong()
+      if (consumer.sizeInBytes > maxBytes) {
+        consumer.trimToSize(maxBytes)
+      }
+    }
+  }
+
+  private fun liveConsumers(): List<Pair<Registration, Consumer>> =
+    synchronized(lock) {
+      registrations.removeAll { it.get() == null }
+      registrations.mapNotNull { registration -> registration.get()?.let { registration to it } }
+    }
+
+  /**
+   * Splits the budget by weight. The share a consumer does not use is split again among the
+   * consumers that would exceed theirs.
+   */
+  private fun allowances(consumers: List<Pair<Registration, Consumer>>): LongArray {
+    val allowances = LongArray(consumers.size)
+    val sizes = consumers.map { it.second.sizeInBytes }
+    val unsettled = consumers.indices.toMutableList()
+    var remainingBudget = budgetBytes
+    while (unsettled.isNotEmpty()) {
+      val remainingWeight = unsettled.sumOf { consumers[it].first.weight.toLong() }
+      val settled =
+        unsettled.filter { i ->
+          sizes[i] <= remainingBudget * consumers[i].first.weight / remainingWeight
+        }
+      if (settled.isEmpty()) {
+        for (i in unsettled) {
+          allowances[i] = remainingBudget * consumers[i].first.weight / remainingWeight
+        }
+        break
+      }
+      for (i in settled) {
+        allowances[i] = sizes[i]
+        remainingBudget -= sizes[i]
+      }
+      unsettled.removeAll(settled)
+    }
+    return allowances
+  }
+}
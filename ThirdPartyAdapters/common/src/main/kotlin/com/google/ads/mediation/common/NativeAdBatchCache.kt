@@ -0,0 +1,183 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+
+/**
+ * Holds the extra ads of multi-ad native responses until the placement's next native loads.
+ *
+ * The Google Mobile Ads SDK asks an adapter for one native ad per load, but some network SDKs
+ * answer a single request with several ads. Adapters [offer] the ads they did not serve, once
+ * mapped, and [poll] the placement before sending the next request, so that a feed asking for
+ * several native ads in a row pays for one network round trip instead of one per ad. At most
+ * `maxAdsPerPlacement` ads are kept per placement, and ads held longer than `maxAgeMillis` are
+ * dropped.
+ *
+ * Adapters also report each network round trip with [recordRoundTrip], which keeps the latency of
+ * multi-ad responses apart from that of single-ad ones: a batch of K ads pays off when
+ * [averageBatchLatencyMillis] is below K times [averageSingleLatencyMillis].
+ *
+ * The cache registers with the [MemoryBudget], counting each ad as the bytes it was offered with,
+ * and drops its oldest ads when the budget or memory pressure calls for it.
+ */
+class NativeAdBatchCache<T : Any>
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  private val maxAgeMillis: Long,
+  private val maxAdsPerPlacement: Int,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) : MemoryBudget.Consumer {
+
+  init {
+    require(maxAgeMillis > 0) { "maxAgeMillis must be positive." }
+    require(maxAdsPerPlacement > 0) { "maxAdsPerPlacement must be positive." }
+    MemoryBudget.register(networkName, MEMORY_BUDGET_WEIGHT, this)
+  }
+
+  private class CachedAd<T>(val ad: T, val cachedAtMillis: Long, val sizeInBytes: Long)
+
+  private val ads = HashMap<String, ArrayDeque<CachedAd<T>>>()
+
+  /** Bytes held by the cached ads. Written while holding the cache's lock. */
+  @Volatile private var cachedBytes = 0L
+
+  private var batchCount = 0L
+  private var batchAdCount = 0L
+  private var batchLatencyMillis = 0L
+  private var singleCount = 0L
+  private var singleLatencyMillis = 0L
+
+  /** Number of loads served from a cached ad. */
+  @get:Synchronized
+  var servedCount = 0L
+    private set
+
+  /**
+   * Number of cached ads dropped, because they got too old, the placement was full or the memory
+   * budget was exceeded.
+   */
+  @get:Synchronized
+  var droppedCount = 0L
+    private set
+
+  /** Average latency of round trips that returned several ads, in milliseconds. */
+  val averageBatchLatencyMillis: Long
+    @Synchronized get() = if (batchCount == 0L) 0L else batchLatencyMillis / batchCount
+
+  /** Average latency of round trips that returned a single ad, in milliseconds. */
+  val averageSingleLatencyMillis: Long
+    @Synchronized get() = if (singleCount == 0L) 0L else singleLatencyMillis / singleCount
+
+  /** Average number of ads per multi-ad round trip, or 0 before the first one. */
+  val averageBatchSize: Double
+    @Synchronized
+    get() = if (batchCount == 0L) 0.0 else batchAdCount.toDouble() / batchCount
+
+  /** Records a network round trip that returned [adCount] ads after [latencyMillis]. */
+  @Synchronized
+  fun recordRoundTrip(adCount: Int, latencyMillis: Long) {
+    if (adCount > 1) {
+      batchCount++
+      batchAdCount += adCount
+      batchLatencyMillis += latencyMillis
+    } else if (adCount == 1) {
+      singleCount++
+      singleLatencyMillis += latencyMillis
+    }
+  }
+
+  /**
+   * Keeps a mapped ad to serve one of the placement's next loads.
+   *
+   * @param sizeInBytes memory held by the ad, mostly its images, counted against the
+   *   [MemoryBudget].
+   */
+  @JvmOverloads
+  fun offer(placementId: String, ad: T, sizeInBytes: Long = DEFAULT_AD_SIZE_BYTES) {
+    synchronized(this) {
+      val placementAds = ads.getOrPut(placementId) { ArrayDeque() }
+      if (placementAds.size >= maxAdsPerPlacement) {
+        cachedBytes -= placementAds.removeFirst().sizeInBytes
+        droppedCount++
+      }
+      placementAds.addLast(CachedAd(ad, clock.elapsedRealtime(), sizeInBytes))
+      cachedBytes += sizeInBytes
+    }
+    MemoryBudget.enforce()
+  }
+
+  /** Takes the placement's oldest cached ad that is still fresh, or returns `null`. */
+  @Synchronized
+  fun poll(placementId: String): T? {
+    val placementAds = ads[placementId] ?: return null
+    val now = clock.elapsedRealtime()
+    while (placementAds.isNotEmpty()) {
+      val cachedAd = placementAds.removeFirst()
+      cachedBytes -= cachedAd.sizeInBytes
+      if (now - cachedAd.cachedAtMillis < maxAgeMillis) {
+        servedCount++
+        return cachedAd.ad
+      }
+      droppedCount++
+      Log.d(TAG, "Dropped a stale $networkName native ad for placement $placementId.")
+    }
+    return null
+  }
+
+  /** Number of ads cached for the given placement, including stale ones. */
+  @Synchronized fun size(placementId: String): Int = ads[placementId]?.size ?: 0
+
+  override val sizeInBytes: Long
+    get() = cachedBytes
+
+  /** Drops the oldest cached ads, across placements, until at most [maxBytes] are held. */
+  @Synchronized
+  override fun trimToSize(maxBytes: Long) {
+    while (cachedBytes > maxBytes) {
+      val placementAds =
+        ads.values.filter { it.isNotEmpty() }.minByOrNull { it.first().cachedAtMillis } ?: break
+      cachedBytes -= placementAds.removeFirst().sizeInBytes
+      droppedCount++
+    }
+    Log.d(TAG, "Trimmed the $networkName native ad cache to $cachedBytes bytes.")
+  }
+
+  @VisibleForTesting
+  @Synchronized
+  internal fun reset() {
+    ads.clear()
+    cachedBytes = 0
+    batchCount = 0
+    batchAdCount = 0
+    batchLatencyMillis = 0
+    singleCount = 0
+    singleLatencyMillis = 0
+    servedCount = 0
+    droppedCount = 0
+  }
+
+  companion object {
+    private const val TAG = "NativeAdBatchCache"
+
+    /** Share of the [MemoryBudget] of each cache, relative to the other adapter caches. */
+    private const val MEMORY_BUDGET_WEIGHT = 1
+
+    /** Bytes counted for an ad offered without a size: a 600x314 ARGB_8888 main image. */
+    const val DEFAULT_AD_SIZE_BYTES = 600L * 314 * 4
+  }
+}
@@ -0,0 +1,163 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import com.google.android.gms.ads.AdError
+import java.util.ArrayDeque
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Holds ad loads that arrive while the network SDK is still initializing.
+ *
+ * Adapters [enqueue] loads instead of failing them while initialization is in progress, call
+ * [drain] once it succeeded and [failAll] if it failed. The queue holds at most [capacity] loads,
+ * so [enqueue] returns `false` once it is full and the adapter should fail the load as before. A
+ * load that waited [maxWaitMillis] without being drained is failed with an [AdError] with code
+ * [CommonAdErrors.ERROR_PENDING_LOAD_TIMED_OUT], since the Google Mobile Ads SDK will have given up
+ * on it by then.
+ */
+class PendingLoadQueue
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  private val capacity: Int = DEFAULT_CAPACITY,
+  private val maxWaitMillis: Long = DEFAULT_MAX_WAIT_MILLIS,
+) {
+
+  init {
+    require(capacity > 0) { "capacity must be positive." }
+    require(maxWaitMillis > 0) { "maxWaitMillis must be positive." }
+  }
+
+  /** A load waiting for initialization to finish. */
+  interface PendingLoad {
+    /** Sends the load to the initialized network SDK. */
+    fun load()
+
+    /** Fails the load with the given error. */
+    fun fail(error: AdError)
+  }
+
+  private val entries = ArrayDeque<Entry>()
+  private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+  private val queued = AtomicLong()
+  private val rescued = AtomicLong()
+  private val timedOut = AtomicLong()
+  private val rejected = AtomicLong()
+
+  /** Number of loads that were queued. */
+  val queuedCount: Long
+    get() = queued.get()
+
+  /** Number of queued loads that were sent to the network SDK after it initialized. */
+  val rescuedCount: Long
+    get() = rescued.get()
+
+  /** Number of queued loads that were failed because initialization took too long. */
+  val timedOutCount: Long
+    get() = timedOut.get()
+
+  /** Number of loads that could not be queued because the queue was full. */
+  val rejectedCount: Long
+    get() = rejected.get()
+
+  /** Number of loads currently waiting. */
+  val size: Int
+    get() = synchronized(entries) { entries.size }
+
+  /**
+   * Queues a load until [drain] or [failAll] is called.
+   *
+   * @return `false` if the queue is full and the load was not queued.
+   */
+  fun enqueue(load: PendingLoad): Boolean {
+    val entry = Entry(load)
+    synchronized(entries) {
+      if (entries.size >= capacity) {
+        rejected.incrementAndGet()
+        Log.w(TAG, "Pending $networkName load queue is full.")
+        return false
+      }
+      entries.addLast(entry)
+    }
+    queued.incrementAndGet()
+    handler.postDelayed(entry, maxWaitMillis)
+    return true
+  }
+
+  /** Sends all queued loads to the network SDK in the order they were queued. */
+  fun drain() {
+    val drained = removeAll()
+    if (drained.isNotEmpty()) {
+      Log.d(TAG, "Sending ${drained.size} pending $networkName loads after initialization.")
+    }
+    for (entry in drained) {
+      rescued.incrementAndGet()
+      entry.load.load()
+    }
+  }
+
+  /** Fails all queued loads with the given error. */
+  fun failAll(error: AdError) {
+    for (entry in removeAll()) {
+      entry.load.fail(error)
+    }
+  }
+
+  private fun removeAll(): List<Entry> {
+    val removed =
+      synchronized(entries) {
+        val copy = ArrayList(entries)
+        entries.clear()
+        copy
+      }
+    for (entry in removed) {
+      handler.removeCallbacks(entry)
+    }
+    return removed
+  }
+
+  private inner class Entry(val load: PendingLoad) : Runnable {
+    override fun run() {
+      val removed = synchronized(entries) { entries.remove(this) }
+      if (!removed) {
+        return
+      }
+      timedOut.incrementAndGet()
+      val error =
+        AdError(
+          CommonAdErrors.ERROR_PENDING_LOAD_TIMED_OUT,
+          "$networkName did not finish initializing within $maxWaitMillis ms of the ad request.",
+          CommonAdErrors.ERROR_DOMAIN,
+        )
+      Log.w(TAG, error.message)
+      load.fail(error)
+    }
+  }
+
+  companion object {
+    private const val TAG = "PendingLoadQueue"
+
+    /** Default maximum number of queued loads. */
+    const val DEFAULT_CAPACITY = 8
+
+    /** Default time a queued load waits for initialization before it is failed. */
+    const val DEFAULT_MAX_WAIT_MILLIS = 10_000L
+  }
+}
@@ -0,0 +1,117 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Runs a network SDK's initialization according to the threading contract the network declares.
+ *
+ * SDKs that may be initialized on any thread ([InitThreading.BACKGROUND]) are initialized on a
+ * background executor, so that the adapter's `initialize()` returns right away. SDKs that must be
+ * initialized on the main thread ([InitThreading.MAIN]) are initialized on the calling thread, as
+ * before; the Google Mobile Ads SDK calls `initialize()` on the main thread. Either way, the time
+ * the initialization blocks the main thread is added up per network and can be read with
+ * [getMainThreadBlockingMillis]. Adapters hand the SDK's completion back to the Google Mobile Ads
+ * SDK through [deliver], which runs it on the main thread.
+ */
+class SdkInitRunner
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  private val threading: InitThreading,
+  private val executor: Executor = backgroundExecutor,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) {
+
+  /** Threads a network SDK may be initialized on. */
+  enum class InitThreading {
+    /** The SDK must be initialized on the main thread. */
+    MAIN,
+    /** The SDK may be initialized on any thread, and is initialized on a background thread. */
+    BACKGROUND,
+  }
+
+  /**
+   * Runs the network SDK's initialization. [InitThreading.BACKGROUND] initializations are handed to
+   * the executor; [InitThreading.MAIN] initializations run right away on the calling thread.
+   */
+  fun run(init: Runnable) {
+    if (threading == InitThreading.BACKGROUND) {
+      runMeasured { executor.execute(init) }
+    } else {
+      runMeasured(init)
+    }
+  }
+
+  /**
+   * Runs the given completion callback on the main thread: right away if called on it, and posted
+   * to it otherwise.
+   */
+  fun deliver(callback: Runnable) {
+    if (isMainThread()) {
+      callback.run()
+    } else {
+      handler.post(callback)
+    }
+  }
+
+  private fun runMeasured(block: Runnable) {
+    if (!isMainThread()) {
+      block.run()
+      return
+    }
+    val startMillis = clock.elapsedRealtime()
+    block.run()
+    val blockedMillis = clock.elapsedRealtime() - startMillis
+    blockingMillis.getOrPut(networkName) { AtomicLong() }.addAndGet(blockedMillis)
+    Log.d(TAG, "Initializing $networkName blocked the main thread for $blockedMillis ms.")
+  }
+
+  companion object {
+    private const val TAG = "SdkInitRunner"
+
+    private val blockingMillis = ConcurrentHashMap<String, AtomicLong>()
+    private val handler by lazy { Handler(Looper.getMainLooper()) }
+    private val backgroundExecutor by lazy { Executors.newCachedThreadPool() }
+
+    /**
+     * Returns the total time the given network's SDK initialization blocked the main thread, in
+     * milliseconds.
+     */
+    @JvmStatic
+    fun getMainThreadBlockingMillis(networkName: String): Long =
+      blockingMillis[networkName]?.get() ?: 0L
+
+    /** Returns the main thread blocking time of every network initialized so far, by network. */
+    @JvmStatic
+    fun getMainThreadBlockingMillis(): Map<String, Long> =
+      blockingMillis.mapValues { it.value.get() }
+
+    private fun isMainThread() = Looper.myLooper() == Looper.getMainLooper()
+
+    @VisibleForTesting
+    internal fun reset() {
+      blockingMillis.clear()
+    }
+  }
+}
@@ -0,0 +1,145 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.SystemClock
+import android.view.View
+import android.view.ViewGroup
+
+/**
+ * A minimal container for a network's banner view.
+ *
+ * Unlike wrapping the banner in a `FrameLayout`, `LinearLayout` or `RelativeLayout`, this
+ * container measures its child exactly once per pass, against the ad size set with [setAdSize],
+ * and centers it. It is meant to hold a single ad view; should a network SDK add more views to it,
+ * each of them is measured and centered the same way. The container also keeps track of the time
+ * spent measuring and laying out, so that the cost of a banner refresh on the UI thread can be
+ * compared across adapters.
+ */
+class SingleChildAdContainer(context: Context) : ViewGroup(context) {
+
+  private var adWidthPixels = 0
+  private var adHeightPixels = 0
+
+  /** Number of measure passes. */
+  var measurePassCount = 0L
+    private set
+
+  /** Number of layout passes. */
+  var layoutPassCount = 0L
+    private set
+
+  /** Total time spent in measure and layout passes, in nanoseconds. */
+  var measureLayoutNanos = 0L
+    private set
+
+  /**
+   * Sets the size of the ad, in pixels. The container takes this size as far as its parent allows
+   * and measures its child against it. Without an ad size, the container wraps its child.
+   */
+  fun setAdSize(widthPixels: Int, heightPixels: Int) {
+    if (widthPixels == adWidthPixels && heightPixels == adHeightPixels) {
+      return
+    }
+    adWidthPixels = widthPixels
+    adHeightPixels = heightPixels
+    requestLayout()
+  }
+
+  /** Replaces the container's child with the given ad view. */
+  fun setAdView(adView: View) {
+    if (childCount == 1 && getChildAt(0) === adView) {
+      return
+    }
+    removeAllViews()
+    addView(adView)
+  }
+
+  override fun onMeasure(widthMeasureSpec: Int, heightMeasureSpec: Int) {
+    val startNanos = SystemClock.elapsedRealtimeNanos()
+    val width = resolveAdDimension(adWidthPixels, widthMeasureSpec)
+    val height = resolveAdDimension(adHeightPixels, heightMeasureSpec)
+
+    var maxChildWidth = 0
+    var maxChildHeight = 0
+    for (i in 0 until childCount) {
+      val child = getChildAt(i)
+      if (child.visibility == View.GONE) {
+        continue
+      }
+      val params = child.layoutParams
+      child.measure(
+        childMeasureSpec(adWidthPixels, width, widthMeasureSpec, params.width),
+        childMeasureSpec(adHeightPixels, height, heightMeasureSpec, params.height),
+      )
+      maxChildWidth = maxOf(maxChildWidth, child.measuredWidth)
+      maxChildHeight = maxOf(maxChildHeight, child.measuredHeight)
+    }
+    setMeasuredDimension(
+      if (adWidthPixels > 0) width else resolveSize(maxChildWidth, widthMeasureSpec),
+      if (adHeightPixels > 0) height else resolveSize(maxChildHeight, heightMeasureSpec),
+    )
+
+    measurePassCount++
+    measureLayoutNanos += SystemClock.elapsedRealtimeNanos() - startNanos
+  }
+
+  override fun onLayout(changed: Boolean, left: Int, top: Int, right: Int, bottom: Int) {
+    val startNanos = SystemClock.elapsedRealtimeNanos()
+    for (i in 0 until childCount) {
+      val child = getChildAt(i)
+      if (child.visibility == View.GONE) {
+        continue
+      }
+      val childLeft = (right - left - child.measuredWidth) / 2
+      val childTop = (bottom - top - child.measuredHeight) / 2
+      child.layout(
+        childLeft,
+        childTop,
+        childLeft + child.measuredWidth,
+        childTop + child.measuredHeight,
+      )
+    }
+
+    layoutPassCount++
+    measureLayoutNanos += SystemClock.elapsedRealtimeNanos() - startNanos
+  }
+
+  override fun generateDefaultLayoutParams(): LayoutParams =
+    LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT)
+
+  override fun shouldDelayChildPressedState(): Boolean = false
+
+  /** Returns the container's size along one axis, or 0 if no ad size is set. */
+  private fun resolveAdDimension(adPixels: Int, measureSpec: Int): Int =
+    if (adPixels > 0) resolveSize(adPixels, measureSpec) else 0
+
+  /**
+   * Returns the child's measure spec along one axis: bounded by the ad size when one is set, and
+   * by the container's own parent otherwise.
+   */
+  private fun childMeasureSpec(
+    adPixels: Int,
+    resolvedPixels: Int,
+    parentMeasureSpec: Int,
+    childDimension: Int,
+  ): Int {
+    val spec =
+      if (adPixels > 0) MeasureSpec.makeMeasureSpec(resolvedPixels, MeasureSpec.EXACTLY)
+      else parentMeasureSpec
+    return getChildMeasureSpec(spec, 0, childDimension)
+  }
+}
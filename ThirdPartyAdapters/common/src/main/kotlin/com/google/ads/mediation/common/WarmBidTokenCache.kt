@@ -0,0 +1,259 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+
+/**
+ * Keeps one bidding token per ad format and placement collected ahead of the next auction.
+ *
+ * Adapters route `collectSignals` through [collect]. If the format and placement's slot holds a
+ * token younger than [ttlMillis], it is served right away; otherwise the token is collected live
+ * from the network SDK, as before. Either way the slot is refilled in the background right after,
+ * so that the next auction finds a warm token, and each token is served at most once. A token that
+ * reaches [ttlMillis] unused is dropped and replaced; a slot that goes [MAX_IDLE_REFRESHES] TTL
+ * periods without serving stops refreshing until it is asked for a token again.
+ *
+ * Both modes record the time from [collect] to the token being handed back, so that auction signal
+ * latency can be compared between warm and live tokens.
+ *
+ * Tokens carry the privacy settings they were collected with. Callers pass the current
+ * [IabPrivacyStrings.fingerprint] to [collect], and every warm token is dropped when it changes.
+ * Adapters must also call [invalidate] whenever another setting the tokens carry, such as user
+ * data or a privacy signal set through the adapter, changes. Warm tokens are off until
+ * [setEnabled] turns them on.
+ */
+class WarmBidTokenCache
+@JvmOverloads
+constructor(
+  private val networkName: String,
+  /** How long a collected token may be served, in milliseconds. */
+  val ttlMillis: Long,
+  private val clock: ElapsedRealtimeClock = ElapsedRealtimeClock.SYSTEM,
+) {
+
+  init {
+    require(ttlMillis > 0) { "ttlMillis must be positive." }
+  }
+
+  /** Collects a bidding token from the network SDK. */
+  fun interface TokenFetcher {
+    /** Starts collecting a token and reports it to [callback]. */
+    fun fetch(callback: TokenCallback)
+  }
+
+  /** Receives a bidding token. */
+  fun interface TokenCallback {
+    fun onTokenCollected(token: String)
+  }
+
+  private inner class Slot(var fetcher: TokenFetcher) {
+    var token: String? = null
+    var collectedAtMillis = 0L
+    var refreshing = false
+    var idleRefreshes = 0
+    val expiryRunnable = Runnable { onExpired(this) }
+  }
+
+  /** Warm or warming slots by ad format and placement ID. */
+  private val slots = HashMap<String, Slot>()
+  private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+  private var enabled = false
+
+  /** The privacy strings fingerprint that the warm tokens were collected with. */
+  private var slotsPrivacyFingerprint: String? = null
+
+  /** Number of tokens served from a warm slot. */
+  @get:Synchronized
+  var warmCount = 0L
+    private set
+
+  /** Number of tokens collected live from the network SDK. */
+  @get:Synchronized
+  var liveCount = 0L
+    private set
+
+  /** Number of background refreshes started. */
+  @get:Synchronized
+  var refreshCount = 0L
+    private set
+
+  /** Number of warm tokens dropped because they reached [ttlMillis] unused. */
+  @get:Synchronized
+  var expiredCount = 0L
+    private set
+
+  private var totalWarmLatencyMillis = 0L
+  private var totalLiveLatencyMillis = 0L
+
+  /** Average time to serve a warm token, in milliseconds, or 0 before the first one. */
+  val averageWarmLatencyMillis: Long
+    @Synchronized get() = if (warmCount == 0L) 0L else totalWarmLatencyMillis / warmCount
+
+  /** Average time to collect a live token, in milliseconds, or 0 before the first one. */
+  val averageLiveLatencyMillis: Long
+    @Synchronized get() = if (liveCount == 0L) 0L else totalLiveLatencyMillis / liveCount
+
+  /**
+   * Turns warm tokens on or off. They are off by default. Turning them off drops the tokens
+   * collected so far, and [collect] then always collects live.
+   */
+  fun setEnabled(enabled: Boolean) {
+    synchronized(this) {
+      this.enabled = enabled
+      if (enabled) {
+        return
+      }
+    }
+    invalidate()
+  }
+
+  @Synchronized fun isEnabled() = enabled
+
+  /** Drops every warm token, e.g. because a setting carried by the tokens changed. */
+  fun invalidate() {
+    val removedSlots = synchronized(this) { removeSlots() }
+    removedSlots.forEach { handler.removeCallbacks(it.expiryRunnable) }
+  }
+
+  /** Removes every slot and returns them. Must hold the lock. */
+  private fun removeSlots(): List<Slot> = slots.values.toList().also { slots.clear() }
+
+  /**
+   * Hands a bidding token for the given ad format and placement to [callback]: the warm one if the
+   * slot holds a fresh token collected with the same [privacyFingerprint], or one collected live
+   * with [fetcher] otherwise. The slot is then refilled with [fetcher] in the background.
+   *
+   * @param privacyFingerprint the current [IabPrivacyStrings.fingerprint].
+   */
+  fun collect(
+    adFormat: String,
+    placementId: String?,
+    privacyFingerprint: String,
+    fetcher: TokenFetcher,
+    callback: TokenCallback,
+  ) {
+    val startMillis = clock.elapsedRealtime()
+    val key = "$adFormat/${placementId.orEmpty()}"
+    var warmToken: String? = null
+    var staleSlots = emptyList<Slot>()
+    val slot =
+      synchronized(this) {
+        if (!enabled) {
+          null
+        } else {
+          if (privacyFingerprint != slotsPrivacyFingerprint) {
+            staleSlots = removeSlots()
+            slotsPrivacyFingerprint = privacyFingerprint
+          }
+          slots
+            .getOrPut(key) { Slot(fetcher) }
+            .also {
+              it.fetcher = fetcher
+              it.idleRefreshes = 0
+              warmToken = takeFreshToken(it, startMillis)
+            }
+        }
+      }
+    staleSlots.forEach { handler.removeCallbacks(it.expiryRunnable) }
+
+    val token = warmToken
+    if (slot != null && token != null) {
+      synchronized(this) {
+        warmCount++
+        totalWarmLatencyMillis += clock.elapsedRealtime() - startMillis
+      }
+      handler.removeCallbacks(slot.expiryRunnable)
+      callback.onTokenCollected(token)
+      refresh(key, slot)
+      return
+    }
+
+    fetcher.fetch { liveToken ->
+      synchronized(this) {
+        liveCount++
+        totalLiveLatencyMillis += clock.elapsedRealtime() - startMillis
+      }
+      callback.onTokenCollected(liveToken)
+      if (slot != null) {
+        refresh(key, slot)
+      }
+    }
+  }
+
+  /** Takes the slot's token if it is younger than [ttlMillis]. Must hold the lock. */
+  private fun takeFreshToken(slot: Slot, now: Long): String? {
+    val token = slot.token
+    slot.token = null
+    return if (token != null && now - slot.collectedAtMillis < ttlMillis) token else null
+  }
+
+  private fun refresh(key: String, slot: Slot) {
+    val fetcher =
+      synchronized(this) {
+        if (!enabled || slot.refreshing || slots[key] !== slot) {
+          return
+        }
+        slot.refreshing = true
+        refreshCount++
+        slot.fetcher
+      }
+    fetcher.fetch { token ->
+      val stored =
+        synchronized(this) {
+          slot.refreshing = false
+          if (!enabled || slots[key] !== slot || token.isEmpty()) {
+            return@synchronized false
+          }
+          slot.token = token
+          slot.collectedAtMillis = clock.elapsedRealtime()
+          true
+        }
+      if (stored) {
+        handler.removeCallbacks(slot.expiryRunnable)
+        handler.postDelayed(slot.expiryRunnable, ttlMillis)
+      }
+    }
+  }
+
+  private fun onExpired(slot: Slot) {
+    val key =
+      synchronized(this) {
+        val key = slots.entries.firstOrNull { it.value === slot }?.key ?: return
+        if (slot.token == null) {
+          return
+        }
+        slot.token = null
+        expiredCount++
+        if (++slot.idleRefreshes > MAX_IDLE_REFRESHES) {
+          Log.d(TAG, "Stopped refreshing the idle $networkName bidding token for $key.")
+          return
+        }
+        key
+      }
+    refresh(key, slot)
+  }
+
+  companion object {
+    private const val TAG = "WarmBidTokenCache"
+
+    /** Number of TTL periods an unused slot keeps refreshing its token for. */
+    const val MAX_IDLE_REFRESHES = 3
+  }
+}
@@ -0,0 +1,84 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [AdEventBus]. */
+@RunWith(AndroidJUnit4::class)
+class AdEventBusTest {
+
+  private val eventBus = AdEventBus<FakeAd>(NETWORK_NAME)
+  private val ad = FakeAd()
+
+  @Test
+  fun route_registeredKey_returnsAdAndCountsRoutedEvent() {
+    eventBus.register(INSTANCE_ID, ad)
+
+    eventBus.route(INSTANCE_ID, EVENT_OPENED)?.onOpened()
+
+    assertThat(ad.openedCount).isEqualTo(1)
+    assertThat(eventBus.routedCount).isEqualTo(1)
+    assertThat(eventBus.droppedCount).isEqualTo(0)
+  }
+
+  @Test
+  fun route_unregisteredKey_returnsNullAndCountsDropPerEvent() {
+    eventBus.register(INSTANCE_ID, ad)
+    eventBus.unregister(INSTANCE_ID)
+
+    assertThat(eventBus.route(INSTANCE_ID, EVENT_OPENED)).isNull()
+    assertThat(eventBus.route(INSTANCE_ID, EVENT_CLOSED)).isNull()
+    assertThat(eventBus.route("otherInstance", EVENT_CLOSED)).isNull()
+
+    assertThat(eventBus.droppedCount).isEqualTo(3)
+    assertThat(eventBus.getDroppedCount(EVENT_OPENED)).isEqualTo(1)
+    assertThat(eventBus.getDroppedCount(EVENT_CLOSED)).isEqualTo(2)
+  }
+
+  @Test
+  fun route_adGarbageCollected_dropsEvent() {
+    eventBus.register(INSTANCE_ID, ad)
+    eventBus.getReference(INSTANCE_ID)?.clear()
+
+    assertThat(eventBus.isRegistered(INSTANCE_ID)).isFalse()
+    assertThat(eventBus.route(INSTANCE_ID, EVENT_OPENED)).isNull()
+    assertThat(eventBus.droppedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun register_sameKey_replacesAd() {
+    val otherAd = FakeAd()
+    eventBus.register(INSTANCE_ID, ad)
+
+    eventBus.register(INSTANCE_ID, otherAd)
+
+    assertThat(eventBus[INSTANCE_ID]).isSameInstanceAs(otherAd)
+    assertThat(eventBus.size).isEqualTo(1)
+  }
+
+  @Test
+  fun keys_returnsRegisteredKeys() {
+    eventBus.register(INSTANCE_ID, ad)
+    eventBus.register("otherInstance", FakeAd())
+    eventBus.unregister("otherInstance")
+
+    assertThat(eventBus.keys).containsExactly(INSTANCE_ID)
+  }
+
+  private class FakeAd {
+    var openedCount = 0
+
+    fun onOpened() {
+      openedCount++
+    }
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val INSTANCE_ID = "instance"
+    const val EVENT_OPENED = "opened"
+    const val EVENT_CLOSED = "closed"
+  }
+}
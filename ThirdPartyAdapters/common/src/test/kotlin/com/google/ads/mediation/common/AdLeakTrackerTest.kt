@@ -0,0 +1,83 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [AdLeakTracker]. */
+@RunWith(AndroidJUnit4::class)
+class AdLeakTrackerTest {
+
+  private var now = 0L
+  private val leaks = mutableListOf<AdLeakTracker.Leak>()
+  private val ad = Any()
+
+  @Before
+  fun setUp() {
+    AdLeakTracker.clock = ElapsedRealtimeClock { now }
+    AdLeakTracker.setEnabled(true)
+    AdLeakTracker.setMaxAgeMillis(MAX_AGE_MILLIS)
+    AdLeakTracker.setLeakListener { leaks.add(it) }
+  }
+
+  @After
+  fun tearDown() {
+    AdLeakTracker.setEnabled(false)
+    AdLeakTracker.setMaxAgeMillis(AdLeakTracker.DEFAULT_MAX_AGE_MILLIS)
+    AdLeakTracker.setLeakListener(null)
+    AdLeakTracker.clock = ElapsedRealtimeClock.SYSTEM
+  }
+
+  @Test
+  fun register_adAlivePastMaxAge_reportsLeakOnce() {
+    AdLeakTracker.register(ad, NETWORK_NAME, AD_FORMAT)
+
+    advanceTime(MAX_AGE_MILLIS)
+    AdLeakTracker.checkForLeaks()
+
+    assertThat(leaks).hasSize(1)
+    assertThat(leaks[0].networkName).isEqualTo(NETWORK_NAME)
+    assertThat(leaks[0].adFormat).isEqualTo(AD_FORMAT)
+    assertThat(leaks[0].ageMillis).isEqualTo(MAX_AGE_MILLIS)
+    assertThat(leaks[0].creationStack.stackTrace).isNotEmpty()
+  }
+
+  @Test
+  fun register_adReleasedBeforeMaxAge_reportsNoLeak() {
+    AdLeakTracker.register(ad, NETWORK_NAME, AD_FORMAT)
+
+    AdLeakTracker.release(ad)
+    advanceTime(MAX_AGE_MILLIS)
+
+    assertThat(leaks).isEmpty()
+    assertThat(AdLeakTracker.trackedCount).isEqualTo(0)
+  }
+
+  @Test
+  fun register_whenDisabled_doesNotTrackAd() {
+    AdLeakTracker.setEnabled(false)
+
+    AdLeakTracker.register(ad, NETWORK_NAME, AD_FORMAT)
+    advanceTime(MAX_AGE_MILLIS)
+
+    assertThat(leaks).isEmpty()
+    assertThat(AdLeakTracker.trackedCount).isEqualTo(0)
+  }
+
+  private fun advanceTime(millis: Long) {
+    now += millis
+    shadowOf(Looper.getMainLooper()).idleFor(millis, TimeUnit.MILLISECONDS)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val AD_FORMAT = "interstitial"
+    const val MAX_AGE_MILLIS = 60_000L
+  }
+}
@@ -0,0 +1,120 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [AdReadinessTracker]. */
+@RunWith(AndroidJUnit4::class)
+class AdReadinessTrackerTest {
+
+  private var now = 0L
+  private val tracker =
+    AdReadinessTracker(
+      NETWORK_NAME,
+      TTL_MILLIS,
+      expiringSoonMarginMillis = MARGIN_MILLIS,
+      clock = { now },
+    )
+  private val expiringAdKeys = mutableListOf<String>()
+
+  @After
+  fun tearDown() {
+    AdReadinessTracker.setExpirationListener(null)
+  }
+
+  @Test
+  fun remainingValidityMillis_decreasesWithTimeAndStopsAtZero() {
+    val trackedAd = tracker.onAdLoaded(AD_KEY)
+
+    now += 400
+    assertThat(trackedAd.remainingValidityMillis).isEqualTo(TTL_MILLIS - 400)
+    assertThat(trackedAd.isExpired).isFalse()
+
+    now += TTL_MILLIS
+    assertThat(trackedAd.remainingValidityMillis).isEqualTo(0)
+    assertThat(trackedAd.isExpired).isTrue()
+  }
+
+  @Test
+  fun onAdLoaded_withEarlierLoadTime_countsValidityFromThatTime() {
+    now = 1_000
+
+    val trackedAd = tracker.onAdLoaded(AD_KEY, loadedAtMillis = 600)
+
+    assertThat(trackedAd.remainingValidityMillis).isEqualTo(TTL_MILLIS - 400)
+  }
+
+  @Test
+  fun checkShow_validAd_returnsNull() {
+    val trackedAd = tracker.onAdLoaded(AD_KEY)
+
+    assertThat(trackedAd.checkShow()).isNull()
+    assertThat(tracker.expiredShowCount).isEqualTo(0)
+  }
+
+  @Test
+  fun checkShow_expiredAd_returnsExpiredErrorAndCountsIt() {
+    val trackedAd = tracker.onAdLoaded(AD_KEY)
+    now += TTL_MILLIS
+
+    val error = trackedAd.checkShow()
+
+    assertThat(error).isNotNull()
+    assertThat(error!!.code).isEqualTo(CommonAdErrors.ERROR_AD_EXPIRED)
+    assertThat(error.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    assertThat(tracker.expiredShowCount).isEqualTo(1)
+  }
+
+  @Test
+  fun onShowFailed_countsOnlyExpiredAds() {
+    tracker.onAdLoaded(AD_KEY).onShowFailed()
+    val expiredAd = tracker.onAdLoaded(AD_KEY)
+    now += TTL_MILLIS
+
+    expiredAd.onShowFailed()
+
+    assertThat(tracker.expiredShowCount).isEqualTo(1)
+  }
+
+  @Test
+  fun onAdLoaded_notifiesListenerBeforeExpiry() {
+    AdReadinessTracker.setExpirationListener { networkName, adKey, _ ->
+      assertThat(networkName).isEqualTo(NETWORK_NAME)
+      expiringAdKeys.add(adKey)
+    }
+    tracker.onAdLoaded(AD_KEY)
+
+    shadowOf(Looper.getMainLooper())
+      .idleFor(TTL_MILLIS - MARGIN_MILLIS - 1, TimeUnit.MILLISECONDS)
+    assertThat(expiringAdKeys).isEmpty()
+
+    shadowOf(Looper.getMainLooper()).idleFor(1, TimeUnit.MILLISECONDS)
+    assertThat(expiringAdKeys).containsExactly(AD_KEY)
+    assertThat(tracker.expiringSoonSignalCount).isEqualTo(1)
+  }
+
+  @Test
+  fun release_stopsExpirationSignal() {
+    AdReadinessTracker.setExpirationListener { _, adKey, _ -> expiringAdKeys.add(adKey) }
+    val trackedAd = tracker.onAdLoaded(AD_KEY)
+
+    trackedAd.release()
+    shadowOf(Looper.getMainLooper()).idleFor(TTL_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(expiringAdKeys).isEmpty()
+    assertThat(tracker.expiringSoonSignalCount).isEqualTo(0)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val AD_KEY = "placement"
+    const val TTL_MILLIS = 10_000L
+    const val MARGIN_MILLIS = 2_000L
+  }
+}
@@ -0,0 +1,99 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [AdapterSettingsFlags]. */
+@RunWith(AndroidJUnit4::class)
+class AdapterSettingsFlagsTest {
+
+  private var now = 0L
+  private var flagValue: Boolean? = true
+
+  @Before
+  fun setUp() {
+    AdapterSettingsFlags.clock = ElapsedRealtimeClock { now }
+    AdapterSettingsFlags.source = AdapterSettingsFlags.Source { _, _ -> flagValue }
+    AdapterSettingsFlags.setRefreshIntervalMillis(REFRESH_INTERVAL_MILLIS)
+  }
+
+  @After
+  fun tearDown() {
+    AdapterSettingsFlags.reset()
+  }
+
+  @Test
+  fun getBoolean_withinRefreshInterval_readsSourceOnce() {
+    repeat(100) { assertThat(AdapterSettingsFlags.getBoolean(KEY, false)).isTrue() }
+
+    assertThat(AdapterSettingsFlags.sourceReadCount).isEqualTo(1)
+  }
+
+  @Test
+  fun getBoolean_afterRefreshInterval_readsSourceAgain() {
+    AdapterSettingsFlags.getBoolean(KEY, false)
+    flagValue = false
+    now += REFRESH_INTERVAL_MILLIS
+
+    assertThat(AdapterSettingsFlags.getBoolean(KEY, true)).isFalse()
+    assertThat(AdapterSettingsFlags.sourceReadCount).isEqualTo(2)
+  }
+
+  @Test
+  fun getBoolean_sourceUnavailable_returnsDefaultValue() {
+    flagValue = null
+
+    assertThat(AdapterSettingsFlags.getBoolean(KEY, true)).isTrue()
+  }
+
+  @Test
+  fun getBoolean_sourceUnavailable_readsSourceAgainOnceAvailable() {
+    flagValue = null
+    AdapterSettingsFlags.getBoolean(KEY, true)
+    flagValue = false
+
+    assertThat(AdapterSettingsFlags.getBoolean(KEY, true)).isFalse()
+    assertThat(AdapterSettingsFlags.sourceReadCount).isEqualTo(2)
+  }
+
+  @Test
+  fun reflectiveSource_classMissing_looksUpHandlesOnce() {
+    val source = AdapterSettingsFlags.ReflectiveSource("com.example.MissingAdapterSettings")
+
+    repeat(10) { assertThat(source.readBoolean(KEY, false)).isNull() }
+
+    assertThat(source.resolveCount).isEqualTo(1)
+  }
+
+  @Test
+  fun reflectiveSource_readsFlagThroughResolvedHandles() {
+    val source = AdapterSettingsFlags.ReflectiveSource(FakeAdapterSettings::class.java.name)
+
+    assertThat(source.readBoolean(KEY, false)).isTrue()
+    assertThat(source.readBoolean("other", false)).isFalse()
+    assertThat(source.resolveCount).isEqualTo(1)
+  }
+
+  private companion object {
+    const val KEY = "adapter:flag"
+    const val REFRESH_INTERVAL_MILLIS = 60_000L
+  }
+}
+
+/** Stands in for the SDK's adapter settings in [AdapterSettingsFlagsTest]. */
+@Suppress("unused")
+private class FakeAdapterSettings {
+
+  private fun getBoolean(key: String, defaultValue: Boolean): Boolean =
+    if (key == "adapter:flag") true else defaultValue
+
+  companion object {
+    private val instance = FakeAdapterSettings()
+
+    @JvmStatic private fun getInstance(): FakeAdapterSettings = instance
+  }
+}
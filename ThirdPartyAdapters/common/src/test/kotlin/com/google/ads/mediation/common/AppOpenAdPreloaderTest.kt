@@ -0,0 +1,119 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [AppOpenAdPreloader]. */
+@RunWith(AndroidJUnit4::class)
+class AppOpenAdPreloaderTest {
+
+  private var now = 0L
+  private val loader = FakeLoader()
+  private val preloader =
+    AppOpenAdPreloader<String>(NETWORK_NAME, MAX_AGE_MILLIS, ElapsedRealtimeClock { now })
+
+  @Before
+  fun setUp() {
+    preloader.setEnabled(true)
+  }
+
+  @Test
+  fun take_afterPreloadFinished_returnsAdAndCountsColdStartShow() {
+    preloader.preload(PLACEMENT_ID, loader)
+    now += TIME_TO_READY_MILLIS
+    loader.callbacks.single().onAdLoaded(AD)
+
+    val ad = preloader.take(PLACEMENT_ID)
+
+    assertThat(ad).isEqualTo(AD)
+    assertThat(preloader.hitCount).isEqualTo(1)
+    assertThat(preloader.coldStartShowRate).isEqualTo(1.0)
+    assertThat(preloader.averageTimeToReadyMillis).isEqualTo(TIME_TO_READY_MILLIS)
+  }
+
+  @Test
+  fun take_whilePreloading_returnsNullAndCountsColdStartMiss() {
+    preloader.preload(PLACEMENT_ID, loader)
+
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    assertThat(preloader.missCount).isEqualTo(1)
+    assertThat(preloader.coldStartRequestCount).isEqualTo(1)
+    assertThat(preloader.coldStartShowRate).isEqualTo(0.0)
+  }
+
+  @Test
+  fun take_adOlderThanMaxAge_discardsAd() {
+    preloader.preload(PLACEMENT_ID, loader)
+    loader.callbacks.single().onAdLoaded(AD)
+    now += MAX_AGE_MILLIS
+
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    assertThat(preloader.staleCount).isEqualTo(1)
+    assertThat(loader.discardedAds).containsExactly(AD)
+  }
+
+  @Test
+  fun preload_placementAlreadyPreloading_doesNotLoadAgain() {
+    preloader.preload(PLACEMENT_ID, loader)
+
+    preloader.preload(PLACEMENT_ID, loader)
+
+    assertThat(loader.callbacks).hasSize(1)
+  }
+
+  @Test
+  fun preload_whenDisabled_doesNotLoad() {
+    preloader.setEnabled(false)
+
+    preloader.preload(PLACEMENT_ID, loader)
+
+    assertThat(loader.callbacks).isEmpty()
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    assertThat(preloader.missCount).isEqualTo(0)
+  }
+
+  @Test
+  fun preload_afterFailedPreload_loadsAgain() {
+    preloader.preload(PLACEMENT_ID, loader)
+    loader.callbacks.single().onAdFailedToLoad("No fill.")
+
+    preloader.preload(PLACEMENT_ID, loader)
+
+    assertThat(loader.callbacks).hasSize(2)
+    assertThat(preloader.failedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun setEnabled_false_discardsPreloadedAds() {
+    preloader.preload(PLACEMENT_ID, loader)
+    loader.callbacks.single().onAdLoaded(AD)
+
+    preloader.setEnabled(false)
+
+    assertThat(loader.discardedAds).containsExactly(AD)
+  }
+
+  private class FakeLoader : AppOpenAdPreloader.Loader<String> {
+    val callbacks = mutableListOf<AppOpenAdPreloader.LoadCallback<String>>()
+    val discardedAds = mutableListOf<String>()
+
+    override fun load(placementId: String, callback: AppOpenAdPreloader.LoadCallback<String>) {
+      callbacks.add(callback)
+    }
+
+    override fun discard(ad: String) {
+      discardedAds.add(ad)
+    }
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val PLACEMENT_ID = "placement"
+    const val AD = "ad"
+    const val MAX_AGE_MILLIS = 60_000L
+    const val TIME_TO_READY_MILLIS = 800L
+  }
+}
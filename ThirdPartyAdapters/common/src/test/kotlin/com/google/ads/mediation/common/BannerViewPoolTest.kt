@@ -0,0 +1,134 @@
+package com.google.ads.mediation.common
+
+import android.app.Activity
+import android.content.Context
+import android.os.Looper
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [BannerViewPool]. */
+@RunWith(AndroidJUnit4::class)
+class BannerViewPoolTest {
+
+  private val activityController = Robolectric.buildActivity(Activity::class.java).setup()
+  private val activity = activityController.get()
+  private val parent = FrameLayout(activity)
+  private val recycler = FakeRecycler()
+  private val pool = BannerViewPool(NETWORK_NAME, recycler)
+
+  @Before
+  fun setUp() {
+    activity.setContentView(parent)
+    BannerViewPool.setRecyclingEnabled(true)
+  }
+
+  @After
+  fun tearDown() {
+    BannerViewPool.setRecyclingEnabled(false)
+  }
+
+  @Test
+  fun acquire_afterViewRemovedFromBanner_reusesView() {
+    val view = showAndRemove(pool.acquire(activity, WIDTH, HEIGHT))
+
+    val reusedView = pool.acquire(activity, WIDTH, HEIGHT)
+
+    assertThat(reusedView).isSameInstanceAs(view)
+    assertThat(recycler.resetViews).containsExactly(view)
+    assertThat(pool.createdCount).isEqualTo(1)
+    assertThat(pool.allocationsAvoidedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun acquire_withDifferentSize_createsView() {
+    val view = showAndRemove(pool.acquire(activity, WIDTH, HEIGHT))
+
+    val otherView = pool.acquire(activity, HEIGHT, WIDTH)
+
+    assertThat(otherView).isNotSameInstanceAs(view)
+    assertThat(pool.pooledCount).isEqualTo(1)
+    assertThat(pool.allocationsAvoidedCount).isEqualTo(0)
+  }
+
+  @Test
+  fun acquire_whenRecyclingDisabled_doesNotPoolViews() {
+    BannerViewPool.setRecyclingEnabled(false)
+    showAndRemove(pool.acquire(activity, WIDTH, HEIGHT))
+
+    pool.acquire(activity, WIDTH, HEIGHT)
+
+    assertThat(pool.createdCount).isEqualTo(2)
+    assertThat(pool.pooledCount).isEqualTo(0)
+  }
+
+  @Test
+  fun viewRemoved_whenResetFails_discardsViewAndCountsFailure() {
+    recycler.canReset = false
+
+    val view = showAndRemove(pool.acquire(activity, WIDTH, HEIGHT))
+
+    assertThat(pool.reuseFailureCount).isEqualTo(1)
+    assertThat(pool.pooledCount).isEqualTo(0)
+    assertThat(recycler.discardedViews).containsExactly(view)
+  }
+
+  @Test
+  fun viewDetachedWithItsParent_isNotPooled() {
+    pool.acquire(activity, WIDTH, HEIGHT).also { parent.addView(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    activity.setContentView(View(activity))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(pool.pooledCount).isEqualTo(0)
+  }
+
+  @Test
+  fun activityDestroyed_discardsPooledViews() {
+    val view = showAndRemove(pool.acquire(activity, WIDTH, HEIGHT))
+
+    activityController.destroy()
+
+    assertThat(pool.pooledCount).isEqualTo(0)
+    assertThat(recycler.discardedViews).containsExactly(view)
+  }
+
+  private fun showAndRemove(view: View): View {
+    parent.addView(view)
+    shadowOf(Looper.getMainLooper()).idle()
+    parent.removeView(view)
+    shadowOf(Looper.getMainLooper()).idle()
+    return view
+  }
+
+  private class FakeRecycler : BannerViewPool.Recycler<View> {
+    var canReset = true
+    val resetViews = mutableListOf<View>()
+    val discardedViews = mutableListOf<View>()
+
+    override fun create(context: Context) = View(context)
+
+    override fun reset(view: View): Boolean {
+      resetViews.add(view)
+      return canReset
+    }
+
+    override fun discard(view: View) {
+      discardedViews.add(view)
+    }
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val WIDTH = 320
+    const val HEIGHT = 50
+  }
+}
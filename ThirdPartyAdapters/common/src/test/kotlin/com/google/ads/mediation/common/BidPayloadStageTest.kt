@@ -0,0 +1,90 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [BidPayloadStage]. */
+@RunWith(AndroidJUnit4::class)
+class BidPayloadStageTest {
+
+  @After
+  fun tearDown() {
+    BidPayloadStage.reset()
+  }
+
+  @Test
+  fun validate_wellFormedBidResponse_returnsNullAndRecordsSize() {
+    val error = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, JSON_BID_RESPONSE)
+
+    assertThat(error).isNull()
+    val stats = BidPayloadStage.getStats(NETWORK_NAME, AD_FORMAT)
+    assertThat(stats.getCount(0)).isEqualTo(1)
+    assertThat(stats.maxSize).isEqualTo(JSON_BID_RESPONSE.length)
+  }
+
+  @Test
+  fun validate_opaqueBidResponse_returnsNull() {
+    assertThat(BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, "c2lnbmFs")).isNull()
+  }
+
+  @Test
+  fun validate_emptyBidResponse_returnsEmptyBidResponseError() {
+    val error = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, " ")
+
+    assertThat(error!!.code).isEqualTo(CommonAdErrors.ERROR_EMPTY_BID_RESPONSE)
+    assertThat(error.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    assertThat(BidPayloadStage.getStats(NETWORK_NAME, AD_FORMAT).emptyCount).isEqualTo(1)
+  }
+
+  @Test
+  fun validate_truncatedJsonBidResponse_returnsTruncatedBidResponseError() {
+    val truncated = JSON_BID_RESPONSE.dropLast(2)
+
+    val error = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, truncated)
+
+    assertThat(error!!.code).isEqualTo(CommonAdErrors.ERROR_TRUNCATED_BID_RESPONSE)
+    assertThat(BidPayloadStage.getStats(NETWORK_NAME, AD_FORMAT).truncatedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun recordLoadLatency_averagesLatencyPerSizeBucket() {
+    BidPayloadStage.setSizeBucketUpperBounds(10, 100)
+    val small = "a".repeat(10)
+    val large = "a".repeat(101)
+
+    BidPayloadStage.recordLoadLatency(NETWORK_NAME, AD_FORMAT, small, 100)
+    BidPayloadStage.recordLoadLatency(NETWORK_NAME, AD_FORMAT, small, 200)
+    BidPayloadStage.recordLoadLatency(NETWORK_NAME, AD_FORMAT, large, 900)
+
+    val stats = BidPayloadStage.getStats(NETWORK_NAME, AD_FORMAT)
+    assertThat(stats.getAverageLoadLatencyMillis(0)).isEqualTo(150)
+    assertThat(stats.getAverageLoadLatencyMillis(1)).isEqualTo(0)
+    assertThat(stats.getAverageLoadLatencyMillis(2)).isEqualTo(900)
+  }
+
+  @Test
+  fun startLoad_finish_recordsLatencyOnce() {
+    val load = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, JSON_BID_RESPONSE)
+    shadowOf(Looper.getMainLooper()).idleFor(LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+
+    load.finish()
+    shadowOf(Looper.getMainLooper()).idleFor(LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+    load.finish()
+
+    val stats = BidPayloadStage.getStats(NETWORK_NAME, AD_FORMAT)
+    assertThat(stats.getAverageLoadLatencyMillis(0)).isEqualTo(LATENCY_MILLIS)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val AD_FORMAT = "native"
+    const val LATENCY_MILLIS = 300L
+    const val JSON_BID_RESPONSE = """{"seatbid":[{"bid":[{"adm":"markup"}]}]}"""
+  }
+}
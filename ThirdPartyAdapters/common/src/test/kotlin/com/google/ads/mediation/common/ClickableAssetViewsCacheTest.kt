@@ -0,0 +1,98 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.view.View
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [ClickableAssetViewsCache]. */
+@RunWith(AndroidJUnit4::class)
+class ClickableAssetViewsCacheTest {
+
+  private val context: Context = ApplicationProvider.getApplicationContext()
+  private val headlineView = View(context)
+  private val callToActionView = View(context)
+  private val adChoicesView = View(context)
+
+  private val cache = ClickableAssetViewsCache(EXCLUDED_ASSET_NAME)
+
+  @Test
+  fun update_firstBind_computesAssetViewsWithoutExcludedAssets() {
+    val recomputed =
+      cache.update(
+        mapOf(
+          HEADLINE to headlineView,
+          CALL_TO_ACTION to callToActionView,
+          EXCLUDED_ASSET_NAME to adChoicesView,
+        )
+      )
+
+    assertThat(recomputed).isTrue()
+    assertThat(cache.assetViews).containsExactly(headlineView, callToActionView)
+    assertThat(cache.recomputeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun update_sameAssetViews_reusesAssetViews() {
+    cache.update(mapOf(HEADLINE to headlineView, CALL_TO_ACTION to callToActionView))
+    val firstAssetViews = cache.assetViews
+
+    val recomputed =
+      cache.update(mapOf(HEADLINE to headlineView, CALL_TO_ACTION to callToActionView))
+
+    assertThat(recomputed).isFalse()
+    assertThat(cache.assetViews).isSameInstanceAs(firstAssetViews)
+    assertThat(cache.reuseCount).isEqualTo(1)
+  }
+
+  @Test
+  fun update_differentView_recomputesAssetViews() {
+    cache.update(mapOf(HEADLINE to headlineView, CALL_TO_ACTION to callToActionView))
+    val otherCallToActionView = View(context)
+
+    val recomputed =
+      cache.update(mapOf(HEADLINE to headlineView, CALL_TO_ACTION to otherCallToActionView))
+
+    assertThat(recomputed).isTrue()
+    assertThat(cache.assetViews).containsExactly(headlineView, otherCallToActionView)
+  }
+
+  @Test
+  fun update_fewerViews_recomputesAssetViews() {
+    cache.update(mapOf(HEADLINE to headlineView, CALL_TO_ACTION to callToActionView))
+
+    val recomputed = cache.update(mapOf(HEADLINE to headlineView))
+
+    assertThat(recomputed).isTrue()
+    assertThat(cache.assetViews).containsExactly(headlineView)
+    assertThat(cache.getAssetView(CALL_TO_ACTION)).isNull()
+  }
+
+  @Test
+  fun getAssetView_returnsBoundViewUnlessExcluded() {
+    cache.update(mapOf(CALL_TO_ACTION to callToActionView, EXCLUDED_ASSET_NAME to adChoicesView))
+
+    assertThat(cache.getAssetView(CALL_TO_ACTION)).isSameInstanceAs(callToActionView)
+    assertThat(cache.getAssetView(EXCLUDED_ASSET_NAME)).isNull()
+  }
+
+  @Test
+  fun clear_forcesRecomputeOnNextUpdate() {
+    val clickableAssetViews = mapOf(HEADLINE to headlineView)
+    cache.update(clickableAssetViews)
+
+    cache.clear()
+
+    assertThat(cache.assetViews).isEmpty()
+    assertThat(cache.update(clickableAssetViews)).isTrue()
+  }
+
+  private companion object {
+    const val HEADLINE = "3001"
+    const val CALL_TO_ACTION = "3002"
+    const val EXCLUDED_ASSET_NAME = "3012"
+  }
+}
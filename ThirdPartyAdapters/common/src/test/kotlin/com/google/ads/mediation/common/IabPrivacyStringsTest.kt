@@ -0,0 +1,41 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [IabPrivacyStrings]. */
+@RunWith(AndroidJUnit4::class)
+class IabPrivacyStringsTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val preferences =
+    context.getSharedPreferences("${context.packageName}_preferences", Context.MODE_PRIVATE)
+
+  @Test
+  fun fingerprint_privacyStringChanged_changes() {
+    preferences.edit().putString(IabPrivacyStrings.KEY_TCF_TC_STRING, TC_STRING).commit()
+    val fingerprint = IabPrivacyStrings.fingerprint(context)
+
+    preferences.edit().putString(IabPrivacyStrings.KEY_US_PRIVACY_STRING, "1YNN").commit()
+
+    assertThat(IabPrivacyStrings.fingerprint(context)).isNotEqualTo(fingerprint)
+  }
+
+  @Test
+  fun fingerprint_otherPreferenceChanged_doesNotChange() {
+    preferences.edit().putString(IabPrivacyStrings.KEY_TCF_TC_STRING, TC_STRING).commit()
+    val fingerprint = IabPrivacyStrings.fingerprint(context)
+
+    preferences.edit().putInt("IABTCF_gdprApplies", 1).commit()
+
+    assertThat(IabPrivacyStrings.fingerprint(context)).isEqualTo(fingerprint)
+  }
+
+  private companion object {
+    const val TC_STRING = "CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA"
+  }
+}
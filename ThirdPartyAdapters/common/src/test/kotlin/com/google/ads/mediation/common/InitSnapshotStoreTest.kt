@@ -0,0 +1,137 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.Looper
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [InitSnapshotStore]. */
+@RunWith(AndroidJUnit4::class)
+class InitSnapshotStoreTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var now = 1_000_000L
+  private val directExecutor = Executor { it.run() }
+  private val pendingTasks = mutableListOf<Runnable>()
+  private val queueingExecutor = Executor { pendingTasks.add(it) }
+
+  @Test
+  fun read_afterWrite_returnsSnapshotFromDisk() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+
+    val snapshot = createStore().read()
+
+    assertThat(snapshot).isNotNull()
+    assertThat(snapshot!!.parameters).containsExactly(KEY_APP_ID, "app2")
+    assertThat(snapshot.savedAtMillis).isEqualTo(now)
+    assertThat(snapshot.initDurationMillis).isEqualTo(INIT_DURATION_MILLIS)
+  }
+
+  @Test
+  fun read_snapshotOlderThanMaxAge_returnsNull() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+    now += MAX_AGE_MILLIS + 1
+
+    assertThat(createStore().read()).isNull()
+  }
+
+  @Test
+  fun read_snapshotOfOtherAdapterVersion_returnsNull() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+
+    assertThat(createStore(adapterVersion = "2.0.0.0").read()).isNull()
+  }
+
+  @Test
+  fun pick_snapshotValueStillConfigured_returnsSnapshotValue() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+
+    val appId = createStore().pick(KEY_APP_ID, listOf("app1", "app2"))
+
+    assertThat(appId).isEqualTo("app2")
+  }
+
+  @Test
+  fun pick_snapshotValueNoLongerConfigured_returnsFirstCandidate() {
+    createStore().write(mapOf(KEY_APP_ID to "app3"), INIT_DURATION_MILLIS)
+
+    val appId = createStore().pick(KEY_APP_ID, listOf("app1", "app2"))
+
+    assertThat(appId).isEqualTo("app1")
+  }
+
+  @Test
+  fun pick_beforeSnapshotIsRead_returnsFirstCandidateWithoutReadingFile() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+    val store = createStore(executor = queueingExecutor)
+
+    val appId = store.pick(KEY_APP_ID, listOf("app1", "app2"))
+
+    assertThat(appId).isEqualTo("app1")
+    pendingTasks.single().run()
+    assertThat(store.pick(KEY_APP_ID, listOf("app1", "app2"))).isEqualTo("app2")
+  }
+
+  @Test
+  fun pickWithCallback_snapshotValueStillConfigured_preferredOverFirstCandidate() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+    val store = createStore(executor = queueingExecutor)
+    val pickedValues = mutableListOf<String>()
+
+    store.pick(KEY_APP_ID, listOf("app1", "app2")) { pickedValues.add(it) }
+
+    assertThat(pickedValues).isEmpty()
+    pendingTasks.forEach { it.run() }
+    shadowOf(Looper.getMainLooper()).idle()
+    assertThat(pickedValues).containsExactly("app2")
+  }
+
+  @Test
+  fun pickWithCallback_snapshotAlreadyRead_callsBackRightAway() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+    val pickedValues = mutableListOf<String>()
+
+    createStore().pick(KEY_APP_ID, listOf("app1", "app2")) { pickedValues.add(it) }
+
+    assertThat(pickedValues).containsExactly("app2")
+  }
+
+  @Test
+  fun write_writesFileOnExecutor() {
+    val store = createStore(executor = queueingExecutor)
+
+    store.write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+
+    assertThat(store.pick(KEY_APP_ID, listOf("app1", "app2"))).isEqualTo("app2")
+    assertThat(createStore().read()).isNull()
+    pendingTasks.forEach { it.run() }
+    assertThat(createStore().read()!!.parameters).containsExactly(KEY_APP_ID, "app2")
+  }
+
+  @Test
+  fun clear_deletesSnapshot() {
+    createStore().write(mapOf(KEY_APP_ID to "app2"), INIT_DURATION_MILLIS)
+
+    createStore().clear()
+
+    assertThat(createStore().read()).isNull()
+  }
+
+  private fun createStore(
+    adapterVersion: String = ADAPTER_VERSION,
+    executor: Executor = directExecutor,
+  ) = InitSnapshotStore(context, NETWORK_NAME, adapterVersion, MAX_AGE_MILLIS, executor) { now }
+
+  private companion object {
+    const val NETWORK_NAME = "Network"
+    const val ADAPTER_VERSION = "1.0.0.0"
+    const val KEY_APP_ID = "appId"
+    const val MAX_AGE_MILLIS = 60_000L
+    const val INIT_DURATION_MILLIS = 250L
+  }
+}
@@ -0,0 +1,144 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [LoadCircuitBreaker]. */
+@RunWith(AndroidJUnit4::class)
+class LoadCircuitBreakerTest {
+
+  private var now = 0L
+  private val circuitBreaker =
+    LoadCircuitBreaker(
+      NETWORK_NAME,
+      noFillThreshold = THRESHOLD,
+      initialBackoffMillis = INITIAL_BACKOFF_MILLIS,
+      maxBackoffMillis = MAX_BACKOFF_MILLIS,
+      probeTimeoutMillis = PROBE_TIMEOUT_MILLIS,
+      clock = { now },
+    )
+
+  @Test
+  fun checkLoad_unknownPlacement_allowsLoad() {
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun checkLoad_belowThreshold_allowsLoad() {
+    repeat(THRESHOLD - 1) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+    assertThat(circuitBreaker.isOpen(PLACEMENT_ID)).isFalse()
+  }
+
+  @Test
+  fun checkLoad_afterConsecutiveNoFills_failsFast() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+
+    val error = circuitBreaker.checkLoad(PLACEMENT_ID)
+
+    assertThat(error).isNotNull()
+    assertThat(error!!.code).isEqualTo(CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS)
+    assertThat(error.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    assertThat(circuitBreaker.suppressedLoadCount).isEqualTo(1)
+    assertThat(circuitBreaker.checkLoad(OTHER_PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun checkLoad_fillBetweenNoFills_resetsConsecutiveCount() {
+    repeat(THRESHOLD - 1) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    circuitBreaker.onLoadSucceeded(PLACEMENT_ID)
+    circuitBreaker.onNoFill(PLACEMENT_ID)
+
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun checkLoad_afterBackoff_allowsSingleProbe() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    now += INITIAL_BACKOFF_MILLIS
+
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNotNull()
+  }
+
+  @Test
+  fun onNoFill_failedProbe_doublesBackoff() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    now += INITIAL_BACKOFF_MILLIS
+    circuitBreaker.checkLoad(PLACEMENT_ID)
+
+    circuitBreaker.onNoFill(PLACEMENT_ID)
+
+    now += INITIAL_BACKOFF_MILLIS
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNotNull()
+    now += INITIAL_BACKOFF_MILLIS
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun onLoadSucceeded_successfulProbe_closesCircuit() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    now += INITIAL_BACKOFF_MILLIS
+    circuitBreaker.checkLoad(PLACEMENT_ID)
+
+    circuitBreaker.onLoadSucceeded(PLACEMENT_ID)
+
+    assertThat(circuitBreaker.isOpen(PLACEMENT_ID)).isFalse()
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun onLoadFailed_releasesProbe() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    now += INITIAL_BACKOFF_MILLIS
+    circuitBreaker.checkLoad(PLACEMENT_ID)
+
+    circuitBreaker.onLoadFailed(PLACEMENT_ID)
+
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+  }
+
+  @Test
+  fun checkLoad_probeNeverAnswered_allowsNewProbeAfterProbeTimeout() {
+    repeat(THRESHOLD) { circuitBreaker.onNoFill(PLACEMENT_ID) }
+    now += INITIAL_BACKOFF_MILLIS
+    circuitBreaker.checkLoad(PLACEMENT_ID)
+
+    now += PROBE_TIMEOUT_MILLIS - 1
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNotNull()
+    now += 1
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNull()
+    assertThat(circuitBreaker.checkLoad(PLACEMENT_ID)).isNotNull()
+  }
+
+  @Test
+  fun backoffMillis_isCappedAtMaxBackoff() {
+    assertThat(circuitBreaker.backoffMillis(1)).isEqualTo(INITIAL_BACKOFF_MILLIS)
+    assertThat(circuitBreaker.backoffMillis(2)).isEqualTo(2 * INITIAL_BACKOFF_MILLIS)
+    assertThat(circuitBreaker.backoffMillis(30)).isEqualTo(MAX_BACKOFF_MILLIS)
+  }
+
+  @Test
+  fun getNoFillRate_returnsFractionOfRecentNoFills() {
+    circuitBreaker.onNoFill(PLACEMENT_ID)
+    circuitBreaker.onLoadSucceeded(PLACEMENT_ID)
+    circuitBreaker.onNoFill(PLACEMENT_ID)
+    circuitBreaker.onLoadSucceeded(PLACEMENT_ID)
+
+    assertThat(circuitBreaker.getNoFillRate(PLACEMENT_ID)).isEqualTo(0.5)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val PLACEMENT_ID = "placement"
+    const val OTHER_PLACEMENT_ID = "other_placement"
+    const val THRESHOLD = 3
+    const val INITIAL_BACKOFF_MILLIS = 1_000L
+    const val MAX_BACKOFF_MILLIS = 8_000L
+    const val PROBE_TIMEOUT_MILLIS = 5_000L
+  }
+}
@@ -0,0 +1,103 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [LoadWatchdog]. */
+@RunWith(AndroidJUnit4::class)
+class LoadWatchdogTest {
+
+  private val timeoutErrors = mutableListOf<AdError>()
+
+  @Before
+  fun setUp() {
+    LoadWatchdog.setTimeoutMillis(NETWORK_NAME, TIMEOUT_MILLIS)
+  }
+
+  @After
+  fun tearDown() {
+    LoadWatchdog.reset()
+  }
+
+  @Test
+  fun watch_noCallbackBeforeDeadline_reportsTimeout() {
+    LoadWatchdog.watch(NETWORK_NAME) { error -> timeoutErrors.add(error) }
+
+    shadowOf(Looper.getMainLooper()).idleFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(timeoutErrors).hasSize(1)
+    assertThat(timeoutErrors[0].code).isEqualTo(CommonAdErrors.ERROR_LOAD_TIMED_OUT)
+    assertThat(timeoutErrors[0].domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    assertThat(LoadWatchdog.getStats(NETWORK_NAME).timedOutCount).isEqualTo(1)
+  }
+
+  @Test
+  fun complete_beforeDeadline_returnsTrueAndCancelsTimeout() {
+    val load = LoadWatchdog.watch(NETWORK_NAME) { error -> timeoutErrors.add(error) }
+
+    val shouldDeliver = load.complete()
+    shadowOf(Looper.getMainLooper()).idleFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(shouldDeliver).isTrue()
+    assertThat(timeoutErrors).isEmpty()
+    assertThat(LoadWatchdog.getStats(NETWORK_NAME).completedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun complete_afterTimeout_returnsFalseAndCountsLateCallback() {
+    val load = LoadWatchdog.watch(NETWORK_NAME) { error -> timeoutErrors.add(error) }
+    shadowOf(Looper.getMainLooper()).idleFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    val shouldDeliver = load.complete()
+
+    assertThat(shouldDeliver).isFalse()
+    assertThat(LoadWatchdog.getStats(NETWORK_NAME).lateCallbackCount).isEqualTo(1)
+  }
+
+  @Test
+  fun complete_calledTwice_returnsTrueOnlyOnce() {
+    val load = LoadWatchdog.watch(NETWORK_NAME) { error -> timeoutErrors.add(error) }
+
+    assertThat(load.complete()).isTrue()
+    assertThat(load.complete()).isFalse()
+  }
+
+  @Test
+  fun cancel_stopsTimeout() {
+    val load = LoadWatchdog.watch(NETWORK_NAME) { error -> timeoutErrors.add(error) }
+
+    load.cancel()
+    shadowOf(Looper.getMainLooper()).idleFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(timeoutErrors).isEmpty()
+    assertThat(load.complete()).isFalse()
+  }
+
+  @Test
+  fun getTimeoutMillis_unconfiguredNetwork_returnsDefault() {
+    assertThat(LoadWatchdog.getTimeoutMillis("other"))
+      .isEqualTo(LoadWatchdog.DEFAULT_TIMEOUT_MILLIS)
+  }
+
+  @Test
+  fun timeoutRate_countsTimedOutLoadsAmongFinishedLoads() {
+    LoadWatchdog.watch(NETWORK_NAME) {}.complete()
+    LoadWatchdog.watch(NETWORK_NAME) {}
+    shadowOf(Looper.getMainLooper()).idleFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(LoadWatchdog.getStats(NETWORK_NAME).timeoutRate).isEqualTo(0.5)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val TIMEOUT_MILLIS = 5_000L
+  }
+}
@@ -0,0 +1,101 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [MainThreadDispatcher]. */
+@RunWith(AndroidJUnit4::class)
+class MainThreadDispatcherTest {
+
+  private var now = 0L
+  private val ad = Any()
+  private val deliveries = mutableListOf<String>()
+
+  @Before
+  fun setUp() {
+    MainThreadDispatcher.clock = ElapsedRealtimeClock { now }
+  }
+
+  @After
+  fun tearDown() {
+    MainThreadDispatcher.reset()
+    MainThreadDispatcher.clock = ElapsedRealtimeClock.SYSTEM
+  }
+
+  @Test
+  fun dispatch_onMainThread_runsInline() {
+    MainThreadDispatcher.dispatch(NETWORK_NAME, ad) { deliveries.add("loaded") }
+
+    assertThat(deliveries).containsExactly("loaded")
+    val stats = MainThreadDispatcher.getStats(NETWORK_NAME)
+    assertThat(stats.inlineCount).isEqualTo(1)
+    assertThat(stats.postedCount).isEqualTo(0)
+  }
+
+  @Test
+  fun dispatch_fromBackgroundThread_coalescesCallbacksIntoOneMessageInOrder() {
+    var callbackLooper: Looper? = null
+    dispatchFromBackgroundThread {
+      MainThreadDispatcher.dispatch(NETWORK_NAME, ad) {
+        callbackLooper = Looper.myLooper()
+        deliveries.add("opened")
+      }
+      MainThreadDispatcher.dispatch(NETWORK_NAME, ad) { deliveries.add("impression") }
+    }
+    assertThat(deliveries).isEmpty()
+    now += QUEUE_DELAY_MILLIS
+
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(deliveries).containsExactly("opened", "impression").inOrder()
+    assertThat(callbackLooper).isEqualTo(Looper.getMainLooper())
+    val stats = MainThreadDispatcher.getStats(NETWORK_NAME)
+    assertThat(stats.postedCount).isEqualTo(2)
+    assertThat(stats.messageCount).isEqualTo(1)
+    assertThat(stats.averageQueueDelayMillis).isEqualTo(QUEUE_DELAY_MILLIS)
+    assertThat(stats.maxQueueDelayMillis).isEqualTo(QUEUE_DELAY_MILLIS)
+    assertThat(stats.averageDeliveryLatencyMillis).isEqualTo(QUEUE_DELAY_MILLIS)
+  }
+
+  @Test
+  fun dispatch_onMainThreadWhileCallbacksOfAdPending_keepsOrder() {
+    dispatchFromBackgroundThread {
+      MainThreadDispatcher.dispatch(NETWORK_NAME, ad) { deliveries.add("opened") }
+    }
+
+    MainThreadDispatcher.dispatch(NETWORK_NAME, ad) { deliveries.add("closed") }
+    assertThat(deliveries).isEmpty()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(deliveries).containsExactly("opened", "closed").inOrder()
+    assertThat(MainThreadDispatcher.getStats(NETWORK_NAME).inlineCount).isEqualTo(0)
+  }
+
+  @Test
+  fun dispatch_onMainThreadWhileCallbacksOfOtherAdPending_runsInline() {
+    dispatchFromBackgroundThread {
+      MainThreadDispatcher.dispatch(NETWORK_NAME, ad) { deliveries.add("otherAd") }
+    }
+
+    MainThreadDispatcher.dispatch(NETWORK_NAME, Any()) { deliveries.add("ad") }
+
+    assertThat(deliveries).containsExactly("ad")
+  }
+
+  private fun dispatchFromBackgroundThread(block: () -> Unit) {
+    val thread = Thread(block)
+    thread.start()
+    thread.join()
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val QUEUE_DELAY_MILLIS = 40L
+  }
+}
@@ -0,0 +1,128 @@
+package com.google.ads.mediation.common
+
+import android.content.ComponentCallbacks2
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [MemoryBudget]. */
+@RunWith(AndroidJUnit4::class)
+class MemoryBudgetTest {
+
+  private val imageCache = FakeConsumer()
+  private val viewPool = FakeConsumer()
+
+  @Before
+  fun setUp() {
+    MemoryBudget.reset()
+    MemoryBudget.setBudgetBytes(BUDGET_BYTES)
+    MemoryBudget.register(IMAGE_CACHE_NETWORK, 3, imageCache)
+    MemoryBudget.register(VIEW_POOL_NETWORK, 1, viewPool)
+  }
+
+  @After
+  fun tearDown() {
+    MemoryBudget.reset()
+  }
+
+  @Test
+  fun enforce_underBudget_doesNotTrim() {
+    imageCache.sizeInBytes = 700
+    viewPool.sizeInBytes = 300
+
+    MemoryBudget.enforce()
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(700)
+    assertThat(viewPool.sizeInBytes).isEqualTo(300)
+    assertThat(MemoryBudget.overBudgetTrimCount).isEqualTo(0)
+  }
+
+  @Test
+  fun enforce_overBudget_trimsConsumersToWeightedShares() {
+    imageCache.sizeInBytes = 1_000
+    viewPool.sizeInBytes = 1_000
+
+    MemoryBudget.enforce()
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(750)
+    assertThat(viewPool.sizeInBytes).isEqualTo(250)
+    assertThat(MemoryBudget.overBudgetTrimCount).isEqualTo(1)
+  }
+
+  @Test
+  fun enforce_consumerUnderItsShare_leavesRestToOthers() {
+    imageCache.sizeInBytes = 1_500
+    viewPool.sizeInBytes = 100
+
+    MemoryBudget.enforce()
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(900)
+    assertThat(viewPool.sizeInBytes).isEqualTo(100)
+  }
+
+  @Test
+  fun onTrimMemory_uiHidden_halvesEveryConsumer() {
+    imageCache.sizeInBytes = 600
+    viewPool.sizeInBytes = 200
+
+    MemoryBudget.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(300)
+    assertThat(viewPool.sizeInBytes).isEqualTo(100)
+    assertThat(MemoryBudget.memoryPressureTrimCount).isEqualTo(1)
+  }
+
+  @Test
+  fun onTrimMemory_complete_evictsEverything() {
+    imageCache.sizeInBytes = 600
+    viewPool.sizeInBytes = 200
+
+    MemoryBudget.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(0)
+    assertThat(viewPool.sizeInBytes).isEqualTo(0)
+  }
+
+  @Test
+  fun usage_reportsSizeAndAllowancePerConsumer() {
+    imageCache.sizeInBytes = 1_000
+    viewPool.sizeInBytes = 1_000
+
+    val usage = MemoryBudget.usage()
+
+    assertThat(usage.map { it.networkName })
+      .containsExactly(IMAGE_CACHE_NETWORK, VIEW_POOL_NETWORK)
+      .inOrder()
+    assertThat(usage.map { it.sizeInBytes }).containsExactly(1_000L, 1_000L).inOrder()
+    assertThat(usage.map { it.allowanceBytes }).containsExactly(750L, 250L).inOrder()
+  }
+
+  @Test
+  fun unregister_stopsTrimmingConsumer() {
+    MemoryBudget.unregister(viewPool)
+    imageCache.sizeInBytes = 1_000
+    viewPool.sizeInBytes = 1_000
+
+    MemoryBudget.enforce()
+
+    assertThat(imageCache.sizeInBytes).isEqualTo(1_000)
+    assertThat(viewPool.sizeInBytes).isEqualTo(1_000)
+  }
+
+  private class FakeConsumer : MemoryBudget.Consumer {
+    override var sizeInBytes = 0L
+
+    override fun trimToSize(maxBytes: Long) {
+      sizeInBytes = minOf(sizeInBytes, maxBytes)
+    }
+  }
+
+  private companion object {
+    const val BUDGET_BYTES = 1_000L
+    const val IMAGE_CACHE_NETWORK = "images"
+    const val VIEW_POOL_NETWORK = "views"
+  }
+}
@@ -0,0 +1,112 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [NativeAdBatchCache]. */
+@RunWith(AndroidJUnit4::class)
+class NativeAdBatchCacheTest {
+
+  private var now = 0L
+  private val cache =
+    NativeAdBatchCache<String>(
+      NETWORK_NAME,
+      MAX_AGE_MILLIS,
+      MAX_ADS_PER_PLACEMENT,
+      ElapsedRealtimeClock { now },
+    )
+
+  @After
+  fun tearDown() {
+    MemoryBudget.reset()
+  }
+
+  @Test
+  fun poll_afterOffer_returnsAdsInOrder() {
+    cache.offer(PLACEMENT_ID, "ad1")
+    cache.offer(PLACEMENT_ID, "ad2")
+
+    assertThat(cache.poll(PLACEMENT_ID)).isEqualTo("ad1")
+    assertThat(cache.poll(PLACEMENT_ID)).isEqualTo("ad2")
+    assertThat(cache.poll(PLACEMENT_ID)).isNull()
+    assertThat(cache.servedCount).isEqualTo(2)
+  }
+
+  @Test
+  fun poll_adOlderThanMaxAge_dropsAd() {
+    cache.offer(PLACEMENT_ID, "ad1")
+    now += MAX_AGE_MILLIS
+
+    assertThat(cache.poll(PLACEMENT_ID)).isNull()
+    assertThat(cache.droppedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun poll_otherPlacement_returnsNull() {
+    cache.offer(PLACEMENT_ID, "ad1")
+
+    assertThat(cache.poll("otherPlacement")).isNull()
+  }
+
+  @Test
+  fun offer_placementFull_dropsOldestAd() {
+    cache.offer(PLACEMENT_ID, "ad1")
+    cache.offer(PLACEMENT_ID, "ad2")
+    cache.offer(PLACEMENT_ID, "ad3")
+
+    assertThat(cache.size(PLACEMENT_ID)).isEqualTo(MAX_ADS_PER_PLACEMENT)
+    assertThat(cache.poll(PLACEMENT_ID)).isEqualTo("ad2")
+    assertThat(cache.droppedCount).isEqualTo(1)
+  }
+
+  @Test
+  fun trimToSize_dropsOldestAdsAcrossPlacements() {
+    cache.offer(PLACEMENT_ID, "ad1", AD_SIZE_BYTES)
+    now += 1
+    cache.offer("otherPlacement", "ad2", AD_SIZE_BYTES)
+    now += 1
+    cache.offer(PLACEMENT_ID, "ad3", AD_SIZE_BYTES)
+
+    cache.trimToSize(AD_SIZE_BYTES)
+
+    assertThat(cache.sizeInBytes).isEqualTo(AD_SIZE_BYTES)
+    assertThat(cache.droppedCount).isEqualTo(2)
+    assertThat(cache.poll("otherPlacement")).isNull()
+    assertThat(cache.poll(PLACEMENT_ID)).isEqualTo("ad3")
+    assertThat(cache.sizeInBytes).isEqualTo(0)
+  }
+
+  @Test
+  fun offer_overMemoryBudget_trimsCache() {
+    MemoryBudget.setBudgetBytes(AD_SIZE_BYTES)
+
+    cache.offer(PLACEMENT_ID, "ad1", AD_SIZE_BYTES)
+    cache.offer(PLACEMENT_ID, "ad2", AD_SIZE_BYTES)
+
+    assertThat(cache.size(PLACEMENT_ID)).isEqualTo(1)
+    assertThat(cache.poll(PLACEMENT_ID)).isEqualTo("ad2")
+  }
+
+  @Test
+  fun recordRoundTrip_keepsBatchAndSingleLatenciesApart() {
+    cache.recordRoundTrip(adCount = 4, latencyMillis = 600)
+    cache.recordRoundTrip(adCount = 2, latencyMillis = 400)
+    cache.recordRoundTrip(adCount = 1, latencyMillis = 300)
+    cache.recordRoundTrip(adCount = 0, latencyMillis = 100)
+
+    assertThat(cache.averageBatchLatencyMillis).isEqualTo(500)
+    assertThat(cache.averageBatchSize).isEqualTo(3.0)
+    assertThat(cache.averageSingleLatencyMillis).isEqualTo(300)
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val PLACEMENT_ID = "placement"
+    const val MAX_AGE_MILLIS = 60_000L
+    const val MAX_ADS_PER_PLACEMENT = 2
+    const val AD_SIZE_BYTES = 1_000L
+  }
+}
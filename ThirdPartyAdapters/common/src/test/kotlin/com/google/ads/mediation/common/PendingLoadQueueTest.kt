@@ -0,0 +1,96 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [PendingLoadQueue]. */
+@RunWith(AndroidJUnit4::class)
+class PendingLoadQueueTest {
+
+  private val queue = PendingLoadQueue(NETWORK_NAME, CAPACITY, MAX_WAIT_MILLIS)
+  private val events = mutableListOf<String>()
+  private val errors = mutableListOf<AdError>()
+
+  @Test
+  fun drain_sendsQueuedLoadsInOrder() {
+    queue.enqueue(RecordingLoad("first"))
+    queue.enqueue(RecordingLoad("second"))
+
+    queue.drain()
+
+    assertThat(events).containsExactly("load first", "load second").inOrder()
+    assertThat(queue.rescuedCount).isEqualTo(2)
+    assertThat(queue.size).isEqualTo(0)
+  }
+
+  @Test
+  fun failAll_failsQueuedLoadsWithGivenError() {
+    val error = AdError(1, "Initialization failed.", "domain")
+    queue.enqueue(RecordingLoad("first"))
+    queue.enqueue(RecordingLoad("second"))
+
+    queue.failAll(error)
+
+    assertThat(events).containsExactly("fail first", "fail second").inOrder()
+    assertThat(errors).containsExactly(error, error)
+    assertThat(queue.rescuedCount).isEqualTo(0)
+  }
+
+  @Test
+  fun enqueue_whenFull_rejectsLoad() {
+    repeat(CAPACITY) { queue.enqueue(RecordingLoad("load$it")) }
+
+    val queued = queue.enqueue(RecordingLoad("overflow"))
+
+    assertThat(queued).isFalse()
+    assertThat(queue.rejectedCount).isEqualTo(1)
+    assertThat(queue.queuedCount).isEqualTo(CAPACITY.toLong())
+  }
+
+  @Test
+  fun enqueue_notDrainedBeforeDeadline_failsLoadWithTimeout() {
+    queue.enqueue(RecordingLoad("first"))
+
+    shadowOf(Looper.getMainLooper()).idleFor(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)
+    queue.drain()
+
+    assertThat(events).containsExactly("fail first")
+    assertThat(errors[0].code).isEqualTo(CommonAdErrors.ERROR_PENDING_LOAD_TIMED_OUT)
+    assertThat(errors[0].domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    assertThat(queue.timedOutCount).isEqualTo(1)
+  }
+
+  @Test
+  fun drain_beforeDeadline_cancelsTimeout() {
+    queue.enqueue(RecordingLoad("first"))
+
+    queue.drain()
+    shadowOf(Looper.getMainLooper()).idleFor(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)
+
+    assertThat(events).containsExactly("load first")
+    assertThat(queue.timedOutCount).isEqualTo(0)
+  }
+
+  private inner class RecordingLoad(private val name: String) : PendingLoadQueue.PendingLoad {
+    override fun load() {
+      events.add("load $name")
+    }
+
+    override fun fail(error: AdError) {
+      events.add("fail $name")
+      errors.add(error)
+    }
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val CAPACITY = 3
+    const val MAX_WAIT_MILLIS = 5_000L
+  }
+}
@@ -0,0 +1,99 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [SdkInitRunner]. */
+@RunWith(AndroidJUnit4::class)
+class SdkInitRunnerTest {
+
+  private var now = 0L
+  private val clock = ElapsedRealtimeClock { now }
+  private val pendingTasks = mutableListOf<Runnable>()
+  private val queueingExecutor = Executor { pendingTasks.add(it) }
+
+  @After
+  fun tearDown() {
+    SdkInitRunner.reset()
+  }
+
+  @Test
+  fun run_mainThreadContract_runsInlineAndRecordsBlockingTime() {
+    val runner = SdkInitRunner(NETWORK_NAME, InitThreading.MAIN, queueingExecutor, clock)
+    var initialized = false
+
+    runner.run {
+      initialized = true
+      now += INIT_DURATION_MILLIS
+    }
+
+    assertThat(initialized).isTrue()
+    assertThat(pendingTasks).isEmpty()
+    assertThat(SdkInitRunner.getMainThreadBlockingMillis(NETWORK_NAME))
+      .isEqualTo(INIT_DURATION_MILLIS)
+  }
+
+  @Test
+  fun run_mainThreadContractFromBackgroundThread_runsInlineWithoutRecordingBlockingTime() {
+    val runner = SdkInitRunner(NETWORK_NAME, InitThreading.MAIN, queueingExecutor, clock)
+    var initLooper: Looper? = null
+    var initialized = false
+
+    val thread = Thread {
+      runner.run {
+        initLooper = Looper.myLooper()
+        initialized = true
+      }
+    }
+    thread.start()
+    thread.join()
+
+    assertThat(initialized).isTrue()
+    assertThat(initLooper).isNull()
+    assertThat(pendingTasks).isEmpty()
+    assertThat(SdkInitRunner.getMainThreadBlockingMillis(NETWORK_NAME)).isEqualTo(0L)
+  }
+
+  @Test
+  fun run_backgroundContract_handsInitToExecutorWithoutBlockingMainThread() {
+    val runner = SdkInitRunner(NETWORK_NAME, InitThreading.BACKGROUND, queueingExecutor, clock)
+    var initialized = false
+
+    runner.run {
+      initialized = true
+      now += INIT_DURATION_MILLIS
+    }
+
+    assertThat(initialized).isFalse()
+    assertThat(pendingTasks).hasSize(1)
+    pendingTasks.single().run()
+    assertThat(initialized).isTrue()
+    assertThat(SdkInitRunner.getMainThreadBlockingMillis()).containsExactly(NETWORK_NAME, 0L)
+  }
+
+  @Test
+  fun deliver_fromBackgroundThread_runsCallbackOnMainThread() {
+    val runner = SdkInitRunner(NETWORK_NAME, InitThreading.BACKGROUND, queueingExecutor, clock)
+    var callbackLooper: Looper? = null
+
+    val thread = Thread { runner.deliver { callbackLooper = Looper.myLooper() } }
+    thread.start()
+    thread.join()
+    assertThat(callbackLooper).isNull()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(callbackLooper).isEqualTo(Looper.getMainLooper())
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val INIT_DURATION_MILLIS = 120L
+  }
+}
@@ -0,0 +1,86 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.view.View
+import android.view.View.MeasureSpec
+import android.view.ViewGroup
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Unit tests for [SingleChildAdContainer]. */
+@RunWith(AndroidJUnit4::class)
+class SingleChildAdContainerTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val container = SingleChildAdContainer(context)
+
+  @Test
+  fun measure_withAdSize_measuresChildExactlyAtAdSize() {
+    val adView = View(context)
+    container.setAdSize(AD_WIDTH, AD_HEIGHT)
+    container.setAdView(adView)
+
+    measureAndLayout(PARENT_WIDTH, PARENT_HEIGHT)
+
+    assertThat(container.measuredWidth).isEqualTo(AD_WIDTH)
+    assertThat(container.measuredHeight).isEqualTo(AD_HEIGHT)
+    assertThat(adView.measuredWidth).isEqualTo(AD_WIDTH)
+    assertThat(adView.measuredHeight).isEqualTo(AD_HEIGHT)
+  }
+
+  @Test
+  fun layout_smallerChild_centersChild() {
+    val adView = View(context)
+    adView.layoutParams = ViewGroup.LayoutParams(AD_WIDTH, AD_HEIGHT)
+    container.setAdView(adView)
+
+    container.measure(exactly(PARENT_WIDTH), exactly(PARENT_HEIGHT))
+    container.layout(0, 0, PARENT_WIDTH, PARENT_HEIGHT)
+
+    assertThat(adView.left).isEqualTo((PARENT_WIDTH - AD_WIDTH) / 2)
+    assertThat(adView.top).isEqualTo((PARENT_HEIGHT - AD_HEIGHT) / 2)
+  }
+
+  @Test
+  fun setAdView_replacesPreviousAdView() {
+    val firstAdView = View(context)
+    val secondAdView = View(context)
+    container.setAdView(firstAdView)
+
+    container.setAdView(secondAdView)
+
+    assertThat(container.childCount).isEqualTo(1)
+    assertThat(container.getChildAt(0)).isSameInstanceAs(secondAdView)
+    assertThat(firstAdView.parent).isNull()
+  }
+
+  @Test
+  fun measureAndLayout_countsPasses() {
+    container.setAdSize(AD_WIDTH, AD_HEIGHT)
+    container.setAdView(View(context))
+
+    measureAndLayout(PARENT_WIDTH, PARENT_HEIGHT)
+
+    assertThat(container.measurePassCount).isEqualTo(1)
+    assertThat(container.layoutPassCount).isEqualTo(1)
+  }
+
+  private fun measureAndLayout(parentWidth: Int, parentHeight: Int) {
+    container.measure(atMost(parentWidth), atMost(parentHeight))
+    container.layout(0, 0, container.measuredWidth, container.measuredHeight)
+  }
+
+  private fun exactly(size: Int) = MeasureSpec.makeMeasureSpec(size, MeasureSpec.EXACTLY)
+
+  private fun atMost(size: Int) = MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST)
+
+  private companion object {
+    const val AD_WIDTH = 320
+    const val AD_HEIGHT = 50
+    const val PARENT_WIDTH = 1080
+    const val PARENT_HEIGHT = 400
+  }
+}
@@ -0,0 +1,156 @@
+package com.google.ads.mediation.common
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.TimeUnit
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Unit tests for [WarmBidTokenCache]. */
+@RunWith(AndroidJUnit4::class)
+class WarmBidTokenCacheTest {
+
+  private var now = 0L
+  private val fetcher = FakeFetcher()
+  private val tokens = mutableListOf<String>()
+  private val cache =
+    WarmBidTokenCache(NETWORK_NAME, TTL_MILLIS, ElapsedRealtimeClock { now }).apply {
+      setEnabled(true)
+    }
+
+  @Test
+  fun collect_coldSlot_collectsLiveTokenAndRefillsSlot() {
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+    now += LIVE_LATENCY_MILLIS
+    fetcher.complete("live")
+
+    assertThat(tokens).containsExactly("live")
+    assertThat(cache.liveCount).isEqualTo(1)
+    assertThat(cache.averageLiveLatencyMillis).isEqualTo(LIVE_LATENCY_MILLIS)
+    assertThat(cache.refreshCount).isEqualTo(1)
+    assertThat(fetcher.pending).hasSize(1)
+  }
+
+  @Test
+  fun collect_warmSlot_servesWarmTokenRightAwayAndRefillsSlot() {
+    warmUp("warm")
+
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+
+    assertThat(tokens).containsExactly("live", "warm").inOrder()
+    assertThat(cache.warmCount).isEqualTo(1)
+    assertThat(cache.averageWarmLatencyMillis).isEqualTo(0)
+    assertThat(fetcher.pending).hasSize(1)
+  }
+
+  @Test
+  fun collect_otherPlacement_doesNotServeWarmToken() {
+    warmUp("warm")
+
+    cache.collect(AD_FORMAT, "otherPlacement", PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+
+    assertThat(tokens).containsExactly("live")
+    assertThat(cache.warmCount).isEqualTo(0)
+  }
+
+  @Test
+  fun collect_warmTokenOlderThanTtl_collectsLiveToken() {
+    warmUp("warm")
+    now += TTL_MILLIS
+
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+
+    assertThat(cache.warmCount).isEqualTo(0)
+    assertThat(fetcher.pending).hasSize(1)
+  }
+
+  @Test
+  fun collect_afterInvalidate_collectsLiveToken() {
+    warmUp("warm")
+
+    cache.invalidate()
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+
+    assertThat(cache.warmCount).isEqualTo(0)
+    assertThat(fetcher.pending).hasSize(1)
+  }
+
+  @Test
+  fun collect_privacyStringsChanged_collectsLiveToken() {
+    warmUp("warm")
+
+    cache.collect(AD_FORMAT, PLACEMENT_ID, "otherPrivacyFingerprint", fetcher) { tokens.add(it) }
+    fetcher.complete("live2")
+
+    assertThat(tokens).containsExactly("live", "live2").inOrder()
+    assertThat(cache.warmCount).isEqualTo(0)
+  }
+
+  @Test
+  fun collect_byDefault_collectsLiveTokenWithoutRefilling() {
+    val defaultCache = WarmBidTokenCache(NETWORK_NAME, TTL_MILLIS, ElapsedRealtimeClock { now })
+
+    defaultCache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+    fetcher.complete("live")
+
+    assertThat(defaultCache.isEnabled()).isFalse()
+    assertThat(tokens).containsExactly("live")
+    assertThat(defaultCache.refreshCount).isEqualTo(0)
+  }
+
+  @Test
+  fun collect_whenDisabled_collectsLiveTokenWithoutRefilling() {
+    cache.setEnabled(false)
+
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+    fetcher.complete("live")
+
+    assertThat(tokens).containsExactly("live")
+    assertThat(cache.refreshCount).isEqualTo(0)
+  }
+
+  @Test
+  fun warmToken_reachingTtl_isReplacedUntilSlotGoesIdle() {
+    warmUp("warm")
+
+    repeat(WarmBidTokenCache.MAX_IDLE_REFRESHES + 1) {
+      now += TTL_MILLIS
+      shadowOf(Looper.getMainLooper()).idleFor(TTL_MILLIS, TimeUnit.MILLISECONDS)
+      fetcher.pending.removeFirstOrNull()?.onTokenCollected("refreshed")
+    }
+
+    assertThat(cache.expiredCount).isEqualTo(WarmBidTokenCache.MAX_IDLE_REFRESHES + 1L)
+    assertThat(cache.refreshCount).isEqualTo(WarmBidTokenCache.MAX_IDLE_REFRESHES + 1L)
+    assertThat(fetcher.pending).isEmpty()
+  }
+
+  /** Collects a live token, then completes the background refresh with [token]. */
+  private fun warmUp(token: String) {
+    cache.collect(AD_FORMAT, PLACEMENT_ID, PRIVACY_FINGERPRINT, fetcher) { tokens.add(it) }
+    fetcher.complete("live")
+    fetcher.complete(token)
+  }
+
+  private class FakeFetcher : WarmBidTokenCache.TokenFetcher {
+    val pending = ArrayDeque<WarmBidTokenCache.TokenCallback>()
+
+    override fun fetch(callback: WarmBidTokenCache.TokenCallback) {
+      pending.addLast(callback)
+    }
+
+    fun complete(token: String) {
+      pending.removeFirst().onTokenCollected(token)
+    }
+  }
+
+  private companion object {
+    const val NETWORK_NAME = "network"
+    const val AD_FORMAT = "banner"
+    const val PLACEMENT_ID = "placement"
+    const val PRIVACY_FINGERPRINT = "privacyFingerprint"
+    const val TTL_MILLIS = 60_000L
+    const val LIVE_LATENCY_MILLIS = 300L
+  }
+}
@@ -2,16 +2,14 @@ package com.google.ads.mediation.fyber
 
 import android.util.Log
 import android.view.View
-import android.widget.RelativeLayout
-import com.fyber.inneractive.sdk.external.InneractiveAdManager
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
 import com.fyber.inneractive.sdk.external.InneractiveAdSpotManager
 import com.fyber.inneractive.sdk.external.InneractiveAdViewEventsListener
 import com.fyber.inneractive.sdk.external.InneractiveAdViewUnitController
 import com.fyber.inneractive.sdk.external.InneractiveErrorCode
 import com.fyber.inneractive.sdk.external.InneractiveUnitController
+import com.google.ads.mediation.common.SingleChildAdContainer
 import com.google.android.gms.ads.AdError
-import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback
@@ -26,18 +24,17 @@ class DTExchangeBannerAd(
     MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
 ) : MediationBannerAd, InneractiveAdSpot.RequestListener, InneractiveAdViewEventsListener {
   private lateinit var adSpot: InneractiveAdSpot
-  private lateinit var wrapperView: RelativeLayout
+  private lateinit var wrapperView: SingleChildAdContainer
   private var bannerAdCallback: MediationBannerAdCallback? = null
 
   fun loadAd(mediationBannerAdConfiguration: MediationBannerAdConfiguration) {
-    InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME)
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString())
+    FyberInitializer.getInstance().setMediationInfo()
 
     val bidResponse = mediationBannerAdConfiguration.bidResponse
     adSpot = InneractiveAdSpotManager.get().createSpot()
     val controller = InneractiveAdViewUnitController()
     adSpot.addUnitController(controller)
-    wrapperView = RelativeLayout(mediationBannerAdConfiguration.context)
+    wrapperView = SingleChildAdContainer(mediationBannerAdConfiguration.context)
     adSpot.setRequestListener(this)
     controller.eventsListener = this
     FyberAdapterUtils.updateFyberExtraParams(mediationBannerAdConfiguration.mediationExtras)
@@ -74,6 +71,7 @@ class DTExchangeBannerAd(
     }
 
     controller.bindView(wrapperView)
+    wrapperView.setAdSize(controller.adContentWidth, controller.adContentHeight)
     bannerAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
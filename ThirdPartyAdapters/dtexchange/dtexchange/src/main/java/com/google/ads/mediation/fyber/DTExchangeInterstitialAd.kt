@@ -3,7 +3,6 @@ package com.google.ads.mediation.fyber
 import android.app.Activity
 import android.content.Context
 import android.util.Log
-import com.fyber.inneractive.sdk.external.InneractiveAdManager
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
 import com.fyber.inneractive.sdk.external.InneractiveAdSpotManager
 import com.fyber.inneractive.sdk.external.InneractiveErrorCode
@@ -11,7 +10,6 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListener
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController
 import com.fyber.inneractive.sdk.external.InneractiveUnitController
 import com.google.android.gms.ads.AdError
-import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -32,8 +30,7 @@ class DTExchangeInterstitialAd(
   private var interstitialAdCallback: MediationInterstitialAdCallback? = null
 
   fun loadAd(mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration) {
-    InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME)
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString())
+    FyberInitializer.getInstance().setMediationInfo()
 
     val bidResponse = mediationInterstitialAdConfiguration.bidResponse
     adSpot = InneractiveAdSpotManager.get().createSpot()
@@ -19,7 +19,6 @@ import android.net.Uri
 import android.util.Log
 import android.view.View
 import android.view.ViewGroup
-import com.fyber.inneractive.sdk.external.InneractiveAdManager
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
 import com.fyber.inneractive.sdk.external.InneractiveAdSpotManager
 import com.fyber.inneractive.sdk.external.InneractiveErrorCode
@@ -27,7 +26,6 @@ import com.fyber.inneractive.sdk.external.MediaView
 import com.fyber.inneractive.sdk.external.NativeAdContent
 import com.fyber.inneractive.sdk.external.NativeAdEventsListener
 import com.fyber.inneractive.sdk.external.VideoContentListener
-import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
@@ -44,8 +42,7 @@ class DTExchangeNativeAdMapper(
   private var adContent: NativeAdContent? = null
 
   fun loadAd(mediationNativeAdConfiguration: MediationNativeAdConfiguration) {
-    InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME)
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString())
+    FyberInitializer.getInstance().setMediationInfo()
 
     val bidResponse = mediationNativeAdConfiguration.bidResponse
 
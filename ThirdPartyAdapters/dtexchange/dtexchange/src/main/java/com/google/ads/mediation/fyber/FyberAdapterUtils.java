@@ -17,13 +17,21 @@ package com.google.ads.mediation.fyber;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.fyber.inneractive.sdk.external.InneractiveAdManager;
+import com.fyber.inneractive.sdk.external.InneractiveErrorCode;
 import com.fyber.inneractive.sdk.external.InneractiveMediationDefs;
 import com.fyber.inneractive.sdk.external.InneractiveUserConfig;
+import com.google.ads.mediation.common.LoadCircuitBreaker;
 
 /** Utility class for the DT Exchange adapter. */
 class FyberAdapterUtils {
 
+  /** Fails waterfall requests locally for spots that keep returning no-fill. */
+  @VisibleForTesting
+  static final LoadCircuitBreaker waterfallLoadCircuitBreaker =
+      new LoadCircuitBreaker(FyberMediationAdapter.NETWORK_NAME);
+
   /** Private constructor */
   private FyberAdapterUtils() {}
 
@@ -59,4 +67,20 @@ class FyberAdapterUtils {
       InneractiveAdManager.setMuteVideo(muteState);
     }
   }
+
+  /**
+   * Records the outcome of a failed waterfall ad request with {@link
+   * #waterfallLoadCircuitBreaker}.
+   *
+   * @param spotId the DT Exchange spot ID
+   * @param errorCode the reason the ad request failed
+   */
+  static void onWaterfallLoadFailed(
+      @NonNull String spotId, @NonNull InneractiveErrorCode errorCode) {
+    if (errorCode == InneractiveErrorCode.NO_FILL) {
+      waterfallLoadCircuitBreaker.onNoFill(spotId);
+    } else {
+      waterfallLoadCircuitBreaker.onLoadFailed(spotId);
+    }
+  }
 }
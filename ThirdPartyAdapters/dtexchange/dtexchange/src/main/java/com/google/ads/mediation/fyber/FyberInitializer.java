@@ -0,0 +1,135 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.ads.mediation.fyber;
+
+import static com.google.ads.mediation.fyber.FyberMediationAdapter.TAG;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.fyber.inneractive.sdk.external.InneractiveAdManager;
+import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener.FyberInitStatus;
+import com.google.ads.mediation.common.SdkInitRunner;
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading;
+import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.MobileAds;
+import java.util.ArrayList;
+
+/**
+ * The single initialization gate of the DT Exchange SDK for all ad formats.
+ *
+ * <p>The mediation name and version are set once. Once {@link FyberSdkWrapper} reports the SDK as
+ * initialized, later requests complete synchronously without calling into the SDK, and requests
+ * made while an initialization is in flight wait for it instead of starting another one.
+ */
+class FyberInitializer {
+
+  private static FyberInitializer instance;
+
+  private boolean isMediationInfoSet = false;
+  private boolean isInitializing = false;
+  private final ArrayList<Listener> initListeners = new ArrayList<>();
+
+  /**
+   * The DT Exchange integration guide requires InneractiveAdManager.initialize() to be called on
+   * the main thread, from the Application or the launcher Activity.
+   */
+  private final SdkInitRunner sdkInitRunner =
+      new SdkInitRunner(FyberMediationAdapter.NETWORK_NAME, InitThreading.MAIN);
+
+  static synchronized FyberInitializer getInstance() {
+    if (instance == null) {
+      instance = new FyberInitializer();
+    }
+    return instance;
+  }
+
+  /** Sets the mediation name and version of the DT Exchange SDK, if not set yet. */
+  synchronized void setMediationInfo() {
+    if (isMediationInfoSet) {
+      return;
+    }
+    InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME);
+    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString());
+    isMediationInfoSet = true;
+  }
+
+  /**
+   * Initializes the DT Exchange SDK with the given app ID, unless it is already initialized or
+   * initializing, and notifies the listener of the outcome.
+   */
+  void initialize(
+      @NonNull Context context, @NonNull String appId, @NonNull final Listener listener) {
+    setMediationInfo();
+    if (FyberSdkWrapper.getDelegate().isInitialized()) {
+      listener.onInitializationSucceeded();
+      return;
+    }
+
+    synchronized (this) {
+      initListeners.add(listener);
+      if (isInitializing) {
+        return;
+      }
+      isInitializing = true;
+    }
+    sdkInitRunner.run(
+        () ->
+            InneractiveAdManager.initialize(context, appId, this::onFyberMarketplaceInitialized));
+  }
+
+  private void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
+    ArrayList<Listener> listeners;
+    synchronized (this) {
+      isInitializing = false;
+      listeners = new ArrayList<>(initListeners);
+      initListeners.clear();
+    }
+
+    if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
+      AdError error = DTExchangeErrorCodes.getAdError(fyberInitStatus);
+      Log.w(TAG, error.getMessage());
+      for (Listener listener : listeners) {
+        listener.onInitializationFailed(error);
+      }
+      return;
+    }
+    for (Listener listener : listeners) {
+      listener.onInitializationSucceeded();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void reset() {
+    isMediationInfoSet = false;
+    isInitializing = false;
+    initListeners.clear();
+  }
+
+  interface Listener {
+
+    /** Called when the DT Exchange SDK is initialized. */
+    void onInitializationSucceeded();
+
+    /**
+     * Called when the DT Exchange SDK fails to initialize.
+     *
+     * @param error the initialization error.
+     */
+    void onInitializationFailed(@NonNull AdError error);
+  }
+}
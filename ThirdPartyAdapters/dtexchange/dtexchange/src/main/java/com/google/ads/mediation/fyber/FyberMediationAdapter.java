@@ -20,12 +20,9 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
-import android.view.ViewGroup;
-import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.fyber.inneractive.sdk.external.BidTokenProvider;
-import com.fyber.inneractive.sdk.external.InneractiveAdManager;
 import com.fyber.inneractive.sdk.external.InneractiveAdRequest;
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot;
 import com.fyber.inneractive.sdk.external.InneractiveAdSpotManager;
@@ -38,11 +35,12 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListenerA
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController;
 import com.fyber.inneractive.sdk.external.InneractiveMediationName;
 import com.fyber.inneractive.sdk.external.InneractiveUnitController;
-import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener;
+import com.google.ads.mediation.common.AdLeakTracker;
+import com.google.ads.mediation.common.LoadWatchdog;
+import com.google.ads.mediation.common.SingleChildAdContainer;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
-import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -85,6 +83,9 @@ public class FyberMediationAdapter extends RtbAdapter
   /** Adapter class name for logging. */
   static final String TAG = FyberMediationAdapter.class.getSimpleName();
 
+  /** Network name used by the common adapter components. */
+  static final String NETWORK_NAME = "DT Exchange";
+
   /** DT Exchange requires to know the host mediation platform. */
   protected static final InneractiveMediationName MEDIATOR_NAME = InneractiveMediationName.ADMOB;
 
@@ -104,7 +105,10 @@ public class FyberMediationAdapter extends RtbAdapter
   private InneractiveAdSpot bannerSpot;
 
   /** A wrapper view for the DT Exchange banner view. */
-  private ViewGroup bannerWrapperView;
+  private SingleChildAdContainer bannerWrapperView;
+
+  /** Watches the banner request so that it fails if DT Exchange never responds. */
+  private LoadWatchdog.WatchedLoad bannerLoadWatch;
 
   /** AdMob's external Banner listener. */
   private MediationBannerListener mediationBannerListener;
@@ -151,24 +155,22 @@ public class FyberMediationAdapter extends RtbAdapter
       return;
     }
 
-    InneractiveAdManager.setMediationName(MEDIATOR_NAME);
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString());
-    InneractiveAdManager.initialize(
-        configuration.getContext(),
-        keyAppID,
-        new OnFyberMarketplaceInitializedListener() {
-          @Override
-          public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
-            if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
-              AdError error = DTExchangeErrorCodes.getAdError(fyberInitStatus);
-              Log.w(TAG, error.getMessage());
-              callback.onFailure(error);
-              return;
-            }
-            rewardedRenderer = new FyberRewardedVideoRenderer(callback);
-            rewardedRenderer.loadWaterfallAd(configuration);
-          }
-        });
+    FyberInitializer.getInstance()
+        .initialize(
+            configuration.getContext(),
+            keyAppID,
+            new FyberInitializer.Listener() {
+              @Override
+              public void onInitializationSucceeded() {
+                rewardedRenderer = new FyberRewardedVideoRenderer(callback);
+                rewardedRenderer.loadWaterfallAd(configuration);
+              }
+
+              @Override
+              public void onInitializationFailed(@NonNull AdError error) {
+                callback.onFailure(error);
+              }
+            });
   }
 
   @Override
@@ -212,21 +214,21 @@ public class FyberMediationAdapter extends RtbAdapter
       Log.w(TAG, logMessage);
     }
 
-    InneractiveAdManager.initialize(
-        context,
-        appIdForInitialization,
-        new OnFyberMarketplaceInitializedListener() {
-          @Override
-          public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
-            if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
-              AdError error = DTExchangeErrorCodes.getAdError(fyberInitStatus);
-              Log.w(TAG, error.getMessage());
-              completionCallback.onInitializationFailed(error.getMessage());
-              return;
-            }
-            completionCallback.onInitializationSucceeded();
-          }
-        });
+    FyberInitializer.getInstance()
+        .initialize(
+            context,
+            appIdForInitialization,
+            new FyberInitializer.Listener() {
+              @Override
+              public void onInitializationSucceeded() {
+                completionCallback.onInitializationSucceeded();
+              }
+
+              @Override
+              public void onInitializationFailed(@NonNull AdError error) {
+                completionCallback.onInitializationFailed(error.getMessage());
+              }
+            });
   }
 
   @Override
@@ -300,54 +302,73 @@ public class FyberMediationAdapter extends RtbAdapter
       return;
     }
 
-    InneractiveAdManager.setMediationName(MEDIATOR_NAME);
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString());
-    InneractiveAdManager.initialize(
-        context,
-        keyAppId,
-        new OnFyberMarketplaceInitializedListener() {
-          @Override
-          public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
-            if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
-              AdError error = DTExchangeErrorCodes.getAdError(fyberInitStatus);
-              Log.w(TAG, error.getMessage());
-              FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
-                  FyberMediationAdapter.this, error);
-              return;
-            }
-
-            // Check that we got a valid Spot ID from the server.
-            String spotId = serverParameters.getString(FyberMediationAdapter.KEY_SPOT_ID);
-            if (TextUtils.isEmpty(spotId)) {
-              AdError error =
-                  new AdError(
-                      DTExchangeErrorCodes.ERROR_INVALID_SERVER_PARAMETERS,
-                      "Cannot render banner ad. Please define a valid spot id on the AdMob UI.",
-                      DTExchangeErrorCodes.ERROR_DOMAIN);
-              Log.w(TAG, error.getMessage());
-              FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
-                  FyberMediationAdapter.this, error);
-              return;
-            }
-
-            bannerSpot = InneractiveAdSpotManager.get().createSpot();
-
-            InneractiveAdViewUnitController controller = new InneractiveAdViewUnitController();
-            bannerSpot.addUnitController(controller);
-
-            // Prepare wrapper view before making request.
-            bannerWrapperView = new RelativeLayout(context);
-
-            InneractiveAdSpot.RequestListener requestListener = createFyberBannerAdListener();
-            bannerSpot.setRequestListener(requestListener);
-
-            requestedAdSize = adSize;
-
-            FyberAdapterUtils.updateFyberExtraParams(mediationExtras);
-            InneractiveAdRequest request = new InneractiveAdRequest(spotId);
-            bannerSpot.requestAd(request);
-          }
-        });
+    FyberInitializer.getInstance()
+        .initialize(
+            context,
+            keyAppId,
+            new FyberInitializer.Listener() {
+              @Override
+              public void onInitializationSucceeded() {
+                // Check that we got a valid Spot ID from the server.
+                String spotId = serverParameters.getString(FyberMediationAdapter.KEY_SPOT_ID);
+                if (TextUtils.isEmpty(spotId)) {
+                  AdError error =
+                      new AdError(
+                          DTExchangeErrorCodes.ERROR_INVALID_SERVER_PARAMETERS,
+                          "Cannot render banner ad. Please define a valid spot id on the AdMob UI.",
+                          DTExchangeErrorCodes.ERROR_DOMAIN);
+                  Log.w(TAG, error.getMessage());
+                  FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
+                      FyberMediationAdapter.this, error);
+                  return;
+                }
+
+                // Skip spots that keep returning no-fill.
+                AdError suppressedError =
+                    FyberAdapterUtils.waterfallLoadCircuitBreaker.checkLoad(spotId);
+                if (suppressedError != null) {
+                  Log.w(TAG, suppressedError.getMessage());
+                  FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
+                      FyberMediationAdapter.this, suppressedError);
+                  return;
+                }
+
+                bannerSpot = InneractiveAdSpotManager.get().createSpot();
+                AdLeakTracker.register(FyberMediationAdapter.this, NETWORK_NAME, "banner");
+
+                InneractiveAdViewUnitController controller = new InneractiveAdViewUnitController();
+                bannerSpot.addUnitController(controller);
+
+                // Prepare wrapper view before making request.
+                bannerWrapperView = new SingleChildAdContainer(context);
+
+                InneractiveAdSpot.RequestListener requestListener =
+                    createFyberBannerAdListener(spotId);
+                bannerSpot.setRequestListener(requestListener);
+
+                requestedAdSize = adSize;
+
+                FyberAdapterUtils.updateFyberExtraParams(mediationExtras);
+                InneractiveAdRequest request = new InneractiveAdRequest(spotId);
+                bannerLoadWatch =
+                    LoadWatchdog.watch(
+                        NETWORK_NAME,
+                        error -> {
+                          // Release a pending circuit breaker probe, since the SDK never
+                          // answered it.
+                          FyberAdapterUtils.waterfallLoadCircuitBreaker.onLoadFailed(spotId);
+                          FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
+                              FyberMediationAdapter.this, error);
+                        });
+                bannerSpot.requestAd(request);
+              }
+
+              @Override
+              public void onInitializationFailed(@NonNull AdError error) {
+                FyberMediationAdapter.this.mediationBannerListener.onAdFailedToLoad(
+                    FyberMediationAdapter.this, error);
+              }
+            });
   }
 
   @NonNull
@@ -358,6 +379,13 @@ public class FyberMediationAdapter extends RtbAdapter
 
   @Override
   public void onDestroy() {
+    AdLeakTracker.release(this);
+
+    if (bannerLoadWatch != null) {
+      bannerLoadWatch.cancel();
+      bannerLoadWatch = null;
+    }
+
     if (bannerSpot != null) {
       bannerSpot.destroy();
       bannerSpot = null;
@@ -389,16 +417,31 @@ public class FyberMediationAdapter extends RtbAdapter
     // No relevant action. Refresh is disabled for banners.
   }
 
+  /**
+   * Marks the banner request as answered.
+   *
+   * @return false if the request already timed out and the answer must be dropped.
+   */
+  private boolean completeBannerLoad() {
+    return bannerLoadWatch == null || bannerLoadWatch.complete();
+  }
+
   /**
    * Creates DT Exchange's banner ad request listener.
    *
+   * @param spotId the requested spot ID.
    * @return the created request listener.
    */
   @NonNull
-  private InneractiveAdSpot.RequestListener createFyberBannerAdListener() {
+  private InneractiveAdSpot.RequestListener createFyberBannerAdListener(
+      @NonNull final String spotId) {
     return new InneractiveAdSpot.RequestListener() {
       @Override
       public void onInneractiveSuccessfulAdRequest(InneractiveAdSpot adSpot) {
+        FyberAdapterUtils.waterfallLoadCircuitBreaker.onLoadSucceeded(spotId);
+        if (!completeBannerLoad()) {
+          return;
+        }
         // Just a double check that we have the right type of selected controller.
         if (!(bannerSpot.getSelectedUnitController() instanceof InneractiveAdViewUnitController)) {
           String message =
@@ -449,12 +492,21 @@ public class FyberMediationAdapter extends RtbAdapter
           mediationBannerListener.onAdFailedToLoad(FyberMediationAdapter.this, error);
           return;
         }
+        bannerWrapperView.setAdSize(
+            controller.getAdContentWidth(), controller.getAdContentHeight());
         mediationBannerListener.onAdLoaded(FyberMediationAdapter.this);
       }
 
       @Override
       public void onInneractiveFailedAdRequest(
           InneractiveAdSpot adSpot, InneractiveErrorCode inneractiveErrorCode) {
+        FyberAdapterUtils.onWaterfallLoadFailed(spotId, inneractiveErrorCode);
+        if (!completeBannerLoad()) {
+          if (adSpot != null) {
+            adSpot.destroy();
+          }
+          return;
+        }
         AdError error = DTExchangeErrorCodes.getAdError(inneractiveErrorCode);
         Log.w(TAG, error.getMessage());
         mediationBannerListener.onAdFailedToLoad(FyberMediationAdapter.this, error);
@@ -519,69 +571,78 @@ public class FyberMediationAdapter extends RtbAdapter
       return;
     }
 
-    InneractiveAdManager.setMediationName(MEDIATOR_NAME);
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString());
-    InneractiveAdManager.initialize(
-        context,
-        keyAppId,
-        new OnFyberMarketplaceInitializedListener() {
-          @Override
-          public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
-            if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
-              AdError error = DTExchangeErrorCodes.getAdError(fyberInitStatus);
-              Log.w(TAG, error.getMessage());
-              FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
-                  FyberMediationAdapter.this, error);
-              return;
-            }
-
-            // Check that we got a valid spot id from the server.
-            String spotId = serverParameters.getString(FyberMediationAdapter.KEY_SPOT_ID);
-            if (TextUtils.isEmpty(spotId)) {
-              AdError error =
-                  new AdError(
-                      DTExchangeErrorCodes.ERROR_INVALID_SERVER_PARAMETERS,
-                      "Cannot render interstitial ad. Please define a valid spot id on the AdMob"
-                          + " UI.",
-                      DTExchangeErrorCodes.ERROR_DOMAIN);
-              Log.w(TAG, error.getMessage());
-              FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
-                  FyberMediationAdapter.this, error);
-              return;
-            }
-
-            // We need an activity context to show interstitial ads.
-            if (!(context instanceof Activity)) {
-              AdError error =
-                  new AdError(
-                      DTExchangeErrorCodes.ERROR_CONTEXT_NOT_ACTIVITY_INSTANCE,
-                      "Cannot request an interstitial ad without an activity context.",
-                      DTExchangeErrorCodes.ERROR_DOMAIN);
-              Log.w(TAG, error.getMessage());
-              if (FyberMediationAdapter.this.mediationInterstitialListener != null) {
+    FyberInitializer.getInstance()
+        .initialize(
+            context,
+            keyAppId,
+            new FyberInitializer.Listener() {
+              @Override
+              public void onInitializationSucceeded() {
+                // Check that we got a valid spot id from the server.
+                String spotId = serverParameters.getString(FyberMediationAdapter.KEY_SPOT_ID);
+                if (TextUtils.isEmpty(spotId)) {
+                  AdError error =
+                      new AdError(
+                          DTExchangeErrorCodes.ERROR_INVALID_SERVER_PARAMETERS,
+                          "Cannot render interstitial ad. Please define a valid spot id on the"
+                              + " AdMob UI.",
+                          DTExchangeErrorCodes.ERROR_DOMAIN);
+                  Log.w(TAG, error.getMessage());
+                  FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
+                      FyberMediationAdapter.this, error);
+                  return;
+                }
+
+                // We need an activity context to show interstitial ads.
+                if (!(context instanceof Activity)) {
+                  AdError error =
+                      new AdError(
+                          DTExchangeErrorCodes.ERROR_CONTEXT_NOT_ACTIVITY_INSTANCE,
+                          "Cannot request an interstitial ad without an activity context.",
+                          DTExchangeErrorCodes.ERROR_DOMAIN);
+                  Log.w(TAG, error.getMessage());
+                  if (FyberMediationAdapter.this.mediationInterstitialListener != null) {
+                    FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
+                        FyberMediationAdapter.this, error);
+                  }
+                  return;
+                }
+
+                // Skip spots that keep returning no-fill.
+                AdError suppressedError =
+                    FyberAdapterUtils.waterfallLoadCircuitBreaker.checkLoad(spotId);
+                if (suppressedError != null) {
+                  Log.w(TAG, suppressedError.getMessage());
+                  FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
+                      FyberMediationAdapter.this, suppressedError);
+                  return;
+                }
+
+                // Cache the context for showInterstitial.
+                interstitialActivityRef = new WeakReference<>((Activity) context);
+                AdLeakTracker.register(FyberMediationAdapter.this, NETWORK_NAME, "interstitial");
+
+                interstitialSpot = InneractiveAdSpotManager.get().createSpot();
+
+                InneractiveFullscreenUnitController controller =
+                    new InneractiveFullscreenUnitController();
+                interstitialSpot.addUnitController(controller);
+
+                InneractiveAdSpot.RequestListener requestListener =
+                    createFyberInterstitialAdListener(spotId);
+                interstitialSpot.setRequestListener(requestListener);
+
+                FyberAdapterUtils.updateFyberExtraParams(mediationExtras);
+                InneractiveAdRequest request = new InneractiveAdRequest(spotId);
+                interstitialSpot.requestAd(request);
+              }
+
+              @Override
+              public void onInitializationFailed(@NonNull AdError error) {
                 FyberMediationAdapter.this.mediationInterstitialListener.onAdFailedToLoad(
                     FyberMediationAdapter.this, error);
               }
-              return;
-            }
-
-            // Cache the context for showInterstitial.
-            interstitialActivityRef = new WeakReference<>((Activity) context);
-
-            interstitialSpot = InneractiveAdSpotManager.get().createSpot();
-
-            InneractiveFullscreenUnitController controller =
-                new InneractiveFullscreenUnitController();
-            interstitialSpot.addUnitController(controller);
-
-            InneractiveAdSpot.RequestListener requestListener = createFyberInterstitialAdListener();
-            interstitialSpot.setRequestListener(requestListener);
-
-            FyberAdapterUtils.updateFyberExtraParams(mediationExtras);
-            InneractiveAdRequest request = new InneractiveAdRequest(spotId);
-            interstitialSpot.requestAd(request);
-          }
-        });
+            });
   }
 
   @Override
@@ -614,10 +675,12 @@ public class FyberMediationAdapter extends RtbAdapter
   }
 
   @NonNull
-  private InneractiveAdSpot.RequestListener createFyberInterstitialAdListener() {
+  private InneractiveAdSpot.RequestListener createFyberInterstitialAdListener(
+      @NonNull final String spotId) {
     return new InneractiveAdSpot.RequestListener() {
       @Override
       public void onInneractiveSuccessfulAdRequest(InneractiveAdSpot adSpot) {
+        FyberAdapterUtils.waterfallLoadCircuitBreaker.onLoadSucceeded(spotId);
         if (!(interstitialSpot.getSelectedUnitController()
             instanceof InneractiveFullscreenUnitController)) {
           String message =
@@ -646,6 +709,7 @@ public class FyberMediationAdapter extends RtbAdapter
       @Override
       public void onInneractiveFailedAdRequest(
           InneractiveAdSpot adSpot, InneractiveErrorCode inneractiveErrorCode) {
+        FyberAdapterUtils.onWaterfallLoadFailed(spotId, inneractiveErrorCode);
         // Convert DT Exchange error code into custom error code
         AdError error = DTExchangeErrorCodes.getAdError(inneractiveErrorCode);
         Log.w(TAG, error.getMessage());
@@ -707,8 +771,7 @@ public class FyberMediationAdapter extends RtbAdapter
       @NonNull MediationRewardedAdConfiguration adConfiguration,
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
     rewardedRenderer = new FyberRewardedVideoRenderer(callback);
-    InneractiveAdManager.setMediationName(MEDIATOR_NAME);
-    InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString());
+    FyberInitializer.getInstance().setMediationInfo();
     rewardedRenderer.loadRtbAd(adConfiguration);
   }
 
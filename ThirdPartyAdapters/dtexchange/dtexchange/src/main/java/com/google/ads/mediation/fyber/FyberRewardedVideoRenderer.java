@@ -54,6 +54,9 @@ public class FyberRewardedVideoRenderer
 
   private InneractiveFullscreenUnitController unitController;
 
+  /** Spot ID of a waterfall request, or {@code null} for a bidding request. */
+  private String waterfallSpotId;
+
   /**
    * Constructor.
    *
@@ -81,6 +84,15 @@ public class FyberRewardedVideoRenderer
       return;
     }
 
+    // Skip spots that keep returning no-fill.
+    AdError suppressedError = FyberAdapterUtils.waterfallLoadCircuitBreaker.checkLoad(spotId);
+    if (suppressedError != null) {
+      Log.w(TAG, suppressedError.getMessage());
+      adLoadCallback.onFailure(suppressedError);
+      return;
+    }
+    waterfallSpotId = spotId;
+
     initializeFyberClasses(adConfiguration);
 
     InneractiveAdRequest request = new InneractiveAdRequest(spotId);
@@ -162,6 +174,9 @@ public class FyberRewardedVideoRenderer
   // region Fyber's RequestListener implementation
   @Override
   public void onInneractiveSuccessfulAdRequest(@NonNull InneractiveAdSpot adSpot) {
+    if (waterfallSpotId != null) {
+      FyberAdapterUtils.waterfallLoadCircuitBreaker.onLoadSucceeded(waterfallSpotId);
+    }
     // Report load success to AdMob, and cache the returned callback for a later use
     rewardedAdCallback = adLoadCallback.onSuccess(FyberRewardedVideoRenderer.this);
     registerFyberAdListeners();
@@ -170,6 +185,9 @@ public class FyberRewardedVideoRenderer
   @Override
   public void onInneractiveFailedAdRequest(
       @NonNull InneractiveAdSpot adSpot, @NonNull InneractiveErrorCode errorCode) {
+    if (waterfallSpotId != null) {
+      FyberAdapterUtils.onWaterfallLoadFailed(waterfallSpotId, errorCode);
+    }
     AdError error = DTExchangeErrorCodes.getAdError(errorCode);
     Log.w(TAG, error.getMessage());
     adLoadCallback.onFailure(error);
@@ -1,7 +1,6 @@
 package com.google.ads.mediation.fyber
 
 import android.content.Context
-import android.widget.RelativeLayout
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
@@ -11,6 +10,7 @@ import com.fyber.inneractive.sdk.external.InneractiveErrorCode
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfiguration
+import com.google.ads.mediation.common.SingleChildAdContainer
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
@@ -113,9 +113,9 @@ class DTExchangeBannerAdTest {
       dtExchangeBannerAd.onInneractiveSuccessfulAdRequest(mock())
       val bannerView = dtExchangeBannerAd.view
 
-      verify(mockAdViewController).bindView(any<RelativeLayout>())
+      verify(mockAdViewController).bindView(any<SingleChildAdContainer>())
       verify(mockAdLoadCallback).onSuccess(eq(dtExchangeBannerAd))
-      assertThat(bannerView).isInstanceOf(RelativeLayout::class.java)
+      assertThat(bannerView).isInstanceOf(SingleChildAdContainer::class.java)
     }
   }
 
@@ -101,6 +101,8 @@ class FyberMediationAdapterTest {
     adapter = FyberMediationAdapter()
     mockInneractiveAdManager = mockStatic(InneractiveAdManager::class.java)
     FyberSdkWrapper.delegate = mockSdkWrapper
+    FyberInitializer.getInstance().reset()
+    FyberAdapterUtils.waterfallLoadCircuitBreaker.reset()
   }
 
   @After
@@ -384,6 +386,56 @@ class FyberMediationAdapterTest {
     // TODO: Verify if render() is called on on fyberRewardedVideoRenderer class.
   }
 
+  @Test
+  fun loadRewardedAd_whileInitializing_initializesOnceAndNotifiesEachLoad() {
+    val rewardedAdParameters =
+      createMediationRewardedAdConfiguration(
+        context = activity,
+        serverParameters = serverParameters,
+      )
+    val secondRewardedAdLoadCallback =
+      mock<MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>>()
+
+    val listener = argumentCaptor<OnFyberMarketplaceInitializedListener>()
+    adapter.loadRewardedAd(rewardedAdParameters, mockRewardedAdLoadCallback)
+    FyberMediationAdapter().loadRewardedAd(rewardedAdParameters, secondRewardedAdLoadCallback)
+
+    mockInneractiveAdManager.verify(
+      {
+        InneractiveAdManager.initialize(
+          eq(activity),
+          eq(AdapterTestKitConstants.TEST_APP_ID),
+          listener.capture(),
+        )
+      },
+      times(1),
+    )
+    mockInneractiveAdManager.verify(
+      { InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME) },
+      times(1),
+    )
+    listener.firstValue.onFyberMarketplaceInitialized(FyberInitStatus.FAILED)
+    verify(mockRewardedAdLoadCallback).onFailure(any())
+    verify(secondRewardedAdLoadCallback).onFailure(any())
+  }
+
+  @Test
+  fun loadRewardedAd_whenAlreadyInitialized_doesNotInitializeInneractiveAdManager() {
+    whenever(mockSdkWrapper.isInitialized()) doReturn true
+    val rewardedAdParameters =
+      createMediationRewardedAdConfiguration(
+        context = activity,
+        serverParameters = serverParameters,
+      )
+
+    adapter.loadRewardedAd(rewardedAdParameters, mockRewardedAdLoadCallback)
+
+    mockInneractiveAdManager.verify(
+      { InneractiveAdManager.initialize(any(), any(), any()) },
+      never(),
+    )
+  }
+
   @Test
   fun loadRewardedAd_whenEmptyAppId_invokesOnFailure() {
     val invalidServerParameters = bundleOf(FyberMediationAdapter.KEY_APP_ID to "")
@@ -25,6 +25,8 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenVideoContentContr
 import com.fyber.inneractive.sdk.external.InneractiveUnitController.AdDisplayError
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.CommonAdErrors
+import com.google.ads.mediation.common.LoadCircuitBreaker
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
@@ -38,6 +40,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
@@ -69,6 +72,7 @@ class FyberRewardedVideoRendererTest {
   @Before
   fun setUp() {
     fyberRewardedAd = FyberRewardedVideoRenderer(mockAdLoadCallback)
+    FyberAdapterUtils.waterfallLoadCircuitBreaker.reset()
   }
 
   // endregion
@@ -128,6 +132,29 @@ class FyberRewardedVideoRendererTest {
     assertThat(capturedError.domain).isEqualTo(DTExchangeErrorCodes.ERROR_DOMAIN)
   }
 
+  @Test
+  fun loadWaterfallAd_afterConsecutiveNoFills_failsWithoutRequestingAd() {
+    repeat(LoadCircuitBreaker.DEFAULT_NO_FILL_THRESHOLD) {
+      FyberAdapterUtils.onWaterfallLoadFailed(
+        AdapterTestKitConstants.TEST_AD_UNIT,
+        InneractiveErrorCode.NO_FILL,
+      )
+    }
+
+    Mockito.mockStatic(FyberFactory::class.java).use {
+      whenever(FyberFactory.createRewardedAdSpot()).doReturn(mockRewardedAdSpot)
+
+      fyberRewardedAd.loadWaterfallAd(adConfiguration)
+
+      val adErrorCaptor = argumentCaptor<AdError>()
+      verify(mockAdLoadCallback).onFailure(adErrorCaptor.capture())
+      val capturedError = adErrorCaptor.firstValue
+      assertThat(capturedError.code).isEqualTo(CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS)
+      assertThat(capturedError.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+      verify(mockRewardedAdSpot, never()).requestAd(any())
+    }
+  }
+
   // endregion
 
   // region Show Ad Tests
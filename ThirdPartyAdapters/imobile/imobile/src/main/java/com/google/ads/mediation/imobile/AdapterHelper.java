@@ -17,6 +17,9 @@ package com.google.ads.mediation.imobile;
 import static com.google.ads.mediation.imobile.IMobileMediationAdapter.IMOBILE_SDK_ERROR_DOMAIN;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.LoadCircuitBreaker;
 import com.google.android.gms.ads.AdError;
 import jp.co.imobile.sdkads.android.FailNotificationReason;
 
@@ -25,6 +28,64 @@ import jp.co.imobile.sdkads.android.FailNotificationReason;
  */
 public final class AdapterHelper {
 
+  /**
+   * Fails requests locally for spots that keep returning {@link
+   * FailNotificationReason#NOT_DELIVERY_AD}.
+   */
+  @VisibleForTesting
+  static final LoadCircuitBreaker loadCircuitBreaker = new LoadCircuitBreaker("i-mobile");
+
+  /**
+   * Checks whether an ad request for the given spot should be sent to the i-mobile SDK.
+   *
+   * @param spotId i-mobile spot ID
+   * @return {@code null} if the request may proceed, or the error to fail the request with
+   */
+  @Nullable
+  static AdError checkLoad(@Nullable String spotId) {
+    return spotId == null ? null : loadCircuitBreaker.checkLoad(spotId);
+  }
+
+  /**
+   * Records a successful ad request for the given spot.
+   *
+   * @param spotId i-mobile spot ID
+   */
+  static void onLoadSucceeded(@Nullable String spotId) {
+    if (spotId != null) {
+      loadCircuitBreaker.onLoadSucceeded(spotId);
+    }
+  }
+
+  /**
+   * Records a failed ad request for the given spot.
+   *
+   * @param spotId i-mobile spot ID
+   * @param reason i-mobile fail reason
+   */
+  static void onLoadFailed(@Nullable String spotId, FailNotificationReason reason) {
+    if (spotId == null) {
+      return;
+    }
+    if (reason == FailNotificationReason.NOT_DELIVERY_AD) {
+      loadCircuitBreaker.onNoFill(spotId);
+    } else {
+      loadCircuitBreaker.onLoadFailed(spotId);
+    }
+  }
+
+  /**
+   * Records an ad request for the given spot that i-mobile did not answer in time. It counts as a
+   * failure other than no-fill, which releases a pending circuit breaker probe.
+   *
+   * @param spotId i-mobile spot ID
+   */
+  static void onLoadTimedOut(@Nullable String spotId) {
+    if (spotId != null) {
+      loadCircuitBreaker.onLoadFailed(spotId);
+    }
+  }
+
   /**
    * Convert i-mobile fail reason to error code.
    *
@@ -27,6 +27,7 @@ import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
@@ -106,6 +107,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
 
     // Initialize fields.
     mediationBannerListener = listener;
+    AdLeakTracker.register(this, "i-mobile", "banner");
 
     // Get parameters for i-mobile SDK.
     String publisherId = serverParameters.getString(Constants.KEY_PUBLISHER_ID);
@@ -114,6 +116,14 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
 
     Activity activity = (Activity) context;
 
+    // Skip spots that keep returning no-fill.
+    AdError suppressedError = AdapterHelper.checkLoad(spotId);
+    if (suppressedError != null) {
+      Log.w(TAG, suppressedError.getMessage());
+      listener.onAdFailedToLoad(this, suppressedError);
+      return;
+    }
+
     // Call i-mobile SDK.
     Log.d(TAG, "Requesting banner with ad size: " + adSize);
     ImobileSdkAd.registerSpotInline(activity, publisherId, mediaId, spotId);
@@ -123,6 +133,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
         new ImobileSdkAdListener() {
           @Override
           public void onAdReadyCompleted() {
+            AdapterHelper.onLoadSucceeded(spotId);
             if (mediationBannerListener != null) {
               mediationBannerListener.onAdLoaded(IMobileAdapter.this);
             }
@@ -146,6 +157,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
 
           @Override
           public void onFailed(FailNotificationReason reason) {
+            AdapterHelper.onLoadFailed(spotId, reason);
             AdError error = AdapterHelper.getAdError(reason);
             Log.w(TAG, error.getMessage());
             if (mediationBannerListener != null) {
@@ -217,6 +229,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
       return;
     }
     interstitialActivity = (Activity) context;
+    AdLeakTracker.register(this, "i-mobile", "interstitial");
 
     // Initialize fields.
     mediationInterstitialListener = listener;
@@ -225,6 +238,15 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
     String publisherId = serverParameters.getString(Constants.KEY_PUBLISHER_ID);
     String mediaId = serverParameters.getString(Constants.KEY_MEDIA_ID);
     interstitialSpotId = serverParameters.getString(Constants.KEY_SPOT_ID);
+    final String spotId = interstitialSpotId;
+
+    // Skip spots that keep returning no-fill.
+    AdError suppressedError = AdapterHelper.checkLoad(spotId);
+    if (suppressedError != null) {
+      Log.w(TAG, suppressedError.getMessage());
+      listener.onAdFailedToLoad(this, suppressedError);
+      return;
+    }
 
     // Call i-mobile SDK.
     ImobileSdkAd.registerSpotFullScreen(
@@ -234,6 +256,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
         new ImobileSdkAdListener() {
           @Override
           public void onAdReadyCompleted() {
+            AdapterHelper.onLoadSucceeded(spotId);
             if (mediationInterstitialListener != null) {
               mediationInterstitialListener.onAdLoaded(IMobileAdapter.this);
             }
@@ -263,6 +286,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
 
           @Override
           public void onFailed(FailNotificationReason reason) {
+            AdapterHelper.onLoadFailed(spotId, reason);
             AdError error = AdapterHelper.getAdError(reason);
             Log.w(TAG, error.getMessage());
             if (mediationBannerListener != null) {
@@ -294,6 +318,8 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
   // region - Methods of life cycle.
   @Override
   public void onDestroy() {
+    AdLeakTracker.release(this);
+
     // Release objects.
     mediationBannerListener = null;
     bannerView = null;
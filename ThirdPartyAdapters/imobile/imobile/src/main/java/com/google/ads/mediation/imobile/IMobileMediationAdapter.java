@@ -20,10 +20,16 @@ import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.LoadWatchdog;
+import com.google.ads.mediation.common.LoadWatchdog.WatchedLoad;
+import com.google.ads.mediation.common.MemoryBudget;
+import com.google.ads.mediation.common.NativeAdBatchCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.Adapter;
@@ -35,6 +41,7 @@ import com.google.android.gms.ads.mediation.NativeMediationAdRequest;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import jp.co.imobile.sdkads.android.FailNotificationReason;
 import jp.co.imobile.sdkads.android.ImobileSdkAd;
 import jp.co.imobile.sdkads.android.ImobileSdkAdListener;
@@ -50,6 +57,11 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
    * Tag for log.
    */
   private static final String TAG = IMobileMediationAdapter.class.getSimpleName();
+
+  /**
+   * Network name used by {@link LoadWatchdog}.
+   */
+  static final String NETWORK_NAME = "i-mobile";
   // end region
 
   @Retention(RetentionPolicy.SOURCE)
@@ -139,6 +151,13 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
    * Listener for native ads.
    */
   private MediationNativeListener mediationNativeListener;
+
+  /**
+   * Native ads that i-mobile returned beyond the one served, kept for the spot's next loads.
+   */
+  @VisibleForTesting
+  static final NativeAdBatchCache<IMobileUnifiedNativeAdMapper> nativeAdBatchCache =
+      new NativeAdBatchCache<>(NETWORK_NAME, TimeUnit.MINUTES.toMillis(30), 4);
   // endregion
 
   // region - Methods for native ads.
@@ -165,20 +184,52 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
     String mediaId = serverParameters.getString(Constants.KEY_MEDIA_ID);
     String spotId = serverParameters.getString(Constants.KEY_SPOT_ID);
 
+    // Skip spots that keep returning no-fill.
+    AdError suppressedError = AdapterHelper.checkLoad(spotId);
+    if (suppressedError != null) {
+      Log.w(TAG, suppressedError.getMessage());
+      listener.onAdFailedToLoad(this, suppressedError);
+      return;
+    }
+
+    // Serve an ad left over from an earlier i-mobile response for this spot.
+    IMobileUnifiedNativeAdMapper batchedAd =
+        spotId != null ? nativeAdBatchCache.poll(spotId) : null;
+    if (batchedAd != null) {
+      listener.onAdLoaded(this, batchedAd);
+      return;
+    }
+
+    // Fail the request if i-mobile never delivers both the ad data and its image.
+    final WatchedLoad loadWatch =
+        LoadWatchdog.watch(
+            NETWORK_NAME,
+            error -> {
+              AdapterHelper.onLoadTimedOut(spotId);
+              if (mediationNativeListener != null) {
+                mediationNativeListener.onAdFailedToLoad(IMobileMediationAdapter.this, error);
+              }
+            });
+
     // Call i-mobile SDK.
     ImobileSdkAd.registerSpotInline(activity, publisherId, mediaId, spotId);
     ImobileSdkAd.start(spotId);
+    final long requestStartMillis = SystemClock.elapsedRealtime();
     ImobileSdkAd.getNativeAdData(
         activity,
         spotId,
         new ImobileSdkAdListener() {
           @Override
           public void onNativeAdDataReciveCompleted(List<ImobileSdkAdsNativeAdData> adDataList) {
+            AdapterHelper.onLoadSucceeded(spotId);
             if (mediationNativeListener == null) {
               return;
             }
 
             if (adDataList == null || adDataList.isEmpty()) {
+              if (!loadWatch.complete()) {
+                return;
+              }
               AdError error = new AdError(ERROR_EMPTY_NATIVE_ADS_LIST,
                   "i-mobile's native ad load success callback returned an empty native ads list.",
                   ERROR_DOMAIN);
@@ -187,12 +238,38 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
               return;
             }
 
+            nativeAdBatchCache.recordRoundTrip(
+                adDataList.size(), SystemClock.elapsedRealtime() - requestStartMillis);
+            // Fetch the images of the other ads in parallel and keep them for the spot's next
+            // loads, instead of dropping them.
+            if (spotId != null) {
+              MemoryBudget.install(activity);
+              for (final ImobileSdkAdsNativeAdData extraAdData :
+                  adDataList.subList(1, adDataList.size())) {
+                extraAdData.getAdImage(
+                    activity,
+                    new ImobileSdkAdListener() {
+                      @Override
+                      public void onNativeAdImageReciveCompleted(Bitmap image) {
+                        Drawable drawable = new BitmapDrawable(activity.getResources(), image);
+                        nativeAdBatchCache.offer(
+                            spotId,
+                            new IMobileUnifiedNativeAdMapper(extraAdData, drawable),
+                            image.getByteCount());
+                      }
+                    });
+              }
+            }
+
             final ImobileSdkAdsNativeAdData adData = adDataList.get(0);
             adData.getAdImage(
                 activity,
                 new ImobileSdkAdListener() {
                   @Override
                   public void onNativeAdImageReciveCompleted(Bitmap image) {
+                    if (!loadWatch.complete() || mediationNativeListener == null) {
+                      return;
+                    }
                     Drawable drawable = new BitmapDrawable(activity.getResources(), image);
                     mediationNativeListener.onAdLoaded(
                         IMobileMediationAdapter.this,
@@ -203,6 +280,10 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
 
           @Override
           public void onFailed(FailNotificationReason reason) {
+            AdapterHelper.onLoadFailed(spotId, reason);
+            if (!loadWatch.complete()) {
+              return;
+            }
             AdError error = AdapterHelper.getAdError(reason);
             Log.w(TAG, error.getMessage());
             if (mediationNativeListener != null) {
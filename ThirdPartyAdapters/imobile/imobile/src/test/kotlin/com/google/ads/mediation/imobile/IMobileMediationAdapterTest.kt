@@ -1,23 +1,41 @@
 package com.google.ads.mediation.imobile
 
+import android.app.Activity
 import android.content.Context
+import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
+import com.google.ads.mediation.adaptertestkit.checkMainThreadPolicy
+import com.google.ads.mediation.adaptertestkit.initializeCheckingMainThreadPolicy
+import com.google.ads.mediation.common.CommonAdErrors
+import com.google.ads.mediation.common.LoadCircuitBreaker
 import com.google.ads.mediation.imobile.AdapterHelper.getAdapterVersion
+import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.Adapter
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback
 import com.google.android.gms.ads.mediation.MediationConfiguration
+import com.google.android.gms.ads.mediation.MediationNativeListener
+import com.google.android.gms.ads.mediation.NativeMediationAdRequest
 import com.google.common.truth.Truth.assertThat
+import jp.co.imobile.sdkads.android.FailNotificationReason
+import jp.co.imobile.sdkads.android.ImobileSdkAd
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
 import org.mockito.Mockito.verify
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
 import org.mockito.kotlin.whenever
+import org.robolectric.Robolectric
 
 /** Tests for [IMobileMediationAdapter]. */
 @RunWith(AndroidJUnit4::class)
@@ -28,10 +46,21 @@ class IMobileMediationAdapterTest {
   private val initializationCompleteCallback: InitializationCompleteCallback = mock()
   private val mediationConfiguration: MediationConfiguration = mock()
   private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val activity: Activity = Robolectric.buildActivity(Activity::class.java).get()
+  private val nativeListener: MediationNativeListener = mock()
+  private val nativeAdRequest: NativeMediationAdRequest = mock()
 
   @Before
   fun setUp() {
     adapter = IMobileMediationAdapter()
+    AdapterHelper.loadCircuitBreaker.reset()
+  }
+
+  @After
+  fun tearDown() {
+    while (IMobileMediationAdapter.nativeAdBatchCache.poll(TEST_SPOT_ID) != null) {
+      // Drain the ads left over by the test.
+    }
   }
 
   @Test
@@ -85,4 +114,70 @@ class IMobileMediationAdapterTest {
     adapter.initialize(context, initializationCompleteCallback, listOf(mediationConfiguration))
     verify(initializationCompleteCallback).onInitializationSucceeded()
   }
+
+  @Test
+  fun requestNativeAd_adLeftOverFromEarlierResponse_servesItOnlyOnce() {
+    val batchedAd = mock<IMobileUnifiedNativeAdMapper>()
+    IMobileMediationAdapter.nativeAdBatchCache.offer(TEST_SPOT_ID, batchedAd)
+    val serverParameters =
+      bundleOf(
+        Constants.KEY_PUBLISHER_ID to TEST_PUBLISHER_ID,
+        Constants.KEY_MEDIA_ID to TEST_MEDIA_ID,
+        Constants.KEY_SPOT_ID to TEST_SPOT_ID,
+      )
+
+    mockStatic(ImobileSdkAd::class.java).use { imobileSdkAd ->
+      adapter.requestNativeAd(activity, nativeListener, serverParameters, nativeAdRequest, null)
+
+      verify(nativeListener).onAdLoaded(adapter, batchedAd)
+      imobileSdkAd.verify({ ImobileSdkAd.getNativeAdData(any(), any(), any()) }, never())
+
+      adapter.requestNativeAd(activity, nativeListener, serverParameters, nativeAdRequest, null)
+
+      verify(nativeListener, times(1)).onAdLoaded(eq(adapter), eq(batchedAd))
+      imobileSdkAd.verify { ImobileSdkAd.getNativeAdData(any(), eq(TEST_SPOT_ID), any()) }
+    }
+  }
+
+  @Test
+  fun requestNativeAd_afterConsecutiveNoFills_failsWithoutRequestingAd() {
+    repeat(LoadCircuitBreaker.DEFAULT_NO_FILL_THRESHOLD) {
+      AdapterHelper.onLoadFailed(TEST_SPOT_ID, FailNotificationReason.NOT_DELIVERY_AD)
+    }
+    val serverParameters =
+      bundleOf(
+        Constants.KEY_PUBLISHER_ID to TEST_PUBLISHER_ID,
+        Constants.KEY_MEDIA_ID to TEST_MEDIA_ID,
+        Constants.KEY_SPOT_ID to TEST_SPOT_ID,
+      )
+
+    mockStatic(ImobileSdkAd::class.java).use { imobileSdkAd ->
+      adapter.requestNativeAd(activity, nativeListener, serverParameters, nativeAdRequest, null)
+
+      val adErrorCaptor = argumentCaptor<AdError>()
+      verify(nativeListener).onAdFailedToLoad(eq(adapter), adErrorCaptor.capture())
+      assertThat(adErrorCaptor.firstValue.code)
+        .isEqualTo(CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS)
+      assertThat(adErrorCaptor.firstValue.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+      imobileSdkAd.verify({ ImobileSdkAd.registerSpotInline(any(), any(), any(), any()) }, never())
+    }
+  }
+
+  @Test
+  fun initialize_doesNotBlockMainThread() {
+    checkMainThreadPolicy {
+      adapter.initializeCheckingMainThreadPolicy(
+        this,
+        context,
+        initializationCompleteCallback,
+        listOf(mediationConfiguration),
+      )
+    }
+  }
+
+  private companion object {
+    const val TEST_PUBLISHER_ID = "publisherId"
+    const val TEST_MEDIA_ID = "mediaId"
+    const val TEST_SPOT_ID = "spotId"
+  }
 }
@@ -47,7 +47,7 @@ class ImageDownloaderAsyncTask extends AsyncTask<Object, Void, HashMap<String, D
   private final DrawableDownloadListener listener;
 
   @VisibleForTesting
-  final InMobiMemoryCache memoryCache = new InMobiMemoryCache();
+  final InMobiMemoryCache memoryCache = InMobiMemoryCache.getInstance();
 
   public ImageDownloaderAsyncTask(DrawableDownloadListener listener) {
     this.listener = listener;
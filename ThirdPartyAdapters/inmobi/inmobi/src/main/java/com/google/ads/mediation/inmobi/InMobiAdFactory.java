@@ -1,7 +1,8 @@
 package com.google.ads.mediation.inmobi;
 
 import android.content.Context;
-import android.widget.FrameLayout;
+import com.google.ads.mediation.common.BannerViewPool;
+import com.google.ads.mediation.common.SingleChildAdContainer;
 import com.inmobi.ads.InMobiBanner;
 import com.inmobi.ads.InMobiInterstitial;
 import com.inmobi.ads.InMobiNative;
@@ -10,13 +11,19 @@ import com.inmobi.ads.listeners.NativeAdEventListener;
 
 /** Class for creating InMobi ad objects. */
 public class InMobiAdFactory {
+
+  /** Banner hosts reused across refreshes when banner view recycling is enabled. */
+  private static final BannerViewPool<SingleChildAdContainer> bannerHostPool =
+      BannerViewPool.forHosts("InMobi");
+
   public InMobiBannerWrapper createInMobiBannerWrapper(
       final Context context, final Long placementId) {
     return new InMobiBannerWrapper(new InMobiBanner(context, placementId));
   }
 
-  public InMobiAdViewHolder createInMobiAdViewHolder(final Context context) {
-    return new InMobiAdViewHolder(new FrameLayout(context));
+  public InMobiAdViewHolder createInMobiAdViewHolder(
+      final Context context, final int widthInPixels, final int heightInPixels) {
+    return new InMobiAdViewHolder(bannerHostPool.acquire(context, widthInPixels, heightInPixels));
   }
 
   public InMobiInterstitialWrapper createInMobiInterstitialWrapper(
@@ -1,26 +1,30 @@
 package com.google.ads.mediation.inmobi;
 
 import android.view.ViewGroup;
-import android.widget.FrameLayout;
+import com.google.ads.mediation.common.SingleChildAdContainer;
 
 /** Container for holding the InMobi ad view. */
 public class InMobiAdViewHolder {
 
-  private final FrameLayout frameLayout;
+  private final SingleChildAdContainer container;
 
-  InMobiAdViewHolder(final FrameLayout frameLayout) {
-    this.frameLayout = frameLayout;
+  InMobiAdViewHolder(final SingleChildAdContainer container) {
+    this.container = container;
   }
 
-  public FrameLayout getFrameLayout() {
-    return frameLayout;
+  public SingleChildAdContainer getContainer() {
+    return container;
   }
 
   public void setLayoutParams(final ViewGroup.LayoutParams layoutParams) {
-    frameLayout.setLayoutParams(layoutParams);
+    container.setLayoutParams(layoutParams);
+  }
+
+  public void setAdSize(final int widthInPixels, final int heightInPixels) {
+    container.setAdSize(widthInPixels, heightInPixels);
   }
 
   public void addView(final InMobiBannerWrapper inMobiBannerWrapper) {
-    frameLayout.addView(inMobiBannerWrapper.getInMobiBanner());
+    container.setAdView(inMobiBannerWrapper.getInMobiBanner());
   }
 }
@@ -20,6 +20,7 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.MemoryBudget;
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbBannerAd;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbInterstitialAd;
@@ -66,6 +67,9 @@ public class InMobiMediationAdapter extends RtbAdapter {
 
   public static final String TAG = InMobiMediationAdapter.class.getSimpleName();
 
+  /** Network name used for the shared load statistics. */
+  public static final String NETWORK_NAME = "InMobi";
+
   private InMobiWaterfallRewardedAd inMobiWaterfallRewardedInterstitialAd;
 
   private InMobiRtbRewardedAd inMobiRtbRewardedInterstitialAd;
@@ -158,6 +162,7 @@ public class InMobiMediationAdapter extends RtbAdapter {
   public void initialize(@NonNull Context context,
       final @NonNull InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    MemoryBudget.install(context);
 
     if (inMobiSdkWrapper.isSDKInitialized()) {
       initializationCompleteCallback.onInitializationSucceeded();
@@ -20,17 +20,25 @@ import android.graphics.drawable.Drawable;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.MemoryBudget;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * This class is used to cache images loaded/shown by InMobi adapter.
+ * This class is used to cache images loaded/shown by InMobi adapter. The shared instance is
+ * bounded by the adapters' {@link MemoryBudget}.
  */
-public class InMobiMemoryCache {
+public class InMobiMemoryCache implements MemoryBudget.Consumer {
 
   private static final String TAG = "MemoryCache";
+
+  // Share of the memory budget of the image cache, relative to the other adapter caches.
+  private static final int MEMORY_BUDGET_WEIGHT = 2;
+
+  private static InMobiMemoryCache instance;
+
   // Last argument true for LRU
   private final Map<String, Drawable> cache = Collections.synchronizedMap(
       new LinkedHashMap<String, Drawable>(10, 1.5f, true));
@@ -39,9 +47,18 @@ public class InMobiMemoryCache {
   long size = 0; // Current allocated size.
   private long limit = 1000000; // Max memory in bytes.
 
-  InMobiMemoryCache() {
-    // Use 25% of available heap size.
-    setLimit(Runtime.getRuntime().maxMemory() / 4);
+  private InMobiMemoryCache() {
+    // No limit of its own: the memory budget shared by all adapters evicts images as needed.
+    limit = Long.MAX_VALUE;
+    MemoryBudget.register("InMobi", MEMORY_BUDGET_WEIGHT, this);
+  }
+
+  /** Returns the image cache shared by all InMobi native ads. */
+  static synchronized InMobiMemoryCache getInstance() {
+    if (instance == null) {
+      instance = new InMobiMemoryCache();
+    }
+    return instance;
   }
 
   @VisibleForTesting
@@ -70,28 +87,38 @@ public class InMobiMemoryCache {
 
   void put(String id, Drawable drawable) {
     try {
-      if (cache.containsKey(id)) {
-        size -= getSizeInBytes(((BitmapDrawable) cache.get(id)).getBitmap());
+      synchronized (this) {
+        if (cache.containsKey(id)) {
+          size -= getSizeInBytes(((BitmapDrawable) cache.get(id)).getBitmap());
+        }
+        cache.put(id, drawable);
+        size += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
+        Log.i(TAG, "cache size=" + size + " length=" + cache.size());
+        trimToSize(limit);
       }
-      cache.put(id, drawable);
-      size += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
-      checkSize();
+      // Outside of the lock, since the budget may trim this cache from another thread.
+      MemoryBudget.enforce();
       Log.d(TAG, "Drawable used from cache");
     } catch (Throwable th) {
       th.printStackTrace();
     }
   }
 
-  private void checkSize() {
-    Log.i(TAG, "cache size=" + size + " length=" + cache.size());
-    if (size > limit) {
+  @Override
+  public synchronized long getSizeInBytes() {
+    return size;
+  }
+
+  @Override
+  public synchronized void trimToSize(long maxBytes) {
+    if (size > maxBytes) {
       Iterator<Map.Entry<String, Drawable>> iter = cache.entrySet().iterator();//least
       // recently accessed item will be the first one iterated
       while (iter.hasNext()) {
         Map.Entry<String, Drawable> entry = iter.next();
         size -= getSizeInBytes(((BitmapDrawable) entry.getValue()).getBitmap());
         iter.remove();
-        if (size <= limit) {
+        if (size <= maxBytes) {
           break;
         }
       }
@@ -99,7 +126,7 @@ public class InMobiMemoryCache {
     }
   }
 
-  public void clear() {
+  public synchronized void clear() {
     try {
       // NullPointerException sometimes happen here
       // http://code.google.com/p/osmdroid/issues/detail?id=78
@@ -22,8 +22,8 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.FrameLayout;
-import android.widget.LinearLayout;
 import androidx.annotation.NonNull;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdViewHolder;
@@ -102,16 +102,15 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
      * Wrap InMobi's ad view to limit the dependency on its methods. For example, the method
      * that specifies the width and height for the ad view.
      */
-    inMobiAdViewHolder = inMobiAdFactory.createInMobiAdViewHolder(context);
-    inMobiAdViewHolder.setLayoutParams(
-        new FrameLayout.LayoutParams(
-            mediationBannerSize.getWidthInPixels(context),
-            mediationBannerSize.getHeightInPixels(context)));
+    int widthInPixels = mediationBannerSize.getWidthInPixels(context);
+    int heightInPixels = mediationBannerSize.getHeightInPixels(context);
+    inMobiAdViewHolder =
+        inMobiAdFactory.createInMobiAdViewHolder(context, widthInPixels, heightInPixels);
+    inMobiAdViewHolder.setLayoutParams(new FrameLayout.LayoutParams(widthInPixels, heightInPixels));
+    inMobiAdViewHolder.setAdSize(widthInPixels, heightInPixels);
 
     inMobiBannerWrapper.setLayoutParams(
-        new LinearLayout.LayoutParams(
-            mediationBannerSize.getWidthInPixels(context),
-            mediationBannerSize.getHeightInPixels(context)));
+        new ViewGroup.LayoutParams(widthInPixels, heightInPixels));
     inMobiAdViewHolder.addView(inMobiBannerWrapper);
 
     internalLoadAd(inMobiBannerWrapper, mediationBannerAdConfiguration);
@@ -120,7 +119,7 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
   @NonNull
   @Override
   public View getView() {
-    return inMobiAdViewHolder.getFrameLayout();
+    return inMobiAdViewHolder.getContainer();
   }
 
   @Override
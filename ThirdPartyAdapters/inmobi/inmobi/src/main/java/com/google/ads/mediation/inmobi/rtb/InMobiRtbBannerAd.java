@@ -1,7 +1,11 @@
 package com.google.ads.mediation.inmobi.rtb;
 
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
+
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiBannerWrapper;
@@ -9,14 +13,22 @@ import com.google.ads.mediation.inmobi.InMobiExtras;
 import com.google.ads.mediation.inmobi.InMobiExtrasBuilder;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.renderers.InMobiBannerAd;
+import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
+import com.inmobi.ads.AdMetaInfo;
+import com.inmobi.ads.InMobiAdRequestStatus;
+import com.inmobi.ads.InMobiBanner;
 
 public class InMobiRtbBannerAd extends InMobiBannerAd {
 
+  private static final String AD_FORMAT = "banner";
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public InMobiRtbBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -31,6 +43,13 @@ public class InMobiRtbBannerAd extends InMobiBannerAd {
 
   @Override
   public void loadAd(@NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration) {
+    String bidResponse = mediationBannerAdConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError);
+      return;
+    }
+
     final Context context = mediationBannerAdConfiguration.getContext();
 
     // Try to find the closest banner size that is one of the standard banner sizes supported by
@@ -60,6 +79,25 @@ public class InMobiRtbBannerAd extends InMobiBannerAd {
     adView.setKeywords(inMobiExtras.getKeywords());
 
     String bidToken = mediationBannerAdConfiguration.getBidResponse();
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidToken);
     adView.load(bidToken.getBytes());
   }
+
+  @Override
+  public void onAdLoadSucceeded(
+      @NonNull InMobiBanner inMobiBanner, @NonNull AdMetaInfo adMetaInfo) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadSucceeded(inMobiBanner, adMetaInfo);
+  }
+
+  @Override
+  public void onAdLoadFailed(
+      @NonNull InMobiBanner inMobiBanner, @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadFailed(inMobiBanner, inMobiAdRequestStatus);
+  }
 }
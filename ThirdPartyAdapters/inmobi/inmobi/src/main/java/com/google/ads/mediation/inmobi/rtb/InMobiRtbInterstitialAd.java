@@ -1,7 +1,11 @@
 package com.google.ads.mediation.inmobi.rtb;
 
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
+
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -9,13 +13,21 @@ import com.google.ads.mediation.inmobi.InMobiExtrasBuilder;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiInterstitialWrapper;
 import com.google.ads.mediation.inmobi.renderers.InMobiInterstitialAd;
+import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
+import com.inmobi.ads.AdMetaInfo;
+import com.inmobi.ads.InMobiAdRequestStatus;
+import com.inmobi.ads.InMobiInterstitial;
 
 public class InMobiRtbInterstitialAd extends InMobiInterstitialAd {
 
+  private static final String AD_FORMAT = "interstitial";
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public InMobiRtbInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -31,6 +43,13 @@ public class InMobiRtbInterstitialAd extends InMobiInterstitialAd {
   @Override
   public void loadAd(
       @NonNull MediationInterstitialAdConfiguration mediationInterstitialAdConfiguration) {
+    String bidResponse = mediationInterstitialAdConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError);
+      return;
+    }
+
     final Context context = mediationInterstitialAdConfiguration.getContext();
     createAndLoadInterstitialAd(context, mediationInterstitialAdConfiguration);
   }
@@ -48,6 +67,26 @@ public class InMobiRtbInterstitialAd extends InMobiInterstitialAd {
     inMobiInterstitialWrapper.setKeywords(inMobiExtras.getKeywords());
 
     String bidToken = mediationInterstitialAdConfiguration.getBidResponse();
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidToken);
     inMobiInterstitialWrapper.load(bidToken.getBytes());
   }
+
+  @Override
+  public void onAdLoadSucceeded(
+      @NonNull InMobiInterstitial inMobiInterstitial, @NonNull AdMetaInfo adMetaInfo) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadSucceeded(inMobiInterstitial, adMetaInfo);
+  }
+
+  @Override
+  public void onAdLoadFailed(
+      @NonNull InMobiInterstitial inMobiInterstitial,
+      @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadFailed(inMobiInterstitial, inMobiAdRequestStatus);
+  }
 }
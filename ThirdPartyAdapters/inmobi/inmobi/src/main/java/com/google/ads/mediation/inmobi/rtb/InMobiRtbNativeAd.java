@@ -1,8 +1,12 @@
 package com.google.ads.mediation.inmobi.rtb;
 
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
+
 import android.content.Context;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -10,13 +14,21 @@ import com.google.ads.mediation.inmobi.InMobiExtrasBuilder;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiNativeWrapper;
 import com.google.ads.mediation.inmobi.renderers.InMobiNativeAd;
+import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper;
+import com.inmobi.ads.AdMetaInfo;
+import com.inmobi.ads.InMobiAdRequestStatus;
+import com.inmobi.ads.InMobiNative;
 
 public class InMobiRtbNativeAd extends InMobiNativeAd {
 
+  private static final String AD_FORMAT = "native";
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public InMobiRtbNativeAd(
       @NonNull MediationNativeAdConfiguration mediationNativeAdConfiguration,
       @NonNull
@@ -33,6 +45,13 @@ public class InMobiRtbNativeAd extends InMobiNativeAd {
 
   @Override
   public void loadAd() {
+    String bidResponse = mediationNativeAdConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError);
+      return;
+    }
+
     final Context context = mediationNativeAdConfiguration.getContext();
     Bundle serverParameters = mediationNativeAdConfiguration.getServerParameters();
 
@@ -50,6 +69,25 @@ public class InMobiRtbNativeAd extends InMobiNativeAd {
     inMobiNativeWrapper.setKeywords(inMobiExtras.getKeywords());
 
     String bidToken = mediationNativeAdConfiguration.getBidResponse();
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidToken);
     inMobiNativeWrapper.load(bidToken.getBytes());
   }
+
+  @Override
+  public void onAdLoadSucceeded(
+      @NonNull InMobiNative inMobiNative, @NonNull AdMetaInfo adMetaInfo) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadSucceeded(inMobiNative, adMetaInfo);
+  }
+
+  @Override
+  public void onAdLoadFailed(
+      @NonNull InMobiNative inMobiNative, @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadFailed(inMobiNative, inMobiAdRequestStatus);
+  }
 }
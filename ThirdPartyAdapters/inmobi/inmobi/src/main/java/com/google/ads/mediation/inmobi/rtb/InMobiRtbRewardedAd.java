@@ -1,7 +1,11 @@
 package com.google.ads.mediation.inmobi.rtb;
 
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
+
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -9,13 +13,21 @@ import com.google.ads.mediation.inmobi.InMobiExtrasBuilder;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiInterstitialWrapper;
 import com.google.ads.mediation.inmobi.renderers.InMobiRewardedAd;
+import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
+import com.inmobi.ads.AdMetaInfo;
+import com.inmobi.ads.InMobiAdRequestStatus;
+import com.inmobi.ads.InMobiInterstitial;
 
 public class InMobiRtbRewardedAd extends InMobiRewardedAd {
 
+  private static final String AD_FORMAT = "rewarded";
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public InMobiRtbRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -30,6 +42,13 @@ public class InMobiRtbRewardedAd extends InMobiRewardedAd {
 
   @Override
   public void loadAd(@NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration) {
+    String bidResponse = mediationRewardedAdConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError);
+      return;
+    }
+
     final Context context = mediationRewardedAdConfiguration.getContext();
     createAndLoadRewardAd(context, mediationRewardedAdConfiguration);
   }
@@ -47,6 +66,26 @@ public class InMobiRtbRewardedAd extends InMobiRewardedAd {
     inMobiRewardedAdWrapper.setKeywords(inMobiExtras.getKeywords());
 
     String bidToken = mediationRewardedAdConfiguration.getBidResponse();
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidToken);
     inMobiRewardedAdWrapper.load(bidToken.getBytes());
   }
+
+  @Override
+  public void onAdLoadSucceeded(
+      @NonNull InMobiInterstitial inMobiInterstitial, @NonNull AdMetaInfo adMetaInfo) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadSucceeded(inMobiInterstitial, adMetaInfo);
+  }
+
+  @Override
+  public void onAdLoadFailed(
+      @NonNull InMobiInterstitial inMobiInterstitial,
+      @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoadFailed(inMobiInterstitial, inMobiAdRequestStatus);
+  }
 }
@@ -2,8 +2,8 @@ package com.google.ads.mediation.inmobi
 
 import android.content.Context
 import android.os.Bundle
+import android.view.ViewGroup
 import android.widget.FrameLayout
-import android.widget.LinearLayout
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener
@@ -91,7 +91,8 @@ class InMobiMediationAdapterTest {
     whenever(bannerAdConfiguration.watermark).thenReturn(TEST_WATERMARK)
     whenever(inMobiAdFactory.createInMobiBannerWrapper(any(), any()))
       .thenReturn(inMobiBannerWrapper)
-    whenever(inMobiAdFactory.createInMobiAdViewHolder(any())).thenReturn(inMobiAdViewHolder)
+    whenever(inMobiAdFactory.createInMobiAdViewHolder(any(), any(), any()))
+      .thenReturn(inMobiAdViewHolder)
     whenever(inMobiAdViewHolder.addView(any())).doAnswer { null }
     whenever(interstitialAdConfiguration.context).thenReturn(context)
     whenever(interstitialAdConfiguration.serverParameters).thenReturn(serverParameters)
@@ -323,12 +324,17 @@ class InMobiMediationAdapterTest {
       assertThat(width).isEqualTo(expectedMediationBannerSize.getWidthInPixels(context))
       assertThat(height).isEqualTo(expectedMediationBannerSize.getHeightInPixels(context))
     }
-    val linearLayoutParamsCaptor = argumentCaptor<LinearLayout.LayoutParams>()
-    verify(inMobiBannerWrapper).setLayoutParams(linearLayoutParamsCaptor.capture())
-    linearLayoutParamsCaptor.firstValue.apply {
+    val bannerLayoutParamsCaptor = argumentCaptor<ViewGroup.LayoutParams>()
+    verify(inMobiBannerWrapper).setLayoutParams(bannerLayoutParamsCaptor.capture())
+    bannerLayoutParamsCaptor.firstValue.apply {
       assertThat(width).isEqualTo(expectedMediationBannerSize.getWidthInPixels(context))
       assertThat(height).isEqualTo(expectedMediationBannerSize.getHeightInPixels(context))
     }
+    verify(inMobiAdViewHolder)
+      .setAdSize(
+        expectedMediationBannerSize.getWidthInPixels(context),
+        expectedMediationBannerSize.getHeightInPixels(context),
+      )
     verify(inMobiAdViewHolder).addView(eq(inMobiBannerWrapper))
     val extrasCaptor = argumentCaptor<Map<String, String>>()
     verify(inMobiBannerWrapper).setExtras(extrasCaptor.capture())
@@ -356,13 +362,18 @@ class InMobiMediationAdapterTest {
       assertThat(width).isEqualTo(expectedMediationBannerSize.getWidthInPixels(context))
       assertThat(height).isEqualTo(expectedMediationBannerSize.getHeightInPixels(context))
     }
-    val linearLayoutParamsCaptor = argumentCaptor<LinearLayout.LayoutParams>()
-    verify(inMobiBannerWrapper).setLayoutParams(linearLayoutParamsCaptor.capture())
-    linearLayoutParamsCaptor.firstValue.apply {
+    val bannerLayoutParamsCaptor = argumentCaptor<ViewGroup.LayoutParams>()
+    verify(inMobiBannerWrapper).setLayoutParams(bannerLayoutParamsCaptor.capture())
+    bannerLayoutParamsCaptor.firstValue.apply {
       assertThat(width).isEqualTo(expectedMediationBannerSize.getWidthInPixels(context))
       assertThat(height).isEqualTo(expectedMediationBannerSize.getHeightInPixels(context))
     }
     verify(inMobiBannerWrapper).setWatermarkData(any())
+    verify(inMobiAdViewHolder)
+      .setAdSize(
+        expectedMediationBannerSize.getWidthInPixels(context),
+        expectedMediationBannerSize.getHeightInPixels(context),
+      )
     verify(inMobiAdViewHolder).addView(eq(inMobiBannerWrapper))
     val extrasCaptor = argumentCaptor<Map<String, String>>()
     verify(inMobiBannerWrapper).setExtras(extrasCaptor.capture())
@@ -0,0 +1,238 @@
+package com.google.ads.mediation.inmobi
+
+import android.content.Context
+import androidx.core.os.bundleOf
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.PerformanceBudget
+import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
+import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.inmobi.InMobiAdapterUtils.KEY_ACCOUNT_ID
+import com.google.ads.mediation.inmobi.InMobiAdapterUtils.KEY_PLACEMENT_ID
+import com.google.ads.mediation.inmobi.rtb.InMobiRtbInterstitialAd
+import com.google.ads.mediation.inmobi.rtb.InMobiRtbNativeAd
+import com.google.ads.mediation.inmobi.rtb.InMobiRtbRewardedAd
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import com.google.android.gms.ads.mediation.MediationInterstitialAd
+import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
+import com.google.android.gms.ads.mediation.MediationNativeAdCallback
+import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
+import com.google.android.gms.ads.mediation.MediationRewardedAd
+import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
+import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
+import com.google.android.gms.ads.nativead.NativeAdOptions
+import com.inmobi.ads.AdMetaInfo
+import com.inmobi.ads.InMobiInterstitial
+import com.inmobi.ads.InMobiNative
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.anyOrNull
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+
+/**
+ * Performance budget scenarios for the InMobi adapter, run against a stubbed InMobi SDK by the
+ * `performanceBudget` task.
+ */
+@RunWith(AndroidJUnit4::class)
+class InMobiPerformanceBudgetTest {
+
+  private val budget = PerformanceBudget.fromSystemProperties()
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val adMetaInfo = AdMetaInfo(AD_META_INFO_CREATIVE_ID, null)
+  private val inMobiInitializer = mock<InMobiInitializer>(stubOnly = true)
+  private val inMobiSdkWrapper = mock<InMobiSdkWrapper>(stubOnly = true)
+  private val inMobiInterstitial = mock<InMobiInterstitial>(stubOnly = true)
+  private val inMobiNative = mock<InMobiNative>(stubOnly = true)
+  private val inMobiInterstitialWrapper = mock<InMobiInterstitialWrapper>(stubOnly = true)
+  private val inMobiNativeWrapper =
+    mock<InMobiNativeWrapper>(stubOnly = true) {
+      on { adTitle } doReturn AD_TITLE
+      on { adDescription } doReturn AD_DESCRIPTION
+      on { adCtaText } doReturn AD_CTA_TEXT
+      on { advertiserName } doReturn AD_ADVERTISER_NAME
+      on { adIconUrl } doReturn AD_ICON_URL
+    }
+  private val inMobiAdFactory =
+    mock<InMobiAdFactory>(stubOnly = true) {
+      on { createInMobiInterstitialWrapper(any(), any(), any()) } doReturn
+        inMobiInterstitialWrapper
+      on { createInMobiNativeWrapper(any(), any(), any()) } doReturn inMobiNativeWrapper
+      on { createInMobiNativeWrapper(anyOrNull()) } doReturn inMobiNativeWrapper
+    }
+  private val initializationCompleteCallback =
+    mock<InitializationCompleteCallback>(stubOnly = true)
+  private val interstitialAdLoadCallback =
+    mock<MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val rewardedAdLoadCallback =
+    mock<MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val nativeAdLoadCallback =
+    mock<MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val serverParameters =
+    bundleOf(KEY_ACCOUNT_ID to TEST_ACCOUNT_ID, KEY_PLACEMENT_ID to TEST_PLACEMENT_ID)
+  private val interstitialAdConfiguration =
+    createMediationInterstitialAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
+  private val rewardedAdConfiguration =
+    createMediationRewardedAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
+  // Image assets are returned as URLs, so that mapping does not start image downloads.
+  private val nativeAdConfiguration =
+    mock<MediationNativeAdConfiguration>(stubOnly = true) {
+      on { context } doReturn context
+      on { serverParameters } doReturn serverParameters
+      on { mediationExtras } doReturn bundleOf()
+      on { bidResponse } doReturn TEST_BID_RESPONSE
+      on { nativeAdOptions } doReturn
+        NativeAdOptions.Builder().setReturnUrlsForImageAssets(true).build()
+    }
+
+  @Test
+  fun initialize_withinBudget() {
+    val configurations =
+      listOf(createMediationConfiguration(AdFormat.INTERSTITIAL, serverParameters))
+
+    val measurement =
+      budget.measure("initialize", INIT_ITERATIONS) {
+        InMobiMediationAdapter(inMobiInitializer, inMobiAdFactory, inMobiSdkWrapper)
+          .initialize(context, initializationCompleteCallback, configurations)
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun interstitialLoad_sequential_withinBudget() {
+    val measurement =
+      budget.measure("interstitial.load.sequential", LOAD_ITERATIONS) { loadInterstitialAd() }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun interstitialLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently("interstitial.load.concurrent", LOAD_ITERATIONS) {
+        loadInterstitialAd()
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun rewardedLoad_sequential_withinBudget() {
+    val measurement =
+      budget.measure("rewarded.load.sequential", LOAD_ITERATIONS) { loadRewardedAd() }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun rewardedLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently("rewarded.load.concurrent", LOAD_ITERATIONS) { loadRewardedAd() }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeLoad_sequential_withinBudget() {
+    val measurement =
+      budget.measure("native.load.sequential", LOAD_ITERATIONS) { loadNativeAd() }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently("native.load.concurrent", LOAD_ITERATIONS) { loadNativeAd() }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeMapping_withinBudget() {
+    val nativeAds =
+      List(LOAD_ITERATIONS) {
+        InMobiRtbNativeAd(
+            nativeAdConfiguration,
+            nativeAdLoadCallback,
+            inMobiInitializer,
+            inMobiAdFactory,
+          )
+          .apply { loadAd() }
+      }
+
+    // InMobiUnifiedNativeAdMapper is created and maps the native assets on every load success.
+    val measurement =
+      budget.measure("native.mapping", LOAD_ITERATIONS) {
+        nativeAds[it].onAdLoadSucceeded(inMobiNative, adMetaInfo)
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  private fun loadInterstitialAd() {
+    InMobiRtbInterstitialAd(interstitialAdLoadCallback, inMobiInitializer, inMobiAdFactory).apply {
+      loadAd(interstitialAdConfiguration)
+      onAdLoadSucceeded(inMobiInterstitial, adMetaInfo)
+    }
+  }
+
+  private fun loadRewardedAd() {
+    InMobiRtbRewardedAd(rewardedAdLoadCallback, inMobiInitializer, inMobiAdFactory).apply {
+      loadAd(rewardedAdConfiguration)
+      onAdLoadSucceeded(inMobiInterstitial, adMetaInfo)
+    }
+  }
+
+  private fun loadNativeAd() {
+    InMobiRtbNativeAd(
+        nativeAdConfiguration,
+        nativeAdLoadCallback,
+        inMobiInitializer,
+        inMobiAdFactory,
+      )
+      .apply {
+        loadAd()
+        onAdLoadSucceeded(inMobiNative, adMetaInfo)
+      }
+  }
+
+  private companion object {
+    const val INIT_ITERATIONS = 100
+    const val LOAD_ITERATIONS = 1000
+    const val TEST_ACCOUNT_ID = "testAccountId"
+    const val TEST_PLACEMENT_ID = "12345"
+    const val TEST_BID_RESPONSE = "testBidResponse"
+    const val AD_META_INFO_CREATIVE_ID = "creativeId"
+    const val AD_TITLE = "adTitle"
+    const val AD_DESCRIPTION = "adDescription"
+    const val AD_CTA_TEXT = "adCtaText"
+    const val AD_ADVERTISER_NAME = "adAdvertiserName"
+    const val AD_ICON_URL = "http://www.example.com/icon.png"
+  }
+}
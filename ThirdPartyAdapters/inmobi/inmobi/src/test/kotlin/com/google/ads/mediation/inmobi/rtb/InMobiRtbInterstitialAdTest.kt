@@ -4,6 +4,7 @@ import android.content.Context
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.CommonAdErrors
 import com.google.ads.mediation.inmobi.InMobiAdFactory
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils.KEY_PLACEMENT_ID
@@ -28,6 +29,7 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
+import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
 
 @RunWith(AndroidJUnit4::class)
@@ -91,6 +93,21 @@ class InMobiRtbInterstitialAdTest {
     verify(inMobiInterstitialWrapper, never()).show()
   }
 
+  @Test
+  fun loadAd_withEmptyBidResponse_invokesOnFailureCallback() {
+    whenever(interstitialAdConfiguration.bidResponse).thenReturn("")
+    whenever(interstitialAdConfiguration.serverParameters) doReturn
+      bundleOf(KEY_PLACEMENT_ID to "67890")
+
+    rtbInterstitialAd.loadAd(interstitialAdConfiguration)
+
+    val captor = argumentCaptor<AdError>()
+    verify(mediationAdLoadCallback).onFailure(captor.capture())
+    assertThat(captor.firstValue.code).isEqualTo(CommonAdErrors.ERROR_EMPTY_BID_RESPONSE)
+    assertThat(captor.firstValue.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    verifyNoInteractions(inMobiInitializer, inMobiAdFactory)
+  }
+
   @Test
   fun onUserLeftApplication_invokesOnAdLeftApplicationCallback() {
     // mimic an ad load
@@ -29,10 +29,8 @@ import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.MobileAds;
 import com.ironsource.mediationsdk.ISBannerSize;
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link IronSourceAdapterUtils} class provides the publisher an ability to pass Activity to
@@ -126,13 +124,6 @@ public class IronSourceAdapterUtils {
     return null;
   }
 
-  public static <T> boolean canLoadIronSourceAdInstance(
-      @NonNull String instanceId,
-      @NonNull ConcurrentHashMap<String, WeakReference<T>> instanceMap) {
-    WeakReference<T> adRef = instanceMap.get(instanceId);
-    return adRef == null || adRef.get() == null;
-  }
-
   public static String getAdapterVersion() {
     return BuildConfig.ADAPTER_VERSION;
   }
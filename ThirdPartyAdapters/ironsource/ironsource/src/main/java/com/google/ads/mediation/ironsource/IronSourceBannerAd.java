@@ -29,6 +29,8 @@ import android.view.View;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdEventBus;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -38,14 +40,12 @@ import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 import com.ironsource.mediationsdk.ISBannerSize;
 import com.ironsource.mediationsdk.IronSource;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyBannerLayout;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceBannerAd implements MediationBannerAd {
 
+  /** Routes the events of the global banner listener to the ad of their instance ID. */
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceBannerAd>>
-      availableBannerInstances = new ConcurrentHashMap<>();
+  static final AdEventBus<IronSourceBannerAd> bannerEventBus = new AdEventBus<>("IronSource");
 
   private static final IronSourceBannerAdListener ironSourceBannerListener =
       new IronSourceBannerAdListener();
@@ -91,13 +91,11 @@ public class IronSourceBannerAd implements MediationBannerAd {
 
   /** Instance map access. */
   static IronSourceBannerAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableBannerInstances.containsKey(instanceId)
-        ? availableBannerInstances.get(instanceId).get()
-        : null;
+    return bannerEventBus.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableBannerInstances.remove(instanceId);
+    AdLeakTracker.release(bannerEventBus.unregister(instanceId));
   }
 
   /**
@@ -105,7 +103,7 @@ public class IronSourceBannerAd implements MediationBannerAd {
    * with the given instance ID.
    */
   static void clearAllAvailableInstancesExceptOne(@NonNull String instanceID) {
-    for (String otherInstanceInMap : availableBannerInstances.keySet()) {
+    for (String otherInstanceInMap : bannerEventBus.getKeys()) {
       if (!otherInstanceInMap.equals(instanceID)) {
         Log.d(
             TAG,
@@ -126,7 +124,8 @@ public class IronSourceBannerAd implements MediationBannerAd {
     Context context = adConfiguration.getContext();
 
     Activity activity = (Activity) context;
-    availableBannerInstances.put(instanceID, new WeakReference<>(this));
+    bannerEventBus.register(instanceID, this);
+    AdLeakTracker.register(this, "IronSource", "banner");
     ironSourceAdView = new FrameLayout(context);
     ironSourceBannerLayout = IronSource.createBannerForDemandOnly(activity, bannerSizeIronSource);
     ironSourceBannerLayout.setBannerDemandOnlyListener(ironSourceBannerListener);
@@ -148,7 +147,7 @@ public class IronSourceBannerAd implements MediationBannerAd {
     }
 
     // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableBannerInstances)) {
+    if (bannerEventBus.isRegistered(instanceID)) {
       AdError adError =
           new AdError(
               ERROR_AD_ALREADY_LOADED,
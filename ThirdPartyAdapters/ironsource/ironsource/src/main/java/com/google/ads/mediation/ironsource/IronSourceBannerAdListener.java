@@ -21,6 +21,7 @@ import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_IS_LOA
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.MainThreadDispatcher;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
@@ -32,20 +33,25 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   public void onBannerAdLoaded(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource banner ad loaded for instance ID: %s", instanceId));
     IronSourceBannerAd ironSourceBannerAd =
-        IronSourceBannerAd.getFromAvailableInstances(instanceId);
+        IronSourceBannerAd.bannerEventBus.route(instanceId, "onBannerAdLoaded");
 
     if (ironSourceBannerAd == null || ironSourceBannerAd.getIronSourceAdView() == null) {
       return;
     }
 
-    ironSourceBannerAd
-        .getIronSourceAdView()
-        .addView(ironSourceBannerAd.getIronSourceBannerLayout());
-
-    if (ironSourceBannerAd.getAdLoadCallback() != null) {
-      ironSourceBannerAd.setBannerAdCallback(
-          ironSourceBannerAd.getAdLoadCallback().onSuccess(ironSourceBannerAd));
-    }
+    MainThreadDispatcher.dispatch(
+        "IronSource",
+        ironSourceBannerAd,
+        () -> {
+          ironSourceBannerAd
+              .getIronSourceAdView()
+              .addView(ironSourceBannerAd.getIronSourceBannerLayout());
+
+          if (ironSourceBannerAd.getAdLoadCallback() != null) {
+            ironSourceBannerAd.setBannerAdCallback(
+                ironSourceBannerAd.getAdLoadCallback().onSuccess(ironSourceBannerAd));
+          }
+        });
   }
 
   public void onBannerAdLoadFailed(
@@ -57,7 +63,7 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
             IRONSOURCE_SDK_ERROR_DOMAIN);
     Log.w(TAG, loadError.toString());
     IronSourceBannerAd ironSourceBannerAd =
-        IronSourceBannerAd.getFromAvailableInstances(instanceId);
+        IronSourceBannerAd.bannerEventBus.route(instanceId, "onBannerAdLoadFailed");
 
     if (ironSourceBannerAd == null) {
       return;
@@ -65,7 +71,8 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
 
     MediationAdLoadCallback adLoadCallback = ironSourceBannerAd.getAdLoadCallback();
     if (adLoadCallback != null) {
-      adLoadCallback.onFailure(loadError);
+      MainThreadDispatcher.dispatch(
+          "IronSource", ironSourceBannerAd, () -> adLoadCallback.onFailure(loadError));
     }
 
     /* If the IronSource SDK is already loading a banner ad with the current instance ID,
@@ -79,12 +86,13 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   public void onBannerAdShown(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource banner ad shown for instance ID: %s", instanceId));
     IronSourceBannerAd ironSourceBannerAd =
-        IronSourceBannerAd.getFromAvailableInstances(instanceId);
+        IronSourceBannerAd.bannerEventBus.route(instanceId, "onBannerAdShown");
     // The banner ad instance will be null if it fails to load or another banner ad is showing.
     if (ironSourceBannerAd != null) {
       MediationBannerAdCallback adCallback = ironSourceBannerAd.getBannerAdCallback();
       if (adCallback != null) {
-        adCallback.reportAdImpression();
+        MainThreadDispatcher.dispatch(
+            "IronSource", ironSourceBannerAd, adCallback::reportAdImpression);
       }
     }
 
@@ -94,13 +102,18 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   public void onBannerAdClicked(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource banner ad clicked for instance ID: %s", instanceId));
     IronSourceBannerAd ironSourceBannerAd =
-        IronSourceBannerAd.getFromAvailableInstances(instanceId);
+        IronSourceBannerAd.bannerEventBus.route(instanceId, "onBannerAdClicked");
 
     if (ironSourceBannerAd != null) {
       MediationBannerAdCallback adCallback = ironSourceBannerAd.getBannerAdCallback();
       if (adCallback != null) {
-        adCallback.onAdOpened();
-        adCallback.reportAdClicked();
+        MainThreadDispatcher.dispatch(
+            "IronSource",
+            ironSourceBannerAd,
+            () -> {
+              adCallback.onAdOpened();
+              adCallback.reportAdClicked();
+            });
       }
     }
   }
@@ -112,12 +125,13 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
             "IronSource banner ad has caused user to leave the application for instance ID: %s",
             instanceId));
     IronSourceBannerAd ironSourceBannerAd =
-        IronSourceBannerAd.getFromAvailableInstances(instanceId);
+        IronSourceBannerAd.bannerEventBus.route(instanceId, "onBannerAdLeftApplication");
 
     if (ironSourceBannerAd != null) {
       MediationBannerAdCallback adCallback = ironSourceBannerAd.getBannerAdCallback();
       if (adCallback != null) {
-        adCallback.onAdLeftApplication();
+        MainThreadDispatcher.dispatch(
+            "IronSource", ironSourceBannerAd, adCallback::onAdLeftApplication);
       }
     }
   }
@@ -25,25 +25,34 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdEventBus;
+import com.google.ads.mediation.common.AdLeakTracker;
+import com.google.ads.mediation.common.AdReadinessTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
+  /** Routes the events of the global interstitial listener to the ad of their instance ID. */
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceInterstitialAd>>
-      availableInterstitialInstances = new ConcurrentHashMap<>();
+  static final AdEventBus<IronSourceInterstitialAd> interstitialEventBus =
+      new AdEventBus<>("IronSource");
 
   private static final IronSourceInterstitialAdListener ironSourceInterstitialListener =
       new IronSourceInterstitialAdListener();
 
+  /** Tracks how long loaded interstitial ads stay showable. */
+  @VisibleForTesting
+  static final AdReadinessTracker interstitialAdReadinessTracker =
+      new AdReadinessTracker("IronSource", TimeUnit.MINUTES.toMillis(60));
+
   private MediationInterstitialAdCallback interstitialAdCallback;
 
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -51,6 +60,9 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   private final String instanceID;
 
+  /** Validity of the loaded ad, set once IronSource reported it ready. */
+  @Nullable private AdReadinessTracker.TrackedAd loadedAdReadiness;
+
   public IronSourceInterstitialAd(
       @NonNull MediationInterstitialAdConfiguration adConfiguration,
       @NonNull
@@ -64,13 +76,15 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   /** Getters and Setters. */
   static IronSourceInterstitialAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInterstitialInstances.containsKey(instanceId)
-        ? availableInterstitialInstances.get(instanceId).get()
-        : null;
+    return interstitialEventBus.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInterstitialInstances.remove(instanceId);
+    IronSourceInterstitialAd interstitialAd = interstitialEventBus.unregister(instanceId);
+    if (interstitialAd != null) {
+      interstitialAd.destroy();
+    }
+    AdLeakTracker.release(interstitialAd);
   }
 
   static IronSourceInterstitialAdListener getIronSourceInterstitialListener() {
@@ -90,6 +104,33 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
     return mediationAdLoadCallback;
   }
 
+  /** Starts tracking the validity of the ad IronSource just loaded. */
+  void onAdReady() {
+    loadedAdReadiness = interstitialAdReadinessTracker.onAdLoaded(instanceID);
+  }
+
+  /** Stops tracking the validity of the ad once it was shown. */
+  void onAdOpened() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+    }
+  }
+
+  /** Stops tracking the validity of the ad once it is no longer available to show. */
+  private void destroy() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+      loadedAdReadiness = null;
+    }
+  }
+
+  /** Records an IronSource show failure, counting it if the ad had expired. */
+  void onAdFailedToShow() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.onShowFailed();
+    }
+  }
+
   /** Attempts to load an @{link IronSource} interstitial ad. */
   public void loadWaterfallAd(@NonNull MediationInterstitialAdConfiguration adConfiguration) {
     if (!loadValidConfig(adConfiguration)) {
@@ -106,7 +147,8 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
       return false;
     }
 
-    availableInterstitialInstances.put(instanceID, new WeakReference<>(this));
+    interstitialEventBus.register(instanceID, this);
+    AdLeakTracker.register(this, "IronSource", "interstitial");
     Log.d(
         TAG, String.format("Loading IronSource interstitial ad with instance ID: %s", instanceID));
     return true;
@@ -120,8 +162,7 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
     }
 
     // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(
-        instanceID, availableInterstitialInstances)) {
+    if (interstitialEventBus.isRegistered(instanceID)) {
       String errorMessage =
           String.format(
               "An IronSource interstitial ad is already loading for instance ID: %s", instanceID);
@@ -136,6 +177,17 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   @Override
   public void showAd(@NonNull Context context) {
+    if (loadedAdReadiness != null) {
+      AdError expiredError = loadedAdReadiness.checkShow();
+      if (expiredError != null) {
+        removeFromAvailableInstances(instanceID);
+        if (interstitialAdCallback != null) {
+          interstitialAdCallback.onAdFailedToShow(expiredError);
+        }
+        return;
+      }
+    }
+
     IronSource.showISDemandOnlyInterstitial(instanceID);
   }
 
@@ -19,6 +19,7 @@ import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRO
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.MainThreadDispatcher;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyInterstitialListener;
@@ -31,15 +32,21 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
     Log.d(
         TAG, String.format("IronSource interstitial ad is ready for instance ID: %s", instanceId));
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(instanceId, "onInterstitialAdReady");
 
     if (ironSourceInterstitialAd != null) {
-      if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
-        ironSourceInterstitialAd.setInterstitialAdCallback(
-            ironSourceInterstitialAd
-                .getMediationAdLoadCallback()
-                .onSuccess(ironSourceInterstitialAd));
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            ironSourceInterstitialAd.onAdReady();
+            if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
+              ironSourceInterstitialAd.setInterstitialAdCallback(
+                  ironSourceInterstitialAd
+                      .getMediationAdLoadCallback()
+                      .onSuccess(ironSourceInterstitialAd));
+            }
+          });
     }
   }
 
@@ -53,12 +60,18 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
             IRONSOURCE_SDK_ERROR_DOMAIN);
     Log.w(TAG, loadError.toString());
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(
+            instanceId, "onInterstitialAdLoadFailed");
 
     if (ironSourceInterstitialAd != null) {
-      if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
-        ironSourceInterstitialAd.getMediationAdLoadCallback().onFailure(loadError);
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
+              ironSourceInterstitialAd.getMediationAdLoadCallback().onFailure(loadError);
+            }
+          });
     }
 
     IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
@@ -68,15 +81,21 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
   public void onInterstitialAdOpened(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource interstitial ad opened for instance ID: %s", instanceId));
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(instanceId, "onInterstitialAdOpened");
 
     if (ironSourceInterstitialAd != null) {
-      MediationInterstitialAdCallback adCallback =
-          ironSourceInterstitialAd.getInterstitialAdCallback();
-      if (adCallback != null) {
-        adCallback.onAdOpened();
-        adCallback.reportAdImpression();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            ironSourceInterstitialAd.onAdOpened();
+            MediationInterstitialAdCallback adCallback =
+                ironSourceInterstitialAd.getInterstitialAdCallback();
+            if (adCallback != null) {
+              adCallback.onAdOpened();
+              adCallback.reportAdImpression();
+            }
+          });
     }
   }
 
@@ -84,14 +103,19 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
   public void onInterstitialAdClosed(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource interstitial ad closed for instance ID: %s", instanceId));
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(instanceId, "onInterstitialAdClosed");
 
     if (ironSourceInterstitialAd != null) {
-      MediationInterstitialAdCallback adCallback =
-          ironSourceInterstitialAd.getInterstitialAdCallback();
-      if (adCallback != null) {
-        adCallback.onAdClosed();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            MediationInterstitialAdCallback adCallback =
+                ironSourceInterstitialAd.getInterstitialAdCallback();
+            if (adCallback != null) {
+              adCallback.onAdClosed();
+            }
+          });
     }
 
     IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
@@ -107,14 +131,21 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
             IRONSOURCE_SDK_ERROR_DOMAIN);
     Log.w(TAG, showError.toString());
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(
+            instanceId, "onInterstitialAdShowFailed");
 
     if (ironSourceInterstitialAd != null) {
-      MediationInterstitialAdCallback adCallback =
-          ironSourceInterstitialAd.getInterstitialAdCallback();
-      if (adCallback != null) {
-        adCallback.onAdFailedToShow(showError);
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            ironSourceInterstitialAd.onAdFailedToShow();
+            MediationInterstitialAdCallback adCallback =
+                ironSourceInterstitialAd.getInterstitialAdCallback();
+            if (adCallback != null) {
+              adCallback.onAdFailedToShow(showError);
+            }
+          });
     }
 
     IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
@@ -124,14 +155,19 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
   public void onInterstitialAdClicked(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource interstitial ad clicked for instance ID: %s", instanceId));
     IronSourceInterstitialAd ironSourceInterstitialAd =
-        IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
+        IronSourceInterstitialAd.interstitialEventBus.route(instanceId, "onInterstitialAdClicked");
 
     if (ironSourceInterstitialAd != null) {
-      MediationInterstitialAdCallback adCallback =
-          ironSourceInterstitialAd.getInterstitialAdCallback();
-      if (adCallback != null) {
-        adCallback.reportAdClicked();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceInterstitialAd,
+          () -> {
+            MediationInterstitialAdCallback adCallback =
+                ironSourceInterstitialAd.getInterstitialAdCallback();
+            if (adCallback != null) {
+              adCallback.reportAdClicked();
+            }
+          });
     }
   }
 }
@@ -20,11 +20,17 @@ import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.InitSnapshotStore;
+import com.google.ads.mediation.common.PendingLoadQueue;
+import com.google.ads.mediation.common.SdkInitRunner;
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
@@ -51,6 +57,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -63,6 +70,28 @@ public class IronSourceMediationAdapter extends RtbAdapter {
 
   private static final AtomicBoolean isInitialized = new AtomicBoolean(false);
 
+  private static final AtomicBoolean isInitializing = new AtomicBoolean(false);
+
+  /**
+   * Held while initialization ends and while a load is queued, so that every queued load is
+   * either drained or failed.
+   */
+  private static final Object initializationEndLock = new Object();
+
+  /** Waterfall loads requested while the IronSource SDK is still initializing. */
+  @VisibleForTesting
+  static final PendingLoadQueue pendingLoadQueue = new PendingLoadQueue("IronSource");
+
+  /** The configuration of the last successful initialization, persisted across launches. */
+  private static InitSnapshotStore initSnapshotStore;
+
+  /**
+   * The LevelPlay integration guide requires IronSource.init() to be called on the main thread,
+   * with the app's context, before any ad is loaded.
+   */
+  private static final SdkInitRunner sdkInitRunner =
+      new SdkInitRunner("IronSource", InitThreading.MAIN);
+
   // region Error codes
   /** IronSource adapter error domain. */
   public static final String ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.ironsource";
@@ -180,25 +209,34 @@ public class IronSourceMediationAdapter extends RtbAdapter {
       return;
     }
 
-    // Having multiple app keys is not considered an error.
-    String appKey = appKeys.iterator().next();
-    if (TextUtils.isEmpty(appKey)) {
-      AdError initializationError =
-          new AdError(
-              ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid app key.", ADAPTER_ERROR_DOMAIN);
-      initializationCompleteCallback.onInitializationFailed(initializationError.getMessage());
-      return;
-    }
-
-    if (count > 1) {
-      String message =
-          String.format(
-              "Multiple '%s' entries found: %s. Using app key '%s' to initialize "
-                  + "the IronSource SDK.",
-              KEY_APP_KEY, appKeys, appKey);
-      Log.w(TAG, message);
-    }
+    // Loads that arrive while the snapshot is read and the SDK initializes are queued.
+    isInitializing.set(true);
+
+    // Having multiple app keys is not considered an error. Prefer the app key that the SDK was
+    // last initialized with, so that the choice does not depend on the iteration order. The
+    // snapshot is read off the main thread before picking.
+    final InitSnapshotStore snapshotStore = getInitSnapshotStore(context);
+    snapshotStore.pick(
+        KEY_APP_KEY,
+        appKeys,
+        appKey -> {
+          if (count > 1) {
+            String message =
+                String.format(
+                    "Multiple '%s' entries found: %s. Using app key '%s' to initialize "
+                        + "the IronSource SDK.",
+                    KEY_APP_KEY, appKeys, appKey);
+            Log.w(TAG, message);
+          }
+          initializeIronSource(context, appKey, snapshotStore, initializationCompleteCallback);
+        });
+  }
 
+  private void initializeIronSource(
+      @NonNull Context context,
+      @NonNull final String appKey,
+      @NonNull final InitSnapshotStore snapshotStore,
+      @NonNull final InitializationCompleteCallback initializationCompleteCallback) {
     IronSource.setMediationType(IronSourceAdapterUtils.getMediationType());
     Log.d(TAG, "Initializing IronSource SDK with app key: " + appKey);
 
@@ -212,27 +250,80 @@ public class IronSourceMediationAdapter extends RtbAdapter {
     InitRequest initRequest =
         new InitRequest.Builder(appKey).withLegacyAdFormats(adFormatsToInitialize).build();
 
-    IronSourceAds.init(
-        context,
-        initRequest,
-        new InitListener() {
-          @Override
-          public void onInitSuccess() {
-            isInitialized.set(true);
-            initializationCompleteCallback.onInitializationSucceeded();
-          }
-
-          @Override
-          public void onInitFailed(@NonNull final IronSourceError ironSourceError) {
-            initializationCompleteCallback.onInitializationFailed(
-                ironSourceError.getErrorMessage());
-          }
-        });
-
+    // Set the listeners before initializing, since loads queued during initialization are sent
+    // as soon as it succeeds.
     IronSource.setISDemandOnlyInterstitialListener(
         IronSourceInterstitialAd.getIronSourceInterstitialListener());
     IronSource.setISDemandOnlyRewardedVideoListener(
         IronSourceRewardedAd.getIronSourceRewardedListener());
+
+    final long initStartMillis = SystemClock.elapsedRealtime();
+    sdkInitRunner.run(
+        () ->
+            IronSourceAds.init(
+                context,
+                initRequest,
+                new InitListener() {
+                  @Override
+                  public void onInitSuccess() {
+                    synchronized (initializationEndLock) {
+                      isInitialized.set(true);
+                      isInitializing.set(false);
+                    }
+                    initializationCompleteCallback.onInitializationSucceeded();
+                    pendingLoadQueue.drain();
+                    snapshotStore.write(
+                        Collections.singletonMap(KEY_APP_KEY, appKey),
+                        SystemClock.elapsedRealtime() - initStartMillis);
+                  }
+
+                  @Override
+                  public void onInitFailed(@NonNull final IronSourceError ironSourceError) {
+                    synchronized (initializationEndLock) {
+                      isInitializing.set(false);
+                    }
+                    snapshotStore.clear();
+                    initializationCompleteCallback.onInitializationFailed(
+                        ironSourceError.getErrorMessage());
+                    AdError initializationError =
+                        new AdError(
+                            ERROR_SDK_NOT_INITIALIZED,
+                            "IronSource SDK failed to initialize: "
+                                + ironSourceError.getErrorMessage(),
+                            ADAPTER_ERROR_DOMAIN);
+                    pendingLoadQueue.failAll(initializationError);
+                  }
+                }));
+  }
+
+  @VisibleForTesting
+  static synchronized void setInitSnapshotStore(@Nullable InitSnapshotStore store) {
+    initSnapshotStore = store;
+  }
+
+  private static synchronized InitSnapshotStore getInitSnapshotStore(@NonNull Context context) {
+    if (initSnapshotStore == null) {
+      initSnapshotStore =
+          new InitSnapshotStore(
+              context.getApplicationContext(),
+              "IronSource",
+              IronSourceAdapterUtils.getAdapterVersion());
+    }
+    return initSnapshotStore;
+  }
+
+  /**
+   * Queues a waterfall load if the IronSource SDK is still initializing.
+   *
+   * @return {@code true} if the load was queued and will be sent or failed once initialization
+   *     finishes.
+   */
+  private boolean queueUntilInitialized(@NonNull PendingLoadQueue.PendingLoad pendingLoad) {
+    // Initialization cannot end between the check and the enqueue, so a load queued here is always
+    // drained or failed by the initialization listener.
+    synchronized (initializationEndLock) {
+      return isInitializing.get() && pendingLoadQueue.enqueue(pendingLoad);
+    }
   }
 
   @Override
@@ -248,6 +339,23 @@ public class IronSourceMediationAdapter extends RtbAdapter {
           final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
               mediationAdLoadCallback) {
     if (!isInitialized.get()) {
+      boolean queued =
+          queueUntilInitialized(
+              new PendingLoadQueue.PendingLoad() {
+                @Override
+                public void load() {
+                  loadRewardedAd(adConfiguration, mediationAdLoadCallback);
+                }
+
+                @Override
+                public void fail(@NonNull AdError error) {
+                  mediationAdLoadCallback.onFailure(error);
+                }
+              });
+      if (queued) {
+        return;
+      }
+
       AdError adError =
           new AdError(
               ERROR_SDK_NOT_INITIALIZED,
@@ -294,6 +402,23 @@ public class IronSourceMediationAdapter extends RtbAdapter {
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
               mediationAdLoadCallback) {
     if (!isInitialized.get()) {
+      boolean queued =
+          queueUntilInitialized(
+              new PendingLoadQueue.PendingLoad() {
+                @Override
+                public void load() {
+                  loadInterstitialAd(adConfiguration, mediationAdLoadCallback);
+                }
+
+                @Override
+                public void fail(@NonNull AdError error) {
+                  mediationAdLoadCallback.onFailure(error);
+                }
+              });
+      if (queued) {
+        return;
+      }
+
       AdError loadError =
           new AdError(
               ERROR_SDK_NOT_INITIALIZED,
@@ -357,4 +482,9 @@ public class IronSourceMediationAdapter extends RtbAdapter {
   public void setIsInitialized(boolean isInitializedValue) {
     isInitialized.set(isInitializedValue);
   }
+
+  @VisibleForTesting
+  void setIsInitializing(boolean isInitializingValue) {
+    isInitializing.set(isInitializingValue);
+  }
 }
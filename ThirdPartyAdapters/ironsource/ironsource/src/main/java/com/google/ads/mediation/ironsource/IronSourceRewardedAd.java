@@ -26,20 +26,20 @@ import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdEventBus;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceRewardedAd implements MediationRewardedAd {
 
+  /** Routes the events of the global rewarded listener to the ad of their instance ID. */
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceRewardedAd>> availableInstances =
-      new ConcurrentHashMap<>();
+  static final AdEventBus<IronSourceRewardedAd> rewardedEventBus = new AdEventBus<>("IronSource");
 
   private static final IronSourceRewardedAdListener ironSourceRewardedListener =
       new IronSourceRewardedAdListener();
@@ -64,13 +64,11 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
 
   /** Getters and Setters. */
   static IronSourceRewardedAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInstances.containsKey(instanceId)
-        ? availableInstances.get(instanceId).get()
-        : null;
+    return rewardedEventBus.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInstances.remove(instanceId);
+    AdLeakTracker.release(rewardedEventBus.unregister(instanceId));
   }
 
   static IronSourceRewardedAdListener getIronSourceRewardedListener() {
@@ -95,7 +93,8 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
       return false;
     }
 
-    availableInstances.put(instanceID, new WeakReference<>(this));
+    rewardedEventBus.register(instanceID, this);
+    AdLeakTracker.register(this, "IronSource", "rewarded");
     Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
     return true;
   }
@@ -118,7 +117,7 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
     }
 
     // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableInstances)) {
+    if (rewardedEventBus.isRegistered(instanceID)) {
       String errorMessage =
           String.format(
               "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
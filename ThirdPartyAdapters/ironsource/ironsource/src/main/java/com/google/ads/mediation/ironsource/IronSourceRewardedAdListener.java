@@ -19,6 +19,7 @@ import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRO
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.MainThreadDispatcher;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyRewardedVideoListener;
@@ -30,13 +31,20 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
   public void onRewardedVideoAdLoadSuccess(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource rewarded ad loaded for instance ID: %s", instanceId));
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdLoadSuccess");
 
     if (ironSourceRewardedAd != null) {
-      if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
-        ironSourceRewardedAd.setRewardedAdCallback(
-            ironSourceRewardedAd.getMediationAdLoadCallback().onSuccess(ironSourceRewardedAd));
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
+              ironSourceRewardedAd.setRewardedAdCallback(
+                  ironSourceRewardedAd
+                      .getMediationAdLoadCallback()
+                      .onSuccess(ironSourceRewardedAd));
+            }
+          });
     }
   }
 
@@ -50,12 +58,17 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
             IRONSOURCE_SDK_ERROR_DOMAIN);
     Log.e(TAG, loadError.toString());
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdLoadFailed");
 
     if (ironSourceRewardedAd != null) {
-      if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
-        ironSourceRewardedAd.getMediationAdLoadCallback().onFailure(loadError);
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
+              ironSourceRewardedAd.getMediationAdLoadCallback().onFailure(loadError);
+            }
+          });
     }
 
     IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
@@ -65,15 +78,20 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
   public void onRewardedVideoAdOpened(@NonNull final String instanceId) {
     Log.d(TAG, String.format("IronSource rewarded ad opened for instance ID: %s", instanceId));
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdOpened");
 
     if (ironSourceRewardedAd != null) {
-      MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
-      if (adCallBack != null) {
-        adCallBack.onAdOpened();
-        adCallBack.onVideoStart();
-        adCallBack.reportAdImpression();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
+            if (adCallBack != null) {
+              adCallBack.onAdOpened();
+              adCallBack.onVideoStart();
+              adCallBack.reportAdImpression();
+            }
+          });
     }
   }
 
@@ -81,13 +99,18 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
   public void onRewardedVideoAdClosed(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource rewarded ad closed for instance ID: %s", instanceId));
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdClosed");
 
     if (ironSourceRewardedAd != null) {
-      MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
-      if (adCallBack != null) {
-        adCallBack.onAdClosed();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
+            if (adCallBack != null) {
+              adCallBack.onAdClosed();
+            }
+          });
     }
 
     IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
@@ -99,14 +122,19 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
         TAG,
         String.format("IronSource rewarded ad received reward for instance ID: %s", instanceId));
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdRewarded");
 
     if (ironSourceRewardedAd != null) {
-      MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
-      if (adCallBack != null) {
-        adCallBack.onVideoComplete();
-        adCallBack.onUserEarnedReward();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
+            if (adCallBack != null) {
+              adCallBack.onVideoComplete();
+              adCallBack.onUserEarnedReward();
+            }
+          });
     }
   }
 
@@ -120,14 +148,19 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
             IRONSOURCE_SDK_ERROR_DOMAIN);
     Log.e(TAG, showError.toString());
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdShowFailed");
 
     if (ironSourceRewardedAd != null) {
-      // Check currently showing instance existence.
-      MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
-      if (adCallBack != null) {
-        adCallBack.onAdFailedToShow(showError);
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            // Check currently showing instance existence.
+            MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
+            if (adCallBack != null) {
+              adCallBack.onAdFailedToShow(showError);
+            }
+          });
     }
 
     IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
@@ -137,13 +170,18 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
   public void onRewardedVideoAdClicked(@NonNull String instanceId) {
     Log.d(TAG, String.format("IronSource rewarded ad clicked for instance ID: %s", instanceId));
     IronSourceRewardedAd ironSourceRewardedAd =
-        IronSourceRewardedAd.getFromAvailableInstances(instanceId);
+        IronSourceRewardedAd.rewardedEventBus.route(instanceId, "onRewardedVideoAdClicked");
 
     if (ironSourceRewardedAd != null) {
-      MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
-      if (adCallBack != null) {
-        adCallBack.reportAdClicked();
-      }
+      MainThreadDispatcher.dispatch(
+          "IronSource",
+          ironSourceRewardedAd,
+          () -> {
+            MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
+            if (adCallBack != null) {
+              adCallBack.reportAdClicked();
+            }
+          });
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.google.ads.mediation.ironsource
 
 import android.app.Activity
+import android.os.Looper
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
@@ -21,11 +22,13 @@ import org.mockito.Mockito.mockStatic
 import org.mockito.kotlin.any
 import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.inOrder
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 /** Tests for [IronSourceInterstitialAd]. */
 @RunWith(AndroidJUnit4::class)
@@ -174,6 +177,29 @@ class IronSourceInterstitialAdTest {
     verify(mockInterstitialAdCallback).reportAdImpression()
   }
 
+  @Test
+  fun onAdEvents_fromBackgroundThread_deliversCallbacksOnMainThreadInOrder() {
+    loadInterstitialAd()
+    val ironSourceInterstitialAdListener =
+      IronSourceInterstitialAd.getIronSourceInterstitialListener()
+    ironSourceInterstitialAdListener.onInterstitialAdReady(/* instanceId= */ "0")
+
+    val thread = Thread {
+      ironSourceInterstitialAdListener.onInterstitialAdOpened(/* instanceId= */ "0")
+      ironSourceInterstitialAdListener.onInterstitialAdClosed(/* instanceId= */ "0")
+    }
+    thread.start()
+    thread.join()
+    verifyNoInteractions(mockInterstitialAdCallback)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    inOrder(mockInterstitialAdCallback) {
+      verify(mockInterstitialAdCallback).onAdOpened()
+      verify(mockInterstitialAdCallback).reportAdImpression()
+      verify(mockInterstitialAdCallback).onAdClosed()
+    }
+  }
+
   @Test
   fun onInterstitialAdClosed_withInterstitialAd_verifyOnAdClosedCallback() {
     loadInterstitialAd()
@@ -20,6 +20,7 @@ import com.google.ads.mediation.adaptertestkit.loadRtbInterstitialAdWithFailure
 import com.google.ads.mediation.adaptertestkit.loadRtbRewardedAdWithFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifySuccess
+import com.google.ads.mediation.common.InitSnapshotStore
 import com.google.ads.mediation.ironsource.IronSourceAdapterUtils.getAdapterVersion
 import com.google.ads.mediation.ironsource.IronSourceConstants.KEY_APP_KEY
 import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN
@@ -43,13 +44,16 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertThat
 import com.ironsource.mediationsdk.IronSource
 import com.ironsource.mediationsdk.IronSource.createBannerForDemandOnly
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyBannerLayout
+import com.ironsource.mediationsdk.logger.IronSourceError
 import com.unity3d.ironsourceads.InitListener
 import com.unity3d.ironsourceads.InitRequest
 import com.unity3d.ironsourceads.IronSourceAds
 import com.unity3d.ironsourceads.IronSourceAds.getSdkVersion
+import java.util.concurrent.Executor
 import org.junit.After
 import org.junit.Before
 import org.junit.Test
@@ -58,9 +62,11 @@ import org.mockito.ArgumentMatcher
 import org.mockito.Mockito.mockStatic
 import org.mockito.kotlin.any
 import org.mockito.kotlin.argThat
+import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
@@ -82,9 +88,13 @@ class IronSourceMediationAdapterTest {
     mock<MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>>()
   private val mockRewardedAdLoadCallback =
     mock<MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>>()
+  // Reads and writes the snapshot right away, so that initialize() picks the app key synchronously.
+  private val initSnapshotStore =
+    InitSnapshotStore(context, "IronSource", TEST_ADAPTER_VERSION, executor = Executor { it.run() })
 
   @Before
   fun setUp() {
+    IronSourceMediationAdapter.setInitSnapshotStore(initSnapshotStore)
     adapter = IronSourceMediationAdapter()
   }
 
@@ -228,6 +238,33 @@ class IronSourceMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_withMultipleMediationConfigurationsAndStoredAppKey_initializesWithStoredAppKey() {
+    // Without a snapshot, TEST_APP_ID_2 is picked (see the test above).
+    initSnapshotStore.write(mapOf(KEY_APP_KEY to TEST_APP_ID_1), /* initDurationMillis= */ 0)
+
+    mockStatic(IronSourceAds::class.java).use { mockedStatic ->
+      adapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        listOf(
+          createMediationConfiguration(
+            AdFormat.BANNER,
+            serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_1),
+          ),
+          createMediationConfiguration(
+            AdFormat.INTERSTITIAL,
+            serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_2),
+          ),
+        ),
+      )
+
+      mockedStatic.verify {
+        IronSourceAds.init(eq(context), argThat { appKey == TEST_APP_ID_1 }, any())
+      }
+    }
+  }
+
   @Test
   fun initialize_alreadyInitialized_invokesOnInitializationSucceededOnlyOnce() {
     adapter.setIsInitialized(true)
@@ -349,7 +386,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationBannerAdConfiguration(activity)
     adapter.loadBannerAd(mediationAdConfiguration, mockBannerAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceBannerAd.availableBannerInstances["0"]?.clear()
+    IronSourceBannerAd.bannerEventBus.getReference("0")?.clear()
     mockStatic(IronSource::class.java).use {
       val mockISBannerLayout = mock<ISDemandOnlyBannerLayout>()
       whenever(createBannerForDemandOnly(any(), any())) doReturn mockISBannerLayout
@@ -376,6 +413,24 @@ class IronSourceMediationAdapterTest {
     )
   }
 
+  @Test
+  fun loadInterstitialAd_whileInitializing_loadsAfterInitializationSucceeds() {
+    mockStatic(IronSourceAds::class.java).use {
+      mockStatic(IronSource::class.java).use { ironSourceStatic ->
+        val initListener = initializeWithoutCompleting()
+        val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
+
+        adapter.loadInterstitialAd(mediationAdConfiguration, mockInterstitialAdLoadCallback)
+
+        ironSourceStatic.verify({ IronSource.loadISDemandOnlyInterstitial(any(), any()) }, never())
+        initListener.onInitSuccess()
+        ironSourceStatic.verify { IronSource.loadISDemandOnlyInterstitial(activity, "0") }
+        verify(mockInterstitialAdLoadCallback, never()).onFailure(any<AdError>())
+        assertThat(IronSourceMediationAdapter.pendingLoadQueue.rescuedCount).isAtLeast(1)
+      }
+    }
+  }
+
   @Test
   fun loadInterstitialAd_invalidContext_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
@@ -480,6 +535,22 @@ class IronSourceMediationAdapterTest {
     )
   }
 
+  @Test
+  fun loadRewardedAd_whileInitializing_failsWhenInitializationFails() {
+    mockStatic(IronSourceAds::class.java).use {
+      val initListener = initializeWithoutCompleting()
+      val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
+
+      adapter.loadRewardedAd(mediationAdConfiguration, mockRewardedAdLoadCallback)
+      initListener.onInitFailed(IronSourceError(INIT_ERROR_CODE, INIT_ERROR_MESSAGE))
+
+      val errorCaptor = argumentCaptor<AdError>()
+      verify(mockRewardedAdLoadCallback).onFailure(errorCaptor.capture())
+      assertThat(errorCaptor.firstValue.code).isEqualTo(ERROR_SDK_NOT_INITIALIZED)
+      assertThat(errorCaptor.firstValue.domain).isEqualTo(ADAPTER_ERROR_DOMAIN)
+    }
+  }
+
   @Test
   fun loadRewardedAd_invalidContext_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
@@ -559,7 +630,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedAd(mediationAdConfiguration, mockRewardedAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    IronSourceRewardedAd.rewardedEventBus.getReference("0")?.clear()
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -647,7 +718,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedInterstitialAd(mediationAdConfiguration, mockRewardedAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    IronSourceRewardedAd.rewardedEventBus.getReference("0")?.clear()
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -660,6 +731,8 @@ class IronSourceMediationAdapterTest {
   @After
   fun tearDown() {
     adapter.setIsInitialized(false)
+    adapter.setIsInitializing(false)
+    IronSourceMediationAdapter.setInitSnapshotStore(null)
     IronSourceBannerAd.removeFromAvailableInstances(/* instanceId= */ "0")
     IronSourceInterstitialAd.removeFromAvailableInstances(/* instanceId= */ "0")
     IronSourceRewardedAd.removeFromAvailableInstances(/* instanceId= */ "0")
@@ -670,6 +743,29 @@ class IronSourceMediationAdapterTest {
     serverParameters: Bundle = bundleOf(),
   ) = MediationConfiguration(adFormat, serverParameters)
 
+  /**
+   * Starts initializing the adapter with a mocked [IronSourceAds] and returns the listener that
+   * completes initialization.
+   */
+  private fun initializeWithoutCompleting(): InitListener {
+    var initListener: InitListener? = null
+    whenever(IronSourceAds.init(any(), any(), any())).thenAnswer { invocation ->
+      initListener = invocation.getArgument<InitListener>(2)
+      null
+    }
+    adapter.initialize(
+      context,
+      mockInitializationCompleteCallback,
+      listOf(
+        createMediationConfiguration(
+          AdFormat.INTERSTITIAL,
+          serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_1),
+        )
+      ),
+    )
+    return initListener!!
+  }
+
   private fun getUninitializedErrorMessage(adFormat: String) =
     "Failed to load IronSource $adFormat ad since IronSource SDK is not initialized."
 
@@ -684,10 +780,13 @@ class IronSourceMediationAdapterTest {
   }
 
   private companion object {
+    const val TEST_ADAPTER_VERSION = "8.3.2.0"
     const val TEST_APP_ID_1 = "testAppId1"
     const val TEST_APP_ID_2 = "testAppId2"
     const val MISSING_OR_INVALID_APP_KEY_MESSAGE = "Missing or invalid app key."
     const val INVALID_CONTEXT_MESSAGE = "IronSource requires an Activity context to load ads."
     const val INVALID_INSTANCE_ID_MESSAGE = "Missing or invalid instance ID."
+    const val INIT_ERROR_CODE = 508
+    const val INIT_ERROR_MESSAGE = "Init failed."
   }
 }
@@ -26,15 +26,21 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdReadinessTracker;
+import com.google.ads.mediation.common.AppOpenAdPreloader;
+import com.google.ads.mediation.common.BidPayloadStage;
+import com.google.ads.mediation.common.LoadCircuitBreaker;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
 import com.google.ads.mediation.vungle.rtb.VungleRtbAppOpenAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbBannerAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbInterstitialAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbNativeAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbRewardedAd;
+import com.google.ads.mediation.vungle.waterfall.VungleAppOpenAdPreloadLoader;
 import com.google.ads.mediation.vungle.waterfall.VungleWaterfallAppOpenAd;
 import com.google.ads.mediation.vungle.waterfall.VungleWaterfallBannerAd;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
@@ -61,6 +67,7 @@ import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import com.vungle.ads.AdConfig;
 import com.vungle.ads.BaseAd;
 import com.vungle.ads.BidTokenCallback;
+import com.vungle.ads.InterstitialAd;
 import com.vungle.ads.RewardedAd;
 import com.vungle.ads.RewardedAdListener;
 import com.vungle.ads.VungleError;
@@ -69,6 +76,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /** Mediation network adapter for Liftoff Monetize. */
 public class VungleMediationAdapter extends RtbAdapter
@@ -76,6 +84,9 @@ public class VungleMediationAdapter extends RtbAdapter
 
   public static final String TAG = VungleMediationAdapter.class.getSimpleName();
 
+  /** Network name used for the shared load statistics. */
+  public static final String NETWORK_NAME = "Liftoff Monetize";
+
   private VungleWaterfallAppOpenAd waterfallAppOpenAd;
 
   private VungleRtbBannerAd rtbBannerAd;
@@ -94,6 +105,29 @@ public class VungleMediationAdapter extends RtbAdapter
 
   private final VungleFactory vungleFactory;
 
+  /** Fails waterfall rewarded loads locally for placements that keep returning no-fill. */
+  @VisibleForTesting
+  static final LoadCircuitBreaker waterfallLoadCircuitBreaker =
+      new LoadCircuitBreaker(NETWORK_NAME);
+
+  /** Placement ID of the waterfall rewarded ad being loaded. */
+  private String waterfallPlacementId;
+
+  /**
+   * Tracks how long loaded bidding interstitial and rewarded ads stay playable. Liftoff Monetize
+   * ads expire about an hour after they are loaded.
+   */
+  public static final AdReadinessTracker fullScreenAdReadinessTracker =
+      new AdReadinessTracker(NETWORK_NAME, TimeUnit.MINUTES.toMillis(60));
+
+  /**
+   * Keeps one waterfall app open ad per placement loaded from the moment the Liftoff Monetize SDK
+   * is initialized, so that the app's first app open request can be served right away. Off until
+   * enabled with {@link AppOpenAdPreloader#setEnabled}.
+   */
+  public static final AppOpenAdPreloader<InterstitialAd> appOpenAdPreloader =
+      new AppOpenAdPreloader<>(NETWORK_NAME, TimeUnit.MINUTES.toMillis(60));
+
   /** Liftoff Monetize adapter error domain. */
   public static final String ERROR_DOMAIN = "com.google.ads.mediation.vungle";
 
@@ -220,6 +254,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
     if (VungleSdkWrapper.delegate.isInitialized()) {
       initializationCompleteCallback.onInitializationSucceeded();
+      preloadAppOpenAds(context, mediationConfigurations);
       return;
     }
 
@@ -262,6 +297,7 @@ public class VungleMediationAdapter extends RtbAdapter
               @Override
               public void onInitializeSuccess() {
                 initializationCompleteCallback.onInitializationSucceeded();
+                preloadAppOpenAds(context, mediationConfigurations);
               }
 
               @Override
@@ -272,6 +308,25 @@ public class VungleMediationAdapter extends RtbAdapter
             });
   }
 
+  /** Starts preloading an app open ad for each app open placement, if preloading is enabled. */
+  private void preloadAppOpenAds(
+      @NonNull Context context, @NonNull List<MediationConfiguration> mediationConfigurations) {
+    if (!appOpenAdPreloader.isEnabled()) {
+      return;
+    }
+    VungleAppOpenAdPreloadLoader loader =
+        new VungleAppOpenAdPreloadLoader(context.getApplicationContext(), vungleFactory);
+    for (MediationConfiguration configuration : mediationConfigurations) {
+      if (configuration.getFormat() != AdFormat.APP_OPEN) {
+        continue;
+      }
+      String placementId = configuration.getServerParameters().getString(KEY_PLACEMENT_ID);
+      if (!TextUtils.isEmpty(placementId)) {
+        appOpenAdPreloader.preload(placementId, loader);
+      }
+    }
+  }
+
   @Override
   public void loadBannerAd(
       @NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration,
@@ -326,6 +381,15 @@ public class VungleMediationAdapter extends RtbAdapter
       return;
     }
 
+    // Skip placements that keep returning no-fill.
+    AdError suppressedError = waterfallLoadCircuitBreaker.checkLoad(placement);
+    if (suppressedError != null) {
+      Log.w(TAG, suppressedError.toString());
+      mediationAdLoadCallback.onFailure(suppressedError);
+      return;
+    }
+    waterfallPlacementId = placement;
+
     adConfig = vungleFactory.createAdConfig();
     if (mediationExtras != null && mediationExtras.containsKey(KEY_ORIENTATION)) {
       adConfig.setAdOrientation(mediationExtras.getInt(KEY_ORIENTATION, AdConfig.AUTO_ROTATE));
@@ -379,6 +443,9 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
     Log.d(TAG, "Loaded waterfall rewarded ad from Liftoff Monetize.");
+    if (waterfallPlacementId != null) {
+      waterfallLoadCircuitBreaker.onLoadSucceeded(waterfallPlacementId);
+    }
     if (mediationAdLoadCallback != null) {
       mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleMediationAdapter.this);
     }
@@ -436,6 +503,13 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
+    if (waterfallPlacementId != null) {
+      if (vungleError.getCode() == VungleError.NO_SERVE) {
+        waterfallLoadCircuitBreaker.onNoFill(waterfallPlacementId);
+      } else {
+        waterfallLoadCircuitBreaker.onLoadFailed(waterfallPlacementId);
+      }
+    }
     AdError error = getAdError(vungleError);
     Log.w(
         TAG,
@@ -494,6 +568,12 @@ public class VungleMediationAdapter extends RtbAdapter
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
               mediationAdLoadCallback) {
     Log.d(TAG, "loadRtbRewardedAd()...");
+    if (!checkBidResponse(
+        VungleRtbRewardedAd.AD_FORMAT,
+        mediationRewardedAdConfiguration.getBidResponse(),
+        mediationAdLoadCallback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbRewardedAd = new VungleRtbRewardedAd(mediationAdLoadCallback, vungleFactory);
@@ -507,6 +587,12 @@ public class VungleMediationAdapter extends RtbAdapter
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
               mediationAdLoadCallback) {
     Log.d(TAG, "loadRtbBannerAd()...");
+    if (!checkBidResponse(
+        VungleRtbBannerAd.AD_FORMAT,
+        mediationBannerAdConfiguration.getBidResponse(),
+        mediationAdLoadCallback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbBannerAd = new VungleRtbBannerAd(mediationAdLoadCallback, vungleFactory);
@@ -520,6 +606,12 @@ public class VungleMediationAdapter extends RtbAdapter
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
               mediationAdLoadCallback) {
     Log.d(TAG, "loadRtbInterstitialAd()...");
+    if (!checkBidResponse(
+        VungleRtbInterstitialAd.AD_FORMAT,
+        mediationInterstitialAdConfiguration.getBidResponse(),
+        mediationAdLoadCallback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbInterstitialAd = new VungleRtbInterstitialAd(mediationAdLoadCallback, vungleFactory);
@@ -531,6 +623,10 @@ public class VungleMediationAdapter extends RtbAdapter
       @NonNull MediationNativeAdConfiguration adConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> callback) {
     Log.d(TAG, "loadRtbNativeAd()...");
+    if (!checkBidResponse(
+        VungleRtbNativeAd.AD_FORMAT, adConfiguration.getBidResponse(), callback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbNativeAd = new VungleRtbNativeAd(callback, vungleFactory);
@@ -547,6 +643,10 @@ public class VungleMediationAdapter extends RtbAdapter
         "Liftoff Monetize adapter was asked to load a rewarded interstitial ad. "
             + "Using the rewarded ad request flow to load the ad to attempt to load a "
             + "rewarded interstitial ad from Liftoff Monetize.");
+    if (!checkBidResponse(
+        VungleRtbRewardedAd.AD_FORMAT, adConfiguration.getBidResponse(), callback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     // Vungle Rewarded Interstitial ads use the same Rewarded Video API.
@@ -558,12 +658,35 @@ public class VungleMediationAdapter extends RtbAdapter
   public void loadRtbAppOpenAd(
       @NonNull MediationAppOpenAdConfiguration mediationAppOpenAdConfiguration,
       @NonNull MediationAdLoadCallback<MediationAppOpenAd, MediationAppOpenAdCallback> callback) {
+    if (!checkBidResponse(
+        VungleRtbAppOpenAd.AD_FORMAT, mediationAppOpenAdConfiguration.getBidResponse(), callback)) {
+      return;
+    }
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbAppOpenAd = new VungleRtbAppOpenAd(callback, vungleFactory);
     rtbAppOpenAd.render(mediationAppOpenAdConfiguration);
   }
 
+  /**
+   * Checks the bid response of an RTB ad load, and fails the load if it cannot be handed to the
+   * Liftoff Monetize SDK.
+   *
+   * @return {@code true} if the ad load can go ahead.
+   */
+  private static boolean checkBidResponse(
+      @NonNull String adFormat,
+      @NonNull String bidResponse,
+      @NonNull MediationAdLoadCallback<?, ?> callback) {
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, adFormat, bidResponse);
+    if (bidResponseError != null) {
+      Log.w(TAG, bidResponseError.toString());
+      callback.onFailure(bidResponseError);
+      return false;
+    }
+    return true;
+  }
+
   static String getAdapterVersion() {
     return BuildConfig.ADAPTER_VERSION;
   }
@@ -82,6 +82,13 @@ abstract class VungleAppOpenAd(
         context,
         object : VungleInitializationListener {
           override fun onInitializeSuccess() {
+            val preloadedAd = takePreloadedAd(context, placement!!, mediationExtras)
+            if (preloadedAd != null) {
+              appOpenAd = preloadedAd
+              appOpenAd.adListener = this@VungleAppOpenAd
+              onAdLoaded(appOpenAd)
+              return
+            }
             val adConfig = vungleFactory.createAdConfig()
             if (mediationExtras.containsKey(VungleConstants.KEY_ORIENTATION)) {
               adConfig.adOrientation =
@@ -103,6 +110,16 @@ abstract class VungleAppOpenAd(
       )
   }
 
+  /**
+   * Returns an app open ad loaded ahead of this request for the given placement, or `null` to load
+   * one now.
+   */
+  protected open fun takePreloadedAd(
+    context: Context,
+    placementId: String,
+    mediationExtras: Bundle,
+  ): InterstitialAd? = null
+
   /** Gets ad markup that needs to be passed in when loading Liftoff's app open ad. */
   abstract fun getAdMarkup(
     mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration
@@ -1,12 +1,16 @@
 package com.google.ads.mediation.vungle.rtb
 
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.vungle.VungleFactory
+import com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME
 import com.google.ads.mediation.vungle.renderers.VungleAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration
 import com.vungle.ads.AdConfig
+import com.vungle.ads.BaseAd
+import com.vungle.ads.VungleError
 
 /**
  * Adapter object for adapting Liftoff's (fka Vungle) app open ad APIs for GMA SDK's RTB
@@ -17,10 +21,15 @@ class VungleRtbAppOpenAd(
   vungleFactory: VungleFactory,
 ) : VungleAppOpenAd(mediationAdLoadCallback, vungleFactory) {
 
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
+
   override fun getAdMarkup(
     mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration
   ): String {
-    return mediationAppOpenAdConfiguration.bidResponse
+    val bidResponse = mediationAppOpenAdConfiguration.bidResponse
+    // The ad markup is read right before it is handed to Liftoff's SDK.
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
+    return bidResponse
   }
 
   override fun maybeAddWatermarkToVungleAdConfig(
@@ -33,4 +42,19 @@ class VungleRtbAppOpenAd(
       adConfig.setWatermark(watermark)
     }
   }
+
+  override fun onAdLoaded(baseAd: BaseAd) {
+    measuredLoad?.finish()
+    super.onAdLoaded(baseAd)
+  }
+
+  override fun onAdFailedToLoad(baseAd: BaseAd, adError: VungleError) {
+    measuredLoad?.finish()
+    super.onAdFailedToLoad(baseAd, adError)
+  }
+
+  companion object {
+    /** Ad format the bid response statistics of this ad are recorded under. */
+    const val AD_FORMAT = "app_open"
+  }
 }
@@ -14,9 +14,12 @@
 
 package com.google.ads.mediation.vungle.rtb;
 
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.renderers.VungleBannerAd;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -24,10 +27,17 @@ import com.google.android.gms.ads.mediation.MediationBannerAd;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 import com.vungle.ads.BannerAdListener;
+import com.vungle.ads.BaseAd;
 import com.vungle.ads.VungleBannerView;
+import com.vungle.ads.VungleError;
 
 public class VungleRtbBannerAd extends VungleBannerAd implements BannerAdListener {
 
+  /** Ad format the bid response statistics of this ad are recorded under. */
+  public static final String AD_FORMAT = "banner";
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public VungleRtbBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -47,6 +57,23 @@ public class VungleRtbBannerAd extends VungleBannerAd implements BannerAdListene
       bannerAdView.getAdConfig().setWatermark(watermark);
     }
 
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, adMarkup);
     bannerAdView.load(adMarkup);
   }
+
+  @Override
+  public void onAdLoaded(@NonNull BaseAd baseAd) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdLoaded(baseAd);
+  }
+
+  @Override
+  public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    super.onAdFailedToLoad(baseAd, vungleError);
+  }
 }
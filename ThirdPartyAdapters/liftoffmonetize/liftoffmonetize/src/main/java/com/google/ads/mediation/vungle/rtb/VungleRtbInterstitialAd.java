@@ -20,6 +20,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -28,6 +29,8 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdReadinessTracker;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
@@ -44,6 +47,8 @@ import com.vungle.ads.VungleError;
 
 public class VungleRtbInterstitialAd implements MediationInterstitialAd, InterstitialAdListener {
 
+  /** Ad format the bid response statistics of this ad are recorded under. */
+  public static final String AD_FORMAT = "interstitial";
 
   @NonNull
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -56,6 +61,14 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   private final VungleFactory vungleFactory;
 
+  /** Placement ID of the ad being rendered. */
+  @Nullable private String placementId;
+
+  /** Validity of the loaded ad, set once Liftoff Monetize loaded it. */
+  @Nullable private AdReadinessTracker.TrackedAd loadedAdReadiness;
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public VungleRtbInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -95,6 +108,8 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
       return;
     }
 
+    placementId = placement;
+
     String adMarkup = mediationInterstitialAdConfiguration.getBidResponse();
 
     AdConfig adConfig = vungleFactory.createAdConfig();
@@ -117,6 +132,7 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
               public void onInitializeSuccess() {
                 interstitialAd = vungleFactory.createInterstitialAd(context, placement, adConfig);
                 interstitialAd.setAdListener(VungleRtbInterstitialAd.this);
+                measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, adMarkup);
                 interstitialAd.load(adMarkup);
               }
 
@@ -130,6 +146,17 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void showAd(@NonNull Context context) {
+    if (loadedAdReadiness != null) {
+      AdError expiredError = loadedAdReadiness.checkShow();
+      if (expiredError != null) {
+        interstitialAd = null;
+        if (mediationInterstitialAdCallback != null) {
+          mediationInterstitialAdCallback.onAdFailedToShow(expiredError);
+        }
+        return;
+      }
+    }
+
     if (interstitialAd != null) {
       interstitialAd.play(context);
     } else if (mediationInterstitialAdCallback != null) {
@@ -143,12 +170,22 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    if (placementId != null) {
+      loadedAdReadiness =
+          VungleMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(placementId);
+    }
     mediationInterstitialAdCallback =
         mediationAdLoadCallback.onSuccess(VungleRtbInterstitialAd.this);
   }
 
   @Override
   public void onAdStart(@NonNull BaseAd baseAd) {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+    }
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback.onAdOpened();
     }
@@ -156,11 +193,21 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdEnd(@NonNull BaseAd baseAd) {
+    destroy();
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback.onAdClosed();
     }
   }
 
+  /** Liftoff Monetize ads play once, so the ad is released when it ends. */
+  private void destroy() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+      loadedAdReadiness = null;
+    }
+    interstitialAd = null;
+  }
+
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
     if (mediationInterstitialAdCallback != null) {
@@ -179,6 +226,9 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
   public void onAdFailedToPlay(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
     AdError error = VungleMediationAdapter.getAdError(vungleError);
     Log.w(TAG, error.toString());
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.onShowFailed();
+    }
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback.onAdFailedToShow(error);
     }
@@ -186,6 +236,9 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     AdError error = VungleMediationAdapter.getAdError(vungleError);
     Log.w(TAG, error.toString());
     mediationAdLoadCallback.onFailure(error);
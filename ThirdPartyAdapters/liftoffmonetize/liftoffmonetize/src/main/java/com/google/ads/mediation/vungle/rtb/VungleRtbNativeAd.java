@@ -18,6 +18,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.runtimeGmaSdkListensToAdapterReportedImpressions;
 
@@ -32,6 +33,8 @@ import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
@@ -59,6 +62,9 @@ import java.util.Map;
  */
 public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAdListener {
 
+  /** Ad format the bid response statistics of this ad are recorded under. */
+  public static final String AD_FORMAT = "native";
+
   private final MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
       adLoadCallback;
   private MediationNativeAdCallback nativeAdCallback;
@@ -67,6 +73,9 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
   private MediaView mediaView;
   private String adMarkup;
 
+  /** Latency of the bidding ad load. Waterfall loads carry no bid response and are not timed. */
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   private final VungleFactory vungleFactory;
 
   public VungleRtbNativeAd(
@@ -139,6 +148,9 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
                 if (!TextUtils.isEmpty(watermark)) {
                   nativeAd.getAdConfig().setWatermark(watermark);
                 }
+                if (!TextUtils.isEmpty(adMarkup)) {
+                  measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, adMarkup);
+                }
                 nativeAd.load(adMarkup);
               }
 
@@ -152,12 +164,18 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     mapNativeAd();
     nativeAdCallback = adLoadCallback.onSuccess(VungleRtbNativeAd.this);
   }
 
   @Override
   public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     AdError error = VungleMediationAdapter.getAdError(vungleError);
     adLoadCallback.onFailure(error);
   }
@@ -21,6 +21,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_USER_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -29,6 +30,8 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdReadinessTracker;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
@@ -46,6 +49,11 @@ import com.vungle.ads.VungleError;
 
 public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListener {
 
+  /**
+   * Ad format the bid response statistics of this ad are recorded under. Rewarded interstitial ads
+   * are loaded through the rewarded flow and are counted as rewarded ads.
+   */
+  public static final String AD_FORMAT = "rewarded";
 
   @NonNull
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -58,6 +66,14 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   private final VungleFactory vungleFactory;
 
+  /** Placement ID of the ad being rendered. */
+  @Nullable private String placementId;
+
+  /** Validity of the loaded ad, set once Liftoff Monetize loaded it. */
+  @Nullable private AdReadinessTracker.TrackedAd loadedAdReadiness;
+
+  @Nullable private BidPayloadStage.MeasuredLoad measuredLoad;
+
   public VungleRtbRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -99,6 +115,8 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
       return;
     }
 
+    placementId = placement;
+
     String adMarkup = mediationRewardedAdConfiguration.getBidResponse();
 
     AdConfig adConfig = vungleFactory.createAdConfig();
@@ -124,6 +142,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
                 if (!TextUtils.isEmpty(userId)) {
                   rewardedAd.setUserId(userId);
                 }
+                measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, adMarkup);
                 rewardedAd.load(adMarkup);
               }
 
@@ -137,6 +156,17 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void showAd(@NonNull Context context) {
+    if (loadedAdReadiness != null) {
+      AdError expiredError = loadedAdReadiness.checkShow();
+      if (expiredError != null) {
+        rewardedAd = null;
+        if (mediationRewardedAdCallback != null) {
+          mediationRewardedAdCallback.onAdFailedToShow(expiredError);
+        }
+        return;
+      }
+    }
+
     if (rewardedAd != null) {
       rewardedAd.play(context);
     } else if (mediationRewardedAdCallback != null) {
@@ -150,11 +180,21 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
+    if (placementId != null) {
+      loadedAdReadiness =
+          VungleMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(placementId);
+    }
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleRtbRewardedAd.this);
   }
 
   @Override
   public void onAdStart(@NonNull BaseAd baseAd) {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+    }
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdOpened();
     }
@@ -162,11 +202,21 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdEnd(@NonNull BaseAd baseAd) {
+    destroy();
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdClosed();
     }
   }
 
+  /** Liftoff Monetize ads play once, so the ad is released when it ends. */
+  private void destroy() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+      loadedAdReadiness = null;
+    }
+    rewardedAd = null;
+  }
+
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
     if (mediationRewardedAdCallback != null) {
@@ -191,6 +241,9 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
   public void onAdFailedToPlay(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
     AdError error = VungleMediationAdapter.getAdError(vungleError);
     Log.w(TAG, error.toString());
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.onShowFailed();
+    }
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdFailedToShow(error);
     }
@@ -198,6 +251,9 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     AdError error = VungleMediationAdapter.getAdError(vungleError);
     Log.w(TAG, error.toString());
     mediationAdLoadCallback.onFailure(error);
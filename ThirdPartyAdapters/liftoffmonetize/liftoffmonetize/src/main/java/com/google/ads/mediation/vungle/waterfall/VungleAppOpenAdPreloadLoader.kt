@@ -0,0 +1,56 @@
+package com.google.ads.mediation.vungle.waterfall
+
+import android.content.Context
+import com.google.ads.mediation.common.AppOpenAdPreloader
+import com.google.ads.mediation.vungle.VungleFactory
+import com.google.ads.mediation.vungle.VungleMediationAdapter
+import com.vungle.ads.BaseAd
+import com.vungle.ads.InterstitialAd
+import com.vungle.ads.InterstitialAdListener
+import com.vungle.ads.VungleError
+
+/**
+ * Loads Liftoff Monetize waterfall app open ads for [VungleMediationAdapter.appOpenAdPreloader].
+ */
+class VungleAppOpenAdPreloadLoader(
+  private val context: Context,
+  private val vungleFactory: VungleFactory,
+) : AppOpenAdPreloader.Loader<InterstitialAd> {
+
+  override fun load(
+    placementId: String,
+    callback: AppOpenAdPreloader.LoadCallback<InterstitialAd>,
+  ) {
+    // Preloaded ads use the default ad config, since the ad request's extras are not known yet.
+    val appOpenAd =
+      vungleFactory.createInterstitialAd(context, placementId, vungleFactory.createAdConfig())
+    appOpenAd.adListener =
+      object : InterstitialAdListener {
+        override fun onAdLoaded(baseAd: BaseAd) {
+          callback.onAdLoaded(appOpenAd)
+        }
+
+        override fun onAdFailedToLoad(baseAd: BaseAd, adError: VungleError) {
+          callback.onAdFailedToLoad(VungleMediationAdapter.getAdError(adError).toString())
+        }
+
+        // The app open ad's own listener replaces this one before the ad is shown.
+        override fun onAdStart(baseAd: BaseAd) {}
+
+        override fun onAdEnd(baseAd: BaseAd) {}
+
+        override fun onAdClicked(baseAd: BaseAd) {}
+
+        override fun onAdLeftApplication(baseAd: BaseAd) {}
+
+        override fun onAdFailedToPlay(baseAd: BaseAd, adError: VungleError) {}
+
+        override fun onAdImpression(baseAd: BaseAd) {}
+      }
+    appOpenAd.load(null)
+  }
+
+  override fun discard(ad: InterstitialAd) {
+    // Liftoff Monetize full-screen ads hold no resources until they are played.
+  }
+}
@@ -1,12 +1,17 @@
 package com.google.ads.mediation.vungle.waterfall
 
+import android.content.Context
+import android.os.Bundle
+import com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION
 import com.google.ads.mediation.vungle.VungleFactory
+import com.google.ads.mediation.vungle.VungleMediationAdapter
 import com.google.ads.mediation.vungle.renderers.VungleAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration
 import com.vungle.ads.AdConfig
+import com.vungle.ads.InterstitialAd
 
 /**
  * Adapter object for adapting Liftoff's (fka Vungle) app open ad APIs for GMA SDK's waterfall
@@ -14,9 +19,28 @@ import com.vungle.ads.AdConfig
  */
 class VungleWaterfallAppOpenAd(
   mediationAdLoadCallback: MediationAdLoadCallback<MediationAppOpenAd, MediationAppOpenAdCallback>,
-  vungleFactory: VungleFactory,
+  private val vungleFactory: VungleFactory,
 ) : VungleAppOpenAd(mediationAdLoadCallback, vungleFactory) {
 
+  override fun takePreloadedAd(
+    context: Context,
+    placementId: String,
+    mediationExtras: Bundle,
+  ): InterstitialAd? {
+    // Preloaded ads are loaded with the default orientation.
+    if (mediationExtras.containsKey(KEY_ORIENTATION)) {
+      return null
+    }
+    val preloader = VungleMediationAdapter.appOpenAdPreloader
+    val appOpenAd = preloader.take(placementId) ?: return null
+    // Start loading the placement's next app open ad right away.
+    preloader.preload(
+      placementId,
+      VungleAppOpenAdPreloadLoader(context.applicationContext, vungleFactory),
+    )
+    return appOpenAd
+  }
+
   override fun getAdMarkup(
     mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration
   ): String? {
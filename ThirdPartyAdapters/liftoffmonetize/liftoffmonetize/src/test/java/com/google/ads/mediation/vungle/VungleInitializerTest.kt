@@ -4,14 +4,20 @@ import android.content.Context
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
+import com.google.ads.mediation.adaptertestkit.CallbackTrace
+import com.google.ads.mediation.adaptertestkit.CallbackTraceRecorder
+import com.google.ads.mediation.adaptertestkit.CallbackTraceReplayer
 import com.google.ads.mediation.vungle.VungleInitializer.getInstance
 import com.google.ads.mediation.vungle.VungleMediationAdapter.VUNGLE_SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.common.truth.Truth.assertThat
+import com.vungle.ads.InitializationListener
 import com.vungle.ads.VungleError
 import com.vungle.ads.VunglePrivacySettings
 import com.vungle.ads.internal.protos.Sdk.SDKError
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -76,6 +82,30 @@ class VungleInitializerTest {
     verify(mockVungleInitializationListener).onInitializeSuccess()
   }
 
+  @Test
+  fun initialize_replayedFromRecordedTrace_callsSuccessOnListener() {
+    // Record the SDK calls and the init callback of a successful initialization through the seam.
+    val recorder = CallbackTraceRecorder()
+    VungleSdkWrapper.delegate = recorder.wrap(SdkWrapper::class.java, mockSdkWrapper)
+    initializer.initialize(TEST_APP_ID_1, context, mock())
+    recorder.wrap(InitializationListener::class.java, initializer).onSuccess()
+    val recordedTrace = ByteArrayOutputStream().also { recorder.trace().writeTo(it) }.toByteArray()
+
+    // Replay the trace without the SDK: the seam answers from the trace, and the recorded
+    // callback is delivered to the initializer.
+    val replayer =
+      CallbackTraceReplayer(CallbackTrace.readFrom(ByteArrayInputStream(recordedTrace)))
+    VungleSdkWrapper.delegate = replayer.stub(SdkWrapper::class.java)
+    initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
+    replayer.replay { event ->
+      if (event.source == "InitializationListener" && event.method == "onSuccess") {
+        initializer.onSuccess()
+      }
+    }
+
+    verify(mockVungleInitializationListener).onInitializeSuccess()
+  }
+
   @Test
   fun multipleInitializeCalls_onSuccessCalled_callsSuccessOnListeners() {
     initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
@@ -18,6 +18,8 @@ import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfigurat
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifySuccess
+import com.google.ads.mediation.common.CommonAdErrors
+import com.google.ads.mediation.common.LoadCircuitBreaker
 import com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID
 import com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION
 import com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID
@@ -81,7 +83,9 @@ import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
+import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
 
 /** Tests for [VungleMediationAdapter]. */
@@ -113,6 +117,7 @@ class VungleMediationAdapterTest {
   fun setUp() {
     VungleSdkWrapper.delegate = mockSdkWrapper
     adapter = VungleMediationAdapter(vungleFactory)
+    VungleMediationAdapter.waterfallLoadCircuitBreaker.reset()
   }
 
   @Test
@@ -520,6 +525,31 @@ class VungleMediationAdapterTest {
     verify(rewardedAdLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun loadRewardedAd_afterConsecutiveNoFills_failsWithoutLoadingLiftoffAd() {
+    repeat(LoadCircuitBreaker.DEFAULT_NO_FILL_THRESHOLD) {
+      VungleMediationAdapter.waterfallLoadCircuitBreaker.onNoFill(TEST_PLACEMENT_ID)
+    }
+    val rewardedAdLoadCallback =
+      mock<MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>>()
+
+    adapter.loadRewardedAd(
+      createMediationRewardedAdConfiguration(
+        context = context,
+        serverParameters =
+          bundleOf(KEY_APP_ID to TEST_APP_ID_1, KEY_PLACEMENT_ID to TEST_PLACEMENT_ID),
+      ),
+      rewardedAdLoadCallback,
+    )
+
+    val adErrorCaptor = argumentCaptor<AdError>()
+    verify(rewardedAdLoadCallback).onFailure(adErrorCaptor.capture())
+    assertThat(adErrorCaptor.firstValue.code)
+      .isEqualTo(CommonAdErrors.ERROR_LOAD_SUPPRESSED_AFTER_NO_FILLS)
+    assertThat(adErrorCaptor.firstValue.domain).isEqualTo(CommonAdErrors.ERROR_DOMAIN)
+    verify(vungleFactory, never()).createRewardedAd(any(), any(), any())
+  }
+
   @Test
   fun loadRewardedAd_onLiftoffSdkInitializationError_callsLoadFailure() {
     val liftoffSdkInitError =
@@ -974,7 +1004,10 @@ class VungleMediationAdapterTest {
     mockStatic(VungleInitializer::class.java).use {
       whenever(getInstance()) doReturn mockVungleInitializer
 
-      adapter.loadRtbRewardedAd(createMediationRewardedAdConfiguration(context = context), mock())
+      adapter.loadRtbRewardedAd(
+        createMediationRewardedAdConfiguration(context = context, bidResponse = TEST_BID_RESPONSE),
+        mock(),
+      )
     }
 
     verify(mockVungleInitializer).updateCoppaAndUnderageConsentStatus(any())
@@ -1104,7 +1137,10 @@ class VungleMediationAdapterTest {
     mockStatic(VungleInitializer::class.java).use {
       whenever(getInstance()) doReturn mockVungleInitializer
 
-      adapter.loadRtbBannerAd(createMediationBannerAdConfiguration(context = context), mock())
+      adapter.loadRtbBannerAd(
+        createMediationBannerAdConfiguration(context = context, bidResponse = TEST_BID_RESPONSE),
+        mock(),
+      )
     }
 
     verify(mockVungleInitializer).updateCoppaAndUnderageConsentStatus(any())
@@ -1283,7 +1319,10 @@ class VungleMediationAdapterTest {
       whenever(getInstance()) doReturn mockVungleInitializer
 
       adapter.loadRtbInterstitialAd(
-        createMediationInterstitialAdConfiguration(context = context),
+        createMediationInterstitialAdConfiguration(
+          context = context,
+          bidResponse = TEST_BID_RESPONSE,
+        ),
         mock(),
       )
     }
@@ -1320,6 +1359,30 @@ class VungleMediationAdapterTest {
     verify(vungleInterstitialAd).load(TEST_BID_RESPONSE)
   }
 
+  @Test
+  fun loadRtbInterstitialAd_withEmptyBidResponse_callsLoadFailure() {
+    val interstitialAdLoadCallback =
+      mock<MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>>()
+
+    adapter.loadRtbInterstitialAd(
+      createMediationInterstitialAdConfiguration(
+        context = context,
+        serverParameters =
+          bundleOf(KEY_APP_ID to TEST_APP_ID_1, KEY_PLACEMENT_ID to TEST_PLACEMENT_ID),
+      ),
+      interstitialAdLoadCallback,
+    )
+
+    val expectedAdError =
+      AdError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The Liftoff Monetize interstitial bid response is empty.",
+        CommonAdErrors.ERROR_DOMAIN,
+      )
+    verify(interstitialAdLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    verifyNoInteractions(vungleFactory)
+  }
+
   @Test
   fun loadRtbInterstitialAd_withoutAppId_callsLoadFailure() {
     val interstitialAdLoadCallback =
@@ -1414,7 +1477,10 @@ class VungleMediationAdapterTest {
     mockStatic(VungleInitializer::class.java).use {
       whenever(getInstance()) doReturn mockVungleInitializer
 
-      adapter.loadRtbNativeAd(createMediationNativeAdConfiguration(context = context), mock())
+      adapter.loadRtbNativeAd(
+        createMediationNativeAdConfiguration(context = context, bidResponse = TEST_BID_RESPONSE),
+        mock(),
+      )
     }
 
     verify(mockVungleInitializer).updateCoppaAndUnderageConsentStatus(any())
@@ -1449,6 +1515,7 @@ class VungleMediationAdapterTest {
   @Test
   fun loadRtbNativeAd_forTopLeftAdChoicesPlacement_setsTopLeftPositionOnLiftoffSdk() {
     stubVungleInitializerToSucceed()
+    whenever(mediationNativeAdConfiguration.bidResponse) doReturn TEST_BID_RESPONSE
     whenever(mediationNativeAdConfiguration.nativeAdOptions) doReturn
       NativeAdOptions.Builder().setAdChoicesPlacement(ADCHOICES_TOP_LEFT).build()
     mockStatic(VungleInitializer::class.java).use {
@@ -1463,6 +1530,7 @@ class VungleMediationAdapterTest {
   @Test
   fun loadRtbNativeAd_forBottomLeftAdChoicesPlacement_setsBottomLeftPositionOnLiftoffSdk() {
     stubVungleInitializerToSucceed()
+    whenever(mediationNativeAdConfiguration.bidResponse) doReturn TEST_BID_RESPONSE
     whenever(mediationNativeAdConfiguration.nativeAdOptions) doReturn
       NativeAdOptions.Builder().setAdChoicesPlacement(ADCHOICES_BOTTOM_LEFT).build()
     mockStatic(VungleInitializer::class.java).use {
@@ -1477,6 +1545,7 @@ class VungleMediationAdapterTest {
   @Test
   fun loadRtbNativeAd_forBottomRightAdChoicesPlacement_setsBottomRightPositionOnLiftoffSdk() {
     stubVungleInitializerToSucceed()
+    whenever(mediationNativeAdConfiguration.bidResponse) doReturn TEST_BID_RESPONSE
     whenever(mediationNativeAdConfiguration.nativeAdOptions) doReturn
       NativeAdOptions.Builder().setAdChoicesPlacement(ADCHOICES_BOTTOM_RIGHT).build()
     mockStatic(VungleInitializer::class.java).use {
@@ -1491,6 +1560,7 @@ class VungleMediationAdapterTest {
   @Test
   fun loadRtbNativeAd_forTopRightAdChoicesPlacement_setsTopRightPositionOnLiftoffSdk() {
     stubVungleInitializerToSucceed()
+    whenever(mediationNativeAdConfiguration.bidResponse) doReturn TEST_BID_RESPONSE
     whenever(mediationNativeAdConfiguration.nativeAdOptions) doReturn
       NativeAdOptions.Builder().setAdChoicesPlacement(ADCHOICES_TOP_RIGHT).build()
     mockStatic(VungleInitializer::class.java).use {
@@ -1594,7 +1664,7 @@ class VungleMediationAdapterTest {
       whenever(getInstance()) doReturn mockVungleInitializer
 
       adapter.loadRtbRewardedInterstitialAd(
-        createMediationRewardedAdConfiguration(context = context),
+        createMediationRewardedAdConfiguration(context = context, bidResponse = TEST_BID_RESPONSE),
         mock(),
       )
     }
@@ -1726,7 +1796,10 @@ class VungleMediationAdapterTest {
     mockStatic(VungleInitializer::class.java).use {
       whenever(getInstance()) doReturn mockVungleInitializer
 
-      adapter.loadRtbAppOpenAd(createMediationAppOpenAdConfiguration(context = context), mock())
+      adapter.loadRtbAppOpenAd(
+        createMediationAppOpenAdConfiguration(context = context, bidResponse = TEST_BID_RESPONSE),
+        mock(),
+      )
     }
 
     verify(mockVungleInitializer).updateCoppaAndUnderageConsentStatus(any())
@@ -0,0 +1,266 @@
+package com.google.ads.mediation.vungle
+
+import android.content.Context
+import androidx.core.os.bundleOf
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_APP_ID
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLACEMENT_ID
+import com.google.ads.mediation.adaptertestkit.PerformanceBudget
+import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
+import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfiguration
+import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID
+import com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID
+import com.google.ads.mediation.vungle.rtb.VungleRtbInterstitialAd
+import com.google.ads.mediation.vungle.rtb.VungleRtbNativeAd
+import com.google.ads.mediation.vungle.rtb.VungleRtbRewardedAd
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import com.google.android.gms.ads.mediation.MediationInterstitialAd
+import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
+import com.google.android.gms.ads.mediation.MediationNativeAdCallback
+import com.google.android.gms.ads.mediation.MediationRewardedAd
+import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
+import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
+import com.vungle.ads.InterstitialAd
+import com.vungle.ads.NativeAd
+import com.vungle.ads.RewardedAd
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.Mockito.mockStatic
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.whenever
+
+/**
+ * Performance budget scenarios for the Liftoff Monetize adapter, run against a stubbed Liftoff
+ * Monetize SDK by the `performanceBudget` task.
+ */
+@RunWith(AndroidJUnit4::class)
+class VunglePerformanceBudgetTest {
+
+  private val budget = PerformanceBudget.fromSystemProperties()
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val sdkWrapper = mock<SdkWrapper>(stubOnly = true)
+  private val vungleInitializer = mock<VungleInitializer>(stubOnly = true)
+  private val vungleInterstitialAd = mock<InterstitialAd>(stubOnly = true)
+  private val vungleRewardedAd = mock<RewardedAd>(stubOnly = true)
+  private val vungleNativeAd =
+    mock<NativeAd>(stubOnly = true) {
+      on { getAdTitle() } doReturn AD_TITLE
+      on { getAdBodyText() } doReturn AD_BODY_TEXT
+      on { getAdCallToActionText() } doReturn AD_CALL_TO_ACTION_TEXT
+      on { getAdStarRating() } doReturn AD_STAR_RATING
+      on { getAdSponsoredText() } doReturn AD_SPONSORED_TEXT
+      on { getAppIcon() } doReturn APP_ICON_URL
+    }
+  private val vungleFactory =
+    mock<VungleFactory>(stubOnly = true) {
+      on { createAdConfig() } doReturn mock(stubOnly = true)
+      on { createInterstitialAd(any(), any(), any()) } doReturn vungleInterstitialAd
+      on { createRewardedAd(any(), any(), any()) } doReturn vungleRewardedAd
+      on { createNativeAd(any(), any()) } doReturn vungleNativeAd
+    }
+  private val initializationCompleteCallback =
+    mock<InitializationCompleteCallback>(stubOnly = true)
+  private val interstitialAdLoadCallback =
+    mock<MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val rewardedAdLoadCallback =
+    mock<MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val nativeAdLoadCallback =
+    mock<MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>>(
+      stubOnly = true
+    ) {
+      on { onSuccess(any()) } doReturn mock(stubOnly = true)
+    }
+  private val serverParameters =
+    bundleOf(KEY_APP_ID to TEST_APP_ID, KEY_PLACEMENT_ID to TEST_PLACEMENT_ID)
+  private val interstitialAdConfiguration =
+    createMediationInterstitialAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
+  private val rewardedAdConfiguration =
+    createMediationRewardedAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
+  private val nativeAdConfiguration =
+    createMediationNativeAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
+
+  @Before
+  fun setUp() {
+    VungleSdkWrapper.delegate = sdkWrapper
+    doAnswer { invocation ->
+        val args: Array<Any> = invocation.arguments
+        (args[2] as VungleInitializer.VungleInitializationListener).onInitializeSuccess()
+      }
+      .whenever(vungleInitializer)
+      .initialize(any(), any(), any())
+  }
+
+  @Test
+  fun initialize_withinBudget() {
+    val configurations =
+      listOf(createMediationConfiguration(AdFormat.INTERSTITIAL, serverParameters))
+
+    val measurement =
+      withStubbedInitializer {
+        budget.measure("initialize", INIT_ITERATIONS) {
+          VungleMediationAdapter(vungleFactory)
+            .initialize(context, initializationCompleteCallback, configurations)
+        }
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun interstitialLoad_sequential_withinBudget() {
+    val measurement =
+      withStubbedInitializer {
+        budget.measure("interstitial.load.sequential", LOAD_ITERATIONS) { loadInterstitialAd() }
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun interstitialLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently(
+        "interstitial.load.concurrent",
+        LOAD_ITERATIONS,
+        workerScope = { work -> withStubbedInitializer(work) },
+      ) {
+        loadInterstitialAd()
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun rewardedLoad_sequential_withinBudget() {
+    val measurement =
+      withStubbedInitializer {
+        budget.measure("rewarded.load.sequential", LOAD_ITERATIONS) { loadRewardedAd() }
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun rewardedLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently(
+        "rewarded.load.concurrent",
+        LOAD_ITERATIONS,
+        workerScope = { work -> withStubbedInitializer(work) },
+      ) {
+        loadRewardedAd()
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeLoad_sequential_withinBudget() {
+    val measurement =
+      withStubbedInitializer {
+        budget.measure("native.load.sequential", LOAD_ITERATIONS) { loadNativeAd() }
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeLoad_concurrent_withinBudget() {
+    val measurement =
+      budget.measureConcurrently(
+        "native.load.concurrent",
+        LOAD_ITERATIONS,
+        workerScope = { work -> withStubbedInitializer(work) },
+      ) {
+        loadNativeAd()
+      }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  @Test
+  fun nativeMapping_withinBudget() {
+    val nativeAds =
+      withStubbedInitializer {
+        List(LOAD_ITERATIONS) {
+          VungleRtbNativeAd(nativeAdLoadCallback, vungleFactory).apply {
+            render(nativeAdConfiguration)
+          }
+        }
+      }
+
+    val measurement =
+      budget.measure("native.mapping", LOAD_ITERATIONS) { nativeAds[it].onAdLoaded(vungleNativeAd) }
+
+    budget.assertWithinBudget(measurement)
+  }
+
+  private fun loadInterstitialAd() {
+    VungleRtbInterstitialAd(interstitialAdLoadCallback, vungleFactory).apply {
+      render(interstitialAdConfiguration)
+      onAdLoaded(vungleInterstitialAd)
+    }
+  }
+
+  private fun loadRewardedAd() {
+    VungleRtbRewardedAd(rewardedAdLoadCallback, vungleFactory).apply {
+      render(rewardedAdConfiguration)
+      onAdLoaded(vungleRewardedAd)
+    }
+  }
+
+  private fun loadNativeAd() {
+    VungleRtbNativeAd(nativeAdLoadCallback, vungleFactory).apply {
+      render(nativeAdConfiguration)
+      onAdLoaded(vungleNativeAd)
+    }
+  }
+
+  /** Runs [block] with [VungleInitializer.getInstance] stubbed on the current thread. */
+  private fun <T> withStubbedInitializer(block: () -> T): T =
+    mockStatic(VungleInitializer::class.java).use {
+      whenever(VungleInitializer.getInstance()) doReturn vungleInitializer
+      block()
+    }
+
+  private companion object {
+    const val INIT_ITERATIONS = 100
+    const val LOAD_ITERATIONS = 1000
+    const val AD_TITLE = "adTitle"
+    const val AD_BODY_TEXT = "adBodyText"
+    const val AD_CALL_TO_ACTION_TEXT = "adCallToActionText"
+    const val AD_STAR_RATING = 5.0
+    const val AD_SPONSORED_TEXT = "adSponsoredText"
+    const val APP_ICON_URL = "file://liftoffmonetize/app/icon"
+  }
+}
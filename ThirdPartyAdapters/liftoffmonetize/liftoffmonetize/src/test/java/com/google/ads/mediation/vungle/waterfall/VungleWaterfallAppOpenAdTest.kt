@@ -10,11 +10,13 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLACEMENT_ID
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATERMARK
 import com.google.ads.mediation.adaptertestkit.createMediationAppOpenAdConfiguration
+import com.google.ads.mediation.common.AppOpenAdPreloader
 import com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID
 import com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION
 import com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID
 import com.google.ads.mediation.vungle.VungleFactory
 import com.google.ads.mediation.vungle.VungleInitializer
+import com.google.ads.mediation.vungle.VungleMediationAdapter
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.vungle.VungleMediationAdapter.VUNGLE_SDK_ERROR_DOMAIN
@@ -26,6 +28,7 @@ import com.vungle.ads.AdConfig.Companion.LANDSCAPE
 import com.vungle.ads.InterstitialAd
 import com.vungle.ads.VungleError
 import com.vungle.ads.internal.protos.Sdk.SDKError
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -80,6 +83,44 @@ class VungleWaterfallAppOpenAdTest {
       .initialize(any(), any(), any())
   }
 
+  @After
+  fun tearDown() {
+    VungleMediationAdapter.appOpenAdPreloader.setEnabled(false)
+  }
+
+  @Test
+  fun render_withPreloadedAd_servesPreloadedAd() {
+    val preloadedAd = mock<InterstitialAd> { on { canPlayAd() } doReturn true }
+    val preloader = VungleMediationAdapter.appOpenAdPreloader
+    preloader.setEnabled(true)
+    preloader.preload(
+      TEST_PLACEMENT_ID,
+      object : AppOpenAdPreloader.Loader<InterstitialAd> {
+        override fun load(
+          placementId: String,
+          callback: AppOpenAdPreloader.LoadCallback<InterstitialAd>,
+        ) = callback.onAdLoaded(preloadedAd)
+
+        override fun discard(ad: InterstitialAd) {}
+      },
+    )
+    val configuration =
+      createMediationAppOpenAdConfiguration(
+        context = context,
+        serverParameters =
+          bundleOf(KEY_APP_ID to TEST_APP_ID, KEY_PLACEMENT_ID to TEST_PLACEMENT_ID),
+      )
+
+    Mockito.mockStatic(VungleInitializer::class.java).use {
+      whenever(VungleInitializer.getInstance()) doReturn vungleInitializer
+      adapterWaterfallAppOpenAd.render(configuration)
+    }
+    adapterWaterfallAppOpenAd.showAd(context)
+
+    verify(appOpenAdLoadCallback).onSuccess(adapterWaterfallAppOpenAd)
+    verify(preloadedAd).play(context)
+  }
+
   @Test
   fun onAdLoaded_callsLoadSuccess() {
     adapterWaterfallAppOpenAd.onAdLoaded(vungleAppOpenAd)
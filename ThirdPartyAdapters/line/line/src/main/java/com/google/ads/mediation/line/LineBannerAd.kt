@@ -25,7 +25,9 @@ import com.five_corp.ad.FiveAdCustomLayoutEventListener
 import com.five_corp.ad.FiveAdErrorCode
 import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdSize
@@ -81,14 +83,21 @@ private constructor(
   }
 
   fun loadRtbAd(context: Context) {
+    val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError)
+      return
+    }
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    val measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
     adLoader.loadBannerAd(
       bidData,
       adSize.getWidthInPixels(context),
       object : AdLoader.LoadBannerAdCallback {
         override fun onLoad(fiveAdCustomLayout: FiveAdCustomLayout) {
+          measuredLoad.finish()
           adView = fiveAdCustomLayout
           if (networkExtras != null) {
             adView.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, false))
@@ -98,6 +107,7 @@ private constructor(
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
+          measuredLoad.finish()
           val adError = AdError(adErrorCode.value, adErrorCode.name, SDK_ERROR_DOMAIN)
           mediationAdLoadCallback.onFailure(adError)
         }
@@ -207,6 +217,7 @@ private constructor(
 
   companion object {
     private val TAG = LineBannerAd::class.simpleName
+    private const val AD_FORMAT = "banner"
     const val ERROR_CODE_MISMATCH_AD_SIZE = 103
     const val ERROR_MSG_MISMATCH_AD_SIZE =
       "Unexpected ad size loaded. Expected %sx%s but received %sx%s."
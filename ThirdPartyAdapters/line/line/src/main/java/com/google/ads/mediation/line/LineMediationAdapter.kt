@@ -281,6 +281,7 @@ class LineMediationAdapter : RtbAdapter() {
     const val ERROR_MSG_MINIMUM_NATIVE_INFO_NOT_RECEIVED =
       "Complete required data for Native ads was not received. Skipping Ad."
     const val ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.line"
+    const val NETWORK_NAME = "LINE"
     const val SDK_ERROR_DOMAIN = "com.five_corp.ad"
     private var initAppId: String = ""
     internal var isTestMode = false
@@ -28,6 +28,8 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
 import com.five_corp.ad.FiveAdNative
 import com.five_corp.ad.FiveAdNativeEventListener
+import com.google.ads.mediation.common.BidPayloadStage
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -95,13 +97,20 @@ private constructor(
     if (context == null) {
       return
     }
+    val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+    if (bidResponseError != null) {
+      mediationNativeAdLoadCallback.onFailure(bidResponseError)
+      return
+    }
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    val measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
     adLoader.loadNativeAd(
       bidData,
       object : AdLoader.LoadNativeAdCallback {
         override fun onLoad(fiveAdNative: FiveAdNative) {
+          measuredLoad.finish()
           nativeAd = fiveAdNative
           val videoOptions = nativeAdOptions.videoOptions
           if (videoOptions != null) {
@@ -115,6 +124,7 @@ private constructor(
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
+          measuredLoad.finish()
           val adError = AdError(adErrorCode.value, adErrorCode.name, SDK_ERROR_DOMAIN)
           mediationNativeAdLoadCallback.onFailure(adError)
         }
@@ -245,6 +255,7 @@ private constructor(
 
   companion object {
     private val TAG = LineNativeAd::class.simpleName
+    private const val AD_FORMAT = "native"
 
     fun newInstance(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
@@ -24,7 +24,9 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
 import com.five_corp.ad.FiveAdVideoReward
 import com.five_corp.ad.FiveAdVideoRewardEventListener
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -71,13 +73,20 @@ private constructor(
   }
 
   fun loadRtbAd(context: Context) {
+    val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError)
+      return
+    }
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    val measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
     adLoader.loadRewardAd(
       bidData,
       object : AdLoader.LoadRewardAdCallback {
         override fun onLoad(fiveAdRewarded: FiveAdVideoReward) {
+          measuredLoad.finish()
           rewardedAd = fiveAdRewarded
           if (networkExtras != null) {
             rewardedAd.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, true))
@@ -87,6 +96,7 @@ private constructor(
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
+          measuredLoad.finish()
           val adError = AdError(adErrorCode.value, adErrorCode.name, SDK_ERROR_DOMAIN)
           mediationAdLoadCallback.onFailure(adError)
         }
@@ -169,6 +179,7 @@ private constructor(
 
   companion object {
     private val TAG = LineRewardedAd::class.simpleName
+    private const val AD_FORMAT = "rewarded"
 
     fun newInstance(
       mediationRewardedAdConfiguration: MediationRewardedAdConfiguration,
@@ -19,6 +19,7 @@ import com.five_corp.ad.FiveAdVideoReward
 import com.five_corp.ad.NeedChildDirectedTreatment
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.common.CommonAdErrors
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.ERROR_CODE_MISSING_SLOT_ID
@@ -958,6 +959,30 @@ class LineMediationAdapterTest {
       .onFailure(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun loadRtbInterstitialAd_withEmptyBidResponse_invokesOnFailure() {
+    mockStatic(AdLoader::class.java).use {
+      val serverParameters = bundleOf(KEY_APP_ID to TEST_APP_ID_1)
+      val mediationInterstitialAdConfiguration =
+        createMediationInterstitialAdConfiguration(activity, serverParameters)
+
+      lineMediationAdapter.loadRtbInterstitialAd(
+        mediationInterstitialAdConfiguration,
+        mockMediationInterstitialAdLoadCallback,
+      )
+
+      val expectedAdError =
+        AdError(
+          CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+          "The LINE interstitial bid response is empty.",
+          CommonAdErrors.ERROR_DOMAIN,
+        )
+      verify(mockMediationInterstitialAdLoadCallback)
+        .onFailure(argThat(AdErrorMatcher(expectedAdError)))
+      it.verifyNoInteractions()
+    }
+  }
+
   @Test
   fun loadRtbInterstitialAd_verifiesInitializationCreatesAdLoaderAndSuccessfullyLoads() {
     mockStatic(AdLoader::class.java).use {
@@ -14,6 +14,7 @@ import com.five_corp.ad.AdLoader
 import com.five_corp.ad.FiveAdConfig
 import com.five_corp.ad.FiveAdErrorCode
 import com.five_corp.ad.FiveAdNative
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -252,7 +253,7 @@ class LineNativeAdTest {
       )
     return MediationNativeAdConfiguration(
       context,
-      /*bidresponse=*/ "",
+      TEST_BID_RESPONSE,
       serverParameters,
       /*mediationExtras=*/ Bundle(),
       /*isTesting=*/ true,
@@ -18,8 +18,11 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_D
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION;
 
 import android.content.Context;
+import androidx.annotation.VisibleForTesting;
 import com.facebook.ads.AudienceNetworkAds;
 import com.facebook.ads.AudienceNetworkAds.InitResult;
+import com.google.ads.mediation.common.SdkInitRunner;
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading;
 import com.google.android.gms.ads.AdError;
 import java.util.ArrayList;
 
@@ -31,6 +34,13 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
 
   private final ArrayList<Listener> listeners;
 
+  /**
+   * The Audience Network SDK initializes asynchronously and may be initialized from any thread, so
+   * it is initialized off the main thread. Its init listener is handed back to the main thread.
+   */
+  private SdkInitRunner sdkInitRunner =
+      new SdkInitRunner(FacebookMediationAdapter.NETWORK_NAME, InitThreading.BACKGROUND);
+
   static FacebookInitializer getInstance() {
     if (instance == null) {
       instance = new FacebookInitializer();
@@ -63,15 +73,26 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
     isInitializing = true;
 
     getInstance().listeners.add(listener);
-    AudienceNetworkAds.buildInitSettings(context)
-        .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
-        .withPlacementIds(placements)
-        .withInitListener(FacebookInitializer.this)
-        .initialize();
+    sdkInitRunner.run(
+        () ->
+            AudienceNetworkAds.buildInitSettings(context)
+                .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
+                .withPlacementIds(placements)
+                .withInitListener(FacebookInitializer.this)
+                .initialize());
+  }
+
+  @VisibleForTesting
+  void setSdkInitRunner(SdkInitRunner sdkInitRunner) {
+    this.sdkInitRunner = sdkInitRunner;
   }
 
   @Override
   public void onInitialized(InitResult initResult) {
+    sdkInitRunner.deliver(() -> onInitializedOnMainThread(initResult));
+  }
+
+  private void onInitializedOnMainThread(InitResult initResult) {
     isInitializing = false;
     isInitialized = initResult.isSuccess();
 
@@ -73,6 +73,9 @@ public class FacebookMediationAdapter extends RtbAdapter {
   public static final String PLACEMENT_PARAMETER = "pubid";
   public static final String RTB_PLACEMENT_PARAMETER = "placement_id";
 
+  /** Network name used for the shared load statistics. */
+  public static final String NETWORK_NAME = "Meta Audience Network";
+
   /**
    * Meta Audience Network adapter errors.
    */
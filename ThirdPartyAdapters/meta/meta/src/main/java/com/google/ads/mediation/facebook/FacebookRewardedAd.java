@@ -17,6 +17,7 @@ package com.google.ads.mediation.facebook;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getPlacementID;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
@@ -31,6 +32,7 @@ import com.facebook.ads.AdExperienceType;
 import com.facebook.ads.ExtraHints;
 import com.facebook.ads.RewardedVideoAd;
 import com.facebook.ads.RewardedVideoAdExtendedListener;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -61,6 +63,8 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
 
   private final AtomicBoolean didRewardedAdClose = new AtomicBoolean();
 
+  private BidPayloadStage.MeasuredLoad measuredLoad;
+
   private final MetaFactory metaFactory;
 
   public FacebookRewardedAd(
@@ -83,6 +87,14 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
       return;
     }
 
+    String bidResponse = adConfiguration.getBidResponse();
+    AdError bidResponseError =
+        BidPayloadStage.validate(NETWORK_NAME, getAdFormat(), bidResponse);
+    if (bidResponseError != null) {
+      mediationAdLoadCallback.onFailure(bidResponseError);
+      return;
+    }
+
     setMixedAudience(adConfiguration);
 
     rewardedAd = metaFactory.createRewardedAd(context, placementID);
@@ -90,10 +102,11 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
       rewardedAd.setExtraHints(new ExtraHints.Builder()
               .mediationData(adConfiguration.getWatermark()).build());
     }
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, getAdFormat(), bidResponse);
     rewardedAd.loadAd(
             rewardedAd.buildLoadAdConfig()
                     .withAdListener(this)
-                    .withBid(adConfiguration.getBidResponse())
+                    .withBid(bidResponse)
                     .withAdExperience(getAdExperienceType())
                     .build()
     );
@@ -124,6 +137,12 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
     return AdExperienceType.AD_EXPERIENCE_TYPE_REWARDED;
   }
 
+  /** Ad format name used for the bid response statistics. */
+  @NonNull
+  String getAdFormat() {
+    return "rewarded";
+  }
+
   @Override
   public void onRewardedVideoCompleted() {
     rewardedAdCallback.onVideoComplete();
@@ -140,6 +159,9 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
         rewardedAdCallback.onAdFailedToShow(error);
       }
     } else {
+      if (measuredLoad != null) {
+        measuredLoad.finish();
+      }
       Log.w(TAG, error.getMessage());
       if (mediationAdLoadCallback != null) {
         mediationAdLoadCallback.onFailure(error);
@@ -151,6 +173,9 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
 
   @Override
   public void onAdLoaded(Ad ad) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     if (mediationAdLoadCallback != null) {
       rewardedAdCallback = mediationAdLoadCallback.onSuccess(this);
     }
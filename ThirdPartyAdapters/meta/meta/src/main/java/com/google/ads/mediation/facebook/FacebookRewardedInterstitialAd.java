@@ -33,4 +33,10 @@ public class FacebookRewardedInterstitialAd extends FacebookRewardedAd {
   AdExperienceType getAdExperienceType() {
     return AdExperienceType.AD_EXPERIENCE_TYPE_REWARDED_INTERSTITIAL;
   }
+
+  @NonNull
+  @Override
+  String getAdFormat() {
+    return "rewarded_interstitial";
+  }
 }
@@ -17,6 +17,7 @@ package com.google.ads.mediation.facebook.rtb;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
@@ -33,6 +34,7 @@ import com.facebook.ads.Ad;
 import com.facebook.ads.AdListener;
 import com.facebook.ads.AdView;
 import com.facebook.ads.ExtraHints;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.ads.mediation.facebook.MetaFactory;
 import com.google.android.gms.ads.AdError;
@@ -43,10 +45,13 @@ import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 
 public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
 
+  private static final String AD_FORMAT = "banner";
+
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback> callback;
   private AdView adView;
   private FrameLayout wrappedAdView;
   private MediationBannerAdCallback bannerAdCallback;
+  private BidPayloadStage.MeasuredLoad measuredLoad;
 
   private final MetaFactory metaFactory;
 
@@ -68,10 +73,17 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
       return;
     }
 
+    String bidResponse = adConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      callback.onFailure(bidResponseError);
+      return;
+    }
+
     setMixedAudience(adConfiguration);
     try {
       adView = metaFactory.createMetaAdView(adConfiguration.getContext(), placementID,
-          adConfiguration.getBidResponse());
+          bidResponse);
     } catch (Exception exception) {
       AdError error = new AdError(ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION,
           "Failed to create banner ad: " + exception.getMessage(), ERROR_DOMAIN);
@@ -91,10 +103,11 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
     wrappedAdView = new FrameLayout(context);
     adView.setLayoutParams(adViewLayoutParams);
     wrappedAdView.addView(adView);
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse);
     adView.loadAd(
         adView.buildLoadAdConfig()
             .withAdListener(this)
-            .withBid(adConfiguration.getBidResponse())
+            .withBid(bidResponse)
             .build()
     );
   }
@@ -107,6 +120,9 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
 
   @Override
   public void onError(Ad ad, com.facebook.ads.AdError adError) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     AdError error = getAdError(adError);
     Log.w(TAG, error.getMessage());
     callback.onFailure(error);
@@ -114,6 +130,9 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
 
   @Override
   public void onAdLoaded(Ad ad) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     bannerAdCallback = callback.onSuccess(this);
   }
 
@@ -17,6 +17,7 @@ package com.google.ads.mediation.facebook.rtb;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
@@ -30,6 +31,7 @@ import com.facebook.ads.Ad;
 import com.facebook.ads.ExtraHints;
 import com.facebook.ads.InterstitialAd;
 import com.facebook.ads.InterstitialAdExtendedListener;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.ads.mediation.facebook.MetaFactory;
 import com.google.android.gms.ads.AdError;
@@ -42,10 +44,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class FacebookRtbInterstitialAd
     implements MediationInterstitialAd, InterstitialAdExtendedListener {
 
+  private static final String AD_FORMAT = "interstitial";
+
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
       callback;
   private InterstitialAd interstitialAd;
   private MediationInterstitialAdCallback interstitalAdCallback;
+  private BidPayloadStage.MeasuredLoad measuredLoad;
   private final AtomicBoolean showAdCalled = new AtomicBoolean();
   private final AtomicBoolean didInterstitialAdClose = new AtomicBoolean();
 
@@ -69,6 +74,13 @@ public class FacebookRtbInterstitialAd
       return;
     }
 
+    String bidResponse = adConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      callback.onFailure(bidResponseError);
+      return;
+    }
+
     setMixedAudience(adConfiguration);
     interstitialAd = metaFactory.createInterstitialAd(adConfiguration.getContext(), placementID);
     if (!TextUtils.isEmpty(adConfiguration.getWatermark())) {
@@ -76,9 +88,10 @@ public class FacebookRtbInterstitialAd
           .mediationData(adConfiguration.getWatermark()).build());
     }
 
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse);
     interstitialAd.loadAd(
         interstitialAd.buildLoadAdConfig()
-            .withBid(adConfiguration.getBidResponse())
+            .withBid(bidResponse)
             .withAdListener(this)
             .build());
   }
@@ -121,11 +134,17 @@ public class FacebookRtbInterstitialAd
       }
       return;
     }
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     callback.onFailure(error);
   }
 
   @Override
   public void onAdLoaded(Ad ad) {
+    if (measuredLoad != null) {
+      measuredLoad.finish();
+    }
     interstitalAdCallback = callback.onSuccess(this);
   }
 
@@ -22,6 +22,7 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_N
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_WRONG_NATIVE_TYPE;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_ID;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_SOCIAL_CONTEXT_ASSET;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
@@ -46,6 +47,7 @@ import com.facebook.ads.NativeAd;
 import com.facebook.ads.NativeAdBase;
 import com.facebook.ads.NativeAdListener;
 import com.facebook.ads.NativeBannerAd;
+import com.google.ads.mediation.common.BidPayloadStage;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.ads.mediation.facebook.MetaFactory;
 import com.google.android.gms.ads.AdError;
@@ -61,10 +63,13 @@ import java.util.Map;
 
 public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
 
+  private static final String AD_FORMAT = "native";
+
   private final MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> callback;
   private NativeAdBase nativeAdBase;
   private MediationNativeAdCallback nativeAdCallback;
   private MediaView mediaView;
+  private BidPayloadStage.MeasuredLoad measuredLoad;
 
   private final MetaFactory metaFactory;
 
@@ -87,13 +92,20 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
       return;
     }
 
+    String bidResponse = adConfiguration.getBidResponse();
+    AdError bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse);
+    if (bidResponseError != null) {
+      callback.onFailure(bidResponseError);
+      return;
+    }
+
     setMixedAudience(adConfiguration);
     mediaView = metaFactory.createMediaView(adConfiguration.getContext());
 
     try {
       nativeAdBase =
           NativeAdBase.fromBidPayload(
-              adConfiguration.getContext(), placementID, adConfiguration.getBidResponse());
+              adConfiguration.getContext(), placementID, bidResponse);
     } catch (Exception ex) {
       AdError error = new AdError(ERROR_CREATE_NATIVE_AD_FROM_BID_PAYLOAD,
           "Failed to create native ad from bid payload: " + ex.getMessage(), ERROR_DOMAIN);
@@ -107,11 +119,12 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
           new ExtraHints.Builder().mediationData(adConfiguration.getWatermark()).build());
     }
 
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse);
     nativeAdBase.loadAd(
         nativeAdBase
             .buildLoadAdConfig()
             .withAdListener(new NativeListener(adConfiguration.getContext(), nativeAdBase))
-            .withBid(adConfiguration.getBidResponse())
+            .withBid(bidResponse)
             .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
             .withPreloadedIconView(
                 NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
@@ -146,6 +159,7 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
 
     @Override
     public void onAdLoaded(Ad ad) {
+      measuredLoad.finish();
       if (ad != nativeAd) {
         AdError error = new AdError(ERROR_WRONG_NATIVE_TYPE, "Ad Loaded is not a Native Ad.",
             ERROR_DOMAIN);
@@ -180,6 +194,7 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
 
     @Override
     public void onError(Ad ad, com.facebook.ads.AdError adError) {
+      measuredLoad.finish();
       AdError error = getAdError(adError);
       Log.w(TAG, error.getMessage());
       callback.onFailure(error);
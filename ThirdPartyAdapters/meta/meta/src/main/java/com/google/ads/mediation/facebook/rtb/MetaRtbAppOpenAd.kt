@@ -23,9 +23,11 @@ import com.facebook.ads.AdError
 import com.facebook.ads.ExtraHints
 import com.facebook.ads.InterstitialAd
 import com.facebook.ads.InterstitialAdExtendedListener
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.getPlacementID
@@ -47,6 +49,7 @@ class MetaRtbAppOpenAd(
   private var appOpenAdCallback: MediationAppOpenAdCallback? = null
   private val showAdCalled = AtomicBoolean()
   private val didAppOpenAdClose = AtomicBoolean()
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
 
   fun loadAd(adConfiguration: MediationAppOpenAdConfiguration) {
     val serverParameters: Bundle = adConfiguration.serverParameters
@@ -63,6 +66,13 @@ class MetaRtbAppOpenAd(
       return
     }
 
+    val bidResponse = adConfiguration.bidResponse
+    val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+    if (bidResponseError != null) {
+      loadCallback.onFailure(bidResponseError)
+      return
+    }
+
     setMixedAudience(adConfiguration)
     appOpenAd = metaFactory.createAppOpenAd(adConfiguration.context, placementID)
     if (!TextUtils.isEmpty(adConfiguration.watermark)) {
@@ -71,10 +81,11 @@ class MetaRtbAppOpenAd(
       )
     }
 
+    measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
     appOpenAd?.loadAd(
       appOpenAd
         ?.buildLoadAdConfig()
-        ?.withBid(adConfiguration.bidResponse)
+        ?.withBid(bidResponse)
         ?.withAdListener(this)
         ?.build()
     )
@@ -112,10 +123,12 @@ class MetaRtbAppOpenAd(
       appOpenAdCallback?.onAdFailedToShow(error)
       return
     }
+    measuredLoad?.finish()
     loadCallback.onFailure(error)
   }
 
   override fun onAdLoaded(ad: Ad) {
+    measuredLoad?.finish()
     appOpenAdCallback = loadCallback.onSuccess(this)
   }
 
@@ -144,4 +157,8 @@ class MetaRtbAppOpenAd(
   override fun onRewardedAdServerFailed() {
     // no-op
   }
+
+  private companion object {
+    const val AD_FORMAT = "app_open"
+  }
 }
@@ -7,10 +7,14 @@ import com.facebook.ads.AudienceNetworkAds
 import com.facebook.ads.AudienceNetworkAds.InitResult
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLACEMENT_ID
+import com.google.ads.mediation.common.SdkInitRunner
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION
 import com.google.android.gms.ads.AdError
+import java.util.concurrent.Executor
 import org.junit.After
+import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito
@@ -38,6 +42,14 @@ class FacebookInitializerTest {
       on { withInitListener(any()) } doReturn it
     }
 
+  @Before
+  fun setUp() {
+    // Run the background initialization on the test thread, where the static mocks apply.
+    facebookInitializer.setSdkInitRunner(
+      SdkInitRunner("Meta Audience Network", InitThreading.BACKGROUND, Executor { it.run() })
+    )
+  }
+
   @Test
   fun initialize_initializesMetaSdkWithCorrectConfig() {
     Mockito.mockStatic(AudienceNetworkAds::class.java).use {
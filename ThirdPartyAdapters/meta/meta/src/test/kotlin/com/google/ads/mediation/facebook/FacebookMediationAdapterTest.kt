@@ -36,6 +36,9 @@ import com.google.ads.mediation.adaptertestkit.loadRtbRewardedInterstitialAdWith
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyNoFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifySuccess
+import com.google.ads.mediation.common.CommonAdErrors
+import com.google.ads.mediation.common.SdkInitRunner
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading
 import com.google.ads.mediation.facebook.FacebookAdapterUtils.adapterVersion
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION
@@ -61,6 +64,7 @@ import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
 import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -73,6 +77,7 @@ import org.mockito.kotlin.doThrow
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
+import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
 
 @RunWith(AndroidJUnit4::class)
@@ -161,6 +166,11 @@ class FacebookMediationAdapterTest {
   @Before
   fun setUp() {
     facebookMediationAdapter = FacebookMediationAdapter(metaFactory)
+    // Run the background initialization on the test thread, where the static mocks apply.
+    FacebookInitializer.getInstance()
+      .setSdkInitRunner(
+        SdkInitRunner("Meta Audience Network", InitThreading.BACKGROUND, Executor { it.run() })
+      )
   }
 
   // region Version Tests
@@ -386,6 +396,7 @@ class FacebookMediationAdapterTest {
         context = context,
         serverParameters = serverParameters,
         watermark = WATERMARK,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
       )
     whenever(
       metaFactory.createAppOpenAd(context, AdapterTestKitConstants.TEST_PLACEMENT_ID)
@@ -442,11 +453,37 @@ class FacebookMediationAdapterTest {
   }
 
   @Test
-  fun loadRtbBannerAd_adViewCreationException_invokesOnFailureCallback() {
+  fun loadRtbBannerAd_emptyBidResponse_invokesOnFailureCallback() {
     val serverParameters =
       bundleOf(RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID)
     val mediationBannerAdConfiguration =
       createMediationBannerAdConfiguration(context = context, serverParameters = serverParameters)
+    val expectedError =
+      AdError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The Meta Audience Network banner bid response is empty.",
+        CommonAdErrors.ERROR_DOMAIN,
+      )
+
+    facebookMediationAdapter.loadRtbBannerAdWithFailure(
+      mediationBannerAdConfiguration,
+      mockBannerAdLoadCallback,
+      expectedError,
+    )
+
+    verifyNoInteractions(metaFactory)
+  }
+
+  @Test
+  fun loadRtbBannerAd_adViewCreationException_invokesOnFailureCallback() {
+    val serverParameters =
+      bundleOf(RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID)
+    val mediationBannerAdConfiguration =
+      createMediationBannerAdConfiguration(
+        context = context,
+        serverParameters = serverParameters,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
+      )
     val exception = Exception("foo error")
     whenever(
       metaFactory.createMetaAdView(
@@ -479,6 +516,7 @@ class FacebookMediationAdapterTest {
         context = context,
         serverParameters = serverParameters,
         watermark = WATERMARK,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
       )
     whenever(
       metaFactory.createMetaAdView(
@@ -547,6 +585,31 @@ class FacebookMediationAdapterTest {
     )
   }
 
+  @Test
+  fun loadRtbInterstitialAd_emptyBidResponse_invokesOnFailure() {
+    val serverParameters =
+      bundleOf(RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID)
+    val mediationInterstitialAdConfiguration =
+      createMediationInterstitialAdConfiguration(
+        context = context,
+        serverParameters = serverParameters,
+      )
+    val expectedError =
+      AdError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The Meta Audience Network interstitial bid response is empty.",
+        CommonAdErrors.ERROR_DOMAIN,
+      )
+
+    facebookMediationAdapter.loadRtbInterstitialAdWithFailure(
+      mediationInterstitialAdConfiguration,
+      mockInterstitialAdLoadCallback,
+      expectedError,
+    )
+
+    verifyNoInteractions(metaFactory)
+  }
+
   @Test
   fun loadRtbInterstitialAd_loadsAd() {
     val serverParameters =
@@ -556,6 +619,7 @@ class FacebookMediationAdapterTest {
         context = context,
         serverParameters = serverParameters,
         watermark = WATERMARK,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
       )
     whenever(
       metaFactory.createInterstitialAd(context, AdapterTestKitConstants.TEST_PLACEMENT_ID)
@@ -687,11 +751,39 @@ class FacebookMediationAdapterTest {
   }
 
   @Test
-  fun loadRtbNativeAd_errorCreatingNativeAdBase_invokesOnFailureCallback() {
+  fun loadRtbNativeAd_emptyBidResponse_invokesOnFailureCallback() {
     val serverParameters =
       bundleOf(RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID)
     val mediationNativeAdConfiguration =
       createMediationNativeAdConfiguration(context = context, serverParameters = serverParameters)
+    val expectedError =
+      AdError(
+        CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+        "The Meta Audience Network native bid response is empty.",
+        CommonAdErrors.ERROR_DOMAIN,
+      )
+
+    mockStatic(NativeAdBase::class.java).use {
+      facebookMediationAdapter.loadRtbNativeAdWithFailure(
+        mediationNativeAdConfiguration,
+        mockNativeAdLoadCallback,
+        expectedError,
+      )
+
+      it.verifyNoInteractions()
+    }
+  }
+
+  @Test
+  fun loadRtbNativeAd_errorCreatingNativeAdBase_invokesOnFailureCallback() {
+    val serverParameters =
+      bundleOf(RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID)
+    val mediationNativeAdConfiguration =
+      createMediationNativeAdConfiguration(
+        context = context,
+        serverParameters = serverParameters,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
+      )
     val exception = Exception("error foo")
     val expectedAdError =
       AdError(
@@ -34,7 +34,11 @@ class FacebookRewardedAdTest {
       FacebookMediationAdapter.RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID
     )
   private val mediationRewardedAdConfiguration =
-    createMediationRewardedAdConfiguration(context = context, serverParameters = serverParameters)
+    createMediationRewardedAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
+    )
   private val mediationRewardedAdCallback = mock<MediationRewardedAdCallback>()
   private val mediationAdLoadCallback:
     MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> =
@@ -39,7 +39,11 @@ class FacebookRtbBannerAdTest {
       FacebookMediationAdapter.RTB_PLACEMENT_PARAMETER to AdapterTestKitConstants.TEST_PLACEMENT_ID
     )
   private val mediationBannerAdConfiguration: MediationBannerAdConfiguration =
-    createMediationBannerAdConfiguration(context = context, serverParameters = serverParameters)
+    createMediationBannerAdConfiguration(
+      context = context,
+      serverParameters = serverParameters,
+      bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
+    )
   private val mediationBannerAdCallback = mock<MediationBannerAdCallback>()
   private val mediationAdLoadCallback:
     MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback> =
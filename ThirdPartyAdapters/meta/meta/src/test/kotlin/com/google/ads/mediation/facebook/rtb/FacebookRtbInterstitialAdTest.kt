@@ -10,6 +10,7 @@ import com.facebook.ads.AdError.NO_FILL
 import com.facebook.ads.InterstitialAd
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
@@ -39,7 +40,11 @@ class FacebookRtbInterstitialAdTest {
   private val context: Context = ApplicationProvider.getApplicationContext()
   private val serverParameters = bundleOf(RTB_PLACEMENT_PARAMETER to TEST_AD_UNIT)
   private val mediationInterstitialAdConfig: MediationInterstitialAdConfiguration =
-    createMediationInterstitialAdConfiguration(context, serverParameters = serverParameters)
+    createMediationInterstitialAdConfiguration(
+      context,
+      serverParameters = serverParameters,
+      bidResponse = TEST_BID_RESPONSE,
+    )
   private val mediationInterstitialAdCallback: MediationInterstitialAdCallback = mock()
   private val mediationAdLoadCallback:
     MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback> =
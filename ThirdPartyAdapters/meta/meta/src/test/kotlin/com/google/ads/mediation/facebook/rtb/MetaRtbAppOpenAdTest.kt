@@ -24,6 +24,7 @@ import com.facebook.ads.AdError.NO_FILL
 import com.facebook.ads.InterstitialAd
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.createMediationAppOpenAdConfiguration
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
@@ -80,7 +81,11 @@ class MetaRtbAppOpenAdTest {
   fun setUp() {
     serverParameters.putString(RTB_PLACEMENT_PARAMETER, TEST_AD_UNIT)
     mediationAppOpenAdConfig =
-      createMediationAppOpenAdConfiguration(context, serverParameters = serverParameters)
+      createMediationAppOpenAdConfiguration(
+        context,
+        serverParameters = serverParameters,
+        bidResponse = TEST_BID_RESPONSE,
+      )
     adapterAppOpenAd = MetaRtbAppOpenAd(mediationAdLoadCallback, metaFactory)
   }
 
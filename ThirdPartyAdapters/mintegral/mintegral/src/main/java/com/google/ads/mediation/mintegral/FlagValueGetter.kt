@@ -14,7 +14,7 @@
 
 package com.google.ads.mediation.mintegral
 
-import java.lang.reflect.InvocationTargetException
+import com.google.ads.mediation.common.AdapterSettingsFlags
 
 /** Gets the values of flags that modify the adapter's behavior. */
 class FlagValueGetter {
@@ -26,37 +26,10 @@ class FlagValueGetter {
    * If true, loading of a second ad for a full-screen slot will be prevented until the previously
    * loaded ad has been shown.
    */
-  fun shouldRestrictMultipleAdLoads(): Boolean {
-    try {
-      val adapterSettingsClass =
-        Class.forName("com.google.android.gms.ads.internal.adaptersettings.AdapterSettings")
-      val getInstanceMethod = adapterSettingsClass.getDeclaredMethod("getInstance")
-      getInstanceMethod.setAccessible(true)
-      val settings = getInstanceMethod.invoke(null)
-      val getBooleanMethod =
-        settings.javaClass.getDeclaredMethod(
-          "getBoolean",
-          String::class.java,
-          Boolean::class.javaPrimitiveType,
-        )
-      getBooleanMethod.setAccessible(true)
-      return getBooleanMethod.invoke(
-        settings,
-        /* key= */ "adapter:mintegral_android_restrict_multiple_ads",
-        /* defaultValue= */ false,
-      ) as Boolean
-    }
-    // Default to false if there is an exception.
-    catch (e: ClassNotFoundException) {
-      return false
-    } catch (e: NoSuchMethodException) {
-      return false
-    } catch (e: IllegalAccessException) {
-      return false
-    } catch (e: InvocationTargetException) {
-      return false
-    } catch (e: NullPointerException) {
-      return false
-    }
+  fun shouldRestrictMultipleAdLoads(): Boolean =
+    AdapterSettingsFlags.getBoolean(KEY_RESTRICT_MULTIPLE_ADS, /* defaultValue= */ false)
+
+  private companion object {
+    const val KEY_RESTRICT_MULTIPLE_ADS = "adapter:mintegral_android_restrict_multiple_ads"
   }
 }
@@ -23,10 +23,14 @@ import static com.google.ads.mediation.mintegral.MintegralUtils.getMintegralSlot
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.InitSnapshotStore;
+import com.google.ads.mediation.common.SdkInitRunner;
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbAppOpenAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbBannerAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbInterstitialAd;
@@ -67,12 +71,12 @@ import com.mbridge.msdk.out.MBridgeSDKFactory;
 import com.mbridge.msdk.out.SDKInitStatusListener;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class MintegralMediationAdapter extends RtbAdapter {
 
@@ -84,13 +88,18 @@ public class MintegralMediationAdapter extends RtbAdapter {
    * <p>The keys are Mintegral slot identifiers. The values are weak references to loaded ad
    * objects.
    *
-   * <p>This is used only MintegralUtils.shouldRestrictMultipleAdsLoad() is true.
+   * <p>This is used only MintegralUtils.shouldRestrictMultipleAdsLoad() is true. Ad objects are
+   * registered with {@link com.google.ads.mediation.common.AdLeakTracker} when they are added and
+   * released when they are removed on show or on a load or show failure.
    */
   public static final Map<MintegralSlotIdentifier, WeakReference<Object>> loadedSlotIdentifiers =
       new ConcurrentHashMap<>();
 
   private static MBridgeSDK mBridgeSDK;
 
+  /** The configuration of the last successful initialization, persisted across launches. */
+  private static InitSnapshotStore initSnapshotStore;
+
   private MintegralWaterfallBannerAd mintegralWaterfallBannerAd;
   private MintegralWaterfallInterstitialAd mintegralInterstitialAd;
   private MintegralWaterfallRewardedAd mintegralRewardedAd;
@@ -102,18 +111,19 @@ public class MintegralMediationAdapter extends RtbAdapter {
   private MintegralRtbNativeAd mintegralRtbNativeAd;
   private MintegralRtbAppOpenAd mintegralRtbAppOpenAd;
 
-  private ExecutorService executorService;
+  // The Mintegral SDK can be initialized off the main thread.
+  private final SdkInitRunner sdkInitRunner;
 
   private final FlagValueGetter flagValueGetter;
 
   public MintegralMediationAdapter() {
-    executorService = Executors.newCachedThreadPool();
+    sdkInitRunner = new SdkInitRunner("Mintegral", InitThreading.BACKGROUND);
     flagValueGetter = new FlagValueGetter();
   }
 
   @VisibleForTesting
   MintegralMediationAdapter(ExecutorService executorService, FlagValueGetter flagValueGetter) {
-    this.executorService = executorService;
+    sdkInitRunner = new SdkInitRunner("Mintegral", InitThreading.BACKGROUND, executorService);
     this.flagValueGetter = flagValueGetter;
   }
 
@@ -207,20 +217,8 @@ public class MintegralMediationAdapter extends RtbAdapter {
       initializationCompleteCallback.onInitializationFailed(error.toString());
       return;
     }
-    String appId = appIds.iterator().next();
-    String appKey = appKeys.iterator().next();
-    if (appIdCount > 1) {
-      String message = String.format(
-          "Found multiple app IDs in %s. Using %s to initialize Mintegral SDK.", appIds, appId);
-      Log.w(TAG, message);
-    }
-    if (appKeyCount > 1) {
-      String message = String.format(
-          "Found multiple App Keys in %s. Using %s to initialize Mintegral SDK.", appKeys, appKey);
-      Log.w(TAG, message);
-    }
+    final InitSnapshotStore snapshotStore = getInitSnapshotStore(context);
     mBridgeSDK = MBridgeSDKFactory.getMBridgeSDK();
-    Map<String, String> configurationMap = mBridgeSDK.getMBConfigurationMap(appId, appKey);
     // Mintegral sdk modified the channel acquisition plan and needs to adjust the setting time to
     // before init
     try {
@@ -233,27 +231,72 @@ public class MintegralMediationAdapter extends RtbAdapter {
     } catch (Throwable e) {
       e.printStackTrace();
     }
-    // Initialize the Mintegral SDK in a separate thread to avoid blocking the main thread.
-    executorService.submit(
-        () ->
-            mBridgeSDK.init(
-                configurationMap,
-                context,
-                new SDKInitStatusListener() {
-                  @Override
-                  public void onInitSuccess() {
-                    MintegralUtils.configureMintegralPrivacy(context, mBridgeSDK);
-                    initializationCompleteCallback.onInitializationSucceeded();
-                  }
-
-                  @Override
-                  public void onInitFail(String errorMessage) {
-                    AdError initError =
-                        createSdkError(MintegralConstants.ERROR_CODE_SDK_INIT_FAILED, errorMessage);
-                    initializationCompleteCallback.onInitializationFailed(initError.getMessage());
-                    Log.w(TAG, initError.toString());
-                  }
-                }));
+    // Initialize the Mintegral SDK in a separate thread to avoid blocking the main thread, and
+    // report the result back on the main thread.
+    final long initStartMillis = SystemClock.elapsedRealtime();
+    sdkInitRunner.run(
+        () -> {
+          // Prefer the app ID and key that the SDK was last initialized with, so that the choice
+          // does not depend on the iteration order. This runs off the main thread, so the snapshot
+          // can be read from disk before picking.
+          snapshotStore.read();
+          final String appId = snapshotStore.pick(MintegralConstants.APP_ID, appIds);
+          final String appKey = snapshotStore.pick(MintegralConstants.APP_KEY, appKeys);
+          if (appIdCount > 1) {
+            String message = String.format(
+                "Found multiple app IDs in %s. Using %s to initialize Mintegral SDK.",
+                appIds, appId);
+            Log.w(TAG, message);
+          }
+          if (appKeyCount > 1) {
+            String message = String.format(
+                "Found multiple App Keys in %s. Using %s to initialize Mintegral SDK.",
+                appKeys, appKey);
+            Log.w(TAG, message);
+          }
+          Map<String, String> configurationMap = mBridgeSDK.getMBConfigurationMap(appId, appKey);
+          mBridgeSDK.init(
+              configurationMap,
+              context,
+              new SDKInitStatusListener() {
+                @Override
+                public void onInitSuccess() {
+                  long initDurationMillis = SystemClock.elapsedRealtime() - initStartMillis;
+                  sdkInitRunner.deliver(
+                      () -> {
+                        MintegralUtils.configureMintegralPrivacy(context, mBridgeSDK);
+                        initializationCompleteCallback.onInitializationSucceeded();
+                        Map<String, String> parameters = new HashMap<>();
+                        parameters.put(MintegralConstants.APP_ID, appId);
+                        parameters.put(MintegralConstants.APP_KEY, appKey);
+                        snapshotStore.write(parameters, initDurationMillis);
+                      });
+                }
+
+                @Override
+                public void onInitFail(String errorMessage) {
+                  sdkInitRunner.deliver(
+                      () -> {
+                        snapshotStore.clear();
+                        AdError initError =
+                            createSdkError(
+                                MintegralConstants.ERROR_CODE_SDK_INIT_FAILED, errorMessage);
+                        initializationCompleteCallback.onInitializationFailed(
+                            initError.getMessage());
+                        Log.w(TAG, initError.toString());
+                      });
+                }
+              });
+        });
+  }
+
+  private static synchronized InitSnapshotStore getInitSnapshotStore(@NonNull Context context) {
+    if (initSnapshotStore == null) {
+      initSnapshotStore =
+          new InitSnapshotStore(
+              context.getApplicationContext(), "Mintegral", MintegralUtils.getAdapterVersion());
+    }
+    return initSnapshotStore;
   }
 
   @Override
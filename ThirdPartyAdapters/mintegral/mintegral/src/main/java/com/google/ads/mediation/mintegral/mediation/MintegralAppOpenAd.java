@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -70,6 +71,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   public void onLoadFailedWithCode(MBridgeIds mBridgeIds, int code, String msg, int reqType) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     AdError adError = MintegralConstants.createSdkError(code, msg);
     Log.d(TAG, adError.toString());
@@ -80,6 +82,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   public void onShowSuccessed(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     if (appOpenAdCallback != null) {
       appOpenAdCallback.onAdOpened();
@@ -91,6 +94,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   public void onShowFailed(MBridgeIds mBridgeIds, String msg) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     if (appOpenAdCallback != null) {
       AdError error =
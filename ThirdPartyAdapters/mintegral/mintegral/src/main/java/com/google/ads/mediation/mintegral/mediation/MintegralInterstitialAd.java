@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -75,6 +76,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
       String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -85,6 +87,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   public void onAdShow(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     if (interstitialAdCallback != null) {
       interstitialAdCallback.onAdOpened();
@@ -103,6 +106,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   public void onShowFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
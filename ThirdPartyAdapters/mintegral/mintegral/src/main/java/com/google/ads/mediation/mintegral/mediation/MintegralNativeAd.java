@@ -21,6 +21,7 @@ import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ClickableAssetViewsCache;
 import com.google.ads.mediation.mintegral.MintegralUtils;
 import com.google.android.gms.ads.formats.NativeAd.Image;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -28,12 +29,14 @@ import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper;
 import com.google.android.gms.ads.nativead.MediaView;
+import com.google.android.gms.ads.nativead.NativeAdAssetNames;
 import com.mbridge.msdk.nativex.view.MBMediaView;
 import com.mbridge.msdk.out.Campaign;
 import com.mbridge.msdk.out.OnMBMediaViewListener;
 import com.mbridge.msdk.widget.MBAdChoice;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public abstract class MintegralNativeAd extends UnifiedNativeAdMapper implements
     OnMBMediaViewListener {
@@ -47,6 +50,13 @@ public abstract class MintegralNativeAd extends UnifiedNativeAdMapper implements
 
   private final boolean muted;
 
+  /**
+   * Clickable asset views registered with Mintegral, excluding Mintegral's Privacy Information Icon
+   * image and text.
+   */
+  private final ClickableAssetViewsCache clickableAssetViewsCache =
+      new ClickableAssetViewsCache(NativeAdAssetNames.ASSET_ADCHOICES_CONTAINER_VIEW, "3012");
+
   public MintegralNativeAd(@NonNull MediationNativeAdConfiguration mediationNativeAdConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
           mediationAdLoadCallback) {
@@ -86,6 +96,35 @@ public abstract class MintegralNativeAd extends UnifiedNativeAdMapper implements
   }
 
 
+  /**
+   * Returns the clickable asset views that should be registered with Mintegral. When the native ad
+   * is re-bound with the same asset views (e.g. in a recycled list item), the previously computed
+   * list is returned and the media view listener is not set again.
+   */
+  @NonNull
+  protected List<View> getClickableAssetViews(@NonNull Map<String, View> clickableAssetViews) {
+    if (!clickableAssetViewsCache.update(clickableAssetViews)) {
+      return clickableAssetViewsCache.getAssetViews();
+    }
+
+    List<View> assetViews = clickableAssetViewsCache.getAssetViews();
+    for (int i = 0; i < assetViews.size(); i++) {
+      View clickView = assetViews.get(i);
+      if (clickView instanceof MediaView) {
+        MediaView mediaView = (MediaView) clickView;
+        for (int a = 0; a < mediaView.getChildCount(); a++) {
+          View childView = mediaView.getChildAt(a);
+          if (childView instanceof MBMediaView) {
+            ((MBMediaView) childView).setOnMediaViewListener(this);
+            break;
+          }
+        }
+        break;
+      }
+    }
+    return assetViews;
+  }
+
   /**
    * Traverse all sub views of the view to add click event listening to all views
    *
@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -73,6 +74,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   public void onVideoLoadFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -83,6 +85,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   public void onAdShow(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     if (rewardedAdCallback != null) {
       rewardedAdCallback.onAdOpened();
@@ -108,6 +111,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   public void onShowFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
       loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      AdLeakTracker.release(this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
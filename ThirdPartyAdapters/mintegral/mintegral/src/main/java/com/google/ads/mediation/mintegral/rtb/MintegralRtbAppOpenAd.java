@@ -25,6 +25,7 @@ import android.util.Log;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -70,6 +71,7 @@ public class MintegralRtbAppOpenAd extends MintegralAppOpenAd {
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
       loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      AdLeakTracker.register(this, "Mintegral", "app open");
     }
 
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
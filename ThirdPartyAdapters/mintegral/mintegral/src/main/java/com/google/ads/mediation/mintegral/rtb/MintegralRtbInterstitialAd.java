@@ -20,6 +20,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralBidNewInterstitialAdWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
@@ -66,6 +67,7 @@ public class MintegralRtbInterstitialAd extends MintegralInterstitialAd {
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
       loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      AdLeakTracker.register(this, "Mintegral", "interstitial");
     }
 
     mbBidNewInterstitialAdWrapper = MintegralFactory.createBidInterstitialHandler();
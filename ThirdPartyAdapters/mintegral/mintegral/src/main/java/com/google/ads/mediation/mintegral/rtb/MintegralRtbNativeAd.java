@@ -29,13 +29,9 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper;
-import com.google.android.gms.ads.nativead.MediaView;
-import com.google.android.gms.ads.nativead.NativeAdAssetNames;
 import com.mbridge.msdk.MBridgeConstans;
-import com.mbridge.msdk.nativex.view.MBMediaView;
 import com.mbridge.msdk.out.MBBidNativeHandler;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -86,27 +82,7 @@ public class MintegralRtbNativeAd extends MintegralNativeAd {
   public void trackViews(@NonNull View view, @NonNull Map<String, View> clickableAssetViews,
       @NonNull Map<String, View> map1) {
     // Set click interaction.
-    HashMap<String, View> copyClickableAssetViews = new HashMap<>(clickableAssetViews);
-
-    // Exclude Mintegral's Privacy Information Icon image and text from click events.
-    copyClickableAssetViews.remove(NativeAdAssetNames.ASSET_ADCHOICES_CONTAINER_VIEW);
-    copyClickableAssetViews.remove("3012");
-
-    ArrayList<View> assetViews = new ArrayList<>(copyClickableAssetViews.values());
-    for (int i = 0; i < assetViews.size(); i++) {
-      View clickView = assetViews.get(i);
-      if (clickView instanceof MediaView) {
-        MediaView mediaView = (MediaView)clickView;
-        for (int a = 0; a < mediaView.getChildCount(); a++) {
-          View childView = mediaView.getChildAt(a);
-          if(childView instanceof MBMediaView){
-            ((MBMediaView)childView).setOnMediaViewListener(this);
-            break;
-          }
-        }
-        break;
-      }
-    }
+    List<View> assetViews = getClickableAssetViews(clickableAssetViews);
     if (mbBidNativeHandler != null) {
       mbBidNativeHandler.registerView(view, assetViews, campaign);
     }
@@ -20,6 +20,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralBidRewardedAdWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
@@ -65,6 +66,7 @@ public class MintegralRtbRewardedAd extends MintegralRewardedAd {
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
       loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      AdLeakTracker.register(this, "Mintegral", "rewarded");
     }
 
     mintegralBidRewardedAdWrapper = MintegralFactory.createMintegralBidRewardedAdWrapper();
@@ -25,6 +25,7 @@ import android.os.Bundle;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -72,6 +73,7 @@ public class MintegralWaterfallAppOpenAd extends MintegralAppOpenAd {
       }
 
       loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      AdLeakTracker.register(this, "Mintegral", "app open");
     }
 
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
@@ -21,6 +21,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -71,6 +72,7 @@ public class MintegralWaterfallInterstitialAd extends MintegralInterstitialAd {
       }
 
       loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      AdLeakTracker.register(this, "Mintegral", "interstitial");
     }
 
     mbNewInterstitialAdWrapper = MintegralFactory.createInterstitialHandler();
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.mintegral
 
 import android.app.Activity
+import android.os.Looper
 import androidx.core.os.bundleOf
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
@@ -72,6 +73,7 @@ import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
 import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(RobolectricTestRunner::class)
 class MintegralMediationAdapterTest {
@@ -191,6 +193,35 @@ class MintegralMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_sdkCallsBackOnBackgroundThread_notifiesSuccessOnMainThread() {
+    mockStatic(MBridgeSDKFactory::class.java).use {
+      val mockMBridgeSdk = mock<MBridgeSDKImpl>()
+      whenever(MBridgeSDKFactory.getMBridgeSDK()) doReturn mockMBridgeSdk
+      val serverParameters =
+        bundleOf(
+          MintegralConstants.APP_KEY to TEST_APP_KEY,
+          MintegralConstants.APP_ID to TEST_APP_ID,
+        )
+      val mediationConfiguration = createMediationConfiguration(AdFormat.BANNER, serverParameters)
+      mintegralMediationAdapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        listOf(mediationConfiguration),
+      )
+      val initStatusCaptor = argumentCaptor<SDKInitStatusListener>()
+      verify(mockMBridgeSdk).init(any(), eq(context), initStatusCaptor.capture())
+
+      val sdkThread = Thread { initStatusCaptor.firstValue.onInitSuccess() }
+      sdkThread.start()
+      sdkThread.join()
+      verify(mockInitializationCompleteCallback, never()).onInitializationSucceeded()
+      shadowOf(Looper.getMainLooper()).idle()
+
+      verify(mockInitializationCompleteCallback).onInitializationSucceeded()
+    }
+  }
+
   @Test
   fun initialize_withUnderAgeConsentTrue_callsPrivacyConfiguration() {
     mockStatic(MBridgeSDKFactory::class.java).use {
@@ -15,7 +15,9 @@
 package com.google.ads.mediation.moloco
 
 import android.view.View
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
+import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdSize
@@ -46,6 +48,7 @@ private constructor(
   private val bidResponse: String,
   private val watermark: String,
 ) : MediationBannerAd, AdLoad.Listener, BannerAdShowListener {
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
   private lateinit var molocoAd: Banner
   private var bannerAdCallback: MediationBannerAdCallback? = null
 
@@ -71,6 +74,7 @@ private constructor(
           }
           molocoAd = banner
           molocoAd.adShowListener = this@MolocoBannerAd
+          measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
           molocoAd.load(bidResponse, this@MolocoBannerAd)
         }
       }
@@ -106,6 +110,7 @@ private constructor(
   override fun getView(): View = molocoAd
 
   override fun onAdLoadFailed(molocoAdError: MolocoAdError) {
+    measuredLoad?.finish()
     val adError =
       AdError(
         molocoAdError.errorType.errorCode,
@@ -116,6 +121,7 @@ private constructor(
   }
 
   override fun onAdLoadSuccess(molocoAd: MolocoAd) {
+    measuredLoad?.finish()
     bannerAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
@@ -148,6 +154,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "banner"
+
     fun newInstance(
       mediationBannerAdConfiguration: MediationBannerAdConfiguration,
       mediationAdLoadCallback: MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>,
@@ -170,6 +178,12 @@ private constructor(
       val bidResponse = mediationBannerAdConfiguration.bidResponse
       val watermark = mediationBannerAdConfiguration.watermark
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.message))
+      }
+
       return Result.success(
         MolocoBannerAd(mediationAdLoadCallback, adSize, adUnitId, bidResponse, watermark)
       )
@@ -15,7 +15,9 @@
 package com.google.ads.mediation.moloco
 
 import android.content.Context
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
+import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -42,6 +44,7 @@ private constructor(
   private val bidResponse: String,
   private val watermark: String,
 ) : MediationInterstitialAd, AdLoad.Listener, InterstitialAdShowListener {
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
 
   private lateinit var molocoAd: InterstitialAd
   private var interstitialAdCallback: MediationInterstitialAdCallback? = null
@@ -70,6 +73,7 @@ private constructor(
         return@createInterstitial
       }
       molocoAd = returnedAd
+      measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
       molocoAd.load(bidResponse, this)
     }
   }
@@ -79,6 +83,7 @@ private constructor(
   }
 
   override fun onAdLoadFailed(molocoAdError: MolocoAdError) {
+    measuredLoad?.finish()
     val adError =
       AdError(
         molocoAdError.errorType.errorCode,
@@ -89,6 +94,7 @@ private constructor(
   }
 
   override fun onAdLoadSuccess(molocoAd: MolocoAd) {
+    measuredLoad?.finish()
     interstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
@@ -118,6 +124,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "interstitial"
+
     fun newInstance(
       mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration,
       mediationAdLoadCallback:
@@ -140,6 +148,12 @@ private constructor(
       val bidResponse = mediationInterstitialAdConfiguration.bidResponse
       val watermark = mediationInterstitialAdConfiguration.watermark
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.message))
+      }
+
       return Result.success(
         MolocoInterstitialAd(mediationAdLoadCallback, adUnitId, bidResponse, watermark)
       )
@@ -201,6 +201,7 @@ class MolocoMediationAdapter : RtbAdapter() {
       "Missing or invalid Ad Unit configured for this ad source instance in the AdMob or Ad Manager UI."
     const val ERROR_MSG_AD_IS_NULL = "Moloco ad object returned was null."
     const val ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.moloco"
+    const val NETWORK_NAME = "Moloco"
     const val SDK_ERROR_DOMAIN = "com.moloco.sdk"
   }
 }
@@ -18,7 +18,9 @@ import android.graphics.drawable.Drawable
 import android.net.Uri
 import android.view.View
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
+import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.NETWORK_NAME
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
@@ -43,6 +45,7 @@ private constructor(
   private val mediationNativeAdLoadCallback:
     MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
 ) : AdLoad.Listener, NativeAdMapper() {
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
   @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE) internal var nativeAd: NativeAd? = null
 
   fun loadAd() {
@@ -74,11 +77,13 @@ private constructor(
 
       nativeAd = returnedAd
 
+      measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
       nativeAd?.load(bidResponse, this)
     }
   }
 
   override fun onAdLoadSuccess(molocoAd: MolocoAd) {
+    measuredLoad?.finish()
     overrideClickHandling = true
     nativeAd?.apply {
       assets?.apply {
@@ -111,6 +116,7 @@ private constructor(
   }
 
   override fun onAdLoadFailed(molocoAdError: MolocoAdError) {
+    measuredLoad?.finish()
     val adError =
       AdError(
         molocoAdError.errorType.errorCode,
@@ -145,6 +151,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "native"
+
     fun newInstance(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
       mediationNativeAdLoadCallback:
@@ -167,6 +175,12 @@ private constructor(
       val bidResponse = mediationNativeAdConfiguration.bidResponse
       val watermark = mediationNativeAdConfiguration.watermark
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationNativeAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.message))
+      }
+
       return Result.success(
         MolocoNativeAd(adUnitId, bidResponse, watermark, mediationNativeAdLoadCallback)
       )
@@ -15,7 +15,9 @@
 package com.google.ads.mediation.moloco
 
 import android.content.Context
+import com.google.ads.mediation.common.BidPayloadStage
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
+import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -42,6 +44,7 @@ private constructor(
   private val bidResponse: String,
   private val watermark: String,
 ) : MediationRewardedAd, AdLoad.Listener, RewardedInterstitialAdShowListener {
+  private var measuredLoad: BidPayloadStage.MeasuredLoad? = null
 
   private lateinit var molocoAd: RewardedInterstitialAd
   private var rewardedAdCallback: MediationRewardedAdCallback? = null
@@ -70,6 +73,7 @@ private constructor(
         return@createRewardedInterstitial
       }
       molocoAd = returnedAd
+      measuredLoad = BidPayloadStage.startLoad(NETWORK_NAME, AD_FORMAT, bidResponse)
       molocoAd.load(bidResponse, this)
     }
   }
@@ -79,6 +83,7 @@ private constructor(
   }
 
   override fun onAdLoadFailed(molocoAdError: MolocoAdError) {
+    measuredLoad?.finish()
     val adError =
       AdError(
         molocoAdError.errorType.errorCode,
@@ -89,6 +94,7 @@ private constructor(
   }
 
   override fun onAdLoadSuccess(molocoAd: MolocoAd) {
+    measuredLoad?.finish()
     rewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
@@ -130,6 +136,8 @@ private constructor(
   }
 
   companion object {
+    private const val AD_FORMAT = "rewarded"
+
     fun newInstance(
       mediationRewardedAdConfiguration: MediationRewardedAdConfiguration,
       mediationAdLoadCallback:
@@ -152,6 +160,12 @@ private constructor(
       val bidResponse = mediationRewardedAdConfiguration.bidResponse
       val watermark = mediationRewardedAdConfiguration.watermark
 
+      val bidResponseError = BidPayloadStage.validate(NETWORK_NAME, AD_FORMAT, bidResponse)
+      if (bidResponseError != null) {
+        mediationAdLoadCallback.onFailure(bidResponseError)
+        return Result.failure(IllegalArgumentException(bidResponseError.message))
+      }
+
       return Result.success(
         MolocoRewardedAd(mediationAdLoadCallback, adUnitId, bidResponse, watermark)
       )
@@ -24,6 +24,7 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATERMARK
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
+import com.google.ads.mediation.common.CommonAdErrors
 import com.google.ads.mediation.moloco.MolocoAdapterUtils.setMolocoIsAgeRestricted
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
 import com.google.android.gms.ads.AdError
@@ -350,6 +351,30 @@ class MolocoMediationAdapterTest {
       .onFailure(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun loadRtbInterstitialAd_withEmptyBidResponse_invokesOnFailure() {
+    mockStatic(Moloco::class.java).use { mockedMoloco ->
+      val serverParameters = bundleOf(MolocoMediationAdapter.KEY_AD_UNIT_ID to TEST_AD_UNIT)
+      val mediationInterstitialAdConfiguration =
+        createMediationInterstitialAdConfiguration(serverParameters = serverParameters)
+
+      adapter.loadRtbInterstitialAd(
+        mediationInterstitialAdConfiguration,
+        mockMediationInterstitialAdLoadCallback,
+      )
+
+      val expectedAdError =
+        AdError(
+          CommonAdErrors.ERROR_EMPTY_BID_RESPONSE,
+          "The Moloco interstitial bid response is empty.",
+          CommonAdErrors.ERROR_DOMAIN,
+        )
+      verify(mockMediationInterstitialAdLoadCallback)
+        .onFailure(argThat(AdErrorMatcher(expectedAdError)))
+      mockedMoloco.verifyNoInteractions()
+    }
+  }
+
   @Test
   fun loadRtbInterstitialAd_whenAdIsCreated_loadsMolocoInterstitial() {
     mockStatic(Moloco::class.java).use { mockedMoloco ->
@@ -23,6 +23,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
 import com.bytedance.sdk.openadsdk.api.init.PAGSdk.PAGInitCallback;
+import com.google.ads.mediation.common.SdkInitRunner;
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading;
 import com.google.android.gms.ads.AdError;
 import java.util.ArrayList;
 
@@ -44,6 +46,9 @@ public class PangleInitializer implements PAGInitCallback {
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
 
+  /** Pangle's integration guide requires PAGSdk.init() to be called on the main thread. */
+  private final SdkInitRunner sdkInitRunner = new SdkInitRunner("Pangle", InitThreading.MAIN);
+
   @NonNull
   public static PangleInitializer getInstance() {
     if (instance == null) {
@@ -101,7 +106,7 @@ public class PangleInitializer implements PAGInitCallback {
                     "[{\"name\":\"mediation\",\"value\":\"google\"},{\"name\":\"adapter_version\",\"value\":\"%s\"}]",
                     BuildConfig.ADAPTER_VERSION))
             .build();
-    pangleSdkWrapper.init(context, adConfig, PangleInitializer.this);
+    sdkInitRunner.run(() -> pangleSdkWrapper.init(context, adConfig, PangleInitializer.this));
   }
 
   @Override
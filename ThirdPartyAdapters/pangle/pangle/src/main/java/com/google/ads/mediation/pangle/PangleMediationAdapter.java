@@ -28,6 +28,8 @@ import com.bytedance.sdk.openadsdk.api.PAGConstant.PAGGDPRConsentType;
 import com.bytedance.sdk.openadsdk.api.bidding.PAGBiddingRequest;
 import com.bytedance.sdk.openadsdk.api.init.BiddingTokenCallback;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
+import com.google.ads.mediation.common.IabPrivacyStrings;
+import com.google.ads.mediation.common.WarmBidTokenCache;
 import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.renderer.PangleAppOpenAd;
 import com.google.ads.mediation.pangle.renderer.PangleBannerAd;
@@ -59,6 +61,8 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 public class PangleMediationAdapter extends RtbAdapter {
 
@@ -79,6 +83,18 @@ public class PangleMediationAdapter extends RtbAdapter {
 
   private static int gdpr = -1;
 
+  /**
+   * Bidding tokens collected ahead of the next auction, by ad format and placement. Pangle tokens
+   * are served for up to 10 minutes after they were collected. Off unless the publisher calls
+   * {@link #setWarmBiddingTokensEnabled(boolean)}.
+   */
+  @VisibleForTesting
+  static final WarmBidTokenCache biddingTokenCache =
+      new WarmBidTokenCache("Pangle", TimeUnit.MINUTES.toMillis(10));
+
+  /** The user data the warm bidding tokens were collected with. */
+  private static String biddingTokenUserData;
+
   public PangleMediationAdapter() {
     pangleInitializer = PangleInitializer.getInstance();
     pangleSdkWrapper = new PangleSdkWrapper();
@@ -105,19 +121,42 @@ public class PangleMediationAdapter extends RtbAdapter {
     // The user data needs to be set for it to be included in the signals.
     Bundle networkExtras = rtbSignalData.getNetworkExtras();
     if (networkExtras != null && networkExtras.containsKey(PangleExtras.Keys.USER_DATA)) {
-      pangleSdkWrapper.setUserData(networkExtras.getString(PangleExtras.Keys.USER_DATA, ""));
+      String userData = networkExtras.getString(PangleExtras.Keys.USER_DATA, "");
+      pangleSdkWrapper.setUserData(userData);
+      if (!Objects.equals(userData, biddingTokenUserData)) {
+        // Warm tokens carry the user data they were collected with.
+        biddingTokenCache.invalidate();
+        biddingTokenUserData = userData;
+      }
     }
-    PAGBiddingRequest biddingRequest = new PAGBiddingRequest();
-    biddingRequest.setAdxId(PangleConstants.ADX_ID);
-    pangleSdkWrapper.getBiddingToken(
-        rtbSignalData.getContext(),
-        biddingRequest,
-        new BiddingTokenCallback() {
-          @Override
-          public void onBiddingTokenCollected(String biddingToken) {
-            signalCallbacks.onSuccess(biddingToken);
-          }
-        });
+
+    String adFormat = "";
+    String placementId = null;
+    List<MediationConfiguration> configurations = rtbSignalData.getConfigurations();
+    if (!configurations.isEmpty()) {
+      adFormat = configurations.get(0).getFormat().name();
+      placementId =
+          configurations.get(0).getServerParameters().getString(PangleConstants.PLACEMENT_ID);
+    }
+    Context context = rtbSignalData.getContext().getApplicationContext();
+    biddingTokenCache.collect(
+        adFormat,
+        placementId,
+        IabPrivacyStrings.fingerprint(context),
+        tokenCallback -> {
+          PAGBiddingRequest biddingRequest = new PAGBiddingRequest();
+          biddingRequest.setAdxId(PangleConstants.ADX_ID);
+          pangleSdkWrapper.getBiddingToken(
+              context,
+              biddingRequest,
+              new BiddingTokenCallback() {
+                @Override
+                public void onBiddingTokenCollected(String biddingToken) {
+                  tokenCallback.onTokenCollected(biddingToken);
+                }
+              });
+        },
+        signalCallbacks::onSuccess);
   }
 
   @Override
@@ -292,6 +331,18 @@ public class PangleMediationAdapter extends RtbAdapter {
     rewardedAd.render(adConfiguration);
   }
 
+  /**
+   * Sets whether Pangle bidding tokens are collected ahead of the next auction, so that signal
+   * collection can serve one without waiting for the Pangle SDK. Off by default.
+   *
+   * <p>A warm token is dropped when the user data, GDPR or PA setting of this adapter, or the IAB
+   * TCF, US privacy or GPP string changes. Do not turn warm tokens on if Pangle's tokens depend on
+   * other settings that can change during the session.
+   */
+  public static void setWarmBiddingTokensEnabled(boolean enabled) {
+    biddingTokenCache.setEnabled(enabled);
+  }
+
   /**
    * Set the GDPR setting in Pangle SDK.
    *
@@ -317,6 +368,7 @@ public class PangleMediationAdapter extends RtbAdapter {
       pangleSdkWrapper.setGdprConsent(gdpr);
     }
     PangleMediationAdapter.gdpr = gdpr;
+    biddingTokenCache.invalidate();
   }
 
   public static int getGDPRConsent() {
@@ -345,6 +397,7 @@ public class PangleMediationAdapter extends RtbAdapter {
       return;
     }
     pangleSdkWrapper.setPAConsent(pa);
+    biddingTokenCache.invalidate();
   }
 
   public static int getPAConsent() {
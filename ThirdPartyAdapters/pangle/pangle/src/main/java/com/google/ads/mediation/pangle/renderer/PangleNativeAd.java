@@ -33,6 +33,7 @@ import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdData;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeRequest;
+import com.google.ads.mediation.common.ClickableAssetViewsCache;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -47,7 +48,6 @@ import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
 import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper;
 import com.google.android.gms.ads.nativead.NativeAdAssetNames;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 
 public class PangleNativeAd extends UnifiedNativeAdMapper {
@@ -62,8 +62,40 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
+  private final ClickableAssetViewsCache clickableAssetViewsCache =
+      new ClickableAssetViewsCache(
+          NativeAdAssetNames.ASSET_ADCHOICES_CONTAINER_VIEW, ASSET_ID_ADCHOICES_TEXT_VIEW);
+  private final PAGNativeAdInteractionListener interactionListener =
+      new PAGNativeAdInteractionListener() {
+        @Override
+        public void onAdClicked() {
+          if (callback != null) {
+            callback.reportAdClicked();
+          }
+        }
+
+        @Override
+        public void onAdShowed() {
+          if (callback != null) {
+            callback.reportAdImpression();
+          }
+        }
+
+        @Override
+        public void onAdDismissed() {
+          // Google Mobile Ads SDK doesn't have a matching event.
+        }
+      };
+  private final OnClickListener adChoicesClickListener =
+      new OnClickListener() {
+        @Override
+        public void onClick(View v) {
+          pagNativeAd.showPrivacyActivity();
+        }
+      };
   private MediationNativeAdCallback callback;
   private PAGNativeAd pagNativeAd;
+  private ArrayList<View> creativeViews = new ArrayList<>();
 
   public PangleNativeAd(
       @NonNull
@@ -160,55 +192,26 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
       @NonNull Map<String, View> clickableAssetViews,
       @NonNull Map<String, View> nonClickableAssetViews) {
 
-    // Set click interaction.
-    HashMap<String, View> copyClickableAssetViews = new HashMap<>(clickableAssetViews);
-
-    // Exclude Pangle's Privacy Information Icon image and text from click events.
-    copyClickableAssetViews.remove(NativeAdAssetNames.ASSET_ADCHOICES_CONTAINER_VIEW);
-    copyClickableAssetViews.remove(ASSET_ID_ADCHOICES_TEXT_VIEW);
-
-    View creativeBtn = copyClickableAssetViews.get(NativeAdAssetNames.ASSET_CALL_TO_ACTION);
-    ArrayList<View> creativeViews = new ArrayList<>();
-    if (creativeBtn != null) {
-      creativeViews.add(creativeBtn);
+    // Set click interaction. Pangle's Privacy Information Icon image and text are excluded from
+    // click events. Re-binding the same asset views reuses the previously computed view lists.
+    if (clickableAssetViewsCache.update(clickableAssetViews)) {
+      creativeViews = new ArrayList<>(1);
+      View creativeBtn =
+          clickableAssetViewsCache.getAssetView(NativeAdAssetNames.ASSET_CALL_TO_ACTION);
+      if (creativeBtn != null) {
+        creativeViews.add(creativeBtn);
+      }
     }
 
-    ArrayList<View> assetViews = new ArrayList<>(copyClickableAssetViews.values());
     pagNativeAd.registerViewForInteraction(
         (ViewGroup) containerView,
-        assetViews,
+        clickableAssetViewsCache.getAssetViews(),
         creativeViews,
         null,
-        new PAGNativeAdInteractionListener() {
-          @Override
-          public void onAdClicked() {
-            if (callback != null) {
-              callback.reportAdClicked();
-            }
-          }
-
-          @Override
-          public void onAdShowed() {
-            if (callback != null) {
-              callback.reportAdImpression();
-            }
-          }
-
-          @Override
-          public void onAdDismissed() {
-            // Google Mobile Ads SDK doesn't have a matching event.
-          }
-        });
+        interactionListener);
 
     // Set ad choices click listener to show Pangle's Privacy Policy page.
-    getAdChoicesContent()
-        .setOnClickListener(
-            new OnClickListener() {
-              @Override
-              public void onClick(View v) {
-                pagNativeAd.showPrivacyActivity();
-              }
-            });
+    getAdChoicesContent().setOnClickListener(adChoicesClickListener);
   }
 
   public class PangleNativeMappedImage extends Image {
@@ -51,6 +51,7 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.inOrder
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.RobolectricTestParameterInjector
@@ -133,6 +134,31 @@ class PangleMediationAdapterTest {
     verify(signalCallbacks).onSuccess(BIDDING_TOKEN)
   }
 
+  @Test
+  fun collectSignals_afterBackgroundRefresh_servesWarmBiddingToken() {
+    val signalCallbacks: SignalCallbacks = mock()
+    val rtbSignalData =
+      RtbSignalData(
+        context,
+        listOf(MediationConfiguration(AdFormat.BANNER, bundleOf())),
+        bundleOf(),
+        AdSize(1, 1),
+      )
+    val biddingTokenCallbackCaptor = argumentCaptor<BiddingTokenCallback>()
+    pangleMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+    verify(pangleSdkWrapper).getBiddingToken(any(), any(), biddingTokenCallbackCaptor.capture())
+    biddingTokenCallbackCaptor.firstValue.onBiddingTokenCollected(BIDDING_TOKEN)
+    // The slot is refilled in the background right after the live token was served.
+    verify(pangleSdkWrapper, times(2))
+      .getBiddingToken(any(), any(), biddingTokenCallbackCaptor.capture())
+    biddingTokenCallbackCaptor.lastValue.onBiddingTokenCollected(WARM_BIDDING_TOKEN)
+
+    pangleMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+
+    verify(signalCallbacks).onSuccess(WARM_BIDDING_TOKEN)
+    verify(pangleSdkWrapper, times(3)).getBiddingToken(any(), any(), any())
+  }
+
   @Test
   fun initialize_ifAppIdsAreMissing_callsFailureCallback() {
     // Create server parameters without app ID.
@@ -335,5 +361,6 @@ class PangleMediationAdapterTest {
   companion object {
     private const val USER_DATA_VALUE = "example_user_data"
     private const val BIDDING_TOKEN = "example_bidding_token"
+    private const val WARM_BIDDING_TOKEN = "example_warm_bidding_token"
   }
 }
@@ -52,6 +52,7 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.never
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
@@ -276,6 +277,27 @@ class PangleNativeAdTest {
     assertThat(creativeViews.get(0)).isEqualTo(callToActionAssetView)
   }
 
+  @Test
+  fun trackViews_reboundWithSameAssetViews_reusesRegistrationListsAndListener() {
+    loadPangleNativeAd()
+    val listenerCaptor = argumentCaptor<PAGNativeAdInteractionListener>()
+
+    nativeAd.trackViews(containerView, clickableAssetViews, emptyMap())
+    nativeAd.trackViews(containerView, clickableAssetViews, emptyMap())
+
+    verify(pagNativeAd, times(2))
+      .registerViewForInteraction(
+        eq(containerView),
+        assetViewsCaptor.capture(),
+        creativeViewsCaptor.capture(),
+        eq(null),
+        listenerCaptor.capture(),
+      )
+    assertThat(assetViewsCaptor.secondValue).isSameInstanceAs(assetViewsCaptor.firstValue)
+    assertThat(creativeViewsCaptor.secondValue).isSameInstanceAs(creativeViewsCaptor.firstValue)
+    assertThat(listenerCaptor.secondValue).isSameInstanceAs(listenerCaptor.firstValue)
+  }
+
   @Test
   fun trackViews_ifAdIsClicked_reportsAdClicked() {
     loadPangleNativeAd()
@@ -17,6 +17,8 @@ package com.google.ads.mediation.pubmatic
 import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.SdkInitRunner
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
@@ -62,6 +64,9 @@ import java.lang.NumberFormatException
 class PubMaticMediationAdapter(
   private val pubMaticSignalGenerator: PubMaticSignalGenerator = PubMaticSignalGeneratorImpl(),
   private val pubMaticAdFactory: PubMaticAdFactory = PubMaticAdFactoryImpl(),
+  // The OpenWrap SDK initializes asynchronously and may be initialized from any thread, so it is
+  // initialized off the main thread. Its init listener is handed back to the main thread.
+  private val sdkInitRunner: SdkInitRunner = SdkInitRunner("PubMatic", InitThreading.BACKGROUND),
 ) : RtbAdapter() {
 
   private lateinit var bannerAd: PubMaticBannerAd
@@ -140,20 +145,24 @@ class PubMaticMediationAdapter(
 
     val openWrapSDKConfig =
       OpenWrapSDKConfig.Builder(publisherId = publisherId, profileIds = profileIds).build()
-    OpenWrapSDK.initialize(
-      context,
-      openWrapSDKConfig,
-      object : OpenWrapSDKInitializer.Listener {
-        override fun onFailure(error: POBError) {
-          val adError = AdError(error.errorCode, error.errorMessage, SDK_ERROR_DOMAIN)
-          initializationCompleteCallback.onInitializationFailed(adError.toString())
-        }
+    sdkInitRunner.run {
+      OpenWrapSDK.initialize(
+        context,
+        openWrapSDKConfig,
+        object : OpenWrapSDKInitializer.Listener {
+          override fun onFailure(error: POBError) {
+            val adError = AdError(error.errorCode, error.errorMessage, SDK_ERROR_DOMAIN)
+            sdkInitRunner.deliver {
+              initializationCompleteCallback.onInitializationFailed(adError.toString())
+            }
+          }
 
-        override fun onSuccess() {
-          initializationCompleteCallback.onInitializationSucceeded()
-        }
-      },
-    )
+          override fun onSuccess() {
+            sdkInitRunner.deliver { initializationCompleteCallback.onInitializationSucceeded() }
+          }
+        },
+      )
+    }
   }
 
   override fun collectSignals(signalData: RtbSignalData, callback: SignalCallbacks) {
@@ -25,6 +25,8 @@ import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfigurat
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.SdkInitRunner
+import com.google.ads.mediation.common.SdkInitRunner.InitThreading
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_INVALID_AD_FORMAT
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_INVALID_BANNER_AD_SIZE
@@ -84,6 +86,7 @@ import com.pubmatic.sdk.openwrap.core.signal.POBBiddingHost
 import com.pubmatic.sdk.openwrap.core.signal.POBSignalConfig
 import com.pubmatic.sdk.openwrap.interstitial.POBInterstitial
 import com.pubmatic.sdk.rewardedad.POBRewardedAd
+import java.util.concurrent.Executor
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -159,7 +162,13 @@ class PubMaticMediationAdapterTest {
 
   @Before
   fun setUp() {
-    adapter = PubMaticMediationAdapter(pubMaticSignalGenerator, pubMaticAdFactory)
+    // Run the background initialization on the test thread, where the static mocks apply.
+    adapter =
+      PubMaticMediationAdapter(
+        pubMaticSignalGenerator,
+        pubMaticAdFactory,
+        SdkInitRunner("PubMatic", InitThreading.BACKGROUND, Executor { it.run() }),
+      )
   }
 
   // region Version tests
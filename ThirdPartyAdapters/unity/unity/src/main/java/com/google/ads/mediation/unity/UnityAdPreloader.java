@@ -0,0 +1,223 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.unity;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.ElapsedRealtimeClock;
+import com.unity3d.ads.IUnityAdsLoadListener;
+import com.unity3d.ads.UnityAds.UnityAdsLoadError;
+import com.unity3d.ads.UnityAdsLoadOptions;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps Unity Ads interstitial and rewarded ads loaded ahead of the Google Mobile Ads SDK's load
+ * requests.
+ *
+ * <p>Preloading is off until {@link #setAdsPerPlacement} is called with a positive count. Once
+ * enabled, each waterfall placement is refilled to that many loaded object IDs when a load finds
+ * none ready and after one of its ads is shown, and the placement's next load is served from a
+ * ready object ID instead of waiting for Unity Ads. Ads loaded longer than {@code maxAgeMillis}
+ * ago are dropped instead of served, so that a served ad is not about to expire.
+ */
+class UnityAdPreloader {
+
+  private final long maxAgeMillis;
+
+  private final ElapsedRealtimeClock clock;
+
+  /** Preloaded ads by placement ID, oldest first. */
+  private final Map<String, ArrayDeque<PreloadedAd>> preloadedAds = new HashMap<>();
+
+  private int adsPerPlacement = 0;
+
+  private long hitCount;
+
+  private long missCount;
+
+  private long staleCount;
+
+  UnityAdPreloader(long maxAgeMillis, @NonNull ElapsedRealtimeClock clock) {
+    this.maxAgeMillis = maxAgeMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Sets how many loaded ads to keep per placement. A count of 0 turns preloading off and drops the
+   * ads preloaded so far.
+   */
+  synchronized void setAdsPerPlacement(int adsPerPlacement) {
+    if (adsPerPlacement < 0) {
+      throw new IllegalArgumentException("adsPerPlacement must not be negative.");
+    }
+    this.adsPerPlacement = adsPerPlacement;
+    if (adsPerPlacement == 0) {
+      preloadedAds.clear();
+    }
+  }
+
+  synchronized boolean isEnabled() {
+    return adsPerPlacement > 0;
+  }
+
+  /**
+   * Takes a ready ad of the given placement.
+   *
+   * @return a loaded ad to show, or {@code null} if preloading is off or none of the placement's
+   *     ads finished loading.
+   */
+  @Nullable
+  synchronized ReadyAd take(@NonNull String placementId) {
+    if (!isEnabled()) {
+      return null;
+    }
+    ArrayDeque<PreloadedAd> ads = preloadedAds.get(placementId);
+    if (ads != null) {
+      long now = clock.elapsedRealtime();
+      Iterator<PreloadedAd> iterator = ads.iterator();
+      while (iterator.hasNext()) {
+        PreloadedAd ad = iterator.next();
+        if (!ad.isLoaded()) {
+          continue;
+        }
+        iterator.remove();
+        if (now - ad.loadedAtMillis >= maxAgeMillis) {
+          staleCount++;
+          Log.d(
+              UnityMediationAdapter.TAG,
+              String.format(
+                  "Dropped stale preloaded Unity Ads ad for placement ID: %s", placementId));
+          continue;
+        }
+        hitCount++;
+        return new ReadyAd(ad.objectId, ad.loadedAtMillis);
+      }
+    }
+    missCount++;
+    return null;
+  }
+
+  /** Loads ads for the given placement until it holds the configured number of ads. */
+  synchronized void refill(@NonNull String placementId, @NonNull UnityAdsLoader unityAdsLoader) {
+    if (!isEnabled()) {
+      return;
+    }
+    ArrayDeque<PreloadedAd> ads = preloadedAds.get(placementId);
+    if (ads == null) {
+      ads = new ArrayDeque<>();
+      preloadedAds.put(placementId, ads);
+    }
+    while (ads.size() < adsPerPlacement) {
+      PreloadedAd ad = new PreloadedAd(placementId, UUID.randomUUID().toString());
+      ads.add(ad);
+      UnityAdsLoadOptions unityAdsLoadOptions =
+          unityAdsLoader.createUnityAdsLoadOptionsWithId(ad.objectId);
+      unityAdsLoader.load(placementId, unityAdsLoadOptions, ad);
+    }
+  }
+
+  /** Number of loads served from a preloaded ad. */
+  synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /** Number of loads that found no ready preloaded ad while preloading was on. */
+  synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /** Number of preloaded ads dropped because they were loaded too long ago. */
+  synchronized long getStaleCount() {
+    return staleCount;
+  }
+
+  /** Share of loads served from a preloaded ad, or 0 before the first load. */
+  synchronized double getHitRate() {
+    long loads = hitCount + missCount;
+    return loads == 0 ? 0 : (double) hitCount / loads;
+  }
+
+  @VisibleForTesting
+  synchronized void reset() {
+    adsPerPlacement = 0;
+    preloadedAds.clear();
+    hitCount = 0;
+    missCount = 0;
+    staleCount = 0;
+  }
+
+  /** A preloaded ad handed out by {@link #take}. */
+  static final class ReadyAd {
+
+    /** The object ID to show the ad with. */
+    final String objectId;
+
+    /** When Unity Ads reported the ad as loaded, on the {@link ElapsedRealtimeClock}. */
+    final long loadedAtMillis;
+
+    ReadyAd(String objectId, long loadedAtMillis) {
+      this.objectId = objectId;
+      this.loadedAtMillis = loadedAtMillis;
+    }
+  }
+
+  /** An ad loaded ahead of time, tracking its own load outcome. */
+  private final class PreloadedAd implements IUnityAdsLoadListener {
+
+    private final String placementId;
+
+    private final String objectId;
+
+    /** When Unity Ads reported the ad as loaded, or -1 while it is loading. */
+    private long loadedAtMillis = -1;
+
+    PreloadedAd(String placementId, String objectId) {
+      this.placementId = placementId;
+      this.objectId = objectId;
+    }
+
+    boolean isLoaded() {
+      return loadedAtMillis >= 0;
+    }
+
+    @Override
+    public void onUnityAdsAdLoaded(String placementId) {
+      synchronized (UnityAdPreloader.this) {
+        loadedAtMillis = clock.elapsedRealtime();
+      }
+    }
+
+    @Override
+    public void onUnityAdsFailedToLoad(
+        String placementId, UnityAdsLoadError error, String message) {
+      Log.d(
+          UnityMediationAdapter.TAG,
+          String.format(
+              "Unity Ads failed to preload an ad for placement ID %s: %s", placementId, message));
+      synchronized (UnityAdPreloader.this) {
+        ArrayDeque<PreloadedAd> ads = preloadedAds.get(this.placementId);
+        if (ads != null) {
+          ads.remove(this);
+        }
+      }
+    }
+  }
+}
@@ -25,6 +25,7 @@ import android.util.Log;
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLeakTracker;
 import com.google.ads.mediation.unity.eventadapters.UnityInterstitialEventAdapter;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
@@ -122,6 +123,7 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
     }
     Activity activity = (Activity) context;
     activityWeakReference = new WeakReference<>(activity);
+    AdLeakTracker.register(this, "Unity Ads", "interstitial");
 
     UnityInitializer.getInstance()
         .initializeUnityAds(context, gameId, new IUnityAdsInitializationListener() {
@@ -245,6 +247,7 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
 
   @Override
   public void onDestroy() {
+    AdLeakTracker.release(this);
     mediationInterstitialListener = null;
   }
 
@@ -14,6 +14,7 @@ import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdReadinessTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -59,6 +60,12 @@ public class UnityInterstitialAd
 
   private final String watermark;
 
+  /** Whether the ad was loaded through the waterfall, and so is eligible for preloading. */
+  private boolean isWaterfallAd;
+
+  /** Validity of the loaded ad, set once Unity Ads loaded it. */
+  @Nullable private AdReadinessTracker.TrackedAd loadedAdReadiness;
+
   public UnityInterstitialAd(
       @NonNull MediationInterstitialAdConfiguration adConfiguration,
       @NonNull
@@ -74,11 +81,29 @@ public class UnityInterstitialAd
 
   @Override
   public void onUnityAdsAdLoaded(String placementId) {
+    onAdLoaded(placementId, null);
+  }
+
+  /**
+   * Reports a loaded ad to the Google Mobile Ads SDK.
+   *
+   * @param preloadedAd the preloaded ad that is served, or {@code null} if Unity Ads loaded the ad
+   *     for this request.
+   */
+  private void onAdLoaded(String placementId, @Nullable UnityAdPreloader.ReadyAd preloadedAd) {
     String logMessage =
         String.format(
             "Unity Ads interstitial ad successfully loaded for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
     this.placementId = placementId;
+    if (placementId != null) {
+      // A preloaded ad stays valid for as long as it did when Unity Ads loaded it.
+      loadedAdReadiness =
+          preloadedAd != null
+              ? UnityMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(
+                  placementId, preloadedAd.loadedAtMillis)
+              : UnityMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(placementId);
+    }
     interstitialAdCallback = adLoadCallback.onSuccess(this);
   }
 
@@ -96,6 +121,9 @@ public class UnityInterstitialAd
     String logMessage =
         String.format("Unity Ads interstitial ad started for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+    }
 
     // Unity Ads does not have an "ad opened" callback.
     // Sending Ad Opened event when the video ad starts playing.
@@ -130,6 +158,7 @@ public class UnityInterstitialAd
         String.format(
             "Unity Ads interstitial ad finished playing for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
+    destroy();
 
     if (interstitialAdCallback != null) {
       // Unity Ads ad closed.
@@ -142,12 +171,27 @@ public class UnityInterstitialAd
     // Unity Ads ad failed to show.
     AdError adError = createSDKError(error, message);
     Log.w(UnityMediationAdapter.TAG, adError.toString());
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.onShowFailed();
+    }
 
     if (interstitialAdCallback != null) {
       interstitialAdCallback.onAdFailedToShow(adError);
     }
   }
 
+  /**
+   * Stops tracking the validity of the ad and drops it once it was closed. Google Mobile Ads does
+   * not destroy full-screen ads, so closing is the end of their life.
+   */
+  private void destroy() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+      loadedAdReadiness = null;
+    }
+    objectId = null;
+  }
+
   public void loadAd(MediationInterstitialAdConfiguration adConfiguration) {
     Context context = adConfiguration.getContext();
     Bundle serverParameters = adConfiguration.getServerParameters();
@@ -163,6 +207,7 @@ public class UnityInterstitialAd
     }
 
     final String adMarkup = adConfiguration.getBidResponse();
+    isWaterfallAd = adMarkup == null;
 
     unityInitializer.initializeUnityAds(
         context,
@@ -180,6 +225,19 @@ public class UnityInterstitialAd
             UnityAdsAdapterUtils.setCoppa(
                 MobileAds.getRequestConfiguration().getTagForChildDirectedTreatment(), context);
 
+            if (adMarkup == null) {
+              UnityAdPreloader.ReadyAd preloadedAd =
+                  UnityMediationAdapter.fullScreenAdPreloader.take(placementId);
+              if (preloadedAd != null) {
+                objectId = preloadedAd.objectId;
+                onAdLoaded(placementId, preloadedAd);
+                return;
+              }
+              // Warm the placement, so that its next loads are served without waiting for Unity
+              // Ads.
+              UnityMediationAdapter.fullScreenAdPreloader.refill(placementId, unityAdsLoader);
+            }
+
             objectId = UUID.randomUUID().toString();
             UnityAdsLoadOptions unityAdsLoadOptions =
                 unityAdsLoader.createUnityAdsLoadOptionsWithId(objectId);
@@ -211,6 +269,17 @@ public class UnityInterstitialAd
           "Unity Ads received call to show before successfully loading an ad.");
     }
 
+    if (loadedAdReadiness != null) {
+      AdError expiredError = loadedAdReadiness.checkShow();
+      if (expiredError != null) {
+        objectId = null;
+        if (interstitialAdCallback != null) {
+          interstitialAdCallback.onAdFailedToShow(expiredError);
+        }
+        return;
+      }
+    }
+
     UnityAdsShowOptions unityAdsShowOptions =
         unityAdsLoader.createUnityAdsShowOptionsWithId(objectId);
     unityAdsShowOptions.set(KEY_WATERMARK, watermark);
@@ -219,5 +288,9 @@ public class UnityInterstitialAd
     // (https://developers.google.com/admob/android/reference/com/google/android/gms/ads/appopen/AppOpenAd#show(android.app.Activity)).
     // So, this is guaranteed to be an activity context.
     unityAdsLoader.show((Activity) context, placementId, unityAdsShowOptions, this);
+
+    if (isWaterfallAd && placementId != null) {
+      UnityMediationAdapter.fullScreenAdPreloader.refill(placementId, unityAdsLoader);
+    }
   }
 }
@@ -25,6 +25,8 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdReadinessTracker;
+import com.google.ads.mediation.common.ElapsedRealtimeClock;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.VersionInfo;
@@ -50,6 +52,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@link UnityMediationAdapter} is used to initialize the Unity Ads SDK, load rewarded video
@@ -62,6 +65,21 @@ public class UnityMediationAdapter extends RtbAdapter {
    */
   static final String TAG = UnityMediationAdapter.class.getSimpleName();
 
+  /**
+   * Tracks how long loaded interstitial and rewarded ads stay showable. Unity Ads ads expire about
+   * an hour after they are loaded.
+   */
+  static final AdReadinessTracker fullScreenAdReadinessTracker =
+      new AdReadinessTracker("Unity Ads", TimeUnit.MINUTES.toMillis(60));
+
+  /**
+   * Keeps waterfall interstitial and rewarded ads loaded ahead of load requests, once enabled with
+   * {@link #setPreloadedAdsPerPlacement}. Preloaded ads are served only during the first half of
+   * their validity.
+   */
+  static final UnityAdPreloader fullScreenAdPreloader =
+      new UnityAdPreloader(TimeUnit.MINUTES.toMillis(30), ElapsedRealtimeClock.SYSTEM);
+
   // region Error Codes
   // Unity Ads adapter error domain.
   public static final String ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.unity";
@@ -193,6 +211,18 @@ public class UnityMediationAdapter extends RtbAdapter {
     this.unityAdsLoader = new UnityAdsLoader();
   }
 
+  /**
+   * Keeps the given number of Unity Ads interstitial and rewarded ads loaded for each waterfall
+   * placement, so that loads can be served without waiting for Unity Ads. A placement is refilled
+   * after each of its ads is shown. Bidding loads are not affected. Preloading is off by default;
+   * a count of 0 turns it off again.
+   *
+   * @param adsPerPlacement the number of ads to keep loaded per placement.
+   */
+  public static void setPreloadedAdsPerPlacement(int adsPerPlacement) {
+    fullScreenAdPreloader.setAdsPerPlacement(adsPerPlacement);
+  }
+
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
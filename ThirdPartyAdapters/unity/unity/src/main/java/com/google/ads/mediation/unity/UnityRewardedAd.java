@@ -30,6 +30,7 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdReadinessTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -79,18 +80,19 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
   private final String watermark;
 
+  /** Whether the ad was loaded through the waterfall, and so is eligible for preloading. */
+  private boolean isWaterfallAd;
+
+  /** Validity of the loaded ad, set once Unity Ads loaded it. */
+  @Nullable private AdReadinessTracker.TrackedAd loadedAdReadiness;
+
   /** IUnityAdsLoadListener instance. */
   @VisibleForTesting
   final IUnityAdsLoadListener unityLoadListener =
       new IUnityAdsLoadListener() {
         @Override
         public void onUnityAdsAdLoaded(String placementId) {
-          String logMessage =
-              String.format(
-                  "Unity Ads rewarded ad successfully loaded placement ID: %s", placementId);
-          Log.d(TAG, logMessage);
-          UnityRewardedAd.this.placementId = placementId;
-          mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(UnityRewardedAd.this);
+          onAdLoaded(placementId, null);
         }
 
         @Override
@@ -103,6 +105,28 @@ public class UnityRewardedAd implements MediationRewardedAd {
         }
       };
 
+  /**
+   * Reports a loaded ad to the Google Mobile Ads SDK.
+   *
+   * @param preloadedAd the preloaded ad that is served, or {@code null} if Unity Ads loaded the ad
+   *     for this request.
+   */
+  private void onAdLoaded(String placementId, @Nullable UnityAdPreloader.ReadyAd preloadedAd) {
+    String logMessage =
+        String.format("Unity Ads rewarded ad successfully loaded placement ID: %s", placementId);
+    Log.d(TAG, logMessage);
+    this.placementId = placementId;
+    if (placementId != null) {
+      // A preloaded ad stays valid for as long as it did when Unity Ads loaded it.
+      loadedAdReadiness =
+          preloadedAd != null
+              ? UnityMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(
+                  placementId, preloadedAd.loadedAtMillis)
+              : UnityMediationAdapter.fullScreenAdReadinessTracker.onAdLoaded(placementId);
+    }
+    mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this);
+  }
+
   public UnityRewardedAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback,
@@ -129,6 +153,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
       return;
     }
     final String adMarkup = mediationRewardedAdConfiguration.getBidResponse();
+    isWaterfallAd = adMarkup == null;
 
     // The ad is loaded in the UnityAdsInitializationListener after initializing of the Unity Ads
     // SDK.
@@ -154,12 +179,36 @@ public class UnityRewardedAd implements MediationRewardedAd {
       Log.w(TAG, "Unity Ads received call to show before successfully loading an ad.");
     }
 
+    if (loadedAdReadiness != null) {
+      AdError expiredError = loadedAdReadiness.checkShow();
+      if (expiredError != null) {
+        objectId = null;
+        if (mediationRewardedAdCallback != null) {
+          mediationRewardedAdCallback.onAdFailedToShow(expiredError);
+        }
+        return;
+      }
+    }
+
     UnityAdsShowOptions unityAdsShowOptions =
         unityAdsLoader.createUnityAdsShowOptionsWithId(objectId);
     unityAdsShowOptions.set(KEY_WATERMARK, watermark);
 
     // UnityAds can handle a null placement ID so show is always called here.
     unityAdsLoader.show(activity, placementId, unityAdsShowOptions, unityShowListener);
+
+    if (isWaterfallAd && placementId != null) {
+      UnityMediationAdapter.fullScreenAdPreloader.refill(placementId, unityAdsLoader);
+    }
+  }
+
+  /** Stops tracking the validity of the rewarded ad and drops it once it was closed. */
+  private void destroy() {
+    if (loadedAdReadiness != null) {
+      loadedAdReadiness.release();
+      loadedAdReadiness = null;
+    }
+    objectId = null;
   }
 
   /** IUnityAdsShowListener instance. Contains logic for callbacks when showing ads. */
@@ -170,6 +219,9 @@ public class UnityRewardedAd implements MediationRewardedAd {
         public void onUnityAdsShowStart(String placementId) {
           // Unity Ads video ad started playing. Send Video Started event if this is a rewarded
           // video.
+          if (loadedAdReadiness != null) {
+            loadedAdReadiness.release();
+          }
           if (mediationRewardedAdCallback == null) {
             return;
           }
@@ -190,6 +242,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
         public void onUnityAdsShowComplete(
             String placementId, UnityAds.UnityAdsShowCompletionState state) {
           // Unity Ads ad closed.
+          destroy();
           // Reward is provided only if the ad is watched completely.
           if (mediationRewardedAdCallback == null) {
             return;
@@ -205,6 +258,9 @@ public class UnityRewardedAd implements MediationRewardedAd {
         public void onUnityAdsShowFailure(
             String placementId, UnityAdsShowError error, String message) {
           // Unity Ads ad failed to show.
+          if (loadedAdReadiness != null) {
+            loadedAdReadiness.onShowFailed();
+          }
           if (mediationRewardedAdCallback != null) {
             AdError adError = createSDKError(error, message);
             mediationRewardedAdCallback.onAdFailedToShow(adError);
@@ -239,6 +295,18 @@ public class UnityRewardedAd implements MediationRewardedAd {
       UnityAdsAdapterUtils.setCoppa(
           MobileAds.getRequestConfiguration().getTagForChildDirectedTreatment(), context);
 
+      if (adMarkup == null) {
+        UnityAdPreloader.ReadyAd preloadedAd =
+            UnityMediationAdapter.fullScreenAdPreloader.take(placementId);
+        if (preloadedAd != null) {
+          objectId = preloadedAd.objectId;
+          onAdLoaded(placementId, preloadedAd);
+          return;
+        }
+        // Warm the placement, so that its next loads are served without waiting for Unity Ads.
+        UnityMediationAdapter.fullScreenAdPreloader.refill(placementId, unityAdsLoader);
+      }
+
       objectId = UUID.randomUUID().toString();
       UnityAdsLoadOptions unityAdsLoadOptions =
           unityAdsLoader.createUnityAdsLoadOptionsWithId(objectId);
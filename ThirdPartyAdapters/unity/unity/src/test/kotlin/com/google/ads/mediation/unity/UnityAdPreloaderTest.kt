@@ -0,0 +1,117 @@
+package com.google.ads.mediation.unity
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import com.unity3d.ads.IUnityAdsLoadListener
+import com.unity3d.ads.UnityAds.UnityAdsLoadError
+import com.unity3d.ads.UnityAdsLoadOptions
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+
+/** Unit tests for [UnityAdPreloader]. */
+@RunWith(AndroidJUnit4::class)
+class UnityAdPreloaderTest {
+
+  private var now = 0L
+  private val unityAdsLoadOptions: UnityAdsLoadOptions = mock()
+  private val unityAdsLoader: UnityAdsLoader = mock {
+    on { createUnityAdsLoadOptionsWithId(any()) } doReturn unityAdsLoadOptions
+  }
+  private val preloader = UnityAdPreloader(MAX_AGE_MILLIS) { now }
+
+  @Before
+  fun setUp() {
+    preloader.setAdsPerPlacement(ADS_PER_PLACEMENT)
+  }
+
+  @Test
+  fun refill_loadsAdsUpToAdsPerPlacement() {
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+
+    verify(unityAdsLoader, times(ADS_PER_PLACEMENT))
+      .load(eq(PLACEMENT_ID), eq(unityAdsLoadOptions), any())
+  }
+
+  @Test
+  fun refill_whenDisabled_doesNotLoad() {
+    preloader.setAdsPerPlacement(0)
+
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+
+    verify(unityAdsLoader, never()).load(any(), any(), any())
+  }
+
+  @Test
+  fun take_afterPreloadedAdLoaded_returnsItsObjectIdAndLoadTimeAndCountsHit() {
+    val objectIds = argumentCaptor<String>()
+    now = LOADED_AT_MILLIS
+    preloadAndLoad()
+    verify(unityAdsLoader, times(ADS_PER_PLACEMENT))
+      .createUnityAdsLoadOptionsWithId(objectIds.capture())
+    now += 1_000
+
+    val readyAd = preloader.take(PLACEMENT_ID)
+
+    assertThat(readyAd!!.objectId).isEqualTo(objectIds.firstValue)
+    assertThat(readyAd.loadedAtMillis).isEqualTo(LOADED_AT_MILLIS)
+    assertThat(preloader.hitCount).isEqualTo(1)
+    assertThat(preloader.hitRate).isEqualTo(1.0)
+  }
+
+  @Test
+  fun take_whilePreloadedAdsLoading_countsMiss() {
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    assertThat(preloader.missCount).isEqualTo(1)
+    assertThat(preloader.hitRate).isEqualTo(0.0)
+  }
+
+  @Test
+  fun take_afterPreloadFailed_countsMissAndAllowsRefill() {
+    val listeners = argumentCaptor<IUnityAdsLoadListener>()
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+    verify(unityAdsLoader, times(ADS_PER_PLACEMENT)).load(any(), any(), listeners.capture())
+    listeners.allValues.forEach {
+      it.onUnityAdsFailedToLoad(PLACEMENT_ID, UnityAdsLoadError.NO_FILL, "No fill")
+    }
+
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+    verify(unityAdsLoader, times(2 * ADS_PER_PLACEMENT)).load(any(), any(), any())
+  }
+
+  @Test
+  fun take_preloadedAdsOlderThanMaxAge_dropsThemAndCountsStale() {
+    preloadAndLoad()
+    now += MAX_AGE_MILLIS
+
+    assertThat(preloader.take(PLACEMENT_ID)).isNull()
+    assertThat(preloader.staleCount).isEqualTo(ADS_PER_PLACEMENT.toLong())
+    assertThat(preloader.missCount).isEqualTo(1)
+  }
+
+  private fun preloadAndLoad() {
+    val listeners = argumentCaptor<IUnityAdsLoadListener>()
+    preloader.refill(PLACEMENT_ID, unityAdsLoader)
+    verify(unityAdsLoader, times(ADS_PER_PLACEMENT)).load(any(), any(), listeners.capture())
+    listeners.allValues.forEach { it.onUnityAdsAdLoaded(PLACEMENT_ID) }
+  }
+
+  private companion object {
+    const val PLACEMENT_ID = "placementId"
+    const val ADS_PER_PLACEMENT = 2
+    const val MAX_AGE_MILLIS = 60_000L
+    const val LOADED_AT_MILLIS = 5_000L
+  }
+}
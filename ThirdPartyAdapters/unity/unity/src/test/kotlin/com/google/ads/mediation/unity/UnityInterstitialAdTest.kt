@@ -1,8 +1,10 @@
 package com.google.ads.mediation.unity
 
 import android.app.Activity
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.CommonAdErrors
 import com.google.ads.mediation.unity.UnityAdsAdapterUtils.getMediationErrorCode
 import com.google.ads.mediation.unity.UnityMediationAdapter.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
@@ -17,6 +19,7 @@ import com.unity3d.ads.UnityAds.UnityAdsShowCompletionState
 import com.unity3d.ads.UnityAds.UnityAdsShowError
 import com.unity3d.ads.UnityAdsLoadOptions
 import com.unity3d.ads.UnityAdsShowOptions
+import java.util.concurrent.TimeUnit
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -26,11 +29,13 @@ import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.notNull
 import org.mockito.kotlin.spy
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(AndroidJUnit4::class)
 class UnityInterstitialAdTest {
@@ -114,6 +119,18 @@ class UnityInterstitialAdTest {
     verify(interstitialAdCallback).onAdClosed()
   }
 
+  @Test
+  fun onUnityAdsShowComplete_stopsTrackingAdValidity() {
+    val readinessTracker = UnityMediationAdapter.fullScreenAdReadinessTracker
+    unityInterstitialAd.onUnityAdsAdLoaded(PLACEMENT_ID)
+    val expiringSoonSignalCount = readinessTracker.expiringSoonSignalCount
+
+    unityInterstitialAd.onUnityAdsShowComplete(PLACEMENT_ID, UnityAdsShowCompletionState.COMPLETED)
+    shadowOf(Looper.getMainLooper()).idleFor(readinessTracker.ttlMillis, TimeUnit.MILLISECONDS)
+
+    assertThat(readinessTracker.expiringSoonSignalCount).isEqualTo(expiringSoonSignalCount)
+  }
+
   @Test
   fun onUnityAdsShowFailure_invokesOnAdFailedToShow() {
     unityInterstitialAd.onUnityAdsAdLoaded(PLACEMENT_ID)
@@ -161,6 +178,20 @@ class UnityInterstitialAdTest {
     verify(unityAdsLoader).show(any(), eq(TEST_LOADED_PLACEMENT_ID), any(), any())
   }
 
+  @Test
+  fun showAd_afterAdExpired_invokesOnAdFailedToShowWithoutShowing() {
+    unityInterstitialAd.onUnityAdsAdLoaded(TEST_LOADED_PLACEMENT_ID)
+    shadowOf(Looper.getMainLooper())
+      .idleFor(UnityMediationAdapter.fullScreenAdReadinessTracker.ttlMillis, TimeUnit.MILLISECONDS)
+    val errorCaptor = argumentCaptor<AdError>()
+
+    unityInterstitialAd.showAd(activity)
+
+    verify(interstitialAdCallback).onAdFailedToShow(errorCaptor.capture())
+    assertThat(errorCaptor.firstValue.code).isEqualTo(CommonAdErrors.ERROR_AD_EXPIRED)
+    verify(unityAdsLoader, never()).show(any(), any(), any(), any())
+  }
+
   companion object {
     private const val PLACEMENT_ID = "test_placement_id"
     private const val TEST_LOADED_PLACEMENT_ID = "test_loaded_placement_id"